@@ -0,0 +1,41 @@
+package com.redis.om.spring;
+
+import java.util.Map;
+
+/**
+ * How far RediSearch got building an index, as reported by {@code FT.INFO}.
+ * Documents that exist when an index is created are indexed in the
+ * background, and until that scan is complete queries only see part of them.
+ *
+ * @param indexName        the name (or alias) of the index
+ * @param percentIndexed   the fraction of the existing documents scanned, from 0 to 1
+ * @param indexing         whether the background scan is still running
+ * @param indexingFailures the number of documents that could not be indexed
+ * @param numDocs          the number of documents in the index
+ */
+public record IndexProgress(String indexName, double percentIndexed, boolean indexing, long indexingFailures,
+    long numDocs) {
+
+  public boolean isComplete() {
+    return !indexing && percentIndexed >= 1.0;
+  }
+
+  static IndexProgress of(String indexName, Map<String, Object> info) {
+    return new IndexProgress(indexName, //
+        parseDouble(info.get("percent_indexed"), 1.0), //
+        parseDouble(info.get("indexing"), 0) != 0, //
+        (long) parseDouble(info.get("hash_indexing_failures"), 0), //
+        (long) parseDouble(info.get("num_docs"), 0));
+  }
+
+  private static double parseDouble(Object value, double defaultValue) {
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Double.parseDouble(value.toString());
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.redis.om.spring;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reports DOWN until the indexes of the critical entity classes have finished
+ * scanning the documents that existed when they were created, so that adding
+ * it to the readiness group
+ * ({@code management.endpoint.health.group.readiness.include=readinessState,redisOMIndexes})
+ * holds traffic until searches see every document. Once they are complete it
+ * stays UP without asking Redis again.
+ */
+public class IndexingHealthIndicator extends AbstractHealthIndicator {
+  private final RediSearchIndexer indexer;
+  private volatile boolean complete;
+
+  public IndexingHealthIndicator(RediSearchIndexer indexer) {
+    super("Could not read the progress of the Redis OM indexes");
+    this.indexer = indexer;
+  }
+
+  @Override
+  protected void doHealthCheck(Health.Builder builder) {
+    if (complete) {
+      builder.up();
+      return;
+    }
+    boolean allComplete = true;
+    Map<String, Object> details = new LinkedHashMap<>();
+    Set<Class<?>> entityClasses = indexer.getCriticalEntityClasses();
+    for (Class<?> entityClass : entityClasses) {
+      Optional<IndexProgress> progress = indexer.getIndexProgress(entityClass);
+      allComplete &= progress.map(IndexProgress::isComplete).orElse(false);
+      details.put(entityClass.getName(), progress.<Object>map(p -> Map.of( //
+          "percentIndexed", p.percentIndexed(), //
+          "indexing", p.indexing(), //
+          "indexingFailures", p.indexingFailures(), //
+          "numDocs", p.numDocs())).orElse("unavailable"));
+    }
+    // nothing is latched before the indexes are created at context refresh
+    complete = allComplete && !entityClasses.isEmpty();
+    (allComplete ? builder.up() : builder.down()).withDetails(details);
+  }
+}
@@ -1,38 +1,66 @@
 package com.redis.om.spring;
 
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.annotations.JsonAdapter;
 import com.redis.om.spring.annotations.*;
+import com.redis.om.spring.bloom.IdFilters;
+import com.redis.om.spring.bloom.UniqueFilters;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.search.PartitionedIndexes;
+import com.redis.om.spring.ops.search.PartitionedIndexes.Partition;
+import com.redis.om.spring.ops.search.ProfiledIndexes;
+import com.redis.om.spring.ops.search.ProfiledIndexes.Profile;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.ops.search.TunedFields;
+import com.redis.om.spring.ops.search.TunedIndexOptions;
 import com.redis.om.spring.repository.query.QueryUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration.KeyspaceSettings;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.IndexDefinition;
 import redis.clients.jedis.search.IndexOptions;
 import redis.clients.jedis.search.Schema;
 import redis.clients.jedis.search.Schema.*;
 import redis.clients.jedis.search.Schema.VectorField.VectorAlgo;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.SearchProtocol.SearchKeyword;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.redis.om.spring.util.ObjectUtils.getBeanDefinitionsFor;
 import static com.redis.om.spring.util.ObjectUtils.getIdFieldForEntityClass;
@@ -40,11 +68,11 @@ import static com.redis.om.spring.util.ObjectUtils.getCollectionElementClass;
 import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
 
 @Component
-public class RediSearchIndexer {
+public class RediSearchIndexer implements DisposableBean {
   private final Map<String, Class<?>> keyspaceToEntityClass = new ConcurrentHashMap<>();
   private final Map<Class<?>, String> entityClassToKeySpace = new ConcurrentHashMap<>();
   private final List<Class<?>> indexedEntityClasses = new ArrayList<>();
-  private final Map<Class<?>, Schema> entityClassToSchema = new ConcurrentHashMap<>();
+  private final Map<Class<?>, List<Field>> entityClassToFields = new ConcurrentHashMap<>();
 
   private static final Log logger = LogFactory.getLog(RediSearchIndexer.class);
 
@@ -52,13 +80,43 @@ public class RediSearchIndexer {
   private final RedisModulesOperations<String> rmo;
   private final RedisMappingContext mappingContext;
 
+  private final RedisOMSpringProperties properties;
+  private ScheduledExecutorService cutoverExecutor;
+
   private static final String SKIPPING_INDEX_CREATION = "Skipping index creation for %s because %s";
+  private static final String VERSION_SEPARATOR = "_v";
+  private static final String INDEX_FINGERPRINTS_KEY = "redis-om:index-fingerprints";
+  private static final String CUTOVER_ALIAS_SUFFIX = "_cutover";
+  private static final String PARTITION_SEPARATOR = "_p";
+  private static final String PARTITION_ROUTES_PREFIX = "redis-om:partition-routes:";
+  private static final Duration PARTITION_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  /**
+   * How to create the partitions of a {@link TimePartitioned} entity's index.
+   *
+   * @param width the width of a partition, in the units the field is indexed in
+   */
+  private record PartitionPlan(Class<?> entityClass, String indexName, Schema schema, IndexDefinition.Type type,
+      String prefix, Optional<String> scoreField, java.lang.reflect.Field field, long width, int retention) {
+  }
+
+  private final Map<Class<?>, PartitionPlan> partitionPlans = new ConcurrentHashMap<>();
+  // the partitioned entities some of whose partitions were dropped since their routes were last pruned
+  private final Set<Class<?>> stalePartitionRoutes = ConcurrentHashMap.newKeySet();
+  // main index name -> the plans of its profile indexes
+  private final Map<String, List<IndexPlan>> profilePlans = new ConcurrentHashMap<>();
+  private ScheduledExecutorService partitionExecutor;
+  private final IdFilters idFilters;
+  private final UniqueFilters uniqueFilters;
 
   @SuppressWarnings("unchecked")
   public RediSearchIndexer(ApplicationContext ac) {
     this.ac = ac;
     rmo = (RedisModulesOperations<String>) ac.getBean("redisModulesOperations");
     mappingContext = (RedisMappingContext) ac.getBean("keyValueMappingContext");
+    properties = ac.getBeanProvider(RedisOMSpringProperties.class).getIfAvailable(RedisOMSpringProperties::new);
+    idFilters = new IdFilters(rmo);
+    uniqueFilters = new UniqueFilters(rmo, this);
   }
 
   public void createIndicesFor(Class<?> cls) {
@@ -66,24 +124,559 @@ public class RediSearchIndexer {
 
     logger.info(String.format("Found %s @%s annotated Beans...", beanDefs.size(), cls.getSimpleName()));
 
+    createIndicesFor(resolveEntityClasses(beanDefs));
+  }
+
+  /**
+   * Resolves the classes of the scanned entity bean definitions, skipping (and
+   * logging) the ones that cannot be loaded.
+   */
+  public List<Class<?>> resolveEntityClasses(Collection<BeanDefinition> beanDefs) {
+    List<Class<?>> entityClasses = new ArrayList<>();
     for (BeanDefinition beanDef : beanDefs) {
       try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        createIndexFor(cl);
+        entityClasses.add(Class.forName(beanDef.getBeanClassName()));
       } catch (ClassNotFoundException e) {
         logger.warn(
             String.format(SKIPPING_INDEX_CREATION, beanDef.getBeanClassName(), e.getMessage()));
       }
     }
+    return entityClasses;
+  }
+
+  /**
+   * Creates the indexes for the given entity classes at startup. The definition
+   * of each index is compared with the fingerprint recorded in Redis when it was
+   * last created, indexes that exist with an unchanged definition are skipped
+   * and the others are created (or altered, when fields were only added) in
+   * parallel.
+   */
+  public void createIndicesFor(Collection<Class<?>> entityClasses) {
+    List<IndexPlan> plans = entityClasses.stream().map(this::planIndexFor).flatMap(Optional::stream)
+        .flatMap(plan -> Stream.concat(Stream.of(plan),
+            profilePlans.getOrDefault(plan.indexName(), List.of()).stream()))
+        .toList();
+    if (plans.isEmpty()) {
+      createIdFiltersFor(entityClasses);
+      return;
+    }
+
+    Set<String> existingIndexes = getExistingIndexes();
+    if (!partitionPlans.isEmpty()) {
+      Set<String> partitioned = partitionPlans.values().stream().map(PartitionPlan::indexName)
+          .collect(Collectors.toSet());
+      partitionPlans.values().forEach(plan -> refreshPartitions(plan, existingIndexes));
+      schedulePartitionRefresh();
+      plans = plans.stream().filter(plan -> !partitioned.contains(plan.indexName())).toList();
+    }
+    // after the partitions are known, as their documents are under their own prefixes
+    createIdFiltersFor(entityClasses);
+
+    Map<String, String> fingerprints = getRecordedFingerprints();
+    List<IndexPlan> pending = plans.stream()
+        .filter(plan -> !(existingIndexes.contains(plan.physicalName())
+            && plan.fingerprint().equals(fingerprints.get(plan.indexName()))))
+        .toList();
+    logger.info(String.format("%s of %s indexes are up to date", plans.size() - pending.size(), plans.size()));
+
+    int threads = Math.min(pending.size(), Math.max(1, properties.getIndexing().getBootstrapThreads()));
+    if (threads <= 1) {
+      pending.forEach(plan -> applyIndexPlan(plan, fingerprints.get(plan.indexName())));
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Callable<Void>> tasks = pending.stream().<Callable<Void>>map(plan -> () -> {
+        applyIndexPlan(plan, fingerprints.get(plan.indexName()));
+        return null;
+      }).toList();
+      executor.invokeAll(tasks);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted while creating indexes");
+    } finally {
+      executor.shutdown();
+    }
   }
 
   public void createIndexFor(Class<?> cl) {
+    planIndexFor(cl).ifPresent(plan -> {
+      PartitionPlan partitionPlan = partitionPlans.get(cl);
+      if (partitionPlan != null) {
+        refreshPartitions(partitionPlan, getExistingIndexes());
+        schedulePartitionRefresh();
+      } else {
+        Map<String, String> fingerprints = getRecordedFingerprints();
+        applyIndexPlan(plan, fingerprints.get(plan.indexName()));
+        profilePlans.getOrDefault(plan.indexName(), List.of())
+            .forEach(profilePlan -> applyIndexPlan(profilePlan, fingerprints.get(profilePlan.indexName())));
+      }
+    });
+    createIdFiltersFor(List.of(cl));
+  }
+
+  private void createIdFiltersFor(Collection<Class<?>> entityClasses) {
+    entityClasses.stream().filter(idFilters::isFiltered)
+        .forEach(cl -> idFilters.createFilterFor(cl, getKeyspacesOf(cl)));
+    entityClasses.stream().filter(uniqueFilters::hasUniqueFields)
+        .forEach(cl -> uniqueFilters.createFiltersFor(cl, getKeyspacesOf(cl)));
+    entityClasses.stream().filter(rmo.getDistinctCounts()::hasDistinctFields)
+        .forEach(cl -> rmo.getDistinctCounts().createCountsFor(cl, getKeyspacesOf(cl)));
+  }
+
+  /**
+   * @return the key prefixes the documents of an entity class are stored
+   * under: its keyspace, and the prefixes of the known partitions of a
+   * {@link TimePartitioned} entity
+   */
+  public List<String> getKeyspacesOf(Class<?> entityClass) {
+    List<String> keyspaces = new ArrayList<>();
+    keyspaces.add(getKeyspaceForEntityClass(entityClass));
+    PartitionPlan plan = partitionPlans.get(entityClass);
+    if (plan != null) {
+      rmo.getPartitionedIndexes().get(plan.indexName())
+          .ifPresent(p -> p.partitions().keySet().forEach(start -> keyspaces.add(partitionPrefixOf(plan, start))));
+    }
+    return keyspaces;
+  }
+
+  public IdFilters getIdFilters() {
+    return idFilters;
+  }
+
+  public UniqueFilters getUniqueFilters() {
+    return uniqueFilters;
+  }
+
+  private void planProfilesFor(Class<?> cl, String indexName, List<Field> schemaFields, IndexDefinition.Type idxType,
+      String entityPrefix, Optional<String> scoreField) {
+    List<IndexPlan> plans = new ArrayList<>();
+    List<Profile> routedProfiles = new ArrayList<>();
+    IndexProfile[] profiles = cl.getAnnotationsByType(IndexProfile.class);
+    if (profiles.length > 0 && partitionPlans.containsKey(cl)) {
+      logger.warn(String.format("Ignoring the index profiles of %s, which is time-partitioned", cl.getName()));
+      profiles = new IndexProfile[0];
+    }
+    String idFieldName = getIdFieldForEntityClass(cl).map(java.lang.reflect.Field::getName).orElse(null);
+    Set<String> textFields = schemaFields.stream().filter(f -> typeOf(f) == FieldType.TEXT)
+        .map(RediSearchIndexer::aliasOf).collect(Collectors.toSet());
+    for (IndexProfile profile : profiles) {
+      Set<String> fields = new HashSet<>(Arrays.asList(profile.fields()));
+      List<Field> profileSchemaFields = schemaFields.stream()
+          .filter(f -> fields.contains(aliasOf(f)) || aliasOf(f).equals(idFieldName)).toList();
+      Set<String> profileFields = profileSchemaFields.stream().map(RediSearchIndexer::aliasOf)
+          .collect(Collectors.toSet());
+      if (!profileFields.containsAll(fields)) {
+        fields.removeAll(profileFields);
+        logger.warn(String.format("Skipping index profile %s of %s: %s are not indexed fields", profile.name(),
+            cl.getName(), fields));
+        continue;
+      }
+
+      String profileIndexName = ProfiledIndexes.profileIndexName(indexName, profile.name());
+      IndexDefinition definition = createIndexDefinition(cl, idxType);
+      definition.setPrefixes(entityPrefix);
+      scoreField.ifPresent(definition::setScoreFiled);
+      if (ObjectUtils.isNotEmpty(profile.filter())) {
+        definition.setFilter(profile.filter());
+      }
+      IndexOptions ops = createIndexOptions(profile.noOffsets(), profile.noHighlights(), profile.noFields(),
+          profile.noFrequencies(), profile.noStopwords(), false, -1L).setDefinition(definition);
+      String physicalName = properties.getIndexing().isVersioned()
+          ? profileIndexName + VERSION_SEPARATOR + schemaFingerprint(profileSchemaFields, ops)
+          : profileIndexName;
+      plans.add(new IndexPlan(profileIndexName, physicalName, profileSchemaFields, ops,
+          recordedFingerprint(profileSchemaFields, ops)));
+      if (ObjectUtils.isNotEmpty(profile.filter())) {
+        continue;
+      }
+      if (!answersQueriesLike(profile, Optional.ofNullable(cl.getAnnotation(Document.class)))) {
+        logger.info(String.format("Not routing searches to index profile %s of %s: its options change query results",
+            profile.name(), cl.getName()));
+        continue;
+      }
+      routedProfiles.add(new Profile(profileIndexName, profileFields, profileFields.containsAll(textFields)));
+    }
+    if (plans.isEmpty()) {
+      profilePlans.remove(indexName);
+    } else {
+      profilePlans.put(indexName, plans);
+    }
+    rmo.getProfiledIndexes().register(indexName, routedProfiles);
+  }
+
+  /**
+   * @return the name a field is queried by: its alias, or its name (path)
+   */
+  private static String aliasOf(Field field) {
+    List<String> args = argumentsOf(field);
+    return args.size() > 3 && args.get(2).equals("AS") ? args.get(3) : args.get(1);
+  }
+
+  /**
+   * @return the type a field is indexed as
+   */
+  private static FieldType typeOf(Field field) {
+    List<String> args = argumentsOf(field);
+    return FieldType.valueOf(args.get(args.size() > 3 && args.get(2).equals("AS") ? 4 : 2));
+  }
+
+  /**
+   * @return whether a profile has the index options that change what queries
+   * match or how they score as the main index, so that routing a search to it
+   * doesn't change its results
+   */
+  static boolean answersQueriesLike(IndexProfile profile, Optional<Document> document) {
+    return profile.noOffsets() == document.map(Document::noOffsets).orElse(false)
+        && profile.noFields() == document.map(Document::noFields).orElse(false)
+        && profile.noFrequencies() == document.map(Document::noFrequencies).orElse(false)
+        && profile.noStopwords() == document.map(Document::noStopwords).orElse(false);
+  }
+
+  // the public members of Field are deprecated, its FT.CREATE arguments are not
+  private static List<String> argumentsOf(Field field) {
+    List<String> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.CREATE).addParams(field)
+        .forEach(arg -> args.add(SafeEncoder.encode(arg.getRaw())));
+    return args;
+  }
+
+  private void planPartitionsFor(Class<?> cl, String indexName, Schema schema, IndexDefinition.Type idxType,
+      String entityPrefix, Optional<String> scoreField, List<java.lang.reflect.Field> allClassFields) {
+    TimePartitioned settings = cl.getAnnotation(TimePartitioned.class);
+    Optional<java.lang.reflect.Field> field = allClassFields.stream()
+        .filter(f -> f.getName().equals(settings.field())).findFirst();
+    if (field.isEmpty() || settings.unit().isDurationEstimated() || settings.size() < 1) {
+      logger.warn(String.format("Ignoring @TimePartitioned on %s: %s must name a field of the class, "
+          + "with a unit of at most a week", cl.getName(), settings.field()));
+      partitionPlans.remove(cl);
+      rmo.getPartitionedIndexes().unregister(indexName);
+      return;
+    }
+    field.get().setAccessible(true);
+    long width = partitionWidthOf(field.get().getType(), settings.unit().getDuration().multipliedBy(settings.size()));
+    partitionPlans.put(cl, new PartitionPlan(cl, indexName, schema, idxType, entityPrefix, scoreField, field.get(),
+        width, settings.retention()));
+    Set<String> numericFields = schema.fields.stream().filter(f -> typeOf(f) == FieldType.NUMERIC)
+        .map(RediSearchIndexer::aliasOf).collect(Collectors.toSet());
+    rmo.getPartitionedIndexes()
+        .register(indexName, QueryUtils.searchIndexFieldAliasFor(field.get(), null), numericFields);
+  }
+
+  /**
+   * @return the width of a partition in the units a field of the type is
+   * indexed in
+   */
+  static long partitionWidthOf(Class<?> type, Duration width) {
+    return isIndexedInSeconds(type) ? width.getSeconds() : width.toMillis();
+  }
+
+  // Instants and LocalDates are indexed in epoch seconds, the other date/time types in epoch millis
+  private static boolean isIndexedInSeconds(Class<?> type) {
+    return type == Instant.class || type == LocalDate.class;
+  }
+
+  /**
+   * @return the start of the partition a value of the partition field falls in
+   */
+  static long partitionStartOf(long value, long width) {
+    return Math.floorDiv(value, width) * width;
+  }
+
+  /**
+   * @return the key to write an entity to. A {@link TimePartitioned} entity is
+   * written under the prefix of the partition its time falls in (or under its
+   * keyspace, unindexed, when it has none), so the partition is created if it
+   * doesn't exist yet and the entity is moved there if it was stored elsewhere.
+   * The partition holding each entity is recorded by id, so that it can be
+   * found from its id alone. Other entities are written to the given key.
+   */
+  public String keyFor(Object entity, String key) {
+    PartitionPlan plan = entity != null ? partitionPlans.get(entity.getClass()) : null;
+    if (plan == null || !key.startsWith(plan.prefix())) {
+      return key;
+    }
+    String id = key.substring(plan.prefix().length());
+    Long value = indexedTimeOf(ReflectionUtils.getField(plan.field(), entity));
+    Long start = value != null ? partitionStartOf(value, plan.width()) : null;
+    String target = key;
+    if (start != null) {
+      boolean exists = rmo.getPartitionedIndexes().get(plan.indexName())
+          .map(p -> p.partitions().containsKey(start)).orElse(true);
+      if (!exists) {
+        createPartition(plan, start);
+      }
+      target = partitionPrefixOf(plan, start) + id;
+    }
+    String stored = storedKeyOf(plan, key);
+    if (!stored.equals(target)) {
+      moveKey(stored, target);
+      if (start != null) {
+        rmo.getTemplate().opsForHash().put(routesKeyOf(plan), id, start.toString());
+      } else {
+        rmo.getTemplate().opsForHash().delete(routesKeyOf(plan), id);
+      }
+    }
+    return target;
+  }
+
+  /**
+   * @return the key an entity is stored under, given the key under its
+   * keyspace: for a {@link TimePartitioned} entity, the key under the prefix of
+   * the partition holding it, if any
+   */
+  public String resolveKey(String key) {
+    return partitionPlans.values().stream().filter(plan -> key.startsWith(plan.prefix())).findFirst()
+        .map(plan -> storedKeyOf(plan, key)).orElse(key);
+  }
+
+  /**
+   * @return the keys entities are stored under, given their keys under their
+   * keyspace, looked up at once
+   */
+  public List<String> resolveKeys(List<String> keys) {
+    Optional<PartitionPlan> maybePlan = keys.isEmpty() ? Optional.empty()
+        : partitionPlans.values().stream().filter(plan -> keys.get(0).startsWith(plan.prefix())).findFirst();
+    if (maybePlan.isEmpty()) {
+      return keys;
+    }
+    PartitionPlan plan = maybePlan.get();
+    List<Object> ids = keys.stream().map(key -> (Object) key.substring(plan.prefix().length())).toList();
+    List<Object> starts = rmo.getTemplate().opsForHash().multiGet(routesKeyOf(plan), ids);
+    List<String> resolved = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Object start = starts.get(i);
+      resolved.add(start != null ? partitionPrefixOf(plan, Long.parseLong(start.toString())) + ids.get(i) : keys.get(i));
+    }
+    return resolved;
+  }
+
+  /**
+   * Forgets the partition holding a deleted entity, given its key under its
+   * keyspace.
+   */
+  public void forgetKey(String key) {
+    partitionPlans.values().stream().filter(plan -> key.startsWith(plan.prefix())).findFirst()
+        .ifPresent(plan -> rmo.getTemplate().opsForHash()
+            .delete(routesKeyOf(plan), key.substring(plan.prefix().length())));
+  }
+
+  /**
+   * @return the key of an entity in the partition recorded for its id, or the
+   * key under its keyspace if none is
+   */
+  private String storedKeyOf(PartitionPlan plan, String key) {
+    String id = key.substring(plan.prefix().length());
+    Object start = rmo.getTemplate().opsForHash().get(routesKeyOf(plan), id);
+    return start != null ? partitionPrefixOf(plan, Long.parseLong(start.toString())) + id : key;
+  }
+
+  // the hash of the start of the partition holding each entity, by id
+  private static String routesKeyOf(PartitionPlan plan) {
+    return PARTITION_ROUTES_PREFIX + plan.indexName();
+  }
+
+  /**
+   * Moves a document to another key, if it exists, with its time to live. The
+   * keys of a document in different partitions needn't hash to the same slot,
+   * so the document is copied with DUMP and RESTORE, which only touch one key
+   * each, and the old key deleted once the copy is in place.
+   */
+  private void moveKey(String from, String to) {
+    byte[] source = SafeEncoder.encode(from);
+    List<Object> dumped = rmo.getTemplate().executePipelined((RedisCallback<Object>) connection -> {
+      connection.keyCommands().dump(source);
+      connection.keyCommands().pTtl(source);
+      return null;
+    }, RedisSerializer.byteArray());
+    if (dumped.size() < 2 || !(dumped.get(0) instanceof byte[] value)) {
+      return;
+    }
+    long ttl = dumped.get(1) instanceof Long pttl && pttl > 0 ? pttl : 0;
+    rmo.getTemplate().execute((RedisCallback<Object>) connection -> {
+      connection.keyCommands().restore(SafeEncoder.encode(to), ttl, value, true);
+      connection.keyCommands().del(source);
+      return null;
+    });
+  }
+
+  /**
+   * @return the key prefix of the documents of a partition: the keyspace,
+   * suffixed with the start of the partition ({@code event_p1700000000:} for
+   * {@code event:}), so that each partition only indexes its own prefix
+   */
+  private static String partitionPrefixOf(PartitionPlan plan, long start) {
+    String prefix = plan.prefix().endsWith(":") ? plan.prefix().substring(0, plan.prefix().length() - 1)
+        : plan.prefix();
+    return prefix + PARTITION_SEPARATOR + start + ":";
+  }
+
+  private synchronized void createPartition(PartitionPlan plan, long start) {
+    PartitionedIndexes partitionedIndexes = rmo.getPartitionedIndexes();
+    if (partitionedIndexes.get(plan.indexName()).map(p -> p.partitions().containsKey(start)).orElse(true)) {
+      return;
+    }
+    Partition partition = new Partition(plan.indexName() + PARTITION_SEPARATOR + start, start, start + plan.width());
+    try {
+      rmo.opsForSearch(partition.indexName())
+          .createIndex(plan.schema(), createPartitionOptions(plan, partitionPrefixOf(plan, start)));
+      logger.info(String.format("Created partition %s of index %s", partition.indexName(), plan.indexName()));
+    } catch (JedisDataException e) {
+      // created by another instance
+      logger.debug(String.format("Partition %s not created: %s", partition.indexName(), e.getMessage()));
+    }
+    partitionedIndexes.addPartition(plan.indexName(), partition);
+    dropExpiredPartitions(plan);
+  }
+
+  private IndexOptions createPartitionOptions(PartitionPlan plan, String prefix) {
+    IndexDefinition definition = createIndexDefinition(plan.entityClass(), plan.type());
+    definition.setPrefixes(prefix);
+    plan.scoreField().ifPresent(definition::setScoreFiled);
+    Optional<Document> document = Optional.ofNullable(plan.entityClass().getAnnotation(Document.class));
+    document.map(Document::filter).filter(ObjectUtils::isNotEmpty).ifPresent(definition::setFilter);
+    return createIndexOptions(document).setDefinition(definition);
+  }
+
+  /**
+   * Brings the known partitions of an index in line with the existing indexes
+   * (some may have been created or dropped by other instances) and drops the
+   * partitions past the retention window.
+   */
+  private void refreshPartitions(PartitionPlan plan, Set<String> existingIndexes) {
+    PartitionedIndexes partitionedIndexes = rmo.getPartitionedIndexes();
+    String prefix = plan.indexName() + PARTITION_SEPARATOR;
+    Set<Long> existing = new HashSet<>();
+    for (String indexName : existingIndexes) {
+      if (indexName.startsWith(prefix)) {
+        try {
+          long start = Long.parseLong(indexName.substring(prefix.length()));
+          existing.add(start);
+          partitionedIndexes.addPartition(plan.indexName(), new Partition(indexName, start, start + plan.width()));
+        } catch (NumberFormatException e) {
+          // not a partition
+        }
+      }
+    }
+    partitionedIndexes.get(plan.indexName()).ifPresent(p -> {
+      if (p.partitions().keySet().removeIf(start -> !existing.contains(start))) {
+        stalePartitionRoutes.add(plan.entityClass());
+      }
+    });
+    if (existing.isEmpty()) {
+      // e.g. all dropped with their documents: no entity is in a partition
+      rmo.getTemplate().unlink(routesKeyOf(plan));
+      stalePartitionRoutes.remove(plan.entityClass());
+    }
+    dropExpiredPartitions(plan);
+  }
+
+  /**
+   * Forgets the entities recorded in partitions that were dropped with their
+   * documents.
+   */
+  private void prunePartitionRoutes(PartitionPlan plan) {
+    if (!stalePartitionRoutes.remove(plan.entityClass())) {
+      return;
+    }
+    Set<String> starts = rmo.getPartitionedIndexes().get(plan.indexName())
+        .map(p -> p.partitions().keySet().stream().map(Object::toString).collect(Collectors.toSet()))
+        .orElse(Set.of());
+    List<Object> stale = new ArrayList<>();
+    try (Cursor<Map.Entry<Object, Object>> routes = rmo.getTemplate().opsForHash()
+        .scan(routesKeyOf(plan), ScanOptions.scanOptions().count(1000).build())) {
+      while (routes.hasNext()) {
+        Map.Entry<Object, Object> route = routes.next();
+        if (!starts.contains(route.getValue().toString())) {
+          stale.add(route.getKey());
+        }
+      }
+    }
+    Lists.partition(stale, 1000)
+        .forEach(ids -> rmo.getTemplate().opsForHash().delete(routesKeyOf(plan), ids.toArray()));
+  }
+
+  private void dropExpiredPartitions(PartitionPlan plan) {
+    if (plan.retention() < 1) {
+      return;
+    }
+    long now = isIndexedInSeconds(plan.field().getType()) ? Instant.now().getEpochSecond()
+        : System.currentTimeMillis();
+    long oldestKept = (Math.floorDiv(now, plan.width()) - plan.retention() + 1) * plan.width();
+    PartitionedIndexes partitionedIndexes = rmo.getPartitionedIndexes();
+    partitionedIndexes.get(plan.indexName()).ifPresent(p -> p.partitions().headMap(oldestKept).values()
+        .forEach(partition -> {
+          try {
+            rmo.opsForSearch(partition.indexName()).dropIndexAndDocuments();
+            logger.info(String.format("Dropped expired partition %s", partition.indexName()));
+          } catch (JedisDataException e) {
+            logger.debug(String.format("Partition %s not dropped: %s", partition.indexName(), e.getMessage()));
+          }
+          partitionedIndexes.removePartition(plan.indexName(), partition);
+          stalePartitionRoutes.add(plan.entityClass());
+        }));
+  }
+
+  private synchronized void schedulePartitionRefresh() {
+    if (partitionExecutor != null) {
+      return;
+    }
+    partitionExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "redis-om-index-partitions");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long interval = PARTITION_REFRESH_INTERVAL.toMillis();
+    partitionExecutor.scheduleWithFixedDelay(() -> {
+      try {
+        Set<String> existingIndexes = getExistingIndexes();
+        partitionPlans.values().forEach(plan -> refreshPartitions(plan, existingIndexes));
+        partitionPlans.values().forEach(this::prunePartitionRoutes);
+      } catch (Exception e) {
+        logger.warn(String.format("Could not refresh the index partitions: %s", e.getMessage()));
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return a date/time value as it is indexed: epoch seconds for an
+   * {@link Instant} or a {@link LocalDate}, epoch milliseconds otherwise
+   */
+  static Long indexedTimeOf(Object value) {
+    if (value instanceof Instant instant) {
+      return instant.getEpochSecond();
+    } else if (value instanceof Date date) {
+      return date.getTime();
+    } else if (value instanceof LocalDateTime localDateTime) {
+      return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    } else if (value instanceof LocalDate localDate) {
+      return localDate.atStartOfDay(ZoneId.systemDefault()).toInstant().getEpochSecond();
+    } else if (value instanceof OffsetDateTime offsetDateTime) {
+      return offsetDateTime.toInstant().toEpochMilli();
+    } else if (value instanceof Number number) {
+      return number.longValue();
+    }
+    return null;
+  }
+
+  /**
+   * The index to create for an entity class, worked out without talking to
+   * Redis.
+   */
+  private record IndexPlan(String indexName, String physicalName, List<Field> fields, IndexOptions options,
+      String fingerprint) {
+    Schema schema() {
+      return Schema.from(fields.toArray(Field[]::new));
+    }
+  }
+
+  private Optional<IndexPlan> planIndexFor(Class<?> cl) {
     Optional<IndexDefinition.Type> maybeType = determineIndexTarget(cl);
     IndexDefinition.Type idxType;
     if (maybeType.isPresent()) {
       idxType = maybeType.get();
     } else {
-      return;
+      return Optional.empty();
     }
     boolean isDocument = idxType == IndexDefinition.Type.JSON;
     Optional<Document> document = isDocument ? Optional.of(cl.getAnnotation(Document.class)) : Optional.empty();
@@ -103,7 +696,6 @@ public class RediSearchIndexer {
       createIndexedFieldForIdField(cl, fields, isDocument).ifPresent(fields::add);
 
       Schema schema = new Schema();
-      SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
       fields.forEach(schema::addField);
 
       IndexDefinition index = createIndexDefinition(cl, idxType);
@@ -118,16 +710,293 @@ public class RediSearchIndexer {
 
       String entityPrefix = maybeEntityPrefix.orElse(getEntityPrefix(cl));
       index.setPrefixes(entityPrefix);
-      IndexOptions ops = IndexOptions.defaultOptions().setDefinition(index);
+      IndexOptions ops = createIndexOptions(document).setDefinition(index);
       addKeySpaceMapping(entityPrefix, cl);
       updateTTLSettings(cl, entityPrefix, isDocument, document, allClassFields);
-      opsForSearch.createIndex(schema, ops);
-      entityClassToSchema.put(cl, schema);
+      entityClassToFields.put(cl, List.copyOf(fields));
+
+      if (cl.isAnnotationPresent(TimePartitioned.class)) {
+        planPartitionsFor(cl, indexName, schema, idxType, entityPrefix,
+            isDocument ? maybeScoreField : Optional.empty(), allClassFields);
+      }
+      planProfilesFor(cl, indexName, fields, idxType, entityPrefix, isDocument ? maybeScoreField : Optional.empty());
+
+      String physicalName = properties.getIndexing().isVersioned()
+          ? indexName + VERSION_SEPARATOR + schemaFingerprint(fields, ops)
+          : indexName;
+      return Optional.of(
+          new IndexPlan(indexName, physicalName, List.copyOf(fields), ops, recordedFingerprint(fields, ops)));
     } catch (Exception e) {
       logger.warn(String.format(SKIPPING_INDEX_CREATION, indexName, e.getMessage()));
+      return Optional.empty();
+    }
+  }
+
+  private void applyIndexPlan(IndexPlan plan, @Nullable String recordedFingerprint) {
+    try {
+      if (properties.getIndexing().isVersioned()) {
+        createVersionedIndex(plan);
+        return;
+      }
+      SearchOperations<String> opsForSearch = rmo.opsForSearch(plan.indexName());
+      Optional<List<Field>> addedFields = getAddedFields(recordedFingerprint, plan);
+      if (addedFields.isPresent()) {
+        logger.info(String.format("Adding %s fields to index %s", addedFields.get().size(), plan.indexName()));
+        opsForSearch.alterIndexSchema(Schema.from(addedFields.get().toArray(Field[]::new)));
+      } else {
+        try {
+          opsForSearch.createIndex(plan.schema(), plan.options());
+        } catch (JedisDataException e) {
+          if (recordedFingerprint == null) {
+            // created before fingerprints were recorded: its definition is unknown, so
+            // recording the planned one could skip or wrongly alter it from now on
+            logger.info(String.format(SKIPPING_INDEX_CREATION, plan.indexName(),
+                "it exists with an unrecorded definition (drop it to have it recreated)"));
+            return;
+          }
+          if (!recordedFingerprint.equals(plan.fingerprint())) {
+            // an existing index with an incompatible definition is left as is
+            logger.warn(String.format(SKIPPING_INDEX_CREATION, plan.indexName(), e.getMessage()));
+            return;
+          }
+          // the index is up to date
+          logger.info(String.format(SKIPPING_INDEX_CREATION, plan.indexName(), e.getMessage()));
+        }
+      }
+      recordFingerprint(plan);
+    } catch (Exception e) {
+      logger.warn(String.format(SKIPPING_INDEX_CREATION, plan.indexName(), e.getMessage()));
+    }
+  }
+
+  /**
+   * @return the fields to add to the existing index when its recorded
+   * definition only lacks some fields of the planned one
+   */
+  private Optional<List<Field>> getAddedFields(@Nullable String recordedFingerprint, IndexPlan plan) {
+    if (recordedFingerprint == null || recordedFingerprint.equals(plan.fingerprint())) {
+      return Optional.empty();
+    }
+    String[] recorded = recordedFingerprint.split(":", -1);
+    String[] planned = plan.fingerprint().split(":", -1);
+    if (recorded.length != 2 || !recorded[0].equals(planned[0])) {
+      return Optional.empty();
+    }
+    Set<String> recordedFields = new HashSet<>(Arrays.asList(recorded[1].split(",")));
+    List<Field> added = plan.fields().stream().filter(f -> !recordedFields.remove(fieldFingerprint(f))).toList();
+    recordedFields.remove("");
+    return recordedFields.isEmpty() && !added.isEmpty() ? Optional.of(added) : Optional.empty();
+  }
+
+  private Map<String, String> getRecordedFingerprints() {
+    Map<Object, Object> entries = rmo.getTemplate().opsForHash().entries(INDEX_FINGERPRINTS_KEY);
+    Map<String, String> fingerprints = new HashMap<>();
+    entries.forEach((k, v) -> fingerprints.put(k.toString(), v.toString()));
+    return fingerprints;
+  }
+
+  private void recordFingerprint(IndexPlan plan) {
+    rmo.getTemplate().opsForHash().put(INDEX_FINGERPRINTS_KEY, plan.indexName(), plan.fingerprint());
+  }
+
+  private void forgetFingerprint(String indexName) {
+    rmo.getTemplate().opsForHash().delete(INDEX_FINGERPRINTS_KEY, indexName);
+  }
+
+  private Set<String> getExistingIndexes() {
+    Object reply = rmo.getTemplate().execute((RedisCallback<Object>) connection -> connection.execute("FT._LIST"));
+    Set<String> indexes = new HashSet<>();
+    if (reply instanceof List<?> names) {
+      names.forEach(name -> indexes.add(name instanceof byte[] bytes ? SafeEncoder.encode(bytes) : name.toString()));
+    }
+    return indexes;
+  }
+
+  /**
+   * Creates the index under a name suffixed with a fingerprint of its
+   * definition, addressed through an alias with the plain index name. When the
+   * alias points to an index with a different definition, the new index is
+   * built while the old one keeps serving queries, and the alias is moved over
+   * (and the old index dropped, keeping its documents) once the new one is
+   * fully indexed.
+   */
+  private void createVersionedIndex(IndexPlan plan) {
+    String alias = plan.indexName();
+    String versionedName = plan.physicalName();
+    Optional<String> current = getIndexBehind(alias);
+    if (current.isPresent() && current.get().equals(versionedName)) {
+      logger.info(String.format("Index %s is up to date", versionedName));
+      recordFingerprint(plan);
+      return;
+    }
+
+    SearchOperations<String> opsForSearch = rmo.opsForSearch(versionedName);
+    try {
+      opsForSearch.createIndex(plan.schema(), plan.options());
+    } catch (JedisDataException e) {
+      // left behind by an interrupted cutover
+      logger.info(String.format("Reusing index %s: %s", versionedName, e.getMessage()));
+    }
+
+    if (current.isEmpty()) {
+      opsForSearch.addAlias(alias);
+      recordFingerprint(plan);
+    } else {
+      logger.info(String.format("Building index %s to replace %s behind %s", versionedName, current.get(), alias));
+      long deadline = System.currentTimeMillis() + properties.getIndexing().getCutoverTimeout().toMillis();
+      scheduleCutover(plan, current.get(), deadline);
+    }
+  }
+
+  private void scheduleCutover(IndexPlan plan, String previous, long deadline) {
+    scheduleCutoverStep(() -> cutover(plan, previous, deadline));
+  }
+
+  private synchronized void scheduleCutoverStep(Runnable step) {
+    if (cutoverExecutor != null && cutoverExecutor.isShutdown()) {
+      return;
+    }
+    if (cutoverExecutor == null) {
+      cutoverExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "redis-om-index-cutover");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    cutoverExecutor.schedule(step,
+        properties.getIndexing().getCutoverPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void cutover(IndexPlan plan, String previous, long deadline) {
+    String alias = plan.indexName();
+    String next = plan.physicalName();
+    try {
+      if (isIndexing(next)) {
+        if (System.currentTimeMillis() > deadline) {
+          // rather than left behind half built, the next start builds it again
+          rmo.opsForSearch(next).dropIndex();
+          logger.warn(String.format("Gave up waiting for index %s and dropped it, %s keeps serving %s", next,
+              previous, alias));
+        } else {
+          scheduleCutover(plan, previous, deadline);
+        }
+        return;
+      }
+      if (previous.equals(alias)) {
+        // an index created before versioning was enabled holds the alias name: a
+        // temporary alias keeps the new index addressable (and proves it can take
+        // an alias), and serves the searches of this instance, from before the
+        // old index is dropped until the name is free and moved over
+        SearchOperations<String> opsForPrevious = rmo.opsForSearch(previous);
+        String cutoverAlias = alias + CUTOVER_ALIAS_SUFFIX;
+        rmo.opsForSearch(next).updateAlias(cutoverAlias);
+        rmo.redirectSearches(alias, cutoverAlias);
+        try {
+          opsForPrevious.dropIndex();
+        } catch (RuntimeException e) {
+          rmo.redirectSearches(alias, null);
+          throw e;
+        }
+        moveAlias(plan, cutoverAlias);
+        return;
+      }
+      rmo.opsForSearch(next).updateAlias(alias);
+      rmo.opsForSearch(previous).dropIndex();
+      recordFingerprint(plan);
+      logger.info(String.format("Index %s now serves %s", next, alias));
+    } catch (Exception e) {
+      logger.warn(String.format("Could not switch %s over to index %s: %s", alias, next, e.getMessage()));
+    }
+  }
+
+  /**
+   * Gives the name of a dropped index to the index replacing it, as an alias,
+   * retrying until it succeeds.
+   */
+  private void moveAlias(IndexPlan plan, String cutoverAlias) {
+    String alias = plan.indexName();
+    String next = plan.physicalName();
+    SearchOperations<String> opsForNext = rmo.opsForSearch(next);
+    try {
+      opsForNext.updateAlias(alias);
+    } catch (Exception e) {
+      logger.warn(String.format("Could not move %s over to index %s, retrying: %s", alias, next, e.getMessage()));
+      scheduleCutoverStep(() -> moveAlias(plan, cutoverAlias));
+      return;
+    }
+    rmo.redirectSearches(alias, null);
+    try {
+      opsForNext.deleteAlias(cutoverAlias);
+    } catch (JedisDataException e) {
+      logger.debug(String.format("Could not delete alias %s: %s", cutoverAlias, e.getMessage()));
+    }
+    recordFingerprint(plan);
+    logger.info(String.format("Index %s now serves %s", next, alias));
+  }
+
+  /**
+   * Stops waiting for the pending cutovers, and refreshing the partitions; the
+   * old indexes keep serving their aliases and the cutovers resume on the next
+   * start.
+   */
+  @Override
+  public synchronized void destroy() {
+    if (cutoverExecutor != null) {
+      cutoverExecutor.shutdownNow();
+    }
+    if (partitionExecutor != null) {
+      partitionExecutor.shutdownNow();
     }
   }
 
+  /**
+   * @return the name of the index an index name or alias resolves to, or empty
+   * if there is none
+   */
+  private Optional<String> getIndexBehind(String indexNameOrAlias) {
+    try {
+      return Optional.ofNullable(rmo.opsForSearch(indexNameOrAlias).getInfo().get("index_name")).map(Object::toString);
+    } catch (JedisDataException e) {
+      return Optional.empty();
+    }
+  }
+
+  private boolean isIndexing(String indexName) {
+    Object indexing = rmo.opsForSearch(indexName).getInfo().get("indexing");
+    return indexing != null && !"0".equals(indexing.toString());
+  }
+
+  /**
+   * @return a fingerprint of the {@code FT.CREATE} arguments for the schema and
+   * options
+   */
+  static String schemaFingerprint(List<Field> fields, IndexOptions options) {
+    CommandArguments args = new CommandArguments(SearchCommand.CREATE).addParams(options).add(SearchKeyword.SCHEMA);
+    fields.forEach(args::addParams);
+    return fingerprint(args);
+  }
+
+  /**
+   * @return the fingerprint recorded for an index: a fingerprint of its options
+   * followed by one per schema field, so that added fields can be told apart
+   * from other changes
+   */
+  static String recordedFingerprint(List<Field> fields, IndexOptions options) {
+    String optionsFingerprint = fingerprint(new CommandArguments(SearchCommand.CREATE).addParams(options));
+    return optionsFingerprint + ":" + fields.stream().map(RediSearchIndexer::fieldFingerprint)
+        .collect(Collectors.joining(","));
+  }
+
+  private static String fieldFingerprint(Field field) {
+    return fingerprint(new CommandArguments(SearchCommand.ALTER).addParams(field));
+  }
+
+  private static String fingerprint(CommandArguments args) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    args.forEach(arg -> hasher.putInt(arg.getRaw().length).putBytes(arg.getRaw()));
+    return hasher.hash().toString().substring(0, 12);
+  }
+
   public void dropIndexAndDocumentsFor(Class<?> cl) {
     String indexName = "";
 
@@ -136,6 +1005,16 @@ public class RediSearchIndexer {
       logger.info(String.format("Dropping index @%s for class: %s", indexName, cl.getName()));
       SearchOperations<String> opsForSearch = rmo.opsForSearch(indexName);
       opsForSearch.dropIndexAndDocuments();
+      forgetFingerprint(indexName);
+      partitionPlans.remove(cl);
+      rmo.getPartitionedIndexes().unregister(indexName);
+      // the documents went with the main index
+      for (IndexPlan profilePlan : profilePlans.getOrDefault(indexName, List.of())) {
+        rmo.opsForSearch(profilePlan.indexName()).dropIndex();
+        forgetFingerprint(profilePlan.indexName());
+      }
+      profilePlans.remove(indexName);
+      rmo.getProfiledIndexes().unregister(indexName);
 
       String entityPrefix = getEntityPrefix(cl);
 
@@ -152,6 +1031,9 @@ public class RediSearchIndexer {
       }
 
       removeKeySpaceMapping(entityPrefix, cl);
+      idFilters.reset(cl);
+      uniqueFilters.reset(cl);
+      rmo.getDistinctCounts().reset(cl);
     } catch (Exception e) {
       logger.warn(String.format(SKIPPING_INDEX_CREATION, indexName, e.getMessage()));
     }
@@ -166,6 +1048,30 @@ public class RediSearchIndexer {
     }
   }
 
+  /**
+   * Drops the cached search results of the index of an entity class, after a
+   * write to its keyspace.
+   */
+  public void invalidateSearchResults(Class<?> entityClass) {
+    getIndexName(entityClass).ifPresent(rmo.getSearchResultCache()::invalidate);
+  }
+
+  public void invalidateSearchResults(String keyspace) {
+    getIndexName(keyspace).ifPresent(rmo.getSearchResultCache()::invalidate);
+  }
+
+  /**
+   * @return the type the field with the given alias is indexed as in the index
+   * of the entity class
+   */
+  public Optional<Schema.FieldType> getFieldType(Class<?> entityClass, String alias) {
+    List<Field> fields = entityClassToFields.get(entityClass);
+    if (fields == null) {
+      return Optional.empty();
+    }
+    return fields.stream().filter(field -> aliasOf(field).equals(alias)).map(RediSearchIndexer::typeOf).findFirst();
+  }
+
   public Optional<String> getIndexName(Class<?> entityClass) {
     if (entityClassToKeySpace.containsKey(entityClass)) {
       return Optional.of(entityClass.getName() + "Idx");
@@ -205,6 +1111,87 @@ public class RediSearchIndexer {
     return indexedEntityClasses.contains(entityClass);
   }
 
+  /**
+   * @return how far the index of an entity class got scanning the documents
+   * that existed when it was created, or empty if the class has no index or its
+   * {@code FT.INFO} could not be read
+   */
+  public Optional<IndexProgress> getIndexProgress(Class<?> entityClass) {
+    return getIndexName(entityClass).flatMap(indexName -> {
+      try {
+        return Optional.of(IndexProgress.of(indexName, rmo.opsForSearch(indexName).getInfo()));
+      } catch (Exception e) {
+        logger.debug(String.format("Could not read the progress of index %s: %s", indexName, e.getMessage()));
+        return Optional.empty();
+      }
+    });
+  }
+
+  /**
+   * @return the entity classes that have an index
+   */
+  public Set<Class<?>> getIndexedEntityClasses() {
+    return Set.copyOf(entityClassToKeySpace.keySet());
+  }
+
+  /**
+   * @return the indexed entity classes named in
+   * {@code redis.om.spring.indexing.critical-indexes}, or all of them when none
+   * are named
+   */
+  public Set<Class<?>> getCriticalEntityClasses() {
+    List<String> critical = properties.getIndexing().getCriticalIndexes();
+    return getIndexedEntityClasses().stream() //
+        .filter(cl -> critical.isEmpty() || critical.contains(cl.getName())) //
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @return whether the indexes of all the critical entity classes have
+   * finished their initial scan
+   */
+  public boolean isIndexingComplete() {
+    return getCriticalEntityClasses().stream()
+        .allMatch(cl -> getIndexProgress(cl).map(IndexProgress::isComplete).orElse(false));
+  }
+
+  /**
+   * Blocks until the indexes of all the critical entity classes have finished
+   * their initial scan, polling {@code FT.INFO} every
+   * {@code redis.om.spring.indexing.progress-poll-interval}.
+   *
+   * @return false if the timeout elapsed (or the thread was interrupted) first
+   */
+  public boolean awaitIndexing(Duration timeout) {
+    long deadline = System.currentTimeMillis() + timeout.toMillis();
+    long pollInterval = Math.max(1, properties.getIndexing().getProgressPollInterval().toMillis());
+    Set<Class<?>> pending = new HashSet<>(getCriticalEntityClasses());
+    while (true) {
+      pending.removeIf(cl -> getIndexProgress(cl).map(progress -> {
+        if (progress.isComplete() && progress.indexingFailures() > 0) {
+          logger.warn(String.format("%s documents could not be indexed by %s", progress.indexingFailures(),
+              progress.indexName()));
+        }
+        return progress.isComplete();
+      }).orElse(false));
+      if (pending.isEmpty()) {
+        return true;
+      }
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        logger.warn(String.format("Gave up waiting for the indexes of %s",
+            pending.stream().map(Class::getName).collect(Collectors.joining(", "))));
+        return false;
+      }
+      try {
+        Thread.sleep(Math.min(pollInterval, remaining));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+
   private List<Field> findIndexFields(java.lang.reflect.Field field, String prefix, boolean isDocument) {
     List<Field> fields = new ArrayList<>();
 
@@ -220,8 +1207,7 @@ public class RediSearchIndexer {
         // Any Character class, Enums or Boolean -> Tag Search Field
         //
         if (CharSequence.class.isAssignableFrom(fieldType) || (fieldType == Boolean.class) || (fieldType.isEnum())) {
-          fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed.sortable(), indexed.separator(),
-              indexed.arrayIndex()));
+          fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed));
         }
         //
         // Any Numeric class -> Numeric Search Field
@@ -247,8 +1233,7 @@ public class RediSearchIndexer {
             Class<?> collectionType = maybeCollectionType.get();
 
             if (CharSequence.class.isAssignableFrom(collectionType) || (collectionType == Boolean.class)) {
-              fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed.sortable(), indexed.separator(),
-                  indexed.arrayIndex()));
+              fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed));
               // Index nested fields
             } else if (isDocument) {
               if (Number.class.isAssignableFrom(collectionType)) {
@@ -285,8 +1270,7 @@ public class RediSearchIndexer {
       } else { // Schema field type hardcoded/set in @Indexed
         switch (indexed.schemaFieldType()) {
           case TAG ->
-            fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed.sortable(), indexed.separator(),
-                indexed.arrayIndex()));
+            fields.add(indexAsTagFieldFor(field, isDocument, prefix, indexed));
           case NUMERIC ->
             fields.add(indexAsNumericFieldFor(field, isDocument, prefix, indexed.sortable(), indexed.noindex()));
           case GEO -> fields.add(indexAsGeoFieldFor(field, true, prefix));
@@ -353,7 +1337,7 @@ public class RediSearchIndexer {
       fieldName = fieldName.as(QueryUtils.searchIndexFieldAliasFor(field, prefix));
     }
 
-    return new TagField(fieldName, ti.separator(), false);
+    return TunedFields.tag(fieldName, ti.separator(), false, false, ti.withSuffixTrie());
   }
 
   private Field indexAsVectorFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix,
@@ -450,8 +1434,13 @@ public class RediSearchIndexer {
     return vectorField;
   }
 
+  private Field indexAsTagFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix, Indexed indexed) {
+    return indexAsTagFieldFor(field, isDocument, prefix, indexed.sortable(), indexed.separator(), indexed.arrayIndex(),
+        indexed.unf(), indexed.withSuffixTrie());
+  }
+
   private Field indexAsTagFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix, boolean sortable,
-      String separator, int arrayIndex) {
+      String separator, int arrayIndex, boolean unf, boolean withSuffixTrie) {
     TypeInformation<?> typeInfo = TypeInformation.of(field.getType());
     String fieldPrefix = getFieldPrefix(prefix, isDocument);
     String index = (arrayIndex != Integer.MIN_VALUE) ? ".[" + arrayIndex + "]" : "[*]";
@@ -462,7 +1451,7 @@ public class RediSearchIndexer {
 
     fieldName = fieldName.as(QueryUtils.searchIndexFieldAliasFor(field, prefix));
 
-    return new TagField(fieldName, separator.isBlank() ? null : separator, sortable);
+    return TunedFields.tag(fieldName, separator.isBlank() ? null : separator, sortable, unf, withSuffixTrie);
   }
 
   private Field indexAsTextFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix, TextIndexed ti) {
@@ -477,7 +1466,8 @@ public class RediSearchIndexer {
 
     String phonetic = ObjectUtils.isEmpty(ti.phonetic()) ? null : ti.phonetic();
 
-    return new TextField(fieldName, ti.weight(), ti.sortable(), ti.nostem(), ti.noindex(), phonetic);
+    return TunedFields.text(fieldName, ti.weight(), ti.sortable(), ti.unf(), ti.nostem(), ti.noindex(), phonetic,
+        ti.withSuffixTrie());
   }
 
   private Field indexAsTextFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix, Searchable ti) {
@@ -491,7 +1481,8 @@ public class RediSearchIndexer {
     }
     String phonetic = ObjectUtils.isEmpty(ti.phonetic()) ? null : ti.phonetic();
 
-    return new TextField(fieldName, ti.weight(), ti.sortable(), ti.nostem(), ti.noindex(), phonetic);
+    return TunedFields.text(fieldName, ti.weight(), ti.sortable(), ti.unf(), ti.nostem(), ti.noindex(), phonetic,
+        ti.withSuffixTrie());
   }
 
   private Field indexAsGeoFieldFor(java.lang.reflect.Field field, boolean isDocument, String prefix, GeoIndexed gi) {
@@ -573,7 +1564,7 @@ public class RediSearchIndexer {
           fieldName = fieldName.as(QueryUtils.searchIndexFieldAliasFor(subField, prefix));
 
           logger.info(String.format("Creating nested relationships: %s -> %s", field.getName(), subField.getName()));
-          fieldList.add(new TagField(fieldName, ti.separator(), false));
+          fieldList.add(TunedFields.tag(fieldName, ti.separator(), false, false, ti.withSuffixTrie()));
           continue;
         } else if (subField.isAnnotationPresent(Indexed.class)) {
           boolean subFieldIsTagField = (subField.isAnnotationPresent(Indexed.class)
@@ -588,7 +1579,7 @@ public class RediSearchIndexer {
             fieldName = fieldName.as(QueryUtils.searchIndexFieldAliasFor(subField, prefix));
 
             logger.info(String.format("Creating nested relationships: %s -> %s", field.getName(), subField.getName()));
-            fieldList.add(new TagField(fieldName, indexed.separator(), false));
+            fieldList.add(TunedFields.tag(fieldName, indexed.separator(), false, false, indexed.withSuffixTrie()));
             continue;
           }
 
@@ -612,8 +1603,8 @@ public class RediSearchIndexer {
 
           String phonetic = ObjectUtils.isEmpty(searchable.phonetic()) ? null : searchable.phonetic();
 
-          fieldList.add(new TextField(fieldName, searchable.weight(), searchable.sortable(), searchable.nostem(),
-              searchable.noindex(), phonetic));
+          fieldList.add(TunedFields.text(fieldName, searchable.weight(), searchable.sortable(), searchable.unf(),
+              searchable.nostem(), searchable.noindex(), phonetic, searchable.withSuffixTrie()));
 
           continue;
         }
@@ -670,7 +1661,8 @@ public class RediSearchIndexer {
         if (Number.class.isAssignableFrom(idField.getType())) {
           result = Optional.of(indexAsNumericFieldFor(maybeIdField.get(), isDocument, "", true, false));
         } else {
-          result = Optional.of(indexAsTagFieldFor(maybeIdField.get(), isDocument, "", false, "|", Integer.MIN_VALUE));
+          result = Optional.of(indexAsTagFieldFor(maybeIdField.get(), isDocument, "", false, "|", Integer.MIN_VALUE, false,
+              false));
         }
       }
     }
@@ -692,6 +1684,37 @@ public class RediSearchIndexer {
     return index;
   }
 
+  private IndexOptions createIndexOptions(Optional<Document> document) {
+    if (document.isEmpty()) {
+      return IndexOptions.defaultOptions();
+    }
+    Document settings = document.get();
+    return createIndexOptions(settings.noOffsets(), settings.noHighlights(), settings.noFields(),
+        settings.noFrequencies(), settings.noStopwords(), settings.skipInitialScan(), settings.temporary());
+  }
+
+  private IndexOptions createIndexOptions(boolean noOffsets, boolean noHighlights, boolean noFields,
+      boolean noFrequencies, boolean noStopwords, boolean skipInitialScan, long temporary) {
+    int flags = IndexOptions.DEFAULT_FLAGS;
+    if (noOffsets) {
+      flags &= ~IndexOptions.USE_TERM_OFFSETS;
+    }
+    if (noFields) {
+      flags &= ~IndexOptions.KEEP_FIELD_FLAGS;
+    }
+    if (noFrequencies) {
+      flags &= ~IndexOptions.KEEP_TERM_FREQUENCIES;
+    }
+    IndexOptions options = new TunedIndexOptions(flags, noHighlights, skipInitialScan);
+    if (noStopwords) {
+      options.setNoStopwords();
+    }
+    if (temporary > 0) {
+      options.setTemporary(temporary);
+    }
+    return options;
+  }
+
   private void updateTTLSettings(Class<?> cl, String entityPrefix, boolean isDocument, Optional<Document> document, List<java.lang.reflect.Field> allClassFields) {
     if (isDocument) {
       KeyspaceSettings setting = new KeyspaceSettings(cl, entityPrefix);
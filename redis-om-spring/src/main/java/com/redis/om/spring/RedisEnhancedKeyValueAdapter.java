@@ -1,6 +1,7 @@
 package com.redis.om.spring;
 
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.bloom.UniqueFilters;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.ops.RedisModulesOperations;
@@ -124,12 +125,15 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   @Override
   public Object put(Object id, Object item, String keyspace) {
     RedisData rdo;
+    String key = null;
     if (item instanceof RedisData redisData) {
       rdo = redisData;
     } else {
-      byte[] redisKey = createKey(keyspace, converter.getConversionService().convert(id, String.class));
-      auditor.processEntity(redisKey, item);
-      featureExtractor.processEntity(redisKey, item);
+      String stringId = converter.getConversionService().convert(id, String.class);
+      // audited before the key is chosen, as the partition of the entity may depend on its audit dates
+      auditor.processEntity(toBytes(getStoredKey(keyspace, stringId)), item);
+      key = indexer.keyFor(item, getKey(keyspace, stringId));
+      featureExtractor.processEntity(toBytes(key), item);
 
       rdo = new RedisData();
       converter.write(item, rdo);
@@ -139,8 +143,17 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
       rdo.setId(converter.getConversionService().convert(id, String.class));
     }
 
-    byte[] objectKey = createKey(rdo.getKeyspace(), rdo.getId());
-    redisOperations.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().del(objectKey) == 0);
+    if (key == null) {
+      key = getKey(rdo.getKeyspace(), rdo.getId());
+    }
+    byte[] objectKey = toBytes(key);
+    Class<?> entityClass = indexer.getEntityClassForKeyspace(rdo.getKeyspace());
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    Map<String, String> previousUniqueValues = uniqueFilters.hasUniqueFields(entityClass)
+        ? uniqueFilters.storedValuesOf(entityClass, key)
+        : Map.of();
+    Boolean isNew = redisOperations
+        .execute((RedisCallback<Boolean>) connection -> connection.keyCommands().del(objectKey) == 0);
 
     redisOperations.executePipelined((RedisCallback<Object>) connection -> {
       Map<byte[], byte[]> rawMap = rdo.getBucket().rawMap();
@@ -152,6 +165,14 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
       return null;
     });
+    indexer.getIdFilters().added(entityClass, rdo.getId(), Boolean.TRUE.equals(isNew));
+    if (!(item instanceof RedisData)) {
+      uniqueFilters.saved(previousUniqueValues, uniqueFilters.valuesOf(item));
+      if (featureExtractor != null) {
+        featureExtractor.backfill(List.of(objectKey), List.of(item));
+      }
+    }
+    indexer.invalidateSearchResults(rdo.getKeyspace());
 
     return item;
   }
@@ -170,7 +191,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     String stringId = asStringValue(id);
     String stringKeyspace = asStringValue(keyspace);
 
-    byte[] binId = createKey(stringKeyspace, stringId);
+    byte[] binId = toBytes(getStoredKey(stringKeyspace, stringId));
 
     Map<byte[], byte[]> raw = redisOperations
         .execute((RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(binId));
@@ -199,12 +220,16 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
     if (o != null) {
 
-      byte[] keyToDelete = createKey(asStringValue(keyspace), asStringValue(id));
+      byte[] keyToDelete = toBytes(getStoredKey(asStringValue(keyspace), asStringValue(id)));
 
       redisOperations.execute((RedisCallback<Void>) connection -> {
         connection.keyCommands().unlink(keyToDelete);
         return null;
       });
+      indexer.forgetKey(getKey(asStringValue(keyspace), asStringValue(id)));
+      indexer.getIdFilters().removed(o.getClass(), id);
+      indexer.getUniqueFilters().deleted(o);
+      indexer.invalidateSearchResults(asStringValue(keyspace));
     }
 
     return o;
@@ -224,7 +249,11 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     if (maybeSearchIndex.isPresent()) {
       SearchOperations<String> searchOps = modulesOperations.opsForSearch(maybeSearchIndex.get());
       searchOps.dropIndexAndDocuments();
+      indexer.getIdFilters().reset(type);
+      indexer.getUniqueFilters().reset(type);
+      modulesOperations.getDistinctCounts().reset(type);
       indexer.createIndexFor(type);
+      indexer.invalidateSearchResults(keyspace);
     }
   }
 
@@ -293,11 +322,17 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     String keyspace = entity.getKeySpace();
     Object id = update.getId();
 
-    byte[] redisKey = createKey(keyspace, converter.getConversionService().convert(id, String.class));
+    String key = getStoredKey(keyspace, id);
+    byte[] redisKey = toBytes(key);
 
     RedisData rdo = new RedisData();
     this.converter.write(update, rdo);
 
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    boolean hasUniqueFields = uniqueFilters.hasUniqueFields(update.getTarget());
+    Map<String, String> previousUniqueValues = hasUniqueFields
+        ? uniqueFilters.storedValuesOf(update.getTarget(), key) : Map.of();
+
     redisOperations.execute((RedisCallback<Void>) connection -> {
 
       RedisUpdateObject redisUpdateObject = new RedisUpdateObject(redisKey);
@@ -339,6 +374,10 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
       return null;
     });
+    if (hasUniqueFields) {
+      uniqueFilters.saved(previousUniqueValues, uniqueFilters.storedValuesOf(update.getTarget(), key));
+    }
+    indexer.invalidateSearchResults(update.getTarget());
   }
 
   /*
@@ -374,7 +413,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   @Override
   public boolean contains(Object id, String keyspace) {
     Boolean exists = redisOperations
-        .execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(toBytes(getKey(keyspace, id))));
+        .execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(toBytes(getStoredKey(keyspace, id))));
 
     return exists != null && exists;
   }
@@ -383,6 +422,11 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     return String.format("%s:%s", keyspace, id);
   }
 
+  // the key under the partition holding the entity, for time-partitioned entities
+  private String getStoredKey(String keyspace, Object id) {
+    return indexer.resolveKey(getKey(keyspace, id));
+  }
+
   private RedisUpdateObject fetchDeletePathsFromHash(RedisUpdateObject redisUpdateObject, String path,
       RedisConnection connection) {
 
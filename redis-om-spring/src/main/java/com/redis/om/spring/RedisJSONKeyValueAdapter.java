@@ -1,16 +1,18 @@
 package com.redis.om.spring;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.redis.om.spring.bloom.UniqueFilters;
 import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.json.DocumentSnapshots;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Reference;
@@ -21,6 +23,8 @@ import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.RedisCustomConversions;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -39,13 +43,22 @@ import java.util.concurrent.TimeUnit;
 
 public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   private static final Log logger = LogFactory.getLog(RedisJSONKeyValueAdapter.class);
+  // deletes and sets the given members of a document, all or none of them
+  private static final RedisScript<Long> PATCH_IF_EXISTS = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+          + "local removed = tonumber(ARGV[1]) "
+          + "for i = 2, removed + 1 do redis.call('JSON.DEL', KEYS[1], ARGV[i]) end "
+          + "for i = removed + 2, #ARGV, 2 do redis.call('JSON.SET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+          + "return 1",
+      Long.class);
   private final JSONOperations<?> redisJSONOperations;
   private final RedisOperations<?, ?> redisOperations;
   private final RedisMappingContext mappingContext;
   private final RedisModulesOperations<String> modulesOperations;
   private final RediSearchIndexer indexer;
-  private final GsonBuilder gsonBuilder;
+  private final DocumentCodec codec;
   private final RedisOMSpringProperties redisOMSpringProperties;
+  private final DocumentSnapshots snapshots = new DocumentSnapshots();
 
   /**
    * Creates new {@link RedisKeyValueAdapter} with default
@@ -55,10 +68,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
    * @param rmo                 must not be {@literal null}.
    * @param mappingContext      must not be {@literal null}.
    * @param keyspaceToIndexMap  must not be {@literal null}.
+   * @param codec               must not be {@literal null}.
    */
   @SuppressWarnings("unchecked")
   public RedisJSONKeyValueAdapter(RedisOperations<?, ?> redisOps, RedisModulesOperations<?> rmo,
-      RedisMappingContext mappingContext, RediSearchIndexer keyspaceToIndexMap, GsonBuilder gsonBuilder,
+      RedisMappingContext mappingContext, RediSearchIndexer keyspaceToIndexMap, DocumentCodec codec,
       RedisOMSpringProperties redisOMSpringProperties) {
     super(redisOps, mappingContext, new RedisOMCustomConversions());
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
@@ -66,7 +80,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     this.redisOperations = redisOps;
     this.mappingContext = mappingContext;
     this.indexer = keyspaceToIndexMap;
-    this.gsonBuilder = gsonBuilder;
+    this.codec = codec;
     this.redisOMSpringProperties = redisOMSpringProperties;
   }
 
@@ -83,13 +97,27 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     @SuppressWarnings("unchecked")
     JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
 
-    String key = getKey(keyspace, id);
-
-    processAuditAnnotations(key, item);
+    // audited before the key is chosen, as the partition of the entity may depend on its audit dates
+    boolean isNew = processAuditAnnotations(getStoredKey(keyspace, id), item);
+    String key = indexer.keyFor(item, getKey(keyspace, id));
     Optional<Long> maybeTtl = getTTLForEntity(item);
-
-    ops.set(key, item);
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    Map<String, String> previousUniqueValues = isNew ? Map.of()
+        : uniqueFilters.storedValuesOf(item.getClass(), key);
+
+    if (isDirtyTrackingEnabled()) {
+      String json = codec.toJson(item);
+      Optional<DocumentSnapshots.Changes> changes = isNew ? Optional.empty() : snapshots.changesOf(item, json);
+      if (changes.isEmpty() || !writeChanges(key, changes.get())) {
+        modulesOperations.getClient().clientForJSON().jsonSetWithPlainString(key, Path.ROOT_PATH, json);
+      }
+      snapshots.track(item, json);
+    } else {
+      ops.set(key, item);
+    }
     processReferences(key, item);
+    indexer.getIdFilters().added(item.getClass(), id, isNew);
+    uniqueFilters.saved(previousUniqueValues, uniqueFilters.valuesOf(item));
 
     redisOperations.execute((RedisCallback<Object>) connection -> {
 
@@ -97,6 +125,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
 
       return null;
     });
+    indexer.invalidateSearchResults(keyspace);
 
     return item;
   }
@@ -111,14 +140,18 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   @Nullable
   @Override
   public <T> T get(Object id, String keyspace, Class<T> type) {
-    return get(getKey(keyspace, id), type);
+    return get(getStoredKey(keyspace, id), type);
   }
 
   @Nullable
   public <T> T get(String key, Class<T> type) {
     @SuppressWarnings("unchecked")
     JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
-    return ops.get(key, type);
+    if (!isDirtyTrackingEnabled()) {
+      return ops.get(key, type);
+    }
+    String json = ops.get(key);
+    return json != null ? tracked(codec.fromJson(json, type)) : null;
   }
 
   /**
@@ -145,9 +178,9 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
       }
       query.limit(Math.toIntExact(offset), limit);
       SearchResult searchResult = searchOps.search(query);
-      Gson gson = gsonBuilder.create();
       result = searchResult.getDocuments().stream()
-          .map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), type)) //
+          .map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get("$")), type)) //
+          .map(this::tracked) //
           .toList();
     }
 
@@ -188,7 +221,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
     T entity = get(id, keyspace, type);
     if (entity != null) {
-      ops.del(getKey(keyspace, id), Path.ROOT_PATH);
+      ops.del(getStoredKey(keyspace, id), Path.ROOT_PATH);
+      indexer.forgetKey(getKey(keyspace, id));
+      indexer.getIdFilters().removed(entity.getClass(), id);
+      indexer.getUniqueFilters().deleted(entity);
+      indexer.invalidateSearchResults(keyspace);
     }
 
     return entity;
@@ -208,7 +245,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     if (maybeSearchIndex.isPresent()) {
       SearchOperations<String> searchOps = modulesOperations.opsForSearch(maybeSearchIndex.get());
       searchOps.dropIndexAndDocuments();
+      indexer.getIdFilters().reset(type);
+      indexer.getUniqueFilters().reset(type);
+      modulesOperations.getDistinctCounts().reset(type);
       indexer.createIndexFor(type);
+      indexer.invalidateSearchResults(keyspace);
     }
   }
 
@@ -245,12 +286,67 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   @Override
   public boolean contains(Object id, String keyspace) {
     Boolean exists = redisOperations
-        .execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(toBytes(getKey(keyspace, id))));
+        .execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(toBytes(getStoredKey(keyspace, id))));
 
     return exists != null && exists;
   }
 
-  private void processAuditAnnotations(String key, Object item) {
+  private boolean isDirtyTrackingEnabled() {
+    return redisOMSpringProperties.getRepository().getDirtyTracking().isEnabled();
+  }
+
+  /**
+   * Snapshots an entity read from Redis when dirty tracking is enabled. The
+   * snapshot is taken from the entity as the codec writes it back, rather than
+   * from the stored document, so that fields the codec leaves out (such as
+   * references) never show up as changes.
+   */
+  private <T> T tracked(T entity) {
+    if (entity != null && isDirtyTrackingEnabled()) {
+      snapshots.track(entity, codec.toJson(entity));
+    }
+    return entity;
+  }
+
+  /**
+   * Writes the changed top-level fields of a document atomically, in a single
+   * round trip.
+   *
+   * @return false if the document could not be patched (e.g. it was deleted
+   * since it was read) and has to be written in full
+   */
+  private boolean writeChanges(String key, DocumentSnapshots.Changes changes) {
+    if (changes.isEmpty()) {
+      return true;
+    }
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(changes.removed().size()));
+    changes.removed().forEach(member -> args.add(DocumentSnapshots.pathOf(member)));
+    changes.updated().forEach((member, value) -> {
+      args.add(DocumentSnapshots.pathOf(member));
+      args.add(value);
+    });
+    try {
+      Long patched = modulesOperations.getTemplate().execute(PATCH_IF_EXISTS, List.of(key), args.toArray());
+      return patched != null && patched == 1;
+    } catch (DataAccessException e) {
+      logger.debug(String.format("Partial update of %s failed, writing it in full: %s", key, e.getMessage()));
+      return false;
+    }
+  }
+
+  /**
+   * Keeps the snapshot of a tracked entity in line with a field written
+   * directly in Redis, so that the next save writes the entity's own value of
+   * that field back.
+   */
+  public void fieldUpdated(Object entity, String member, Object value) {
+    if (isDirtyTrackingEnabled()) {
+      snapshots.update(entity, member, codec.toJson(value));
+    }
+  }
+
+  private boolean processAuditAnnotations(String key, Object item) {
     boolean isNew = (boolean) redisOperations
         .execute((RedisCallback<Object>) connection -> !connection.keyCommands().exists(toBytes(key)));
 
@@ -269,6 +365,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
         }
       });
     }
+    return isNew;
   }
 
   private void processReferences(String key, Object item) {
@@ -305,6 +402,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     return String.format("%s:%s", keyspace, id);
   }
 
+  // the key under the partition holding the entity, for time-partitioned entities
+  private String getStoredKey(String keyspace, Object id) {
+    return indexer.resolveKey(getKey(keyspace, id));
+  }
+
   private Optional<Long> getTTLForEntity(Object entity) {
     Class entityClass = entity.getClass();
     Class entityClassKey;
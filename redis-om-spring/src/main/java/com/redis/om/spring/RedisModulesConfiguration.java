@@ -15,27 +15,34 @@ import ai.djl.repository.zoo.ZooModel;
 import ai.djl.translate.Pipeline;
 import ai.djl.translate.Translator;
 import com.github.f4b6a3.ulid.Ulid;
-import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.autocomplete.SuggestionCache;
+import com.redis.om.spring.bloom.BloomFilters;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.metrics.RedisOMMetrics;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.pds.BloomOperations;
+import com.redis.om.spring.ops.search.SearchResultCache;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.serialization.gson.*;
+import com.redis.om.spring.serialization.jackson.JacksonDocumentCodec;
+import com.redis.om.spring.sketches.Sketches;
 import com.redis.om.spring.vectorize.DefaultFeatureExtractor;
 import com.redis.om.spring.vectorize.FeatureExtractor;
 import com.redis.om.spring.vectorize.face.FaceDetectionTranslator;
 import com.redis.om.spring.vectorize.face.FaceFeatureTranslator;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.autoconfigure.gson.GsonBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -49,12 +56,15 @@ import org.springframework.data.redis.core.RedisHash;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -65,12 +75,12 @@ import java.util.Map;
 import java.util.Set;
 
 import static com.redis.om.spring.util.ObjectUtils.getBeanDefinitionsFor;
-import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
 
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties({RedisProperties.class, RedisOMSpringProperties.class})
 @EnableAspectJAutoProxy
 @ComponentScan("com.redis.om.spring.bloom")
+@ComponentScan("com.redis.om.spring.sketches")
 @ComponentScan("com.redis.om.spring.autocomplete")
 @ComponentScan("com.redis.om.spring.metamodel")
 public class RedisModulesConfiguration {
@@ -94,6 +104,9 @@ public class RedisModulesConfiguration {
 
     builder.addSerializationExclusionStrategy(GsonReferencesSerializationExclusionStrategy.INSTANCE);
 
+    // reflection-free adapters emitted at compile time by the MetamodelGenerator (if enabled)
+    GeneratedTypeAdapterFactory.loadAll(getClass().getClassLoader()).forEach(builder::registerTypeAdapterFactory);
+
     return builder;
   }
 
@@ -102,6 +115,19 @@ public class RedisModulesConfiguration {
     return new ReferenceAwareGsonBuilder(gsonBuilder, ac);
   }
 
+  @Bean(name = "redisOMDocumentCodec")
+  @ConditionalOnMissingBean
+  DocumentCodec documentCodec(ReferenceAwareGsonBuilder gsonBuilder, RedisOMSpringProperties properties) {
+    DocumentCodec gsonCodec = new GsonDocumentCodec(gsonBuilder);
+    if (properties.getSerialization().getCodec() == RedisOMSpringProperties.Serialization.Codec.JACKSON) {
+      if (ClassUtils.isPresent("com.fasterxml.jackson.databind.ObjectMapper", getClass().getClassLoader())) {
+        return new JacksonDocumentCodec(gsonCodec);
+      }
+      logger.warn("Jackson codec requested but jackson-databind is not on the classpath, falling back to Gson");
+    }
+    return gsonCodec;
+  }
+
   @Bean(name = "redisModulesClient")
   @Lazy
   RedisModulesClient redisModulesClient( //
@@ -110,6 +136,13 @@ public class RedisModulesConfiguration {
     return new RedisModulesClient(jedisConnectionFactory, builder);
   }
 
+  @Bean(name = "redisOMMappingConverter")
+  @ConditionalOnMissingBean
+  public MappingRedisOMConverter redisOMMappingConverter(RedisMappingContext mappingContext,
+      StringRedisTemplate template) {
+    return new MappingRedisOMConverter(mappingContext, new ReferenceResolverImpl(template));
+  }
+
   @Bean(name = "redisModulesOperations")
   @Primary
   @ConditionalOnMissingBean
@@ -117,8 +150,16 @@ public class RedisModulesConfiguration {
   RedisModulesOperations<?> redisModulesOperations( //
           RedisModulesClient rmc, //
           StringRedisTemplate template, //
-          ReferenceAwareGsonBuilder gsonBuilder) {
-    return new RedisModulesOperations<>(rmc, template, gsonBuilder);
+          DocumentCodec codec, //
+          MappingRedisOMConverter mappingConverter, //
+          RedisOMSpringProperties properties) {
+    RedisModulesOperations<?> rmo = new RedisModulesOperations<>(rmc, template, codec, mappingConverter);
+    RedisOMSpringProperties.Repository.Query.Cache cache = properties.getRepository().getQuery().getCache();
+    rmo.setSearchResultCache(new SearchResultCache(cache.getMaximumSize(), cache.getTimeToLive()));
+    RedisOMSpringProperties.Autocomplete.Cache suggestions = properties.getAutocomplete().getCache();
+    rmo.setSuggestionCache(new SuggestionCache(suggestions.getMaxPrefixLength(), suggestions.getMaximumSize(),
+        suggestions.getTimeToLive()));
+    return rmo;
   }
 
   @Bean(name = "redisJSONOperations")
@@ -126,6 +167,13 @@ public class RedisModulesConfiguration {
     return redisModulesOperations.opsForJSON();
   }
 
+  @Bean(name = "redisOMBloomFilters")
+  @SuppressWarnings("unchecked")
+  BloomFilters bloomFilters(RedisModulesOperations<?> redisModulesOperations, RediSearchIndexer indexer,
+      RedisOMSpringProperties properties) {
+    return new BloomFilters((RedisModulesOperations<String>) redisModulesOperations, indexer, properties.getBloom());
+  }
+
   @Bean(name = "redisBloomOperations")
   BloomOperations<?> redisBloomOperations(RedisModulesOperations<?> redisModulesOperations) {
     return redisModulesOperations.opsForBloom();
@@ -277,9 +325,13 @@ public class RedisModulesConfiguration {
       @Nullable @Qualifier("djlImageFactory") ImageFactory imageFactory,
       @Nullable @Qualifier("djlDefaultImagePipeline") Pipeline defaultImagePipeline,
       @Nullable @Qualifier("djlSentenceTokenizer") HuggingFaceTokenizer sentenceTokenizer,
+      RedisOperations<?, ?> redisOps,
       RedisOMSpringProperties properties,
       ApplicationContext ac) {
-    return properties.getDjl().isEnabled() ? new DefaultFeatureExtractor( ac, imageEmbeddingModel, faceEmbeddingModel, imageFactory, defaultImagePipeline, sentenceTokenizer) : null;
+    RedisOMSpringProperties.Djl djl = properties.getDjl();
+    return djl.isEnabled() ? new DefaultFeatureExtractor(ac, imageEmbeddingModel, faceEmbeddingModel, imageFactory,
+        defaultImagePipeline, sentenceTokenizer, redisOps, djl.getVectorizeWorkers(), djl.getVectorizeBatchSize(),
+        djl.getVectorizeQueueCapacity(), djl.getPredictorPoolSize()) : null;
   }
 
   @Bean(name = "redisJSONKeyValueAdapter")
@@ -288,10 +340,10 @@ public class RedisModulesConfiguration {
       RedisModulesOperations<?> redisModulesOperations, //
       RedisMappingContext mappingContext, //
       RediSearchIndexer indexer, //
-      GsonBuilder gsonBuilder, //
+      DocumentCodec codec, //
       RedisOMSpringProperties properties //
   ) {
-    return new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations, mappingContext, indexer, gsonBuilder, properties);
+    return new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations, mappingContext, indexer, codec, properties);
   }
 
   @Bean(name = "redisJSONKeyValueTemplate")
@@ -300,11 +352,11 @@ public class RedisModulesConfiguration {
       RedisModulesOperations<?> redisModulesOperations, //
       RedisMappingContext mappingContext, //
       RediSearchIndexer indexer, //
-      GsonBuilder gsonBuilder, //
+      DocumentCodec codec, //
       RedisOMSpringProperties properties //
   ) {
     return new CustomRedisKeyValueTemplate(
-        new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations, mappingContext, indexer, gsonBuilder, properties),
+        new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations, mappingContext, indexer, codec, properties),
         mappingContext);
   }
 
@@ -322,8 +374,8 @@ public class RedisModulesConfiguration {
   }
 
   @Bean(name = "streamingQueryBuilder")
-  EntityStream streamingQueryBuilder(RedisModulesOperations<?> redisModulesOperations, Gson gson) {
-    return new EntityStreamImpl(redisModulesOperations, gson);
+  EntityStream streamingQueryBuilder(RedisModulesOperations<?> redisModulesOperations, DocumentCodec codec) {
+    return new EntityStreamImpl(redisModulesOperations, codec);
   }
 
   @EventListener(ContextRefreshedEvent.class)
@@ -333,34 +385,50 @@ public class RedisModulesConfiguration {
     ApplicationContext ac = cre.getApplicationContext();
 
     RediSearchIndexer indexer = (RediSearchIndexer) ac.getBean("rediSearchIndexer");
-    indexer.createIndicesFor(Document.class);
-    indexer.createIndicesFor(RedisHash.class);
+    // a single scan serves the indexes, the @Bloom filters and the @TopK/@CountMin sketches
+    Set<BeanDefinition> beanDefs = getBeanDefinitionsFor(ac, Document.class, RedisHash.class);
+    logger.info(String.format("Found %s @Document/@RedisHash annotated Beans...", beanDefs.size()));
+    List<Class<?>> entityClasses = indexer.resolveEntityClasses(beanDefs);
+
+    indexer.createIndicesFor(entityClasses);
+    ac.getBean(BloomFilters.class).createFiltersFor(entityClasses);
+    ac.getBean(Sketches.class).createSketchesFor(entityClasses);
+    FeatureExtractor featureExtractor = ac.getBeanProvider(FeatureExtractor.class).getIfAvailable();
+    if (featureExtractor != null) {
+      entityClasses.forEach(cl -> featureExtractor.resumePending(cl, indexer.getKeyspacesOf(cl)));
+    }
+
+    Duration awaitTimeout = ac.getBean(RedisOMSpringProperties.class).getIndexing().getAwaitTimeout();
+    if (!awaitTimeout.isZero() && !awaitTimeout.isNegative()) {
+      logger.info(String.format("Waiting up to %s for the indexes to be built......", awaitTimeout));
+      indexer.awaitIndexing(awaitTimeout);
+    }
   }
 
-  @EventListener(ContextRefreshedEvent.class)
-  public void processBloom(ContextRefreshedEvent cre) {
-    ApplicationContext ac = cre.getApplicationContext();
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+  @ConditionalOnProperty(prefix = "redis.om.spring.metrics", name = "enabled", matchIfMissing = true)
+  static class MetricsConfiguration {
+    @Bean(name = "redisOMMetrics")
+    @ConditionalOnMissingBean(name = "redisOMMetrics")
     @SuppressWarnings("unchecked")
-    RedisModulesOperations<String> rmo = (RedisModulesOperations<String>) ac.getBean("redisModulesOperations");
-
-    Set<BeanDefinition> beanDefs = getBeanDefinitionsFor(ac, Document.class, RedisHash.class);
+    RedisOMMetrics redisOMMetrics(RediSearchIndexer indexer, RedisModulesOperations<?> rmo,
+        BloomFilters bloomFilters, @Nullable @Qualifier("featureExtractor") FeatureExtractor featureExtractor,
+        RedisOMSpringProperties properties) {
+      return new RedisOMMetrics(indexer, (RedisModulesOperations<String>) rmo, bloomFilters,
+          featureExtractor != null ? featureExtractor.getStats().orElse(null) : null,
+          properties.getMetrics().getIndexInfoInterval());
+    }
+  }
 
-    for (BeanDefinition beanDef : beanDefs) {
-      try {
-        Class<?> cl = Class.forName(beanDef.getBeanClassName());
-        for (java.lang.reflect.Field field : getDeclaredFieldsTransitively(cl)) {
-          // Text
-          if (field.isAnnotationPresent(Bloom.class)) {
-            Bloom bloom = field.getAnnotation(Bloom.class);
-            BloomOperations<String> ops = rmo.opsForBloom();
-            String filterName = !ObjectUtils.isEmpty(bloom.name()) ? bloom.name()
-                : String.format("bf:%s:%s", cl.getSimpleName(), field.getName());
-            ops.createFilter(filterName, bloom.capacity(), bloom.errorRate());
-          }
-        }
-      } catch (Exception e) {
-        logger.debug("Error during processing of @Bloom annotation: ", e);
-      }
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+  static class IndexingHealthConfiguration {
+    @Bean(name = "redisOMIndexesHealthIndicator")
+    @ConditionalOnMissingBean(name = "redisOMIndexesHealthIndicator")
+    IndexingHealthIndicator indexingHealthIndicator(RediSearchIndexer indexer) {
+      return new IndexingHealthIndicator(indexer);
     }
   }
+
 }
@@ -4,6 +4,10 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @ConfigurationProperties(
         prefix = "redis.om.spring",
         ignoreInvalidFields = true
@@ -23,6 +27,12 @@ public class RedisOMSpringProperties {
             return query;
         }
 
+        private final DirtyTracking dirtyTracking = new DirtyTracking();
+
+        public DirtyTracking getDirtyTracking() {
+            return dirtyTracking;
+        }
+
         public static class Query {
             private int limit = 10000;
 
@@ -33,6 +43,281 @@ public class RedisOMSpringProperties {
             public void setLimit(int limit) {
                 this.limit = limit;
             }
+
+            private final Cache cache = new Cache();
+
+            public Cache getCache() {
+                return cache;
+            }
+
+            // results of the query methods and streams that opt in to caching
+            public static class Cache {
+                private long maximumSize = 10000;
+                private Duration timeToLive = Duration.ofSeconds(30);
+
+                public long getMaximumSize() {
+                    return maximumSize;
+                }
+
+                public void setMaximumSize(long maximumSize) {
+                    this.maximumSize = maximumSize;
+                }
+
+                public Duration getTimeToLive() {
+                    return timeToLive;
+                }
+
+                public void setTimeToLive(Duration timeToLive) {
+                    this.timeToLive = timeToLive;
+                }
+            }
+        }
+
+        // when enabled, documents loaded through a repository remember a hash of
+        // each top-level field and save() only writes the fields that changed,
+        // so save() is no longer last-writer-wins for the whole document: fields
+        // the entity left untouched keep what other writers stored since it was read
+        public static class DirtyTracking {
+            private boolean enabled = false;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+        }
+    }
+
+    // serialization properties
+    private final Serialization serialization = new Serialization();
+
+    public Serialization getSerialization() {
+        return serialization;
+    }
+
+    public static class Serialization {
+        public enum Codec {
+            GSON, JACKSON
+        }
+
+        private Codec codec = Codec.GSON;
+
+        public Codec getCodec() {
+            return codec;
+        }
+
+        public void setCodec(Codec codec) {
+            this.codec = codec;
+        }
+    }
+
+    // indexing properties
+    private final Indexing indexing = new Indexing();
+
+    public Indexing getIndexing() {
+        return indexing;
+    }
+
+    public static class Indexing {
+        // name indexes after a fingerprint of their schema and address them through
+        // an alias, so that schema changes are applied by building a new index in
+        // the background and moving the alias over once it is complete
+        private boolean versioned = false;
+        private Duration cutoverPollInterval = Duration.ofSeconds(1);
+        private Duration cutoverTimeout = Duration.ofMinutes(30);
+        // number of indexes created or altered concurrently at startup
+        private int bootstrapThreads = 4;
+        // scan the classpath for entities even when a build-time entity registry
+        // (META-INF/redis-om-entities) is present
+        private boolean ignoreEntityRegistry = false;
+        // how long startup waits for the critical indexes to finish their
+        // background scan of existing documents (zero doesn't wait)
+        private Duration awaitTimeout = Duration.ZERO;
+        private Duration progressPollInterval = Duration.ofSeconds(1);
+        // entity class names whose indexes must be complete before the
+        // "redisOMIndexes" health indicator reports UP (empty means all of them)
+        private List<String> criticalIndexes = new ArrayList<>();
+
+        public boolean isVersioned() {
+            return versioned;
+        }
+
+        public void setVersioned(boolean versioned) {
+            this.versioned = versioned;
+        }
+
+        public Duration getCutoverPollInterval() {
+            return cutoverPollInterval;
+        }
+
+        public void setCutoverPollInterval(Duration cutoverPollInterval) {
+            this.cutoverPollInterval = cutoverPollInterval;
+        }
+
+        public Duration getCutoverTimeout() {
+            return cutoverTimeout;
+        }
+
+        public void setCutoverTimeout(Duration cutoverTimeout) {
+            this.cutoverTimeout = cutoverTimeout;
+        }
+
+        public int getBootstrapThreads() {
+            return bootstrapThreads;
+        }
+
+        public void setBootstrapThreads(int bootstrapThreads) {
+            this.bootstrapThreads = bootstrapThreads;
+        }
+
+        public boolean isIgnoreEntityRegistry() {
+            return ignoreEntityRegistry;
+        }
+
+        public void setIgnoreEntityRegistry(boolean ignoreEntityRegistry) {
+            this.ignoreEntityRegistry = ignoreEntityRegistry;
+        }
+
+        public Duration getAwaitTimeout() {
+            return awaitTimeout;
+        }
+
+        public void setAwaitTimeout(Duration awaitTimeout) {
+            this.awaitTimeout = awaitTimeout;
+        }
+
+        public Duration getProgressPollInterval() {
+            return progressPollInterval;
+        }
+
+        public void setProgressPollInterval(Duration progressPollInterval) {
+            this.progressPollInterval = progressPollInterval;
+        }
+
+        public List<String> getCriticalIndexes() {
+            return criticalIndexes;
+        }
+
+        public void setCriticalIndexes(List<String> criticalIndexes) {
+            this.criticalIndexes = criticalIndexes;
+        }
+    }
+
+    // metrics properties (published when Micrometer is on the classpath)
+    private final Metrics metrics = new Metrics();
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public static class Metrics {
+        private boolean enabled = true;
+        // how often FT.INFO is collected for every index
+        private Duration indexInfoInterval = Duration.ofMinutes(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getIndexInfoInterval() {
+            return indexInfoInterval;
+        }
+
+        public void setIndexInfoInterval(Duration indexInfoInterval) {
+            this.indexInfoInterval = indexInfoInterval;
+        }
+    }
+
+    // @AutoComplete properties
+    private final Autocomplete autocomplete = new Autocomplete();
+
+    public Autocomplete getAutocomplete() {
+        return autocomplete;
+    }
+
+    public static class Autocomplete {
+        private final Cache cache = new Cache();
+
+        public Cache getCache() {
+            return cache;
+        }
+
+        // suggestions of the dictionaries that opt in to caching
+        public static class Cache {
+            // the longest prefix answered from the cache
+            private int maxPrefixLength = 3;
+            private long maximumSize = 10000;
+            private Duration timeToLive = Duration.ofMinutes(5);
+
+            public int getMaxPrefixLength() {
+                return maxPrefixLength;
+            }
+
+            public void setMaxPrefixLength(int maxPrefixLength) {
+                this.maxPrefixLength = maxPrefixLength;
+            }
+
+            public long getMaximumSize() {
+                return maximumSize;
+            }
+
+            public void setMaximumSize(long maximumSize) {
+                this.maximumSize = maximumSize;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+        }
+    }
+
+    // @Bloom filter properties
+    private final Bloom bloom = new Bloom();
+
+    public Bloom getBloom() {
+        return bloom;
+    }
+
+    public static class Bloom {
+        // how often BF.INFO is read for every filter, zero to never check them
+        private Duration refreshInterval = Duration.ofMinutes(5);
+        // the share of its capacity a filter is rebuilt at
+        private double rebuildThreshold = 0.9;
+        // the number of sub-filters a scaling filter is rebuilt at
+        private int maxSubFilters = 4;
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public double getRebuildThreshold() {
+            return rebuildThreshold;
+        }
+
+        public void setRebuildThreshold(double rebuildThreshold) {
+            this.rebuildThreshold = rebuildThreshold;
+        }
+
+        public int getMaxSubFilters() {
+            return maxSubFilters;
+        }
+
+        public void setMaxSubFilters(int maxSubFilters) {
+            this.maxSubFilters = maxSubFilters;
         }
     }
 
@@ -77,6 +362,19 @@ public class RedisOMSpringProperties {
         private String faceEmbeddingModelName = "face_feature";
         @NotNull
         private String faceEmbeddingModelModelUrls = "https://resources.djl.ai/test-models/pytorch/face_feature.zip";
+
+        // vectorization of @Vectorize fields: the number of batches embedded at
+        // once, the number of values per batch and the batches waiting for a worker
+        @NotNull
+        private int vectorizeWorkers = 2;
+        @NotNull
+        private int vectorizeBatchSize = 32;
+        @NotNull
+        private int vectorizeQueueCapacity = 1000;
+
+        // the number of predictors kept, and reused, per embedding model
+        @NotNull
+        private int predictorPoolSize = 4;
     }
 
     private final Djl djl = new Djl();
@@ -7,4 +7,7 @@ import java.lang.annotation.*;
 @Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
 public @interface AutoComplete {
   String name() default "";
+
+  // whether the suggestions of the short prefixes are cached in-process
+  boolean cached() default false;
 }
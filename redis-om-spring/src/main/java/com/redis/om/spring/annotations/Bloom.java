@@ -9,4 +9,8 @@ public @interface Bloom {
   String name() default "";
   double errorRate();
   int capacity();
+  // the factor the capacity of the filter grows by when it fills up, 0 for the server default
+  int expansion() default 0;
+  // whether the filter refuses new items instead of growing when it fills up
+  boolean nonScaling() default false;
 }
@@ -0,0 +1,32 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Keeps the approximate number of distinct values of a field in a HyperLogLog,
+ * added to as entities are saved, and answered in constant time by the
+ * repositories' {@code countDistinct} methods and, with {@code answerStreams},
+ * by {@code SearchStream#countDistinct}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface CountDistinct {
+  // the key of the HyperLogLog, by default hll:<simple class name>:<field name>
+  String name() default "";
+
+  // the name of a field whose values partition the counts, e.g. a tag field
+  String by() default "";
+
+  // the time buckets the values are also counted in, by the time they are saved
+  ChronoUnit bucket() default ChronoUnit.FOREVER;
+
+  // the number of time buckets kept, the current one included: a bucket expires
+  // once that many have started since, by default as many as a count can span
+  int retention() default 10000;
+
+  // whether SearchStream#countDistinct of an unfiltered stream reads the
+  // HyperLogLog instead of aggregating the index
+  boolean answerStreams() default false;
+}
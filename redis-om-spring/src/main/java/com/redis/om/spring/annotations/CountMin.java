@@ -0,0 +1,25 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Counts how often the values of a field occur in a Count-Min sketch,
+ * incremented as entities are saved (and read, with {@code countReads}), and
+ * queried with {@code estimateCountBy<Field>(value)} repository methods.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface CountMin {
+  // the key of the sketch, by default cms:<simple class name>:<field name>
+  String name() default "";
+
+  // the overestimate of a count, as a share of all the increments
+  double errorRate() default 0.001;
+
+  // the probability of a count overestimated by more than the error rate
+  double probability() default 0.01;
+
+  // whether the values of the entities read through the repository count too
+  boolean countReads() default false;
+}
@@ -30,4 +30,29 @@ public @interface Document {
    * @return positive number when expiration should be applied.
    */
   long timeToLive() default -1L;
+
+  // -----------------------------------------------------------
+  // Index tuning: each option trades query features for memory
+  // -----------------------------------------------------------
+
+  // NOOFFSETS - don't store term offsets; disables exact phrase searches and highlighting
+  boolean noOffsets() default false;
+
+  // NOHL - don't store the data needed to highlight matches
+  boolean noHighlights() default false;
+
+  // NOFIELDS - don't store which text field a term came from; disables searching a single text field
+  boolean noFields() default false;
+
+  // NOFREQS - don't store term frequencies; all terms then weigh the same when scoring
+  boolean noFrequencies() default false;
+
+  // STOPWORDS 0 - index every word, including the default stop-words
+  boolean noStopwords() default false;
+
+  // SKIPINITIALSCAN - don't index the documents that already exist when the index is created
+  boolean skipInitialScan() default false;
+
+  // TEMPORARY - seconds of inactivity after which the index expires, or -1 for a permanent index
+  long temporary() default -1L;
 }
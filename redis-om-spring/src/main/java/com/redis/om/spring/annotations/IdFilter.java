@@ -0,0 +1,27 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Keeps the ids of an entity in a Bloom or Cuckoo filter that
+ * {@code findById}, {@code existsById} and {@code findAllById} check first,
+ * so that lookups of ids that were never saved don't reach the keyspace.
+ * <p>
+ * The filter is built from the existing keys the first time the application
+ * starts with it, and kept up to date by the repositories afterwards.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface IdFilter {
+  IdFilterType type() default IdFilterType.BLOOM;
+
+  // the key of the filter, by default idf:<simple class name>
+  String name() default "";
+
+  // the number of ids to size the filter for
+  long capacity();
+
+  // the rate of false positives of a Bloom filter (Cuckoo filters have a fixed rate of a few percent)
+  double errorRate() default 0.001;
+}
@@ -0,0 +1,8 @@
+package com.redis.om.spring.annotations;
+
+public enum IdFilterType {
+  // smaller and faster, but ids of deleted entities stay in the filter
+  BLOOM,
+  // removes the ids of deleted entities
+  CUCKOO
+}
@@ -0,0 +1,40 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares an additional, narrower index over a subset of the indexed fields
+ * of an entity, created next to its main index as
+ * {@code <entity class name>Idx_<name>}. Searches are routed to the smallest
+ * profile without a filter that covers the fields they query, sort on and
+ * return, and fall back to the main index otherwise; a profile with a filter
+ * only holds some of the documents, so it is only searched by the query
+ * methods that name it with {@link Query#index()}. So is a profile whose
+ * {@code noOffsets}, {@code noFields}, {@code noFrequencies} or
+ * {@code noStopwords} differ from the main index's, as it would match or score
+ * some queries differently.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Repeatable(IndexProfiles.class)
+public @interface IndexProfile {
+  String name();
+
+  // the names (aliases) of the indexed fields to include; the id is always included
+  String[] fields();
+
+  // an index FILTER expression, as in @Document(filter = ...)
+  String filter() default "";
+
+  // index tuning, as on @Document
+  boolean noOffsets() default false;
+
+  boolean noHighlights() default false;
+
+  boolean noFields() default false;
+
+  boolean noFrequencies() default false;
+
+  boolean noStopwords() default false;
+}
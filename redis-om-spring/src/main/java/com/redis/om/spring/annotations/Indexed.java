@@ -31,6 +31,12 @@ public @interface Indexed {
 
   int arrayIndex() default Integer.MIN_VALUE;
 
+  // UNF - keep sortable values as they are instead of normalizing them (TAG fields, only applies when sortable)
+  boolean unf() default false;
+
+  // WITHSUFFIXTRIE - keep a suffix trie to speed up suffix and contains queries (TAG fields)
+  boolean withSuffixTrie() default false;
+
   // -----------------
   // VECTOR properties
   // -----------------
@@ -12,4 +12,8 @@ public @interface Query {
   int limit() default Integer.MIN_VALUE;
   String sortBy() default "";
   boolean sortAscending() default true;
+  // the @IndexProfile to search instead of the index the query would be routed to
+  String index() default "";
+  // serve repeated searches from the search result cache until the next write to the entity's keyspace
+  boolean cache() default false;
 }
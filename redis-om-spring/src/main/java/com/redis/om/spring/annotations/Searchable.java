@@ -19,4 +19,10 @@ public @interface Searchable {
   boolean nostem() default false;
 
   String phonetic() default "";
+
+  // UNF - keep sortable values as they are instead of normalizing them (only applies when sortable)
+  boolean unf() default false;
+
+  // WITHSUFFIXTRIE - keep a suffix trie to speed up suffix and contains queries, at the cost of memory
+  boolean withSuffixTrie() default false;
 }
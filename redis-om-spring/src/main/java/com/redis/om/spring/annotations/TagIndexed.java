@@ -10,4 +10,5 @@ public @interface TagIndexed {
   String alias() default "";
   boolean noindex() default false;
   String separator() default "|";
+  boolean withSuffixTrie() default false;
 }
\ No newline at end of file
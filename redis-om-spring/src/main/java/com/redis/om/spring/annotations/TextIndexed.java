@@ -13,4 +13,6 @@ public @interface TextIndexed {
   double weight() default 1.0;
   boolean nostem() default false;
   String phonetic() default "";
+  boolean unf() default false;
+  boolean withSuffixTrie() default false;
 }
\ No newline at end of file
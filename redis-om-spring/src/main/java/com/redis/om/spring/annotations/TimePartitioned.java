@@ -0,0 +1,37 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Splits the index of an append-heavy entity into one index per time bucket of
+ * one of its indexed date/time fields. Documents are stored under the key
+ * prefix of the bucket their value falls in ({@code event_p1700000000:} for
+ * the keyspace {@code event:}), which only the index of that bucket covers;
+ * bucket indexes are created as documents for new buckets are saved, queries
+ * are fanned out to the buckets their range on the field overlaps and merged,
+ * and buckets that fall out of the retention window are dropped together with
+ * their documents. Aggregations are fanned out and merged too, as long as their
+ * rows can be (see {@code PartitionedAggregation}); aliases aren't supported.
+ * The bucket of each document is recorded by id, so that it is found from its
+ * id with a single lookup.
+ * <p>
+ * Documents without a value for the field are stored under the keyspace and
+ * aren't indexed.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface TimePartitioned {
+  // the @Indexed date/time (or epoch millis) field to partition on
+  String field();
+
+  // the width of a bucket, in units
+  long size() default 1;
+
+  // one of HOURS, HALF_DAYS, DAYS or WEEKS; buckets are aligned on the epoch (UTC)
+  ChronoUnit unit() default ChronoUnit.DAYS;
+
+  // the number of most recent buckets to keep, older ones are dropped with their documents (-1 keeps them all)
+  int retention() default -1;
+}
@@ -0,0 +1,29 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Keeps the most frequent values of a field in a Top-K sketch, incremented as
+ * entities are saved (and read, with {@code countReads}), and queried with
+ * {@code topKBy<Field>()} repository methods.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface TopK {
+  // the key of the sketch, by default topk:<simple class name>:<field name>
+  String name() default "";
+
+  // the number of values to keep
+  int k() default 10;
+
+  int width() default 8;
+
+  int depth() default 7;
+
+  // the probability of decaying the counter of another value that collides with a value
+  double decay() default 0.9;
+
+  // whether the values of the entities read through the repository count too
+  boolean countReads() default false;
+}
@@ -0,0 +1,20 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Tracks the values of a field in a Cuckoo filter, so that repositories can
+ * tell a value is not taken without querying the index. Values are compared by
+ * their string form, and are removed from the filter when the entity holding
+ * them is deleted or changes them, so they can be reused.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+public @interface Unique {
+  // the key of the filter, by default cf:<simple class name>:<field name>
+  String name() default "";
+
+  // the number of values to size the filter for
+  long capacity();
+}
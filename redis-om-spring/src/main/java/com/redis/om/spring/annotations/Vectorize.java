@@ -8,4 +8,11 @@ import java.lang.annotation.*;
 public @interface Vectorize {
   String destination();
   EmbeddingType embeddingType() default EmbeddingType.SENTENCE;
+
+  // whether the embedding is written to the saved entity in the background
+  // instead of before the entity is saved
+  boolean async() default false;
+
+  // the name of a field holding the VectorizationStatus of the embedding
+  String status() default "";
 }
@@ -20,12 +20,15 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.Repository;
 import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Aspect
 @Component
@@ -39,6 +42,13 @@ public class AutoCompleteAspect implements Ordered {
 
   private final RedisModulesOperations<String> rmo;
 
+  /**
+   * A suggestion of an entity, added to the suggestion dictionary {@code key},
+   * and its payload, if any, stored in the hash {@code payloadKey}.
+   */
+  record SuggestionEntry(String key, String suggestion, String payloadKey, Map<String, Object> payload) {
+  }
+
   public AutoCompleteAspect(RedisModulesOperations<String> rmo) {
     this.rmo = rmo;
   }
@@ -57,7 +67,7 @@ public class AutoCompleteAspect implements Ordered {
 
   @AfterReturning("inSaveOperation() && args(entity,..)")
   public void addSuggestion(JoinPoint jp, Object entity) {
-    processSuggestionsForEntity(entity);
+    addSuggestions(suggestionsOf(entity));
   }
 
   @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.saveAll(..))")
@@ -74,9 +84,11 @@ public class AutoCompleteAspect implements Ordered {
 
   @AfterReturning("inSaveAllOperation() && args(entities,..)")
   public void addAllSuggestions(JoinPoint jp, List<Object> entities) {
+    List<SuggestionEntry> suggestions = new ArrayList<>();
     for (Object entity : entities) {
-      processSuggestionsForEntity(entity);
+      suggestions.addAll(suggestionsOf(entity));
     }
+    addSuggestions(suggestions);
   }
 
   @Pointcut("execution(public * com.redis.om.spring.repository.RedisDocumentRepository+.delete(..))")
@@ -102,6 +114,7 @@ public class AutoCompleteAspect implements Ordered {
         if (field.isAnnotationPresent(AutoComplete.class)) {
           String key = String.format(Suggestion.KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName());
           template.delete(key);
+          rmo.getSuggestionCache().invalidate(key);
         }
       }
     }
@@ -128,6 +141,7 @@ public class AutoCompleteAspect implements Ordered {
             SearchOperations<String> ops = rmo.opsForSearch(key);
             String suggestion = pd.getReadMethod().invoke(entity).toString();
             ops.deleteSuggestion(key, suggestion);
+            rmo.getSuggestionCache().invalidate(key, List.of(suggestion));
             template.opsForHash().delete(payLoadKey, suggestion);
           } catch (IllegalArgumentException | IntrospectionException | IllegalAccessException
               | InvocationTargetException e) {
@@ -176,7 +190,47 @@ public class AutoCompleteAspect implements Ordered {
     return 1;
   }
 
-  private void processSuggestionsForEntity(Object entity) {
+  /**
+   * Adds the suggestions, and the payloads of those that have one, with one
+   * pipeline for a whole batch of entities.
+   */
+  private void addSuggestions(List<SuggestionEntry> suggestions) {
+    if (suggestions.isEmpty()) {
+      return;
+    }
+    Optional<Jedis> maybeJedis = rmo.getClient().getJedis();
+    if (maybeJedis.isEmpty()) {
+      for (SuggestionEntry entry : suggestions) {
+        if (entry.payload() != null) {
+          template.opsForHash().put(entry.payloadKey(), entry.suggestion(), gson.toJson(entry.payload()));
+        }
+        rmo.opsForSearch(entry.key()).addSuggestion(entry.key(), entry.suggestion());
+      }
+      invalidateSuggestions(suggestions);
+      return;
+    }
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      for (SuggestionEntry entry : suggestions) {
+        if (entry.payload() != null) {
+          pipeline.hset(entry.payloadKey(), entry.suggestion(), gson.toJson(entry.payload()));
+        }
+        pipeline.ftSugAdd(entry.key(), entry.suggestion(), 1.0);
+      }
+      pipeline.sync();
+    }
+    invalidateSuggestions(suggestions);
+  }
+
+  private void invalidateSuggestions(List<SuggestionEntry> suggestions) {
+    suggestions.stream() //
+        .collect(Collectors.groupingBy(SuggestionEntry::key,
+            Collectors.mapping(SuggestionEntry::suggestion, Collectors.toList()))) //
+        .forEach(rmo.getSuggestionCache()::invalidate);
+  }
+
+  List<SuggestionEntry> suggestionsOf(Object entity) {
+    List<SuggestionEntry> suggestions = new ArrayList<>();
     final List<Field> entityClassFields = com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass());
     for (Field field : entityClassFields) {
       if (field.isAnnotationPresent(AutoComplete.class)) {
@@ -186,7 +240,6 @@ public class AutoCompleteAspect implements Ordered {
         AutoComplete suggestible = field.getAnnotation(AutoComplete.class);
         String key = !ObjectUtils.isEmpty(suggestible.name()) ? suggestible.name()
             : String.format(Suggestion.KEY_FORMAT_STRING, entity.getClass().getSimpleName(), field.getName());
-        SearchOperations<String> ops = rmo.opsForSearch(key);
         try {
           PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
           suggestion = pd.getReadMethod().invoke(entity).toString();
@@ -213,15 +266,13 @@ public class AutoCompleteAspect implements Ordered {
             }
           }
         }
-        if (payload != null && !payload.isEmpty()) {
-          String payLoadKey = !ObjectUtils.isEmpty(suggestible.name()) ? suggestible.name()
-              : String.format(Suggestion.PAYLOAD_KEY_FORMAT_STRING, entity.getClass().getSimpleName(), field.getName());
-          template.opsForHash().put(payLoadKey, suggestion, gson.toJson(payload));
-        }
-
-        ops.addSuggestion(key, suggestion);
+        String payLoadKey = !ObjectUtils.isEmpty(suggestible.name()) ? suggestible.name()
+            : String.format(Suggestion.PAYLOAD_KEY_FORMAT_STRING, entity.getClass().getSimpleName(), field.getName());
+        suggestions.add(new SuggestionEntry(key, suggestion, payLoadKey,
+            payload != null && !payload.isEmpty() ? payload : null));
       }
     }
+    return suggestions;
   }
 
   private void deleteSuggestionsForEntity(Object entity) {
@@ -237,6 +288,7 @@ public class AutoCompleteAspect implements Ordered {
           String suggestion = pd.getReadMethod().invoke(entity).toString();
 
           ops.deleteSuggestion(key, suggestion);
+          rmo.getSuggestionCache().invalidate(key, List.of(suggestion));
 
           String payLoadKey = !ObjectUtils.isEmpty(suggestible.name()) ? suggestible.name()
               : String.format("sugg:payload:%s:%s", entity.getClass().getSimpleName(), field.getName());
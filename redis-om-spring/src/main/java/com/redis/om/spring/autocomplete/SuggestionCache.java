@@ -0,0 +1,123 @@
+package com.redis.om.spring.autocomplete;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the suggestions of the short prefixes of the {@link com.redis.om.spring.annotations.AutoComplete}
+ * dictionaries that opt in to it, so that the first keystrokes of a typeahead
+ * are answered in-process. Longer and fuzzy prefixes always go to
+ * {@code FT.SUGGET}.
+ * <p>
+ * The suggestions of a prefix are loaded from the dictionary the first time it
+ * is asked for. As with the {@link com.redis.om.spring.ops.search.SearchResultCache},
+ * they are keyed by generations: the dictionary's, bumped when it is deleted,
+ * and the prefix's, bumped when a suggestion starting with it is added or
+ * deleted through a repository. A write makes the cached suggestions of its
+ * prefixes unreachable, along with those still being loaded, and the stale
+ * entries age out. Writes made by other instances only show once the cached
+ * suggestions expire.
+ */
+public class SuggestionCache {
+  private record Key(String dictionary, long dictionaryGeneration, String prefix, long prefixGeneration,
+      boolean withScore, boolean withPayload, int limit) {
+  }
+
+  // prefixes match suggestions regardless of case
+  private record Prefix(String dictionary, String prefix) {
+    static Prefix of(String dictionary, String prefix) {
+      return new Prefix(dictionary, prefix.toLowerCase(Locale.ROOT));
+    }
+  }
+
+  private final int maxPrefixLength;
+  private final Cache<Key, List<Suggestion>> cache;
+  private final Map<String, AtomicLong> dictionaryGenerations = new ConcurrentHashMap<>();
+  // only of the prefixes asked for, the others having nothing cached to drop
+  private final Map<Prefix, AtomicLong> prefixGenerations = new ConcurrentHashMap<>();
+
+  public SuggestionCache(int maxPrefixLength, long maximumSize, Duration timeToLive) {
+    this.maxPrefixLength = maxPrefixLength;
+    cache = CacheBuilder.newBuilder() //
+        .maximumSize(maximumSize) //
+        .expireAfterWrite(timeToLive) //
+        .recordStats() //
+        .build();
+  }
+
+  public boolean isCacheable(String prefix, AutoCompleteOptions options) {
+    return !prefix.isEmpty() && prefix.length() <= maxPrefixLength && !options.isFuzzy();
+  }
+
+  /**
+   * @return the cached suggestions of the prefix, or the suggestions of the
+   * dictionary, cached
+   */
+  public List<Suggestion> get(String dictionary, String prefix, AutoCompleteOptions options,
+      Supplier<List<Suggestion>> suggest) {
+    if (!isCacheable(prefix, options)) {
+      return suggest.get();
+    }
+    // the generations are read before loading, so that suggestions racing with
+    // a write are cached under the generations they may predate
+    Key key = new Key(dictionary, dictionaryGenerationOf(dictionary).get(), prefix,
+        prefixGenerations.computeIfAbsent(Prefix.of(dictionary, prefix), p -> new AtomicLong()).get(),
+        options.isWithScore(), options.isWithPayload(), options.getLimit());
+    try {
+      return cache.get(key, suggest::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Drops the cached suggestions of the prefixes of the suggestions, after they
+   * were added to or deleted from the dictionary.
+   */
+  public void invalidate(String dictionary, Collection<String> suggestions) {
+    for (String suggestion : suggestions) {
+      String lowerCase = suggestion.toLowerCase(Locale.ROOT);
+      for (int length = 1; length <= Math.min(maxPrefixLength, lowerCase.length()); length++) {
+        AtomicLong generation = prefixGenerations.get(new Prefix(dictionary, lowerCase.substring(0, length)));
+        if (generation != null) {
+          generation.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the cached suggestions of a dictionary, after it was deleted.
+   */
+  public void invalidate(String dictionary) {
+    dictionaryGenerationOf(dictionary).incrementAndGet();
+  }
+
+  public void invalidateAll() {
+    dictionaryGenerations.values().forEach(AtomicLong::incrementAndGet);
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the underlying cache, to monitor it
+   */
+  public Cache<?, List<Suggestion>> getCache() {
+    return cache;
+  }
+
+  private AtomicLong dictionaryGenerationOf(String dictionary) {
+    return dictionaryGenerations.computeIfAbsent(dictionary, d -> new AtomicLong());
+  }
+}
@@ -2,32 +2,45 @@ package com.redis.om.spring.bloom;
 
 import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.ops.pds.BloomOperations;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 
-import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
 public class BloomAspect implements Ordered {
   private final BloomOperations<String> ops;
   private static final Log logger = LogFactory.getLog(BloomAspect.class);
+  private final Map<Class<?>, List<BloomField>> bloomFields = new ConcurrentHashMap<>();
+
+  private BloomFilters bloomFilters;
 
   public BloomAspect(BloomOperations<String> ops) {
     this.ops = ops;
   }
 
+  @Autowired(required = false)
+  public void setBloomFilters(BloomFilters bloomFilters) {
+    this.bloomFilters = bloomFilters;
+  }
+
   @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.save(..))")
   public void inCrudRepositorySave() {}
 
@@ -39,15 +52,13 @@ public class BloomAspect implements Ordered {
 
   @AfterReturning("inSaveOperation() && args(entity,..)")
   public void addToBloom(JoinPoint jp, Object entity) {
-    for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-      if (field.isAnnotationPresent(Bloom.class)) {
-        Bloom bloom = field.getAnnotation(Bloom.class);
-        String filterName = !ObjectUtils.isEmpty(bloom.name()) ? bloom.name() : String.format("bf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-        try {
-          PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-          ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-        } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException | InvocationTargetException e) {
-          logger.error(String.format("Could not add value to Bloom filter %s", filterName), e);
+    for (BloomField bloomField : bloomFieldsOf(entity.getClass())) {
+      String value = bloomField.valueOf(entity);
+      if (value != null) {
+        if (bloomFilters != null) {
+          bloomFilters.add(bloomField.filterName(), List.of(value));
+        } else {
+          ops.add(bloomField.filterName(), value);
         }
       }
     }
@@ -64,19 +75,58 @@ public class BloomAspect implements Ordered {
 
   @AfterReturning("inSaveAllOperation() && args(entities,..)")
   public void addAllToBloom(JoinPoint jp, List<Object> entities) {
+    Map<String, List<String>> valuesByFilter = new HashMap<>();
     for (Object entity : entities) {
-      for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
+      for (BloomField bloomField : bloomFieldsOf(entity.getClass())) {
+        String value = bloomField.valueOf(entity);
+        if (value != null) {
+          valuesByFilter.computeIfAbsent(bloomField.filterName(), f -> new ArrayList<>()).add(value);
+        }
+      }
+    }
+    if (valuesByFilter.isEmpty()) {
+      return;
+    }
+    if (bloomFilters != null) {
+      // while a filter is rebuilt, its values go to the copy as well
+      valuesByFilter.forEach(bloomFilters::add);
+    } else {
+      ops.addMulti(valuesByFilter);
+    }
+  }
+
+  private List<BloomField> bloomFieldsOf(Class<?> entityClass) {
+    return bloomFields.computeIfAbsent(entityClass, cl -> {
+      List<BloomField> fields = new ArrayList<>();
+      for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(cl)) {
         if (field.isAnnotationPresent(Bloom.class)) {
           Bloom bloom = field.getAnnotation(Bloom.class);
-          String filterName = !ObjectUtils.isEmpty(bloom.name()) ? bloom.name() : String.format("bf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-          try {
-            PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-            ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-          } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException | InvocationTargetException e) {
-            logger.error(String.format("Could not add values to Bloom filter %s", filterName), e);
+          String filterName = BloomFilters.filterNameOf(cl, field, bloom);
+          PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(cl, field.getName());
+          if (pd != null && pd.getReadMethod() != null) {
+            fields.add(new BloomField(filterName, pd.getReadMethod()));
+          } else {
+            logger.error(String.format("Could not read the values of Bloom filter %s: %s has no getter", filterName,
+                field.getName()));
           }
         }
       }
+      return List.copyOf(fields);
+    });
+  }
+
+  /**
+   * A {@link Bloom} annotated field and the filter its values go to.
+   */
+  private record BloomField(String filterName, Method getter) {
+    String valueOf(Object entity) {
+      try {
+        Object value = getter.invoke(entity);
+        return value != null ? BloomFilters.valueOf(value) : null;
+      } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+        logger.error(String.format("Could not add value to Bloom filter %s", filterName), e);
+        return null;
+      }
     }
   }
 
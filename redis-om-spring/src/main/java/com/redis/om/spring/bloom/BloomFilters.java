@@ -0,0 +1,298 @@
+package com.redis.om.spring.bloom;
+
+import com.google.common.collect.Iterables;
+import com.redis.om.spring.RediSearchIndexer;
+import com.redis.om.spring.RedisOMSpringProperties;
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.search.SearchOperations;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.ClassUtils;
+import redis.clients.jedis.bloom.BFInsertParams;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+import static com.redis.om.spring.util.ObjectUtils.jsonPathOf;
+
+/**
+ * Creates the {@link Bloom} filters of the entities and watches how full they
+ * are: {@code BF.INFO} is read every {@code redis.om.spring.bloom.refresh-interval},
+ * and a filter past {@code rebuild-threshold} of its capacity (or made of more
+ * than {@code max-sub-filters} sub-filters) is rebuilt in the background from
+ * the values in the entity's index, then swapped in with {@code RENAME}. A
+ * single instance rebuilds a filter, under a lock, into a copy in the same hash
+ * slot: as long as the copy exists, the values saved by every instance are
+ * added to both, by a script that checks for the copy as it adds them.
+ * <p>
+ * The values are kept in the form {@link #valueOf(Object)} gives them, the one
+ * the {@code existsBy} queries look up.
+ */
+public class BloomFilters implements DisposableBean {
+  private static final Log logger = LogFactory.getLog(BloomFilters.class);
+
+  private static final String REBUILD_SUFFIX = ":rebuild";
+  private static final Duration REBUILD_LOCK_TIME_TO_LIVE = Duration.ofMinutes(30);
+  private static final int BATCH_SIZE = 1000;
+  private static final long CURSOR_MAX_IDLE_MILLIS = 60_000;
+  // KEYS[1] the filter, KEYS[2] its copy while it's rebuilt, ARGV the values
+  private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+      "redis.call('BF.MADD', KEYS[1], unpack(ARGV)) " +
+      "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('BF.MADD', KEYS[2], unpack(ARGV)) end " +
+      "return 1", Long.class);
+  // the copy has the time to live of the lock, which the filter mustn't keep
+  private static final RedisScript<Long> SWAP = new DefaultRedisScript<>(
+      "redis.call('RENAME', KEYS[1], KEYS[2]) return redis.call('PERSIST', KEYS[2])", Long.class);
+
+  /**
+   * The figures of {@code BF.INFO} for a filter.
+   *
+   * @param capacity the number of items the filter (and all its sub-filters) can hold
+   * @param filters  the number of sub-filters the filter grew into
+   */
+  public record Stats(long capacity, long size, long filters, long items, long expansion) {
+    public double fillRatio() {
+      return capacity > 0 ? (double) items / capacity : 0;
+    }
+  }
+
+  private record BloomFilter(String name, Class<?> entityClass, Field field, Bloom bloom) {
+  }
+
+  private final RedisModulesOperations<String> rmo;
+  private final RediSearchIndexer indexer;
+  private final RedisOMSpringProperties.Bloom properties;
+
+  private final Map<String, BloomFilter> filters = new ConcurrentHashMap<>();
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+  private final AtomicLong rebuilds = new AtomicLong();
+  private ScheduledExecutorService executor;
+
+  public BloomFilters(RedisModulesOperations<String> rmo, RediSearchIndexer indexer,
+      RedisOMSpringProperties.Bloom properties) {
+    this.rmo = rmo;
+    this.indexer = indexer;
+    this.properties = properties;
+  }
+
+  public void createFiltersFor(Collection<Class<?>> entityClasses) {
+    for (Class<?> cl : entityClasses) {
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        if (field.isAnnotationPresent(Bloom.class)) {
+          Bloom bloom = field.getAnnotation(Bloom.class);
+          String filterName = filterNameOf(cl, field, bloom);
+          filters.put(filterName, new BloomFilter(filterName, cl, field, bloom));
+          try {
+            rmo.opsForBloom()
+                .createFilter(filterName, bloom.capacity(), bloom.errorRate(), bloom.expansion(), bloom.nonScaling());
+          } catch (Exception e) {
+            // the filter exists
+            logger.debug("Error during processing of @Bloom annotation: ", e);
+          }
+        }
+      }
+    }
+    if (!filters.isEmpty()) {
+      schedule();
+    }
+  }
+
+  /**
+   * Adds values to a filter, and to its copy if the filter is being rebuilt.
+   */
+  public void add(String filterName, Collection<String> values) {
+    List<String> keys = List.of(filterName, copyOf(filterName));
+    for (List<String> chunk : Iterables.partition(values, BATCH_SIZE)) {
+      rmo.getTemplate().execute(ADD, keys, chunk.toArray());
+    }
+  }
+
+  public Map<String, Stats> getStats() {
+    return Collections.unmodifiableMap(stats);
+  }
+
+  public long getRebuilds() {
+    return rebuilds.get();
+  }
+
+  /**
+   * Reads {@code BF.INFO} for every filter, rebuilding the ones that outgrew
+   * their capacity.
+   */
+  public void refresh() {
+    for (BloomFilter filter : filters.values()) {
+      try {
+        Stats filterStats = statsOf(rmo.opsForBloom().info(filter.name()));
+        stats.put(filter.name(), filterStats);
+        if (needsRebuild(filterStats, properties.getRebuildThreshold(), properties.getMaxSubFilters())) {
+          rebuild(filter, filterStats);
+        }
+      } catch (Exception e) {
+        logger.debug(String.format("Could not check Bloom filter %s: %s", filter.name(), e.getMessage()));
+      }
+    }
+  }
+
+  static boolean needsRebuild(Stats stats, double rebuildThreshold, int maxSubFilters) {
+    return stats.fillRatio() >= rebuildThreshold || stats.filters() > maxSubFilters;
+  }
+
+  private void rebuild(BloomFilter filter, Stats filterStats) {
+    Optional<String> maybeIndexName = indexer.getIndexName(filter.entityClass());
+    if (maybeIndexName.isEmpty()) {
+      logger.warn(String.format("Bloom filter %s is %.0f%% full but cannot be rebuilt: %s has no index",
+          filter.name(), filterStats.fillRatio() * 100, filter.entityClass().getName()));
+      return;
+    }
+    Optional<BuildLock> lock = BuildLock.tryAcquire(rmo.getTemplate(), filter.name(), REBUILD_LOCK_TIME_TO_LIVE);
+    if (lock.isEmpty()) {
+      logger.debug(String.format("Bloom filter %s is being rebuilt by another instance", filter.name()));
+      return;
+    }
+    try (BuildLock ignored = lock.get()) {
+      rebuildLocked(filter, filterStats, maybeIndexName.get());
+    }
+  }
+
+  private void rebuildLocked(BloomFilter filter, Stats filterStats, String indexName) {
+    Bloom bloom = filter.bloom();
+    String copy = copyOf(filter.name());
+    long capacity = Math.max(bloom.capacity(), filterStats.items() * 2);
+    logger.info(String.format("Rebuilding Bloom filter %s (%s items in %s sub-filters) with a capacity of %s",
+        filter.name(), filterStats.items(), filterStats.filters(), capacity));
+    try {
+      rmo.getTemplate().delete(copy);
+      rmo.opsForBloom().createFilter(copy, capacity, bloom.errorRate(), bloom.expansion(), bloom.nonScaling());
+      // should this instance die, the copy goes with its lock rather than take
+      // the values of every instance for good
+      rmo.getTemplate().expire(copy, REBUILD_LOCK_TIME_TO_LIVE);
+      // the values saved from now on go to the copy as well, and those saved
+      // before are in the index by the time it's read
+
+      boolean isDocument = filter.entityClass().isAnnotationPresent(Document.class);
+      String fieldName = filter.field().getName();
+      String stored = isDocument ? "$." + jsonPathOf(filter.entityClass(), fieldName, rmo.getCodec()) : "@" + fieldName;
+      AggregationBuilder aggregation = new AggregationBuilder("*") //
+          .load(stored, "AS", fieldName) //
+          .cursor(BATCH_SIZE, CURSOR_MAX_IDLE_MILLIS);
+      SearchOperations<String> ops = rmo.opsForSearch(indexName);
+      AggregationResult result = ops.aggregate(aggregation);
+      // fails if the copy expired, rather than fill a filter made anew
+      BFInsertParams noCreate = new BFInsertParams().noCreate();
+      long values = 0;
+      while (true) {
+        String[] batch = result.getResults().stream().map(row -> row.get(fieldName)).filter(Objects::nonNull)
+            .map(value -> valueOf(storedValueOf(value, filter.field(), isDocument))).toArray(String[]::new);
+        if (batch.length > 0) {
+          rmo.opsForBloom().insert(copy, noCreate, batch);
+          values += batch.length;
+        }
+        if (result.getCursorId() == 0) {
+          break;
+        }
+        result = ops.cursorRead(result.getCursorId(), BATCH_SIZE);
+      }
+
+      rmo.getTemplate().execute(SWAP, List.of(copy, filter.name()));
+      rebuilds.incrementAndGet();
+      logger.info(String.format("Rebuilt Bloom filter %s from %s values", filter.name(), values));
+    } catch (Exception e) {
+      logger.warn(String.format("Could not rebuild Bloom filter %s: %s", filter.name(), e.getMessage()));
+      rmo.getTemplate().delete(copy);
+    }
+  }
+
+  /**
+   * @return the key a filter is rebuilt into, in the hash slot of the filter so
+   * that the two can be added to at once and renamed on a cluster
+   */
+  static String copyOf(String filterName) {
+    int open = filterName.indexOf('{');
+    int close = open >= 0 ? filterName.indexOf('}', open + 1) : -1;
+    boolean isHashTagged = close > open + 1;
+    return (isHashTagged ? filterName : "{" + filterName + "}") + REBUILD_SUFFIX;
+  }
+
+  /**
+   * @return the form the values of a field are added to its filter and looked
+   * up in
+   */
+  public static String valueOf(Object value) {
+    return value.toString();
+  }
+
+  static Stats statsOf(Map<String, Object> info) {
+    return new Stats(longOf(info, "Capacity"), longOf(info, "Size"), longOf(info, "Number of filters"),
+        longOf(info, "Number of items inserted"), longOf(info, "Expansion rate"));
+  }
+
+  private static long longOf(Map<String, Object> info, String field) {
+    Object value = info.get(field);
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+    try {
+      return value != null ? Long.parseLong(value.toString()) : 0;
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  // the value of a field as loaded from the index (JSON encoded for documents,
+  // as the converter writes it for hashes) read back into its type
+  private Object storedValueOf(Object loaded, Field field, boolean isDocument) {
+    String string = loaded instanceof byte[] bytes ? SafeEncoder.encode(bytes) : loaded.toString();
+    try {
+      Object value = isDocument
+          ? rmo.getCodec().fromJson(string, field.getGenericType())
+          : rmo.getMappingConverter().fromBytes(SafeEncoder.encode(string),
+              ClassUtils.resolvePrimitiveIfNecessary(field.getType()));
+      return value != null ? value : string;
+    } catch (RuntimeException e) {
+      return string;
+    }
+  }
+
+  static String filterNameOf(Class<?> entityClass, Field field, Bloom bloom) {
+    return !ObjectUtils.isEmpty(bloom.name()) ? bloom.name()
+        : String.format("bf:%s:%s", entityClass.getSimpleName(), field.getName());
+  }
+
+  private synchronized void schedule() {
+    if (executor != null) {
+      return;
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "redis-om-bloom-filters");
+      thread.setDaemon(true);
+      return thread;
+    });
+    if (!properties.getRefreshInterval().isZero() && !properties.getRefreshInterval().isNegative()) {
+      long interval = properties.getRefreshInterval().toMillis();
+      executor.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.redis.om.spring.bloom;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A lock in Redis that lets a single instance at a time build a filter: taken
+ * with {@code SET NX} and a time to live, so that it's given up if its owner
+ * dies, and released only by its owner.
+ */
+final class BuildLock implements AutoCloseable {
+  private static final String LOCK_PREFIX = "redis-om:lock:";
+  private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final StringRedisTemplate template;
+  private final String key;
+  private final String token;
+
+  private BuildLock(StringRedisTemplate template, String key, String token) {
+    this.template = template;
+    this.key = key;
+    this.token = token;
+  }
+
+  /**
+   * @return the lock on a filter, or empty if another instance holds it
+   */
+  static Optional<BuildLock> tryAcquire(StringRedisTemplate template, String filterName, Duration timeToLive) {
+    String key = LOCK_PREFIX + filterName;
+    String token = UUID.randomUUID().toString();
+    return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(key, token, timeToLive))
+        ? Optional.of(new BuildLock(template, key, token))
+        : Optional.empty();
+  }
+
+  /**
+   * @return whether an instance holds the lock on a filter
+   */
+  static boolean isHeld(StringRedisTemplate template, String filterName) {
+    return Boolean.TRUE.equals(template.hasKey(LOCK_PREFIX + filterName));
+  }
+
+  @Override
+  public void close() {
+    template.execute(RELEASE, List.of(key), token);
+  }
+}
@@ -0,0 +1,283 @@
+package com.redis.om.spring.bloom;
+
+import com.google.common.collect.Iterables;
+import com.redis.om.spring.annotations.IdFilter;
+import com.redis.om.spring.annotations.IdFilterType;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains the {@link IdFilter id filters} of the entities that declare one,
+ * and answers whether an id may exist. Lookups fail open: until a filter is
+ * marked as built in Redis, or when it can't be read, every id may exist. A
+ * single instance builds a filter, under a lock; the others start using it
+ * once they see the marker.
+ */
+public class IdFilters {
+  private static final Log logger = LogFactory.getLog(IdFilters.class);
+
+  // filter name -> 1, once the filter holds the ids of all the existing keys
+  private static final String BUILT_FILTERS_KEY = "redis-om:id-filters";
+  private static final int BATCH_SIZE = 1000;
+  private static final Duration BUILD_LOCK_TIME_TO_LIVE = Duration.ofMinutes(10);
+  private static final Duration BUILT_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+  private final RedisModulesOperations<String> rmo;
+  private final Map<Class<?>, Optional<IdFilter>> settings = new ConcurrentHashMap<>();
+  private final Set<Class<?>> built = ConcurrentHashMap.newKeySet();
+  // when to look for the marker of a filter built by another instance next, in epoch millis
+  private final Map<Class<?>, Long> nextBuiltCheck = new ConcurrentHashMap<>();
+
+  public IdFilters(RedisModulesOperations<String> rmo) {
+    this.rmo = rmo;
+  }
+
+  public boolean isFiltered(Class<?> entityClass) {
+    return settingsOf(entityClass).isPresent();
+  }
+
+  /**
+   * @return whether saves have to tell new ids from existing ones, i.e. the
+   * filter counts the occurrences of an id
+   */
+  public boolean tracksDeletes(Class<?> entityClass) {
+    return settingsOf(entityClass).map(s -> s.type() == IdFilterType.CUCKOO).orElse(false);
+  }
+
+  /**
+   * Builds the filter of an entity from the keys of its keyspaces, unless it
+   * was built before or another instance is building it.
+   */
+  public void createFilterFor(Class<?> entityClass, Collection<String> keyspaces) {
+    Optional<IdFilter> maybeSettings = settingsOf(entityClass);
+    if (maybeSettings.isEmpty()) {
+      return;
+    }
+    String filterName = filterNameOf(entityClass, maybeSettings.get());
+    nextBuiltCheck.put(entityClass, System.currentTimeMillis() + BUILT_CHECK_INTERVAL.toMillis());
+    try {
+      if (isMarkedBuilt(filterName)) {
+        built.add(entityClass);
+        return;
+      }
+      Optional<BuildLock> lock = BuildLock.tryAcquire(rmo.getTemplate(), filterName, BUILD_LOCK_TIME_TO_LIVE);
+      if (lock.isEmpty()) {
+        logger.info(String.format("Id filter %s is being built by another instance, lookups will use it once built",
+            filterName));
+        return;
+      }
+      try (BuildLock ignored = lock.get()) {
+        // built by another instance since the first check
+        if (isMarkedBuilt(filterName)) {
+          built.add(entityClass);
+          return;
+        }
+        logger.info(String.format("Building id filter %s from the keys of %s", filterName, keyspaces));
+        rmo.getTemplate().delete(filterName);
+        reserve(maybeSettings.get(), filterName);
+        long count = 0;
+        for (String keyspace : keyspaces) {
+          ScanOptions options = ScanOptions.scanOptions().match(keyspace + "*").count(BATCH_SIZE).build();
+          try (Cursor<String> keys = rmo.getTemplate().scan(options)) {
+            for (List<String> batch : Iterables.partition(() -> keys, BATCH_SIZE)) {
+              addAll(maybeSettings.get(), filterName,
+                  batch.stream().map(key -> key.substring(keyspace.length())).toList());
+              count += batch.size();
+            }
+          }
+        }
+        rmo.getTemplate().opsForHash().put(BUILT_FILTERS_KEY, filterName, "1");
+        built.add(entityClass);
+        logger.info(String.format("Built id filter %s with %s ids", filterName, count));
+      }
+    } catch (Exception e) {
+      logger.warn(String.format("Could not build id filter %s, lookups won't use it: %s", filterName,
+          e.getMessage()));
+    }
+  }
+
+  private boolean isMarkedBuilt(String filterName) {
+    return rmo.getTemplate().opsForHash().hasKey(BUILT_FILTERS_KEY, filterName);
+  }
+
+  /**
+   * @return whether the filter holds the ids of all the existing keys. A
+   * filter being built by another instance is trusted once its marker is
+   * seen, which is looked for at most every {@link #BUILT_CHECK_INTERVAL}.
+   */
+  private boolean isBuilt(Class<?> entityClass, String filterName) {
+    if (built.contains(entityClass)) {
+      return true;
+    }
+    Long next = nextBuiltCheck.get(entityClass);
+    long now = System.currentTimeMillis();
+    if (next == null || now < next || !nextBuiltCheck.replace(entityClass, next,
+        now + BUILT_CHECK_INTERVAL.toMillis())) {
+      return false;
+    }
+    try {
+      if (isMarkedBuilt(filterName)) {
+        built.add(entityClass);
+        return true;
+      }
+    } catch (Exception e) {
+      logger.debug(String.format("Could not check whether id filter %s is built: %s", filterName, e.getMessage()));
+    }
+    return false;
+  }
+
+  /**
+   * Empties the filter of an entity, after all its documents were deleted.
+   */
+  public void reset(Class<?> entityClass) {
+    settingsOf(entityClass).ifPresent(s -> {
+      String filterName = filterNameOf(entityClass, s);
+      try {
+        rmo.getTemplate().delete(filterName);
+        reserve(s, filterName);
+      } catch (Exception e) {
+        logger.warn(String.format("Could not reset id filter %s: %s", filterName, e.getMessage()));
+      }
+    });
+  }
+
+  /**
+   * @param isNew whether the key of the entity didn't exist before the save
+   */
+  public void added(Class<?> entityClass, Object id, boolean isNew) {
+    settingsOf(entityClass).ifPresent(s -> {
+      String filterName = filterNameOf(entityClass, s);
+      try {
+        if (s.type() == IdFilterType.BLOOM) {
+          rmo.opsForBloom().add(filterName, id.toString());
+        } else if (isNew) {
+          // added once per key, so that a delete removes exactly its own occurrence
+          rmo.opsForCuckoFilter().add(filterName, id.toString());
+        }
+      } catch (Exception e) {
+        logger.warn(String.format("Could not add %s to id filter %s: %s", id, filterName, e.getMessage()));
+      }
+    });
+  }
+
+  /**
+   * @param newIds the ids of the saved entities whose keys didn't exist before
+   *               (for filters that {@link #tracksDeletes track deletes}), or
+   *               of all of them
+   */
+  public void addedAll(Class<?> entityClass, Collection<?> newIds) {
+    settingsOf(entityClass).filter(s -> !newIds.isEmpty()).ifPresent(s -> {
+      String filterName = filterNameOf(entityClass, s);
+      try {
+        addAll(s, filterName, newIds.stream().map(Object::toString).toList());
+      } catch (Exception e) {
+        logger.warn(String.format("Could not add %s ids to id filter %s: %s", newIds.size(), filterName,
+            e.getMessage()));
+      }
+    });
+  }
+
+  public void removed(Class<?> entityClass, Object id) {
+    settingsOf(entityClass).filter(s -> s.type() == IdFilterType.CUCKOO).ifPresent(s -> {
+      String filterName = filterNameOf(entityClass, s);
+      try {
+        rmo.opsForCuckoFilter().delete(filterName, id.toString());
+      } catch (Exception e) {
+        logger.warn(String.format("Could not delete %s from id filter %s: %s", id, filterName, e.getMessage()));
+      }
+    });
+  }
+
+  /**
+   * @return false if the entity with the id definitely doesn't exist
+   */
+  public boolean mightExist(Class<?> entityClass, Object id) {
+    Optional<IdFilter> maybeSettings = settingsOf(entityClass);
+    if (id == null || maybeSettings.isEmpty()) {
+      return true;
+    }
+    IdFilter s = maybeSettings.get();
+    String filterName = filterNameOf(entityClass, s);
+    if (!isBuilt(entityClass, filterName)) {
+      return true;
+    }
+    try {
+      return s.type() == IdFilterType.BLOOM
+          ? rmo.opsForBloom().exists(filterName, id.toString())
+          : rmo.opsForCuckoFilter().exists(filterName, id.toString());
+    } catch (Exception e) {
+      logger.debug(String.format("Could not check id filter %s: %s", filterName, e.getMessage()));
+      return true;
+    }
+  }
+
+  /**
+   * @return the ids that may exist, in order, checked with a single
+   * {@code BF.MEXISTS} ({@code CF.MEXISTS})
+   */
+  public <ID> List<ID> mightExist(Class<?> entityClass, List<ID> ids) {
+    Optional<IdFilter> maybeSettings = settingsOf(entityClass);
+    if (ids.isEmpty() || maybeSettings.isEmpty()) {
+      return ids;
+    }
+    IdFilter s = maybeSettings.get();
+    String filterName = filterNameOf(entityClass, s);
+    if (!isBuilt(entityClass, filterName)) {
+      return ids;
+    }
+    String[] values = ids.stream().map(String::valueOf).toArray(String[]::new);
+    try {
+      List<Boolean> exists = s.type() == IdFilterType.BLOOM
+          ? rmo.opsForBloom().existsMulti(filterName, values)
+          : rmo.opsForCuckoFilter().existsMulti(filterName, values);
+      List<ID> result = new ArrayList<>(ids.size());
+      for (int i = 0; i < ids.size(); i++) {
+        if (i >= exists.size() || exists.get(i)) {
+          result.add(ids.get(i));
+        }
+      }
+      return result;
+    } catch (Exception e) {
+      logger.debug(String.format("Could not check id filter %s: %s", filterName, e.getMessage()));
+      return ids;
+    }
+  }
+
+  private void reserve(IdFilter settings, String filterName) {
+    if (settings.type() == IdFilterType.BLOOM) {
+      rmo.opsForBloom().createFilter(filterName, settings.capacity(), settings.errorRate());
+    } else {
+      rmo.opsForCuckoFilter().createFilter(filterName, settings.capacity());
+    }
+  }
+
+  private void addAll(IdFilter settings, String filterName, List<String> ids) {
+    if (settings.type() == IdFilterType.BLOOM) {
+      rmo.opsForBloom().addMulti(Map.of(filterName, ids));
+    } else {
+      for (List<String> chunk : Iterables.partition(ids, BATCH_SIZE)) {
+        rmo.opsForCuckoFilter().addMulti(filterName, chunk.toArray(String[]::new));
+      }
+    }
+  }
+
+  private Optional<IdFilter> settingsOf(Class<?> entityClass) {
+    if (entityClass == null) {
+      return Optional.empty();
+    }
+    return settings.computeIfAbsent(entityClass, cl -> Optional.ofNullable(cl.getAnnotation(IdFilter.class)));
+  }
+
+  static String filterNameOf(Class<?> entityClass, IdFilter settings) {
+    return ObjectUtils.isNotEmpty(settings.name()) ? settings.name()
+        : String.format("idf:%s", entityClass.getSimpleName());
+  }
+}
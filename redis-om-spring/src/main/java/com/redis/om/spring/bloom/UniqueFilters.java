@@ -0,0 +1,469 @@
+package com.redis.om.spring.bloom;
+
+import com.google.common.collect.Iterables;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.redis.om.spring.RediSearchIndexer;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Unique;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.repository.query.QueryUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.Schema.FieldType;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
+/**
+ * Maintains the Cuckoo filters of the {@link Unique} fields: the values of an
+ * entity are added when it is saved, and removed when it is deleted or saved
+ * with other values. The filters only say a value is free for sure; a value
+ * they may hold is looked up in the index. Values are kept in the form they are
+ * stored in: as the document codec writes them for JSON documents, and as the
+ * mapping converter writes them for hashes.
+ * <p>
+ * As with the {@link IdFilters}, a single instance builds the filters of an
+ * entity, under a lock, and the others start using them once they see them
+ * marked as built in Redis.
+ */
+public class UniqueFilters {
+  private static final Log logger = LogFactory.getLog(UniqueFilters.class);
+
+  // filter name -> 1, once the filter holds the values of all the existing keys
+  private static final String BUILT_FILTERS_KEY = "redis-om:unique-filters";
+  private static final int BATCH_SIZE = 1000;
+  private static final Duration BUILD_LOCK_TIME_TO_LIVE = Duration.ofMinutes(10);
+  private static final Duration BUILT_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+  /**
+   * A {@link Unique} field and the filter its values go to.
+   */
+  record UniqueField(String filterName, Field field, Method getter, long capacity) {
+    Object valueOf(Object entity) {
+      try {
+        return getter.invoke(entity);
+      } catch (ReflectiveOperationException | IllegalArgumentException e) {
+        logger.error(String.format("Could not read the value of %s for filter %s", field.getName(), filterName), e);
+        return null;
+      }
+    }
+  }
+
+  private final RedisModulesOperations<String> rmo;
+  private final RediSearchIndexer indexer;
+  private final Map<Class<?>, List<UniqueField>> uniqueFields = new ConcurrentHashMap<>();
+  private final Set<Class<?>> built = ConcurrentHashMap.newKeySet();
+  // when to look for the markers of filters built by another instance next, in epoch millis
+  private final Map<Class<?>, Long> nextBuiltCheck = new ConcurrentHashMap<>();
+
+  public UniqueFilters(RedisModulesOperations<String> rmo, RediSearchIndexer indexer) {
+    this.rmo = rmo;
+    this.indexer = indexer;
+  }
+
+  public boolean hasUniqueFields(Class<?> entityClass) {
+    return !fieldsOf(entityClass).isEmpty();
+  }
+
+  /**
+   * Builds the filters of an entity from the documents of its keyspaces,
+   * unless they were built before or another instance is building them.
+   */
+  public void createFiltersFor(Class<?> entityClass, Collection<String> keyspaces) {
+    List<UniqueField> fields = fieldsOf(entityClass);
+    if (fields.isEmpty()) {
+      return;
+    }
+    nextBuiltCheck.put(entityClass, System.currentTimeMillis() + BUILT_CHECK_INTERVAL.toMillis());
+    try {
+      if (unbuiltOf(fields).isEmpty()) {
+        built.add(entityClass);
+        return;
+      }
+      Optional<BuildLock> lock = BuildLock.tryAcquire(rmo.getTemplate(), lockNameOf(entityClass),
+          BUILD_LOCK_TIME_TO_LIVE);
+      if (lock.isEmpty()) {
+        logger.info(String.format("The unique value filters of %s are being built by another instance, checks will "
+            + "use them once built", entityClass.getName()));
+        return;
+      }
+      try (BuildLock ignored = lock.get()) {
+        // built by another instance since the first check
+        List<UniqueField> pending = unbuiltOf(fields);
+        if (!pending.isEmpty()) {
+          build(pending, keyspaces, entityClass.isAnnotationPresent(Document.class));
+        }
+        built.add(entityClass);
+      }
+    } catch (Exception e) {
+      logger.warn(String.format("Could not build the unique value filters of %s, checks will use the index: %s",
+          entityClass.getName(), e.getMessage()));
+    }
+  }
+
+  private void build(List<UniqueField> pending, Collection<String> keyspaces, boolean isDocument) {
+    logger.info(String.format("Building %s unique value filters from the keys of %s", pending.size(), keyspaces));
+    for (UniqueField field : pending) {
+      rmo.getTemplate().delete(field.filterName());
+      rmo.opsForCuckoFilter().createFilter(field.filterName(), field.capacity());
+    }
+    for (String keyspace : keyspaces) {
+      ScanOptions options = ScanOptions.scanOptions().match(keyspace + "*").count(BATCH_SIZE).build();
+      try (Cursor<String> keys = rmo.getTemplate().scan(options)) {
+        for (List<String> batch : Iterables.partition(() -> keys, BATCH_SIZE)) {
+          Map<String, List<String>> valuesByFilter = new HashMap<>();
+          for (Map<String, String> values : storedValuesOf(pending, batch, isDocument)) {
+            values.forEach((filterName, value) -> valuesByFilter.computeIfAbsent(filterName,
+                f -> new ArrayList<>()).add(value));
+          }
+          valuesByFilter.forEach((filterName, values) -> rmo.opsForCuckoFilter()
+              .addMulti(filterName, values.toArray(String[]::new)));
+        }
+      }
+    }
+    pending.forEach(field -> rmo.getTemplate().opsForHash().put(BUILT_FILTERS_KEY, field.filterName(), "1"));
+  }
+
+  // the fields whose filters aren't marked as built
+  private List<UniqueField> unbuiltOf(List<UniqueField> fields) {
+    List<Object> markers = rmo.getTemplate().opsForHash()
+        .multiGet(BUILT_FILTERS_KEY, fields.stream().map(f -> (Object) f.filterName()).toList());
+    List<UniqueField> unbuilt = new ArrayList<>();
+    for (int i = 0; i < fields.size(); i++) {
+      if (markers.get(i) == null) {
+        unbuilt.add(fields.get(i));
+      }
+    }
+    return unbuilt;
+  }
+
+  /**
+   * @return whether the filters hold the values of all the existing keys.
+   * Filters being built by another instance are trusted once their markers are
+   * seen, which are looked for at most every {@link #BUILT_CHECK_INTERVAL}.
+   */
+  private boolean isBuilt(Class<?> entityClass) {
+    if (built.contains(entityClass)) {
+      return true;
+    }
+    Long next = nextBuiltCheck.get(entityClass);
+    long now = System.currentTimeMillis();
+    if (next == null || now < next || !nextBuiltCheck.replace(entityClass, next,
+        now + BUILT_CHECK_INTERVAL.toMillis())) {
+      return false;
+    }
+    try {
+      if (unbuiltOf(fieldsOf(entityClass)).isEmpty()) {
+        built.add(entityClass);
+        return true;
+      }
+    } catch (Exception e) {
+      logger.debug(String.format("Could not check whether the unique value filters of %s are built: %s",
+          entityClass.getName(), e.getMessage()));
+    }
+    return false;
+  }
+
+  static String lockNameOf(Class<?> entityClass) {
+    return "unique-filters:" + entityClass.getName();
+  }
+
+  /**
+   * Empties the filters of an entity, after all its documents were deleted.
+   */
+  public void reset(Class<?> entityClass) {
+    for (UniqueField field : fieldsOf(entityClass)) {
+      try {
+        rmo.getTemplate().delete(field.filterName());
+        rmo.opsForCuckoFilter().createFilter(field.filterName(), field.capacity());
+      } catch (Exception e) {
+        logger.warn(String.format("Could not reset unique value filter %s: %s", field.filterName(), e.getMessage()));
+      }
+    }
+  }
+
+  /**
+   * @return the values of the unique fields of the entity, by filter name
+   */
+  public Map<String, String> valuesOf(Object entity) {
+    Map<String, String> values = new HashMap<>();
+    for (UniqueField field : fieldsOf(entity.getClass())) {
+      String value = storedFormOf(entity.getClass(), field.valueOf(entity));
+      if (value != null) {
+        values.put(field.filterName(), value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @return the unique values of an entity after a field is set to a value,
+   * from the values it had before
+   */
+  public Map<String, String> withValue(Class<?> entityClass, Map<String, String> values, String fieldName,
+      Object value) {
+    Optional<UniqueField> maybeField = fieldOf(entityClass, fieldName);
+    if (maybeField.isEmpty()) {
+      return values;
+    }
+    Map<String, String> result = new HashMap<>(values);
+    String storedValue = storedFormOf(entityClass, value);
+    if (storedValue != null) {
+      result.put(maybeField.get().filterName(), storedValue);
+    } else {
+      result.remove(maybeField.get().filterName());
+    }
+    return result;
+  }
+
+  /**
+   * @return the value as it is stored in the documents or hashes of the entity
+   */
+  String storedFormOf(Class<?> entityClass, Object value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      if (entityClass.isAnnotationPresent(Document.class)) {
+        return stringOf(JsonParser.parseString(rmo.getCodec().toJson(value)));
+      }
+      return SafeEncoder.encode(rmo.getMappingConverter().toBytes(value));
+    } catch (Exception e) {
+      logger.debug(String.format("Could not convert %s of %s, using its string: %s", value, entityClass.getName(),
+          e.getMessage()));
+      return value.toString();
+    }
+  }
+
+  /**
+   * @return the values of the unique fields stored under the given key (before
+   * it is overwritten), by filter name
+   */
+  public Map<String, String> storedValuesOf(Class<?> entityClass, String key) {
+    List<UniqueField> fields = fieldsOf(entityClass);
+    if (fields.isEmpty()) {
+      return Map.of();
+    }
+    try {
+      return storedValuesOf(fields, List.of(key), entityClass.isAnnotationPresent(Document.class)).get(0);
+    } catch (Exception e) {
+      logger.warn(String.format("Could not read the unique values of %s: %s", key, e.getMessage()));
+      return Map.of();
+    }
+  }
+
+  /**
+   * @return the values of the unique fields stored under each key, by filter name
+   */
+  public List<Map<String, String>> storedValuesOf(Class<?> entityClass, List<String> keys) {
+    List<UniqueField> fields = fieldsOf(entityClass);
+    if (fields.isEmpty() || keys.isEmpty()) {
+      return keys.stream().<Map<String, String>>map(key -> Map.of()).toList();
+    }
+    try {
+      return storedValuesOf(fields, keys, entityClass.isAnnotationPresent(Document.class));
+    } catch (Exception e) {
+      logger.warn(String.format("Could not read the unique values of %s keys: %s", keys.size(), e.getMessage()));
+      return keys.stream().<Map<String, String>>map(key -> Map.of()).toList();
+    }
+  }
+
+  /**
+   * Moves the filters from the values an entity had to the ones it was saved
+   * with.
+   */
+  public void saved(Map<String, String> previousValues, Map<String, String> values) {
+    savedAll(List.of(previousValues), List.of(values));
+  }
+
+  public void savedAll(List<Map<String, String>> previousValues, List<Map<String, String>> values) {
+    Map<String, List<String>> added = new HashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      Map<String, String> previous = previousValues.get(i);
+      Map<String, String> current = values.get(i);
+      previous.forEach((filterName, value) -> {
+        if (!value.equals(current.get(filterName))) {
+          delete(filterName, value);
+        }
+      });
+      current.forEach((filterName, value) -> {
+        if (!value.equals(previous.get(filterName))) {
+          added.computeIfAbsent(filterName, f -> new ArrayList<>()).add(value);
+        }
+      });
+    }
+    added.forEach((filterName, filterValues) -> {
+      try {
+        for (List<String> chunk : Iterables.partition(filterValues, BATCH_SIZE)) {
+          rmo.opsForCuckoFilter().addMulti(filterName, chunk.toArray(String[]::new));
+        }
+      } catch (Exception e) {
+        logger.warn(String.format("Could not add %s values to unique value filter %s: %s", filterValues.size(),
+            filterName, e.getMessage()));
+      }
+    });
+  }
+
+  public void deleted(Object entity) {
+    valuesOf(entity).forEach(this::delete);
+  }
+
+  /**
+   * @return whether no entity holds the value in the field: true right away
+   * when the field's filter doesn't hold it, else after looking it up in the
+   * index (by exact match for TAG and NUMERIC fields, by phrase for TEXT fields)
+   */
+  public boolean isUnique(Class<?> entityClass, String fieldName, String alias, Object value) {
+    if (value == null) {
+      return true;
+    }
+    String string = storedFormOf(entityClass, value);
+    Optional<UniqueField> maybeField = fieldOf(entityClass, fieldName);
+    if (maybeField.isPresent() && isBuilt(entityClass)) {
+      try {
+        if (!rmo.opsForCuckoFilter().exists(maybeField.get().filterName(), string)) {
+          return true;
+        }
+      } catch (Exception e) {
+        logger.debug(String.format("Could not check unique value filter %s: %s", maybeField.get().filterName(),
+            e.getMessage()));
+      }
+    }
+
+    Optional<String> maybeIndexName = indexer.getIndexName(entityClass);
+    Optional<FieldType> maybeType = indexer.getFieldType(entityClass, alias);
+    if (maybeIndexName.isEmpty() || maybeType.isEmpty()) {
+      logger.debug(String.format("%s of %s is not indexed, %s may be taken", fieldName, entityClass.getName(),
+          string));
+      return false;
+    }
+    Query query = new Query(queryFor(alias, maybeType.get(), string)).limit(0, 0);
+    return rmo.opsForSearch(maybeIndexName.get()).search(query).getTotalResults() == 0;
+  }
+
+  static String queryFor(String alias, FieldType type, String value) {
+    return switch (type) {
+      case NUMERIC -> String.format("@%s:[%s %s]", alias, value, value);
+      case TEXT -> String.format("@%s:\"%s\"", alias, value.replace("\"", "\\\""));
+      default -> String.format("@%s:{%s}", alias, QueryUtils.escape(value, true));
+    };
+  }
+
+  private void delete(String filterName, String value) {
+    try {
+      rmo.opsForCuckoFilter().delete(filterName, value);
+    } catch (Exception e) {
+      logger.warn(String.format("Could not delete %s from unique value filter %s: %s", value, filterName,
+          e.getMessage()));
+    }
+  }
+
+  private List<Map<String, String>> storedValuesOf(List<UniqueField> fields, List<String> keys, boolean isDocument) {
+    byte[][] names = fields.stream().map(field -> (isDocument ? "$." : "") + field.field().getName())
+        .map(SafeEncoder::encode).toArray(byte[][]::new);
+    List<Object> replies = rmo.getTemplate().executePipelined((RedisCallback<Object>) connection -> {
+      for (String key : keys) {
+        read(connection, SafeEncoder.encode(key), names, isDocument);
+      }
+      return null;
+    });
+    List<Map<String, String>> result = new ArrayList<>(keys.size());
+    for (Object reply : replies) {
+      result.add(isDocument ? jsonValuesOf(fields, stringOf(reply)) : hashValuesOf(fields, reply));
+    }
+    return result;
+  }
+
+  private static void read(RedisConnection connection, byte[] key, byte[][] names, boolean isDocument) {
+    if (isDocument) {
+      byte[][] args = new byte[names.length + 1][];
+      args[0] = key;
+      System.arraycopy(names, 0, args, 1, names.length);
+      connection.execute("JSON.GET", args);
+    } else {
+      connection.hashCommands().hMGet(key, names);
+    }
+  }
+
+  private static String stringOf(Object reply) {
+    return reply instanceof byte[] bytes ? SafeEncoder.encode(bytes) : (String) reply;
+  }
+
+  private static Map<String, String> hashValuesOf(List<UniqueField> fields, Object reply) {
+    Map<String, String> values = new HashMap<>();
+    if (reply instanceof List<?> list) {
+      for (int i = 0; i < fields.size() && i < list.size(); i++) {
+        Object value = list.get(i);
+        if (value != null) {
+          values.put(fields.get(i).filterName(), stringOf(value));
+        }
+      }
+    }
+    return values;
+  }
+
+  // JSON.GET answers a single path with the array of its matches, and several
+  // paths with an object of those arrays
+  static Map<String, String> jsonValuesOf(List<UniqueField> fields, String reply) {
+    Map<String, String> values = new HashMap<>();
+    if (reply == null) {
+      return values;
+    }
+    JsonElement json = JsonParser.parseString(reply);
+    for (UniqueField field : fields) {
+      JsonElement matches = json.isJsonArray() ? json : json.getAsJsonObject().get("$." + field.field().getName());
+      if (matches instanceof JsonArray array && !array.isEmpty() && !array.get(0).isJsonNull()) {
+        values.put(field.filterName(), stringOf(array.get(0)));
+      }
+    }
+    return values;
+  }
+
+  private static String stringOf(JsonElement json) {
+    return json.isJsonPrimitive() ? json.getAsString() : json.toString();
+  }
+
+  private Optional<UniqueField> fieldOf(Class<?> entityClass, String fieldName) {
+    return fieldsOf(entityClass).stream().filter(field -> field.field().getName().equals(fieldName)).findFirst();
+  }
+
+  List<UniqueField> fieldsOf(Class<?> entityClass) {
+    if (entityClass == null) {
+      return List.of();
+    }
+    return uniqueFields.computeIfAbsent(entityClass, cl -> {
+      List<UniqueField> fields = new ArrayList<>();
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        if (field.isAnnotationPresent(Unique.class)) {
+          Unique unique = field.getAnnotation(Unique.class);
+          String filterName = ObjectUtils.isNotEmpty(unique.name()) ? unique.name()
+              : String.format("cf:%s:%s", cl.getSimpleName(), field.getName());
+          PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(cl, field.getName());
+          if (pd != null && pd.getReadMethod() != null) {
+            fields.add(new UniqueField(filterName, field, pd.getReadMethod(), unique.capacity()));
+          } else {
+            logger.error(String.format("Could not read the values of unique value filter %s: %s has no getter",
+                filterName, field.getName()));
+          }
+        }
+      }
+      return List.copyOf(fields);
+    });
+  }
+}
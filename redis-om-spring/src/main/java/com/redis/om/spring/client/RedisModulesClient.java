@@ -1,5 +1,6 @@
 package com.redis.om.spring.client;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
@@ -11,6 +12,7 @@ import redis.clients.jedis.bloom.commands.BloomFilterCommands;
 import redis.clients.jedis.bloom.commands.CountMinSketchCommands;
 import redis.clients.jedis.bloom.commands.CuckooFilterCommands;
 import redis.clients.jedis.bloom.commands.TopKFilterCommands;
+import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.json.RedisJsonCommands;
 import redis.clients.jedis.search.RediSearchCommands;
 
@@ -20,6 +22,7 @@ import java.util.Optional;
 public class RedisModulesClient {
 
   private final GsonBuilder builder;
+  private volatile Gson gson;
   private final UnifiedJedis unifiedJedis;
 
   public RedisModulesClient(JedisConnectionFactory jedisConnectionFactory, GsonBuilder builder) {
@@ -52,6 +55,14 @@ public class RedisModulesClient {
     return unifiedJedis;
   }
 
+  /**
+   * Sends a module command, or form of a command, that the typed clients of
+   * Jedis don't expose, such as {@code TOPK.LIST WITHCOUNT}.
+   */
+  public Object sendCommand(ProtocolCommand command, String... args) {
+    return unifiedJedis.sendCommand(command, args);
+  }
+
   private UnifiedJedis getUnifiedJedis() {
     var cc = jedisConnectionFactory.getClientConfiguration();
     var hostAndPort = new HostAndPort(jedisConnectionFactory.getHostName(), jedisConnectionFactory.getPort());
@@ -85,6 +96,23 @@ public class RedisModulesClient {
     return builder;
   }
 
+  /**
+   * The Gson of the {@link #gsonBuilder()}, created once and shared by the
+   * operations that (de)serialize with it.
+   */
+  public Gson gson() {
+    Gson result = gson;
+    if (result == null) {
+      synchronized (this) {
+        result = gson;
+        if (result == null) {
+          gson = result = builder.create();
+        }
+      }
+    }
+    return result;
+  }
+
   private final JedisConnectionFactory jedisConnectionFactory;
 
   private JedisClientConfig createClientConfig(int database, @Nullable String username, RedisPassword password, JedisClientConfiguration clientConfiguration) {
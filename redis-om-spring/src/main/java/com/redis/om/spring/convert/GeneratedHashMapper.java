@@ -0,0 +1,139 @@
+package com.redis.om.spring.convert;
+
+import com.redis.om.spring.repository.query.QueryUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for the reflection-free hash mappers emitted by the
+ * {@code MetamodelGenerator} for flat {@code @RedisHash} entities when the
+ * {@code redis.om.spring.generateHashMappers} processor option is enabled.
+ * <p>
+ * A generated mapper reads and writes exactly the hash fields
+ * {@link MappingRedisOMConverter} would, converting each value through the
+ * converter's {@link ConversionService}, but without walking the persistent
+ * property metadata or building a {@code Bucket}. Mappers are discovered
+ * through {@link ServiceLoader}; the converter only delegates to them when its
+ * {@link CustomConversions} can handle every property type.
+ *
+ * @param <T> the entity type
+ */
+public abstract class GeneratedHashMapper<T> {
+  private static final Log logger = LogFactory.getLog(GeneratedHashMapper.class);
+
+  private static final String TYPE_HINT_SUFFIX = "._class";
+
+  private final Class<T> type;
+  private final List<Class<?>> propertyTypes;
+
+  protected GeneratedHashMapper(Class<T> type, Class<?>... propertyTypes) {
+    this.type = type;
+    this.propertyTypes = List.of(propertyTypes);
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * Writes the properties of the entity as hash fields.
+   *
+   * @param source      the entity
+   * @param sink        receives each hash field name and value
+   * @param conversions the conversions used to turn values into bytes
+   */
+  public abstract void write(T source, BiConsumer<String, byte[]> sink, ConversionService conversions);
+
+  /**
+   * Creates an entity from hash fields.
+   *
+   * @param source      looks up the value of a hash field, {@literal null} if absent
+   * @param conversions the conversions used to turn bytes into values
+   * @return the entity
+   */
+  public abstract T read(Function<String, byte[]> source, ConversionService conversions);
+
+  /**
+   * @return whether every property type of the entity is written as a simple
+   * value and read back by the given conversions, which the generated code
+   * relies on
+   */
+  boolean isSupportedBy(CustomConversions customConversions, ConversionService conversions) {
+    return propertyTypes.stream().allMatch(t -> t == byte[].class || (customConversions.hasCustomWriteTarget(t, byte[].class)
+        && conversions.canConvert(byte[].class, t)));
+  }
+
+  protected static void put(BiConsumer<String, byte[]> sink, String name, Object value, Class<?> declaredType,
+      ConversionService conversions) {
+    if (value instanceof byte[] bytes) {
+      sink.accept(name, bytes);
+      return;
+    }
+    // like the converter, record the runtime type when it differs from the declared one
+    if (!declaredType.isPrimitive() && value.getClass() != declaredType) {
+      sink.accept(name + TYPE_HINT_SUFFIX, conversions.convert(value.getClass().getName(), byte[].class));
+    }
+    sink.accept(name, conversions.convert(value, byte[].class));
+  }
+
+  /**
+   * Writes a collection of strings indexed as a TAG as a single, escaped and
+   * separator-joined value.
+   */
+  protected static void putJoined(BiConsumer<String, byte[]> sink, String name, Iterable<?> values, String separator,
+      ConversionService conversions) {
+    String joined = StreamSupport.stream(values.spliterator(), false).map(Object::toString).map(QueryUtils::escape)
+        .collect(Collectors.joining(separator));
+    sink.accept(name, conversions.convert(joined, byte[].class));
+  }
+
+  protected static <V> V get(byte[] raw, Class<V> type, ConversionService conversions) {
+    return type.isInstance(raw) ? type.cast(raw) : conversions.convert(raw, type);
+  }
+
+  /**
+   * Reads a collection written by
+   * {@link #putJoined(BiConsumer, String, Iterable, String, ConversionService)};
+   * an absent value reads as a single empty element, as with the converter.
+   */
+  protected static Collection<String> getSplit(@Nullable byte[] raw, Class<?> collectionType,
+      String separator, ConversionService conversions) {
+    String joined = raw != null ? conversions.convert(raw, String.class) : null;
+    List<String> values = Arrays.stream((joined != null ? joined : "").split("\\" + separator))
+        .map(QueryUtils::unescape).toList();
+    Collection<String> target = CollectionFactory.createCollection(collectionType, String.class, values.size());
+    target.addAll(values);
+    return target;
+  }
+
+  /**
+   * Loads every generated mapper visible to the given class loader, skipping
+   * (and logging) stale registrations whose class can no longer be loaded.
+   */
+  @SuppressWarnings("rawtypes")
+  public static List<GeneratedHashMapper> loadAll(ClassLoader classLoader) {
+    List<GeneratedHashMapper> mappers = new ArrayList<>();
+    Iterator<GeneratedHashMapper> iterator = ServiceLoader.load(GeneratedHashMapper.class, classLoader).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        }
+        mappers.add(iterator.next());
+      } catch (ServiceConfigurationError e) {
+        logger.warn(String.format("Skipping generated hash mapper: %s", e.getMessage()));
+      }
+    }
+    return mappers;
+  }
+}
@@ -32,6 +32,8 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -50,6 +52,18 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   private final Comparator<String> listKeyComparator = new NullSafeComparator<>(NaturalOrderingKeyComparator.INSTANCE,
       true);
 
+  // mappers generated at compile time for flat hashes, shared per class loader
+  private static final Map<ClassLoader, Map<Class<?>, GeneratedHashMapper<?>>> generatedHashMappers = new ConcurrentReferenceHashMap<>();
+  private final Map<Class<?>, Optional<GeneratedHashMapper<?>>> hashMappers = new ConcurrentHashMap<>();
+  // per type mapping plans: property order, conversions and type hints, resolved once
+  private final Map<Class<?>, TypePlan> typePlans = new ConcurrentHashMap<>();
+  private final Map<RedisPersistentProperty, PropertyPlan> propertyPlans = new ConcurrentHashMap<>();
+  // separators of TAG collections and map key patterns
+  private final Map<Class<?>, Map<String, Optional<String>>> tagSeparators = new ConcurrentHashMap<>();
+  private final Map<String, Pattern> mapKeyPatterns = new ConcurrentReferenceHashMap<>();
+  private final boolean defaultTypeKey;
+  private boolean useGeneratedHashMappers = true;
+
   private @Nullable ReferenceResolver referenceResolver;
   private CustomConversions customConversions;
 
@@ -96,6 +110,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     this.customConversions = new RedisOMCustomConversions();
     this.typeMapper = typeMapper != null ? typeMapper
         : new DefaultRedisTypeMapper(DefaultRedisTypeMapper.DEFAULT_TYPE_KEY, this.mappingContext);
+    this.defaultTypeKey = this.typeMapper.isTypeKey(DefaultRedisTypeMapper.DEFAULT_TYPE_KEY);
     this.referenceResolver = referenceResolver;
     afterPropertiesSet();
   }
@@ -107,6 +122,11 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Override
   @SuppressWarnings("unchecked")
   public <R> R read(Class<R> type, RedisData source) {
+    Optional<R> generated = readGenerated(type, source.getBucket()::get);
+    if (generated.isPresent()) {
+      return generated.get();
+    }
+
     TypeInformation<?> readType = typeMapper.readType(source.getBucket().getPath(), TypeInformation.of(type));
 
     return readType.isCollectionLike()
@@ -114,6 +134,50 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
         : doReadInternal(type, "", type, source);
   }
 
+  /**
+   * Reads an entity straight from a hash field lookup (e.g. a search result
+   * document) when a generated mapper handles the type, skipping the
+   * {@link Bucket} and the persistent property metadata altogether.
+   *
+   * @param type   the entity type
+   * @param source looks up the value of a hash field, {@literal null} if absent
+   * @return the entity, or empty if the type requires the reflective mapping
+   */
+  @SuppressWarnings("unchecked")
+  public <R> Optional<R> readGenerated(Class<R> type, Function<String, byte[]> source) {
+    GeneratedHashMapper<R> hashMapper = (GeneratedHashMapper<R>) getHashMapper(type);
+    if (hashMapper == null) {
+      return Optional.empty();
+    }
+    // a type hint for anything else (e.g. a subclass) requires the reflective path
+    byte[] typeHint = source.apply(DefaultRedisTypeMapper.DEFAULT_TYPE_KEY);
+    if (typeHint != null && !type.getName().equals(fromBytes(typeHint, String.class))) {
+      return Optional.empty();
+    }
+    return Optional.of(hashMapper.read(source, conversionService));
+  }
+
+  @Nullable
+  private GeneratedHashMapper<?> getHashMapper(Class<?> type) {
+    if (!useGeneratedHashMappers || !defaultTypeKey) {
+      return null;
+    }
+    return hashMappers.computeIfAbsent(type, t -> {
+      ClassLoader classLoader = getClass().getClassLoader();
+      GeneratedHashMapper<?> hashMapper = generatedHashMappers.computeIfAbsent(classLoader, cl -> {
+        Map<Class<?>, GeneratedHashMapper<?>> mappers = new HashMap<>();
+        GeneratedHashMapper.loadAll(cl).forEach(m -> mappers.put(m.getType(), m));
+        return mappers;
+      }).get(t);
+      if (hashMapper == null || customConversions.hasCustomWriteTarget(t)
+          || customConversions.hasCustomReadTarget(Map.class, t)
+          || !hashMapper.isSupportedBy(customConversions, conversionService)) {
+        return Optional.empty();
+      }
+      return Optional.of(hashMapper);
+    }).orElse(null);
+  }
+
   @Nullable
   private <R> R readInternal(Class<?> entityClass, String path, Class<R> type, RedisData source) {
     return source.getBucket().isEmpty() ? null : doReadInternal(entityClass, path, type, source);
@@ -122,9 +186,10 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @SuppressWarnings("unchecked")
   private <R> R doReadInternal(Class<?> entityClass, String path, Class<R> type, RedisData source) {
 
-    TypeInformation<?> readType = typeMapper.readType(source.getBucket().getPath(), TypeInformation.of(type));
+    TypeInformation<?> readType = typeMapper.readType(source.getBucket().getPath(), typePlanFor(type).typeInformation);
+    TypePlan plan = typePlanFor(readType.getType());
 
-    if (customConversions.hasCustomReadTarget(Map.class, readType.getType())) {
+    if (plan.customReadFromMap) {
 
       Map<String, byte[]> partial = new HashMap<>();
 
@@ -150,7 +215,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return instance;
     }
 
-    if (conversionService.canConvert(byte[].class, readType.getType())) {
+    if (plan.convertibleFromBytes) {
       return (R) conversionService.convert(source.getBucket().get(StringUtils.hasText(path) ? path : "_raw"),
           readType.getType());
     }
@@ -165,20 +230,18 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
 
     PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(instance);
 
-    entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
+    for (PropertyPlan propertyPlan : plan.getProperties(entity)) {
 
-      InstanceCreatorMetadata<RedisPersistentProperty> constructor = entity.getInstanceCreatorMetadata();
-
-      if (constructor != null && constructor.isCreatorParameter(persistentProperty)) {
-        return;
+      if (propertyPlan.creatorParameter) {
+        continue;
       }
 
-      Object targetValue = readProperty(entityClass, path, source, persistentProperty);
+      Object targetValue = readProperty(entityClass, path, source, propertyPlan);
 
       if (targetValue != null) {
-        accessor.setProperty(persistentProperty, targetValue);
+        accessor.setProperty(propertyPlan.property, targetValue);
       }
-    });
+    }
 
     readAssociation(path, source, entity, accessor);
 
@@ -188,7 +251,13 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Nullable
   protected Object readProperty(Class<?> entityClass, String path, RedisData source,
       RedisPersistentProperty persistentProperty) {
+    return readProperty(entityClass, path, source, propertyPlanFor(persistentProperty));
+  }
+
+  @Nullable
+  private Object readProperty(Class<?> entityClass, String path, RedisData source, PropertyPlan plan) {
 
+    RedisPersistentProperty persistentProperty = plan.property;
     String currentPath = !path.isEmpty() ? path + "." + persistentProperty.getName() : persistentProperty.getName();
 
     TypeInformation<?> typeInformation = persistentProperty.getTypeInformation();
@@ -201,7 +270,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
         throw new IllegalArgumentException("Unable to retrieve MapValueType!");
       }
 
-      if (conversionService.canConvert(byte[].class, mapValueType)) {
+      if (plan.simpleMapValues) {
         return readMapOfSimpleTypes(currentPath, typeInformation.getType(),
             typeInformation.getRequiredComponentType().getType(), mapValueType, source);
       }
@@ -224,8 +293,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       }
     }
 
-    if (persistentProperty.isEntity()
-        && !conversionService.canConvert(byte[].class, typeInformation.getRequiredActualType().getType())) {
+    if (plan.nestedEntity) {
 
       Bucket bucket = source.getBucket().extract(currentPath + ".");
 
@@ -249,11 +317,11 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return null;
     }
 
-    if (customConversions.hasCustomReadTarget(byte[].class, persistentProperty.getType())) {
+    if (plan.customRead) {
       return fromBytes(sourceBytes, persistentProperty.getType());
     }
 
-    Class<?> typeToUse = getTypeHint(currentPath, source.getBucket(), persistentProperty.getType());
+    Class<?> typeToUse = getTypeHint(currentPath, source.getBucket(), plan.valueType);
     return fromBytes(sourceBytes, typeToUse);
   }
 
@@ -320,7 +388,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
    * @see org.springframework.data.convert.EntityWriter#write(java.lang.Object,
    * java.lang.Object) */
   @Override
-  @SuppressWarnings({ "rawtypes" })
+  @SuppressWarnings({ "rawtypes", "unchecked" })
   public void write(Object source, RedisData sink) {
     if (source == null) return;
 
@@ -330,25 +398,30 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     }
 
     RedisPersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
+    TypePlan plan = typePlanFor(source.getClass());
 
-    if (!customConversions.hasCustomWriteTarget(source.getClass())) {
-      typeMapper.writeType(ClassUtils.getUserClass(source), sink.getBucket().getPath());
+    if (plan.customWriteTarget.isEmpty()) {
+      typeMapper.writeType(plan.userTypeInformation, sink.getBucket().getPath());
     }
 
     if (entity == null) {
 
-      typeMapper.writeType(ClassUtils.getUserClass(source), sink.getBucket().getPath());
+      typeMapper.writeType(plan.userTypeInformation, sink.getBucket().getPath());
       sink.getBucket().put("_raw", conversionService.convert(source, byte[].class));
       return;
     }
 
     sink.setKeyspace(entity.getKeySpace());
 
+    GeneratedHashMapper<Object> hashMapper = (GeneratedHashMapper<Object>) getHashMapper(source.getClass());
+
     if (entity.getTypeInformation().isCollectionLike()) {
       writeCollection(entity.getType(), entity.getKeySpace(), "", (List) source,
           entity.getTypeInformation().getRequiredComponentType(), sink);
+    } else if (hashMapper != null) {
+      hashMapper.write(source, sink.getBucket()::put, conversionService);
     } else {
-      writeInternal(entity.getKeySpace(), "", source, entity.getTypeInformation(), sink);
+      writeInternal(entity.getKeySpace(), "", source, entity.getTypeInformation(), sink, plan);
     }
 
     Object identifier = entity.getIdentifierAccessor(source).getIdentifier();
@@ -503,9 +576,15 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return;
     }
 
-    if (customConversions.hasCustomWriteTarget(value.getClass())) {
+    writeInternal(keyspace, path, value, typeHint, sink, typePlanFor(value.getClass()));
+  }
+
+  private void writeInternal(@Nullable String keyspace, String path, Object value, TypeInformation<?> typeHint,
+      RedisData sink, TypePlan plan) {
+
+    if (plan.customWriteTarget.isPresent()) {
 
-      Optional<Class<?>> targetType = customConversions.getCustomWriteTarget(value.getClass());
+      Optional<Class<?>> targetType = plan.customWriteTarget;
 
       if (!StringUtils.hasText(path) && targetType.isPresent()
           && ClassUtils.isAssignable(byte[].class, targetType.get())) {
@@ -527,13 +606,15 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     }
 
     if (value.getClass() != typeHint.getType()) {
-      typeMapper.writeType(value.getClass(), sink.getBucket().getPropertyPath(path));
+      typeMapper.writeType(plan.typeInformation, sink.getBucket().getPropertyPath(path));
     }
 
     RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(value.getClass());
     PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(value);
 
-    entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
+    for (PropertyPlan propertyPlan : plan.getProperties(entity)) {
+
+      RedisPersistentProperty persistentProperty = propertyPlan.property;
 
       String propertyStringPath = (!path.isEmpty() ? path + "." : "") + persistentProperty.getName();
 
@@ -543,7 +624,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
         if (propertyValue != null) {
           sink.getBucket().put(propertyStringPath, toBytes(propertyValue));
         }
-        return;
+        continue;
       }
 
       if (persistentProperty.isMap()) {
@@ -585,7 +666,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
           writeToBucket(propertyStringPath, propertyValue, sink, persistentProperty.getType());
         }
       }
-    });
+    }
 
     writeAssociation(path, entity, value, sink);
   }
@@ -656,29 +737,10 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return;
     }
 
-    Field field = null;
-    Class<?> collectionElementType = null;
-    Indexed indexed = null;
-    TagIndexed tagIndexed = null;
-    try {
-      field = ReflectionUtils.findField(entityClass, path);
-      if (field != null) {
-        Optional<Class<?>> maybeCollectionElementType = getCollectionElementClass(field);
-        collectionElementType = maybeCollectionElementType.orElse(null);
-        if (field.isAnnotationPresent(Indexed.class)) {
-          indexed = field.getAnnotation(Indexed.class);
-        } else if (field.isAnnotationPresent(TagIndexed.class)) {
-          tagIndexed = field.getAnnotation(TagIndexed.class);
-        }
-      }
-    } catch (SecurityException | NoSuchElementException e1) {
-      // it's ok, move on!
-    }
+    Optional<String> tagSeparator = getTagSeparator(entityClass, path);
 
-    if ((field != null) && (collectionElementType != null) && (indexed != null || tagIndexed != null)
-        && CharSequence.class.isAssignableFrom(collectionElementType)) {
-      @SuppressWarnings("null")
-      String separator = indexed != null ? indexed.separator() : tagIndexed.separator();
+    if (tagSeparator.isPresent()) {
+      String separator = tagSeparator.get();
       String value = StreamSupport.stream(values.spliterator(), false).map(Object::toString).map(QueryUtils::escape)
           .collect(Collectors.joining(separator));
       writeInternal(keyspace, path, value, typeHint, sink);
@@ -697,7 +759,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
               String.format(INVALID_TYPE_ASSIGNMENT, value.getClass(), currentPath, typeHint.getType()));
         }
 
-        if (customConversions.hasCustomWriteTarget(value.getClass())) {
+        if (typePlanFor(value.getClass()).customWriteTarget.isPresent()) {
           writeToBucket(currentPath, value, sink, typeHint.getType());
         } else {
           writeInternal(keyspace, currentPath, value, typeHint, sink);
@@ -718,13 +780,15 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return;
     }
 
-    if (customConversions.hasCustomWriteTarget(value.getClass())) {
+    TypePlan plan = typePlanFor(value.getClass());
+
+    if (plan.customWriteTarget.isPresent()) {
 
-      Optional<Class<?>> targetType = customConversions.getCustomWriteTarget(value.getClass());
+      Optional<Class<?>> targetType = plan.customWriteTarget;
 
       if (!propertyType.isPrimitive() && targetType.filter(it -> ClassUtils.isAssignable(Map.class, it)).isEmpty()
-          && customConversions.isSimpleType(value.getClass()) && value.getClass() != propertyType) {
-        typeMapper.writeType(value.getClass(), sink.getBucket().getPropertyPath(path));
+          && plan.simpleType && value.getClass() != propertyType) {
+        typeMapper.writeType(plan.typeInformation, sink.getBucket().getPropertyPath(path));
       }
 
       if (targetType.filter(it -> ClassUtils.isAssignable(Map.class, it)).isPresent()) {
@@ -746,32 +810,13 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Nullable
   private Object readCollectionOrArray(Class<?> entityClass, String path, Class<?> collectionType, Class<?> valueType,
       Bucket bucket) {
-    Field field = null;
-    Class<?> collectionElementType = null;
-    Indexed indexed = null;
-    TagIndexed tagIndexed = null;
-    try {
-      field = ReflectionUtils.findField(entityClass, path);
-      if (field != null) {
-        Optional<Class<?>> maybeCollectionElementType = com.redis.om.spring.util.ObjectUtils.getCollectionElementClass(field);
-        collectionElementType = maybeCollectionElementType.orElse(null);
-        if (field.isAnnotationPresent(Indexed.class)) {
-          indexed = field.getAnnotation(Indexed.class);
-        } else if (field.isAnnotationPresent(TagIndexed.class)) {
-          tagIndexed = field.getAnnotation(TagIndexed.class);
-        }
-      }
-    } catch (SecurityException | NoSuchElementException e) {
-      // it's ok, move on!
-    }
+    Optional<String> tagSeparator = getTagSeparator(entityClass, path);
 
     Collection<Object> target;
     boolean isArray = collectionType.isArray();
 
-    if ((field != null) && (indexed != null || tagIndexed != null)
-        && (collectionElementType != null && CharSequence.class.isAssignableFrom(collectionElementType))) {
-      @SuppressWarnings("null")
-      String separator = indexed != null ? indexed.separator() : tagIndexed.separator();
+    if (tagSeparator.isPresent()) {
+      String separator = tagSeparator.get();
       Bucket elementData = bucket.extract(path);
       TypeInformation<?> typeInformation = typeMapper.readType(elementData.getPropertyPath(path),
           TypeInformation.of(valueType));
@@ -847,7 +892,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
             String.format(INVALID_TYPE_ASSIGNMENT, entry.getValue().getClass(), currentPath, mapValueType));
       }
 
-      if (customConversions.hasCustomWriteTarget(entry.getValue().getClass())) {
+      if (typePlanFor(entry.getValue().getClass()).customWriteTarget.isPresent()) {
         writeToBucket(currentPath, entry.getValue(), sink, mapValueType);
       } else {
         writeInternal(keyspace, currentPath, entry.getValue(), TypeInformation.of(mapValueType),
@@ -888,7 +933,8 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       }
 
       Object key = extractMapKeyForPath(path, entry.getKey(), keyType);
-      Class<?> typeToUse = getTypeHint(path + ".[" + key + "]", source.getBucket(), valueType);
+      Class<?> typeToUse = getTypeHint(path + ".[" + key + "]", source.getBucket(),
+          typePlanFor(valueType).typeInformation);
       target.put(key, fromBytes(entry.getValue(), typeToUse));
     }
 
@@ -930,8 +976,8 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Nullable
   private Object extractMapKeyForPath(String path, String key, Class<?> targetType) {
 
-    String regex = "^(" + Pattern.quote(path) + "\\.\\[)(.*?)(])";
-    Pattern pattern = Pattern.compile(regex);
+    Pattern pattern = mapKeyPatterns.computeIfAbsent(path,
+        p -> Pattern.compile("^(" + Pattern.quote(p) + "\\.\\[)(.*?)(])"));
 
     Matcher matcher = pattern.matcher(key);
     if (!matcher.find()) {
@@ -948,13 +994,54 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     return conversionService.convert(toBytes(mapKey), targetType);
   }
 
-  private Class<?> getTypeHint(String path, Bucket bucket, Class<?> fallback) {
+  /**
+   * @return the separator used to store a collection of strings indexed as a
+   * TAG as a single value, if the path is such a property of the entity
+   */
+  private Optional<String> getTagSeparator(Class<?> entityClass, String path) {
+    // only top-level properties are stored joined; nested paths never name a field
+    if (path.indexOf('.') >= 0 || path.indexOf('[') >= 0) {
+      return Optional.empty();
+    }
+    return tagSeparators.computeIfAbsent(entityClass, c -> new ConcurrentHashMap<>()).computeIfAbsent(path, p -> {
+      try {
+        Field field = ReflectionUtils.findField(entityClass, p);
+        if (field == null) {
+          return Optional.empty();
+        }
+        Class<?> collectionElementType = getCollectionElementClass(field).orElse(null);
+        if (collectionElementType == null || !CharSequence.class.isAssignableFrom(collectionElementType)) {
+          return Optional.empty();
+        }
+        if (field.isAnnotationPresent(Indexed.class)) {
+          return Optional.of(field.getAnnotation(Indexed.class).separator());
+        } else if (field.isAnnotationPresent(TagIndexed.class)) {
+          return Optional.of(field.getAnnotation(TagIndexed.class).separator());
+        }
+      } catch (SecurityException | NoSuchElementException e) {
+        // it's ok, move on!
+      }
+      return Optional.empty();
+    });
+  }
+
+  private Class<?> getTypeHint(String path, Bucket bucket, TypeInformation<?> fallback) {
 
-    TypeInformation<?> typeInformation = typeMapper.readType(bucket.getPropertyPath(path),
-        TypeInformation.of(fallback));
+    TypeInformation<?> typeInformation = typeMapper.readType(bucket.getPropertyPath(path), fallback);
     return typeInformation.getType();
   }
 
+  private TypePlan typePlanFor(Class<?> type) {
+    return typePlans.computeIfAbsent(type, TypePlan::new);
+  }
+
+  private PropertyPlan propertyPlanFor(RedisPersistentProperty property) {
+    return propertyPlans.computeIfAbsent(property, p -> {
+      InstanceCreatorMetadata<RedisPersistentProperty> creator = p.getOwner().getInstanceCreatorMetadata();
+      return new PropertyPlan(p, creator != null && creator.isCreatorParameter(p));
+    });
+  }
+
   /**
    * Convert given source to binary representation using the underlying
    * {@link ConversionService}.
@@ -1032,6 +1119,20 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
    */
   public void setCustomConversions(@Nullable CustomConversions customConversions) {
     this.customConversions = customConversions != null ? customConversions : new RedisCustomConversions();
+    this.hashMappers.clear();
+    this.typePlans.clear();
+    this.propertyPlans.clear();
+  }
+
+  /**
+   * Whether to delegate to the hash mappers generated at compile time (with
+   * {@code -Aredis.om.spring.generateHashMappers=true}) for the entities that
+   * have one. Enabled by default.
+   *
+   * @param useGeneratedHashMappers {@literal false} to always use the reflective mapping
+   */
+  public void setUseGeneratedHashMappers(boolean useGeneratedHashMappers) {
+    this.useGeneratedHashMappers = useGeneratedHashMappers;
   }
 
   /* (non-Javadoc)
@@ -1065,6 +1166,8 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Override
   public void afterPropertiesSet() {
     this.initializeConverters();
+    this.typePlans.clear();
+    this.propertyPlans.clear();
   }
 
   private void initializeConverters() {
@@ -1112,6 +1215,71 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     }
   }
 
+  /**
+   * What reading and writing a type resolves once rather than per call: the
+   * custom conversions that apply to it, its type hint and, for entities, its
+   * properties in mapping order.
+   */
+  private final class TypePlan {
+
+    private final TypeInformation<?> typeInformation;
+    private final TypeInformation<?> userTypeInformation;
+    private final Optional<Class<?>> customWriteTarget;
+    private final boolean customReadFromMap;
+    private final boolean convertibleFromBytes;
+    private final boolean simpleType;
+    private volatile List<PropertyPlan> properties;
+
+    TypePlan(Class<?> type) {
+      this.typeInformation = TypeInformation.of(type);
+      this.userTypeInformation = TypeInformation.of(ClassUtils.getUserClass(type));
+      this.customWriteTarget = customConversions.getCustomWriteTarget(type);
+      this.customReadFromMap = customConversions.hasCustomReadTarget(Map.class, type);
+      this.convertibleFromBytes = conversionService.canConvert(byte[].class, type);
+      this.simpleType = customConversions.isSimpleType(type);
+    }
+
+    List<PropertyPlan> getProperties(RedisPersistentEntity<?> entity) {
+      List<PropertyPlan> result = properties;
+      if (result == null) {
+        InstanceCreatorMetadata<RedisPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+        List<PropertyPlan> plans = new ArrayList<>();
+        entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) property -> {
+          PropertyPlan plan = new PropertyPlan(property, creator != null && creator.isCreatorParameter(property));
+          propertyPlans.putIfAbsent(property, plan);
+          plans.add(plan);
+        });
+        result = properties = List.copyOf(plans);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * How a property is read: as a map of simple or complex values, a nested
+   * entity or a single value, and whether a custom conversion reads it.
+   */
+  private final class PropertyPlan {
+
+    private final RedisPersistentProperty property;
+    private final boolean creatorParameter;
+    private final boolean simpleMapValues;
+    private final boolean nestedEntity;
+    private final boolean customRead;
+    private final TypeInformation<?> valueType;
+
+    PropertyPlan(RedisPersistentProperty property, boolean creatorParameter) {
+      this.property = property;
+      this.creatorParameter = creatorParameter;
+      Class<?> mapValueType = property.isMap() ? property.getMapValueType() : null;
+      this.simpleMapValues = mapValueType != null && conversionService.canConvert(byte[].class, mapValueType);
+      this.nestedEntity = property.isEntity() && !conversionService.canConvert(byte[].class,
+          property.getTypeInformation().getRequiredActualType().getType());
+      this.customRead = customConversions.hasCustomReadTarget(byte[].class, property.getType());
+      this.valueType = TypeInformation.of(property.getType());
+    }
+  }
+
   private enum NaturalOrderingKeyComparator implements Comparator<String> {
 
     INSTANCE;
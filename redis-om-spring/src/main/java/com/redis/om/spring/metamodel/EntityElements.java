@@ -0,0 +1,179 @@
+package com.redis.om.spring.metamodel;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Element helpers shared by the generators that emit reflection-free code for
+ * entities: constructor and accessor resolution (including the members Lombok
+ * will generate, which are not visible to annotation processors) and
+ * annotation lookups.
+ */
+final class EntityElements {
+  private final ProcessingEnvironment processingEnvironment;
+
+  EntityElements(ProcessingEnvironment processingEnvironment) {
+    this.processingEnvironment = processingEnvironment;
+  }
+
+  /**
+   * Common reasons for an entity class not to be instantiable and populated
+   * from generated code in its own package.
+   */
+  Optional<String> unsupportedReason(TypeElement entity) {
+    if (entity.getModifiers().contains(Modifier.ABSTRACT)) {
+      return Optional.of("it is abstract");
+    }
+    if (!entity.getTypeParameters().isEmpty()) {
+      return Optional.of("it is generic");
+    }
+    if (entity.getModifiers().contains(Modifier.PRIVATE)) {
+      return Optional.of("it is private");
+    }
+    if (entity.getNestingKind() != NestingKind.TOP_LEVEL && !entity.getModifiers().contains(Modifier.STATIC)) {
+      return Optional.of("it is an inner class");
+    }
+    if (!hasAccessibleNoArgsConstructor(entity)) {
+      return Optional.of("it has no accessible no-args constructor");
+    }
+    return Optional.empty();
+  }
+
+  boolean hasAccessibleNoArgsConstructor(TypeElement entity) {
+    Optional<AnnotationMirror> noArgs = lombok(entity, "NoArgsConstructor");
+    if (noArgs.isPresent()) {
+      return !lombokAccessLevel(noArgs.get()).map(l -> l.equals("PRIVATE") || l.equals("NONE")).orElse(false);
+    }
+    // Lombok constructors replace the implicit default constructor
+    if (lombok(entity, "AllArgsConstructor").isPresent() || lombok(entity, "RequiredArgsConstructor").isPresent()
+        || lombok(entity, "Value").isPresent() || lombok(entity, "Builder").isPresent()) {
+      return false;
+    }
+    if (lombok(entity, "Data").isPresent() && ElementFilter.fieldsIn(entity.getEnclosedElements()).stream()
+        .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+        .anyMatch(f -> f.getModifiers().contains(Modifier.FINAL) || lombok(f, "NonNull").isPresent())) {
+      return false;
+    }
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(entity.getEnclosedElements());
+    if (!constructors.isEmpty()) {
+      // javac has already added the implicit default constructor when none is declared
+      return constructors.stream()
+          .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+    return true;
+  }
+
+  /**
+   * Resolves the expression used to read (getter) or the format used to write
+   * (setter, {@code %s} being the value) a field, preferring direct field access
+   * and then JavaBean accessors, either hand-written or generated by Lombok.
+   */
+  Optional<String> accessor(TypeElement owner, VariableElement field, boolean getter, boolean samePackage) {
+    String name = field.getSimpleName().toString();
+    if (samePackage ? !field.getModifiers().contains(Modifier.PRIVATE) : field.getModifiers().contains(Modifier.PUBLIC)) {
+      return Optional.of(getter ? name : name + " = %s");
+    }
+
+    boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    String getterName = (isBoolean ? "is" : "get") + capitalized;
+    String setterName = "set" + capitalized;
+    // Lombok drops the "is" prefix of boolean fields named isXxx
+    if (isBoolean && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+      getterName = name;
+      setterName = "set" + name.substring(2);
+    }
+
+    String methodName = getter ? getterName : setterName;
+    int parameters = getter ? 0 : 1;
+    boolean declared = ElementFilter.methodsIn(owner.getEnclosedElements()).stream() //
+        .anyMatch(m -> m.getSimpleName().contentEquals(methodName) && m.getParameters().size() == parameters
+            && (samePackage ? !m.getModifiers().contains(Modifier.PRIVATE) : m.getModifiers().contains(Modifier.PUBLIC))
+            && !m.getModifiers().contains(Modifier.STATIC));
+
+    if (!declared && !lombokAccessorAvailable(owner, field, getter, samePackage)) {
+      return Optional.empty();
+    }
+    return Optional.of(getter ? methodName + "()" : methodName + "(%s)");
+  }
+
+  private boolean lombokAccessorAvailable(TypeElement owner, VariableElement field, boolean getter, boolean samePackage) {
+    String annotation = getter ? "Getter" : "Setter";
+    Optional<AnnotationMirror> onField = lombok(field, annotation);
+    if (onField.isPresent()) {
+      return isAccessible(onField.get(), samePackage);
+    }
+    Optional<AnnotationMirror> onClass = lombok(owner, annotation);
+    if (onClass.isPresent()) {
+      return isAccessible(onClass.get(), samePackage);
+    }
+    return lombok(owner, "Data").isPresent();
+  }
+
+  private boolean isAccessible(AnnotationMirror lombokAccessor, boolean samePackage) {
+    // Lombok accessors are public unless an access level says otherwise
+    String level = lombokAccessLevel(lombokAccessor).orElse("PUBLIC");
+    return samePackage ? !(level.equals("PRIVATE") || level.equals("NONE")) : level.equals("PUBLIC");
+  }
+
+  String packageOf(TypeElement element) {
+    return processingEnvironment.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+  }
+
+  Optional<TypeElement> superclassOf(TypeElement element) {
+    TypeMirror superclass = element.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return Optional.empty();
+    }
+    TypeElement type = (TypeElement) ((DeclaredType) superclass).asElement();
+    return "java.lang.Object".equals(type.getQualifiedName().toString()) ? Optional.empty() : Optional.of(type);
+  }
+
+  Optional<AnnotationMirror> lombok(Element element, String simpleName) {
+    return annotation(element, "lombok." + simpleName);
+  }
+
+  Optional<AnnotationMirror> annotation(Element element, String qualifiedName) {
+    return element.getAnnotationMirrors().stream().filter(am -> annotationName(am).equals(qualifiedName))
+        .map(am -> (AnnotationMirror) am).findFirst();
+  }
+
+  /**
+   * @return the value of the annotation member, falling back to its declared
+   * default
+   */
+  Optional<Object> annotationValue(AnnotationMirror mirror, String member) {
+    return processingEnvironment.getElementUtils().getElementValuesWithDefaults(mirror).entrySet().stream() //
+        .filter(e -> e.getKey().getSimpleName().contentEquals(member)) //
+        .map(e -> e.getValue().getValue()) //
+        .findFirst();
+  }
+
+  private Optional<String> lombokAccessLevel(AnnotationMirror mirror) {
+    return mirror.getElementValues().entrySet().stream() //
+        .filter(e -> e.getKey().getSimpleName().contentEquals("value") || e.getKey().getSimpleName().contentEquals("access")) //
+        .map(e -> e.getValue().toString()) //
+        .map(v -> v.substring(v.lastIndexOf('.') + 1)) //
+        .findFirst();
+  }
+
+  boolean containsTypeVariable(TypeMirror type) {
+    return switch (type.getKind()) {
+      case TYPEVAR, WILDCARD, INTERSECTION, UNION -> true;
+      case ARRAY -> containsTypeVariable(((ArrayType) type).getComponentType());
+      case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().anyMatch(this::containsTypeVariable);
+      default -> false;
+    };
+  }
+
+  static String annotationName(AnnotationMirror mirror) {
+    return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+  }
+}
@@ -0,0 +1,62 @@
+package com.redis.om.spring.metamodel;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+
+/**
+ * Line-oriented resources (e.g. {@code META-INF/services} registrations) that
+ * the processor accumulates across rounds and writes once processing is over.
+ * Entries already present in the output (from a previous, incremental
+ * compilation) are preserved as long as the processor tells they still stand,
+ * so that those of deleted or renamed entities go away.
+ */
+final class GeneratedResources {
+  private final Map<String, SortedSet<String>> resources = new TreeMap<>();
+
+  void add(String resource, String line) {
+    resources.computeIfAbsent(resource, r -> new TreeSet<>()).add(line);
+  }
+
+  /**
+   * @param isStillGenerated whether an entry of a previous compilation, given
+   *                         the resource it is in, still stands
+   */
+  void writeTo(Filer filer, Messager messager, BiPredicate<String, String> isStillGenerated) {
+    resources.forEach((resource, lines) -> {
+      SortedSet<String> allLines = new TreeSet<>(lines);
+      try {
+        FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", resource);
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+          reader.lines().map(String::trim).filter(l -> !l.isEmpty() && !l.startsWith("#"))
+              .filter(l -> !allLines.contains(l) && isStillGenerated.test(resource, l)).forEach(allLines::add);
+        }
+      } catch (IOException | IllegalArgumentException ignored) {
+        // nothing from a previous compilation
+      }
+
+      try {
+        FileObject output = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+        try (Writer writer = new OutputStreamWriter(output.openOutputStream(), StandardCharsets.UTF_8)) {
+          for (String line : allLines) {
+            writer.write(line);
+            writer.write('\n');
+          }
+        }
+      } catch (IOException e) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Cannot write " + resource + " because " + e.getMessage());
+      }
+    });
+    resources.clear();
+  }
+}
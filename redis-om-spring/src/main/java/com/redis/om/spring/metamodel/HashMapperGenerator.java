@@ -0,0 +1,278 @@
+package com.redis.om.spring.metamodel;
+
+import com.redis.om.spring.convert.GeneratedHashMapper;
+import com.squareup.javapoet.*;
+import org.springframework.core.convert.ConversionService;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.redis.om.spring.metamodel.EntityElements.annotationName;
+
+/**
+ * Emits a reflection-free {@link GeneratedHashMapper} for a flat
+ * {@code @RedisHash} entity: one whose persistent properties are all simple
+ * values (as registered in the {@code RedisOMCustomConversions}) or collections
+ * of strings indexed as a TAG, which the converter stores as a single joined
+ * value. Entities with nested objects, maps, other collections, references or
+ * custom instantiation are skipped and keep using the reflective
+ * {@code MappingRedisOMConverter}.
+ */
+final class HashMapperGenerator {
+  static final String SUFFIX = "$HashMapper";
+
+  private static final Set<String> SIMPLE_TYPES = Set.of( //
+      "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long", //
+      "java.lang.Float", "java.lang.Double", "java.lang.String", "java.util.UUID", "java.util.Date", //
+      "java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime", "java.time.OffsetDateTime", //
+      "java.time.ZonedDateTime", "java.time.Instant", "java.time.Duration", "java.time.Period", //
+      "com.github.f4b6a3.ulid.Ulid", "org.springframework.data.geo.Point" //
+  );
+
+  private static final Set<String> TRANSIENT_ANNOTATIONS = Set.of( //
+      "org.springframework.data.annotation.Transient", //
+      "org.springframework.beans.factory.annotation.Value", //
+      "org.springframework.beans.factory.annotation.Autowired" //
+  );
+
+  private static final Set<String> UNSUPPORTED_FIELD_ANNOTATIONS = Set.of( //
+      "org.springframework.data.annotation.Reference", //
+      "org.springframework.data.annotation.AccessType" //
+  );
+
+  private static final String INDEXED = "com.redis.om.spring.annotations.Indexed";
+  private static final String TAG_INDEXED = "com.redis.om.spring.annotations.TagIndexed";
+
+  private final ProcessingEnvironment processingEnvironment;
+  private final Messager messager;
+  private final EntityElements elements;
+  private final Types types;
+
+  HashMapperGenerator(ProcessingEnvironment processingEnvironment) {
+    this.processingEnvironment = processingEnvironment;
+    this.messager = processingEnvironment.getMessager();
+    this.elements = new EntityElements(processingEnvironment);
+    this.types = processingEnvironment.getTypeUtils();
+  }
+
+  private record Property(String name, TypeName type, TypeName valueType, String getter, String setter,
+      String separator) {
+    boolean isJoined() {
+      return separator != null;
+    }
+  }
+
+  /**
+   * @return the fully qualified name of the generated mapper, or empty if the
+   * entity was skipped
+   */
+  Optional<String> generate(TypeElement entity) throws IOException {
+    Optional<String> reason = unsupportedReason(entity);
+    if (reason.isPresent()) {
+      return skip(entity, reason.get());
+    }
+
+    List<Property> properties = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (TypeElement current = entity; current != null; current = elements.superclassOf(current).orElse(null)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || field.getAnnotationMirrors().stream()
+            .anyMatch(am -> TRANSIENT_ANNOTATIONS.contains(annotationName(am)))) {
+          continue;
+        }
+        String name = field.getSimpleName().toString();
+        if (modifiers.contains(Modifier.TRANSIENT)) {
+          return skip(entity, "field " + name + " is transient");
+        }
+        if (modifiers.contains(Modifier.FINAL)) {
+          return skip(entity, "field " + name + " is final");
+        }
+        if (!names.add(name)) {
+          return skip(entity, "field " + name + " is declared more than once in the hierarchy");
+        }
+        if (field.getAnnotationMirrors().stream().anyMatch(am -> UNSUPPORTED_FIELD_ANNOTATIONS.contains(annotationName(am)))) {
+          return skip(entity, "field " + name + " is a reference or uses a custom access type");
+        }
+
+        TypeMirror type = field.asType();
+        String separator = null;
+        TypeName valueType;
+        if (isSimple(type)) {
+          valueType = TypeName.get(types.erasure(type)).box();
+        } else if (isTagCollection(field)) {
+          separator = separatorOf(field);
+          valueType = TypeName.get(types.erasure(type));
+        } else {
+          return skip(entity, "field " + name + " is not a simple value");
+        }
+
+        boolean samePackage = elements.packageOf(current).equals(elements.packageOf(entity));
+        Optional<String> getter = elements.accessor(current, field, true, samePackage);
+        Optional<String> setter = elements.accessor(current, field, false, samePackage);
+        if (getter.isEmpty() || setter.isEmpty()) {
+          return skip(entity, "field " + name + " has no accessible getter/setter");
+        }
+        properties.add(new Property(name, TypeName.get(type), valueType, getter.get(), setter.get(), separator));
+      }
+    }
+
+    ClassName entityName = ClassName.get(entity);
+    String mapperName = String.join("$", entityName.simpleNames()) + SUFFIX;
+
+    CodeBlock propertyTypes = properties.stream().filter(p -> !p.isJoined())
+        .map(p -> CodeBlock.of("$T.class", p.valueType())).distinct().collect(CodeBlock.joining(", "));
+
+    TypeSpec mapper = TypeSpec.classBuilder(mapperName) //
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL) //
+        .superclass(ParameterizedTypeName.get(ClassName.get(GeneratedHashMapper.class), entityName)) //
+        .addMethod(MethodSpec.constructorBuilder() //
+            .addModifiers(Modifier.PUBLIC) //
+            .addStatement(propertyTypes.isEmpty() ? CodeBlock.of("super($T.class)", entityName)
+                : CodeBlock.of("super($T.class, $L)", entityName, propertyTypes)) //
+            .build()) //
+        .addMethod(writeSpec(entityName, properties)) //
+        .addMethod(readSpec(entityName, properties)) //
+        .build();
+
+    JavaFile.builder(entityName.packageName(), mapper).build().writeTo(processingEnvironment.getFiler());
+
+    return Optional.of(entityName.packageName().isEmpty() ? mapperName : entityName.packageName() + "." + mapperName);
+  }
+
+  private MethodSpec writeSpec(ClassName entityName, List<Property> properties) {
+    MethodSpec.Builder write = MethodSpec.methodBuilder("write") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .addParameter(entityName, "source") //
+        .addParameter(ParameterizedTypeName.get(BiConsumer.class, String.class, byte[].class), "sink") //
+        .addParameter(ConversionService.class, "conversions");
+
+    for (Property property : properties) {
+      if (property.type().isPrimitive()) {
+        write.addStatement("put(sink, $S, source.$L, $T.class, conversions)", property.name(), property.getter(),
+            property.type());
+        continue;
+      }
+      write.beginControlFlow("if (source.$L != null)", property.getter());
+      if (property.isJoined()) {
+        write.addStatement("putJoined(sink, $S, source.$L, $S, conversions)", property.name(), property.getter(),
+            property.separator());
+      } else {
+        write.addStatement("put(sink, $S, source.$L, $T.class, conversions)", property.name(), property.getter(),
+            property.valueType());
+      }
+      write.endControlFlow();
+    }
+    return write.build();
+  }
+
+  private MethodSpec readSpec(ClassName entityName, List<Property> properties) {
+    MethodSpec.Builder read = MethodSpec.methodBuilder("read") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .returns(entityName) //
+        .addParameter(ParameterizedTypeName.get(Function.class, String.class, byte[].class), "source") //
+        .addParameter(ConversionService.class, "conversions") //
+        .addStatement("$T value = new $T()", entityName, entityName) //
+        .addStatement("byte[] raw");
+
+    for (Property property : properties) {
+      if (property.isJoined()) {
+        // like the converter, a TAG collection is always populated
+        read.addStatement(assign(property, CodeBlock.of("($T) getSplit(source.apply($S), $T.class, $S, conversions)",
+            property.type(), property.name(), property.valueType(), property.separator())));
+        continue;
+      }
+      read.addStatement("raw = source.apply($S)", property.name());
+      if (property.type().isPrimitive()) {
+        String local = "v$" + property.name();
+        read.addStatement("$T $L = raw != null ? get(raw, $T.class, conversions) : null", property.valueType(), local,
+            property.valueType());
+        read.beginControlFlow("if ($L != null)", local);
+        read.addStatement(assign(property, CodeBlock.of("$L", local)));
+      } else {
+        read.beginControlFlow("if (raw != null)");
+        read.addStatement(assign(property, CodeBlock.of("get(raw, $T.class, conversions)", property.valueType())));
+      }
+      read.endControlFlow();
+    }
+    return read.addStatement("return value").build();
+  }
+
+  private CodeBlock assign(Property property, CodeBlock value) {
+    int placeholder = property.setter().indexOf("%s");
+    return CodeBlock.of("value.$L$L$L", property.setter().substring(0, placeholder), value,
+        property.setter().substring(placeholder + 2));
+  }
+
+  private Optional<String> unsupportedReason(TypeElement entity) {
+    if (entity.getAnnotationMirrors().stream().anyMatch(am -> annotationName(am).equals("org.springframework.data.annotation.TypeAlias"))) {
+      return Optional.of("it declares a type alias");
+    }
+    boolean customCreator = entity.getEnclosedElements().stream() //
+        .filter(e -> e.getKind() == ElementKind.CONSTRUCTOR || e.getKind() == ElementKind.METHOD) //
+        .anyMatch(e -> e.getAnnotationMirrors().stream().map(EntityElements::annotationName) //
+            .anyMatch(n -> n.equals("org.springframework.data.annotation.PersistenceCreator")
+                || n.equals("org.springframework.data.annotation.PersistenceConstructor")));
+    if (customCreator) {
+      return Optional.of("it declares a persistence creator");
+    }
+    return elements.unsupportedReason(entity);
+  }
+
+  private boolean isSimple(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return type.getKind() != TypeKind.CHAR;
+    }
+    if (type.getKind() == TypeKind.ARRAY) {
+      return ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE;
+    }
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+    return element.getKind() == ElementKind.ENUM || SIMPLE_TYPES.contains(element.getQualifiedName().toString());
+  }
+
+  private boolean isTagCollection(VariableElement field) {
+    if (elements.annotation(field, INDEXED).isEmpty() && elements.annotation(field, TAG_INDEXED).isEmpty()) {
+      return false;
+    }
+    if (field.asType().getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    DeclaredType type = (DeclaredType) field.asType();
+    TypeMirror collection = types.erasure(processingEnvironment.getElementUtils().getTypeElement("java.util.Collection").asType());
+    if (!types.isAssignable(types.erasure(type), collection) || type.getTypeArguments().size() != 1) {
+      return false;
+    }
+    TypeMirror elementType = type.getTypeArguments().get(0);
+    return elementType.getKind() == TypeKind.DECLARED
+        && ((TypeElement) types.asElement(elementType)).getQualifiedName().contentEquals("java.lang.String");
+  }
+
+  private String separatorOf(VariableElement field) {
+    // @Indexed takes precedence over @TagIndexed, as in the converter
+    AnnotationMirror mirror = elements.annotation(field, INDEXED).or(() -> elements.annotation(field, TAG_INDEXED)).get();
+    return elements.annotationValue(mirror, "separator").map(Object::toString).orElse("|");
+  }
+
+  private Optional<String> skip(TypeElement entity, String reason) {
+    messager.printMessage(Diagnostic.Kind.NOTE,
+        "Not generating a hash mapper for " + entity.getQualifiedName() + " because " + reason);
+    return Optional.empty();
+  }
+}
@@ -8,9 +8,12 @@ import com.redis.om.spring.annotations.SchemaFieldType;
 import com.redis.om.spring.annotations.Searchable;
 import com.redis.om.spring.metamodel.indexed.*;
 import com.redis.om.spring.metamodel.nonindexed.*;
+import com.redis.om.spring.convert.GeneratedHashMapper;
+import com.redis.om.spring.serialization.gson.GeneratedTypeAdapterFactory;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Triple;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.EntityRegistry;
 import com.redis.om.spring.util.ObjectUtils;
 import com.squareup.javapoet.*;
 import org.springframework.data.annotation.Id;
@@ -23,11 +26,13 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 import java.io.IOException;
 import java.io.Writer;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -43,17 +48,44 @@ import static java.util.Objects.requireNonNull;
 
 @SupportedAnnotationTypes(value = {"com.redis.om.spring.annotations.Document","org.springframework.data.redis.core.RedisHash"})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
+@SupportedOptions({ MetamodelGenerator.GENERATE_TYPE_ADAPTERS_OPTION, MetamodelGenerator.GENERATE_HASH_MAPPERS_OPTION })
 @AutoService(Processor.class)
 public final class MetamodelGenerator extends AbstractProcessor {
 
   static final String GET_PREFIX = "get";
   static final String IS_PREFIX = "is";
 
+  /**
+   * Processor option ({@code -Aredis.om.spring.generateTypeAdapters=true}) to also
+   * emit a reflection-free Gson type adapter for each {@code @Document} entity,
+   * or for the ones in a comma-separated list of packages only (e.g.
+   * {@code -Aredis.om.spring.generateTypeAdapters=com.example.documents}).
+   */
+  static final String GENERATE_TYPE_ADAPTERS_OPTION = "redis.om.spring.generateTypeAdapters";
+  static final String TYPE_ADAPTERS_SERVICE = "META-INF/services/" + GeneratedTypeAdapterFactory.class.getName();
+
+  /**
+   * Processor option ({@code -Aredis.om.spring.generateHashMappers=true}) to also
+   * emit a reflection-free hash mapper for each flat {@code @RedisHash} entity,
+   * or for the ones in a comma-separated list of packages only (e.g.
+   * {@code -Aredis.om.spring.generateHashMappers=com.example.hashes}).
+   */
+  static final String GENERATE_HASH_MAPPERS_OPTION = "redis.om.spring.generateHashMappers";
+  static final String HASH_MAPPERS_SERVICE = "META-INF/services/" + GeneratedHashMapper.class.getName();
+
   private ProcessingEnvironment processingEnvironment;
   private Messager messager;
 
   private TypeElement objectTypeElement;
 
+  private boolean generateTypeAdapters;
+  private List<String> typeAdapterPackages;
+  private TypeAdapterGenerator typeAdapterGenerator;
+  private boolean generateHashMappers;
+  private List<String> hashMapperPackages;
+  private HashMapperGenerator hashMapperGenerator;
+  private final GeneratedResources generatedResources = new GeneratedResources();
+
   public MetamodelGenerator() {}
 
   @Override
@@ -68,12 +100,26 @@ public final class MetamodelGenerator extends AbstractProcessor {
     messager.printMessage(Diagnostic.Kind.NOTE, "Redis OM Spring Field Generator Processor");
 
     this.objectTypeElement = processingEnvironment.getElementUtils().getTypeElement("java.lang.Object");
+
+    String typeAdapters = Objects.requireNonNullElse(env.getOptions().get(GENERATE_TYPE_ADAPTERS_OPTION), "").trim();
+    this.generateTypeAdapters = isEnabled(typeAdapters);
+    this.typeAdapterPackages = packagesOf(typeAdapters);
+    this.typeAdapterGenerator = new TypeAdapterGenerator(env);
+    String hashMappers = Objects.requireNonNullElse(env.getOptions().get(GENERATE_HASH_MAPPERS_OPTION), "").trim();
+    this.generateHashMappers = isEnabled(hashMappers);
+    this.hashMapperPackages = packagesOf(hashMappers);
+    this.hashMapperGenerator = new HashMapperGenerator(env);
   }
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 
-    if (annotations.isEmpty() || roundEnv.processingOver()) {
+    if (roundEnv.processingOver()) {
+      generatedResources.writeTo(processingEnv.getFiler(), messager, this::isStillGenerated);
+      return false;
+    }
+
+    if (annotations.isEmpty()) {
       // Allow other processors to run
       return false;
     }
@@ -83,6 +129,9 @@ public final class MetamodelGenerator extends AbstractProcessor {
     Set<? extends Element> metamodelCandidates = Stream.of(documentEntities, hashEntities) //
         .flatMap(Collection::stream).collect(Collectors.toSet());
 
+    registerEntities(documentEntities, Document.class);
+    registerEntities(hashEntities, RedisHash.class);
+
     metamodelCandidates.stream().filter(ae -> ae.getKind() == ElementKind.CLASS).forEach(ae -> {
       try {
         generateMetaModelClass(ae);
@@ -91,9 +140,96 @@ public final class MetamodelGenerator extends AbstractProcessor {
       }
     });
 
+    if (generateTypeAdapters) {
+      documentEntities.stream().filter(ae -> ae.getKind() == ElementKind.CLASS && isInPackages(ae, typeAdapterPackages)).forEach(ae -> {
+        try {
+          typeAdapterGenerator.generate((TypeElement) ae)
+              .ifPresent(factory -> generatedResources.add(TYPE_ADAPTERS_SERVICE, factory));
+        } catch (IOException ioe) {
+          messager.printMessage(Diagnostic.Kind.ERROR, "Cannot generate type adapter for " + ae + " because " + ioe.getMessage());
+        }
+      });
+    }
+
+    if (generateHashMappers) {
+      hashEntities.stream().filter(ae -> ae.getKind() == ElementKind.CLASS && isInPackages(ae, hashMapperPackages)).forEach(ae -> {
+        try {
+          hashMapperGenerator.generate((TypeElement) ae)
+              .ifPresent(mapper -> generatedResources.add(HASH_MAPPERS_SERVICE, mapper));
+        } catch (IOException ioe) {
+          messager.printMessage(Diagnostic.Kind.ERROR, "Cannot generate hash mapper for " + ae + " because " + ioe.getMessage());
+        }
+      });
+    }
+
     return true;
   }
 
+  /**
+   * @return whether an entry written by a previous compilation still stands:
+   * the entity it was written for still exists, carries the annotation it was
+   * written for, and (for generated classes) is still in the configured packages
+   */
+  private boolean isStillGenerated(String resource, String line) {
+    Elements elements = processingEnvironment.getElementUtils();
+    if (resource.equals(EntityRegistry.LOCATION)) {
+      String[] entry = line.split("=", 2);
+      TypeElement entity = elements.getTypeElement(entry[0].replace('$', '.'));
+      return entry.length == 2 && entity != null && isAnnotatedWith(entity, entry[1]);
+    }
+    boolean typeAdapter = resource.equals(TYPE_ADAPTERS_SERVICE);
+    if (!typeAdapter && !resource.equals(HASH_MAPPERS_SERVICE)) {
+      return true;
+    }
+    TypeElement generated = elements.getTypeElement(line.replace('$', '.'));
+    if (generated == null || !(generated.getSuperclass() instanceof DeclaredType superclass)
+        || superclass.getTypeArguments().isEmpty()
+        || !(superclass.getTypeArguments().get(0) instanceof DeclaredType entityType)) {
+      return false;
+    }
+    Element entity = entityType.asElement();
+    return typeAdapter
+        ? generateTypeAdapters && isAnnotatedWith(entity, Document.class.getName())
+            && isInPackages(entity, typeAdapterPackages)
+        : generateHashMappers && isAnnotatedWith(entity, RedisHash.class.getName())
+            && isInPackages(entity, hashMapperPackages);
+  }
+
+  private static boolean isAnnotatedWith(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream().anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType()
+        .asElement()).getQualifiedName().contentEquals(annotation));
+  }
+
+  private static boolean isEnabled(String option) {
+    return !option.isEmpty() && !option.equalsIgnoreCase("false");
+  }
+
+  private static List<String> packagesOf(String option) {
+    return isEnabled(option) && !option.equalsIgnoreCase("true")
+        ? Arrays.stream(option.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList()
+        : List.of();
+  }
+
+  private boolean isInPackages(Element entity, List<String> packages) {
+    String packageName = processingEnvironment.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+    return packages.isEmpty() || packages.stream()
+        .anyMatch(p -> packageName.equals(p) || packageName.startsWith(p + "."));
+  }
+
+  /**
+   * Records the entities classpath scanning would find (concrete, top-level or
+   * static nested classes) in the {@link EntityRegistry}.
+   */
+  private void registerEntities(Set<? extends Element> entities, Class<? extends Annotation> annotation) {
+    entities.stream() //
+        .filter(ae -> ae.getKind() == ElementKind.CLASS) //
+        .map(TypeElement.class::cast) //
+        .filter(te -> !te.getModifiers().contains(Modifier.ABSTRACT)) //
+        .filter(te -> te.getNestingKind() == NestingKind.TOP_LEVEL || te.getModifiers().contains(Modifier.STATIC)) //
+        .forEach(te -> generatedResources.add(EntityRegistry.LOCATION,
+            processingEnvironment.getElementUtils().getBinaryName(te) + "=" + annotation.getName()));
+  }
+
   void generateMetaModelClass(final Element annotatedElement) throws IOException {
     String qualifiedGenEntityName = annotatedElement.asType().toString() + "$";
     final String entityName = ObjectUtils.shortName(annotatedElement.asType().toString());
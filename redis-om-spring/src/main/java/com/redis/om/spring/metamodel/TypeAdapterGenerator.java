@@ -0,0 +1,233 @@
+package com.redis.om.spring.metamodel;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.serialization.gson.GeneratedTypeAdapterFactory;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.*;
+
+import static com.redis.om.spring.metamodel.EntityElements.annotationName;
+
+/**
+ * Emits a reflection-free Gson {@code TypeAdapterFactory} for a {@code @Document}
+ * entity. Entities whose shape cannot be reproduced faithfully without
+ * reflection (final or shadowed fields, Gson-specific annotations,
+ * {@code @Reference} fields, no accessible no-args constructor, inaccessible
+ * accessors) are skipped and keep using Gson's reflective adapter.
+ */
+final class TypeAdapterGenerator {
+  static final String SUFFIX = "$TypeAdapterFactory";
+
+  private static final Set<String> UNSUPPORTED_FIELD_ANNOTATIONS = Set.of( //
+      "com.google.gson.annotations.SerializedName", //
+      "com.google.gson.annotations.JsonAdapter", //
+      "com.google.gson.annotations.Expose", //
+      "com.google.gson.annotations.Since", //
+      "com.google.gson.annotations.Until", //
+      "org.springframework.data.annotation.Reference" //
+  );
+
+  private final ProcessingEnvironment processingEnvironment;
+  private final Messager messager;
+  private final EntityElements elements;
+
+  TypeAdapterGenerator(ProcessingEnvironment processingEnvironment) {
+    this.processingEnvironment = processingEnvironment;
+    this.messager = processingEnvironment.getMessager();
+    this.elements = new EntityElements(processingEnvironment);
+  }
+
+  private record Property(VariableElement field, String name, TypeName type, String getter, String setter) {
+    String adapterName() {
+      return name + "Adapter";
+    }
+  }
+
+  /**
+   * @return the fully qualified name of the generated factory, or empty if the
+   * entity was skipped
+   */
+  Optional<String> generate(TypeElement entity) throws IOException {
+    Optional<String> reason = unsupportedReason(entity);
+    if (reason.isPresent()) {
+      return skip(entity, reason.get());
+    }
+
+    List<Property> properties = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (TypeElement current = entity; current != null; current = elements.superclassOf(current).orElse(null)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+          continue;
+        }
+        String name = field.getSimpleName().toString();
+        if (modifiers.contains(Modifier.FINAL)) {
+          return skip(entity, "field " + name + " is final");
+        }
+        if (!names.add(name)) {
+          return skip(entity, "field " + name + " is declared more than once in the hierarchy");
+        }
+        if (field.getAnnotationMirrors().stream().anyMatch(am -> UNSUPPORTED_FIELD_ANNOTATIONS.contains(annotationName(am)))) {
+          return skip(entity, "field " + name + " uses an annotation that requires reflection");
+        }
+        if (elements.containsTypeVariable(field.asType())) {
+          return skip(entity, "field " + name + " has a generic type");
+        }
+        boolean samePackage = elements.packageOf(current).equals(elements.packageOf(entity));
+        Optional<String> getter = elements.accessor(current, field, true, samePackage);
+        Optional<String> setter = elements.accessor(current, field, false, samePackage);
+        if (getter.isEmpty() || setter.isEmpty()) {
+          return skip(entity, "field " + name + " has no accessible getter/setter");
+        }
+        properties.add(new Property(field, name, TypeName.get(field.asType()), getter.get(), setter.get()));
+      }
+    }
+
+    ClassName entityName = ClassName.get(entity);
+    String factoryName = String.join("$", entityName.simpleNames()) + SUFFIX;
+    ClassName adapterName = ClassName.get(entityName.packageName(), factoryName, "Adapter");
+
+    TypeSpec adapter = adapterSpec(entityName, adapterName, properties);
+
+    CodeBlock fieldNames = properties.stream().map(p -> CodeBlock.of("$S", p.name())).collect(CodeBlock.joining(", "));
+    TypeSpec factory = TypeSpec.classBuilder(factoryName) //
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL) //
+        .superclass(ParameterizedTypeName.get(ClassName.get(GeneratedTypeAdapterFactory.class), entityName)) //
+        .addMethod(MethodSpec.constructorBuilder() //
+            .addModifiers(Modifier.PUBLIC) //
+            .addStatement(properties.isEmpty() ? CodeBlock.of("super($T.class)", entityName)
+                : CodeBlock.of("super($T.class, $L)", entityName, fieldNames)) //
+            .build()) //
+        .addMethod(MethodSpec.methodBuilder("createAdapter") //
+            .addAnnotation(Override.class) //
+            .addModifiers(Modifier.PROTECTED) //
+            .returns(ParameterizedTypeName.get(ClassName.get(TypeAdapter.class), entityName)) //
+            .addParameter(Gson.class, "gson") //
+            .addStatement("return new $T(gson)", adapterName) //
+            .build()) //
+        .addType(adapter) //
+        .build();
+
+    JavaFile.builder(entityName.packageName(), factory).build().writeTo(processingEnvironment.getFiler());
+
+    return Optional.of(entityName.packageName().isEmpty() ? factoryName : entityName.packageName() + "." + factoryName);
+  }
+
+  private TypeSpec adapterSpec(ClassName entityName, ClassName adapterName, List<Property> properties) {
+    TypeSpec.Builder adapter = TypeSpec.classBuilder(adapterName.simpleName()) //
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL) //
+        .superclass(ParameterizedTypeName.get(ClassName.get(TypeAdapter.class), entityName)) //
+        .addField(Gson.class, "gson", Modifier.PRIVATE, Modifier.FINAL);
+
+    MethodSpec.Builder constructor = MethodSpec.constructorBuilder() //
+        .addParameter(Gson.class, "gson") //
+        .addStatement("this.gson = gson");
+
+    MethodSpec.Builder write = MethodSpec.methodBuilder("write") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .addException(IOException.class) //
+        .addParameter(JsonWriter.class, "out") //
+        .addParameter(entityName, "value") //
+        .beginControlFlow("if (value == null)") //
+        .addStatement("out.nullValue()") //
+        .addStatement("return") //
+        .endControlFlow() //
+        .addStatement("out.beginObject()");
+
+    MethodSpec.Builder read = MethodSpec.methodBuilder("read") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .addException(IOException.class) //
+        .returns(entityName) //
+        .addParameter(JsonReader.class, "in") //
+        .beginControlFlow("if (in.peek() == $T.NULL)", JsonToken.class) //
+        .addStatement("in.nextNull()") //
+        .addStatement("return null") //
+        .endControlFlow() //
+        .addStatement("$T value = new $T()", entityName, entityName) //
+        .addStatement("in.beginObject()") //
+        .beginControlFlow("while (in.hasNext())") //
+        .beginControlFlow("switch (in.nextName())");
+
+    for (Property property : properties) {
+      TypeName boxed = property.type().box();
+      TypeName adapterType = ParameterizedTypeName.get(ClassName.get(TypeAdapter.class), boxed);
+      adapter.addField(adapterType, property.adapterName(), Modifier.PRIVATE, Modifier.FINAL);
+
+      if (property.type() instanceof ParameterizedTypeName) {
+        constructor.addStatement("this.$L = gson.getAdapter(new $T<$T>() {})", property.adapterName(), TypeToken.class, boxed);
+      } else {
+        constructor.addStatement("this.$L = gson.getAdapter($T.class)", property.adapterName(), boxed);
+      }
+
+      write.addStatement("out.name($S)", property.name());
+      if (property.type().isPrimitive() || property.type() instanceof ParameterizedTypeName) {
+        write.addStatement("$L.write(out, value.$L)", property.adapterName(), property.getter());
+      } else {
+        // mirror Gson's runtime type resolution for non-generic declared types
+        write.addStatement("writeValue(gson, out, $L, $T.class, value.$L)", property.adapterName(), rawType(property.type()),
+            property.getter());
+      }
+
+      read.beginControlFlow("case $S:", property.name());
+      if (property.type().isPrimitive()) {
+        // like Gson, leave primitives untouched when the document holds null
+        String local = "v$" + property.name();
+        read.addStatement("$T $L = $L.read(in)", boxed, local, property.adapterName());
+        read.beginControlFlow("if ($L != null)", local);
+        read.addStatement("value.$L", String.format(property.setter(), local));
+        read.endControlFlow();
+      } else {
+        read.addStatement("value.$L", String.format(property.setter(), property.adapterName() + ".read(in)"));
+      }
+      read.addStatement("break");
+      read.endControlFlow();
+    }
+
+    write.addStatement("out.endObject()");
+
+    read.beginControlFlow("default:") //
+        .addStatement("in.skipValue()") //
+        .endControlFlow() //
+        .endControlFlow() // switch
+        .endControlFlow() // while
+        .addStatement("in.endObject()") //
+        .addStatement("return value");
+
+    return adapter //
+        .addMethod(constructor.build()) //
+        .addMethod(write.build()) //
+        .addMethod(read.build()) //
+        .build();
+  }
+
+  private TypeName rawType(TypeName typeName) {
+    return typeName instanceof ParameterizedTypeName parameterized ? parameterized.rawType : typeName;
+  }
+
+  private Optional<String> unsupportedReason(TypeElement entity) {
+    if (entity.getAnnotationMirrors().stream().anyMatch(am -> annotationName(am).startsWith("com.google.gson.annotations"))) {
+      return Optional.of("it uses Gson annotations");
+    }
+    return elements.unsupportedReason(entity);
+  }
+
+  private Optional<String> skip(TypeElement entity, String reason) {
+    messager.printMessage(Diagnostic.Kind.NOTE,
+        "Not generating a type adapter for " + entity.getQualifiedName() + " because " + reason);
+    return Optional.empty();
+  }
+}
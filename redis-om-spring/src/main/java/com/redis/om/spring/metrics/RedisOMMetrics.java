@@ -0,0 +1,240 @@
+package com.redis.om.spring.metrics;
+
+import com.redis.om.spring.RediSearchIndexer;
+import com.redis.om.spring.annotations.EmbeddingType;
+import com.redis.om.spring.bloom.BloomFilters;
+import com.redis.om.spring.bloom.BloomFilters.Stats;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.search.SearchObserver;
+import com.redis.om.spring.vectorize.VectorizeStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes, for every index created by the {@link RediSearchIndexer}, the
+ * size and memory figures of {@code FT.INFO} (collected every
+ * {@code redis.om.spring.metrics.index-info-interval}) and a latency timer of
+ * the queries run against it, the hits and misses of the search result
+ * cache, how full every {@link com.redis.om.spring.annotations.Bloom}
+ * filter is, and the throughput of the embeddings of the
+ * {@link com.redis.om.spring.annotations.Vectorize} fields.
+ */
+public class RedisOMMetrics implements MeterBinder, SearchObserver, DisposableBean {
+  private static final Log logger = LogFactory.getLog(RedisOMMetrics.class);
+
+  private static final double MEGABYTE = 1024 * 1024;
+
+  // FT.INFO field -> memory type tag
+  private static final Map<String, String> MEMORY_FIELDS = Map.of( //
+      "inverted_sz_mb", "inverted_index", //
+      "vector_index_sz_mb", "vector_index", //
+      "offset_vectors_sz_mb", "offset_vectors", //
+      "doc_table_size_mb", "doc_table", //
+      "sortable_values_size_mb", "sortable_values", //
+      "key_table_size_mb", "key_table");
+
+  private final RediSearchIndexer indexer;
+  private final RedisModulesOperations<String> rmo;
+  private final BloomFilters bloomFilters;
+  private final VectorizeStats vectorizeStats;
+  private final Duration infoInterval;
+
+  private final Map<String, Map<String, Double>> infoByIndex = new ConcurrentHashMap<>();
+  private final Set<String> indexesWithGauges = ConcurrentHashMap.newKeySet();
+  private final Set<String> filtersWithGauges = ConcurrentHashMap.newKeySet();
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  private volatile MeterRegistry registry;
+  private ScheduledExecutorService executor;
+
+  /**
+   * @param vectorizeStats the stats of the embeddings of the
+   *                       {@link com.redis.om.spring.annotations.Vectorize}
+   *                       fields, or {@literal null} when DJL is disabled
+   */
+  public RedisOMMetrics(RediSearchIndexer indexer, RedisModulesOperations<String> rmo, BloomFilters bloomFilters,
+      VectorizeStats vectorizeStats, Duration infoInterval) {
+    this.indexer = indexer;
+    this.rmo = rmo;
+    this.bloomFilters = bloomFilters;
+    this.vectorizeStats = vectorizeStats;
+    this.infoInterval = infoInterval;
+  }
+
+  @Override
+  public synchronized void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    rmo.setSearchObserver(this);
+    GuavaCacheMetrics.monitor(registry, rmo.getSearchResultCache().getCache(), "redis.om.search.results");
+    GuavaCacheMetrics.monitor(registry, rmo.getSuggestionCache().getCache(), "redis.om.suggestions");
+    Gauge.builder("redis.om.search.results.hit.ratio", rmo,
+        r -> r.getSearchResultCache().getCache().stats().hitRate()) //
+        .description("Share of the cacheable searches served from the search result cache") //
+        .register(registry);
+    FunctionCounter.builder("redis.om.bloom.rebuilds", bloomFilters, BloomFilters::getRebuilds) //
+        .description("Bloom filters rebuilt because they outgrew their capacity") //
+        .register(registry);
+    if (vectorizeStats != null) {
+      registerVectorizeMeters(registry);
+    }
+    if (executor == null) {
+      executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "redis-om-index-metrics");
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.scheduleWithFixedDelay(this::collectInfo, 0, Math.max(1, infoInterval.toMillis()),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void registerVectorizeMeters(MeterRegistry registry) {
+    for (EmbeddingType type : EnumSet.of(EmbeddingType.IMAGE, EmbeddingType.FACE, EmbeddingType.SENTENCE)) {
+      FunctionCounter.builder("redis.om.vectorize.embeddings", vectorizeStats, s -> s.getEmbeddings(type)) //
+          .description("Embeddings generated for @Vectorize fields") //
+          .tags("type", type.name().toLowerCase()) //
+          .register(registry);
+    }
+    FunctionCounter.builder("redis.om.vectorize.failures", vectorizeStats, VectorizeStats::getFailures) //
+        .description("Embeddings of @Vectorize fields that could not be generated") //
+        .register(registry);
+    FunctionTimer.builder("redis.om.vectorize.batches", vectorizeStats, VectorizeStats::getBatches,
+            VectorizeStats::getInferenceNanos, TimeUnit.NANOSECONDS) //
+        .description("Batches of embeddings generated for @Vectorize fields") //
+        .register(registry);
+    Gauge.builder("redis.om.vectorize.pending", vectorizeStats, VectorizeStats::getPending) //
+        .description("Embeddings of @Vectorize fields waiting to be written in the background") //
+        .register(registry);
+  }
+
+  @Override
+  public void observe(String index, String command, long durationNanos, boolean success) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry == null) {
+      return;
+    }
+    String outcome = success ? "success" : "error";
+    timers.computeIfAbsent(index + '\u0000' + command + '\u0000' + outcome, k -> Timer.builder("redis.om.search") //
+        .description("Latency of the queries run against a Redis OM index") //
+        .tags("index", index, "command", command, "outcome", outcome) //
+        .publishPercentileHistogram() //
+        .register(meterRegistry)) //
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  void collectInfo() {
+    collectIndexInfo();
+    // BF.INFO is read by the BloomFilters themselves
+    bloomFilters.getStats().keySet().stream().filter(filtersWithGauges::add).forEach(this::registerBloomGauges);
+  }
+
+  void collectIndexInfo() {
+    for (Class<?> entityClass : indexer.getIndexedEntityClasses()) {
+      Optional<String> maybeIndexName = indexer.getIndexName(entityClass);
+      if (maybeIndexName.isEmpty()) {
+        continue;
+      }
+      String indexName = maybeIndexName.get();
+      try {
+        infoByIndex.put(indexName, numericFieldsOf(rmo.opsForSearch(indexName).getInfo()));
+        if (indexesWithGauges.add(indexName)) {
+          registerGauges(indexName);
+        }
+      } catch (Exception e) {
+        logger.debug(String.format("Could not collect FT.INFO for %s: %s", indexName, e.getMessage()));
+      }
+    }
+  }
+
+  private void registerGauges(String indexName) {
+    Tags tags = Tags.of("index", indexName);
+    gauge("redis.om.index.documents", "num_docs", 1, indexName, tags, null, "Documents in the index");
+    gauge("redis.om.index.terms", "num_terms", 1, indexName, tags, null, "Distinct terms in the index");
+    gauge("redis.om.index.records", "num_records", 1, indexName, tags, null, "Records in the inverted index");
+    gauge("redis.om.index.indexing.failures", "hash_indexing_failures", 1, indexName, tags, null,
+        "Documents that could not be indexed");
+    gauge("redis.om.index.indexed", "percent_indexed", 1, indexName, tags, null,
+        "Fraction of the existing documents scanned into the index");
+    MEMORY_FIELDS.forEach((field, type) -> gauge("redis.om.index.memory", field, MEGABYTE, indexName,
+        tags.and("type", type), "bytes", "Memory used by the index"));
+  }
+
+  private void registerBloomGauges(String filterName) {
+    Tags tags = Tags.of("filter", filterName);
+    bloomGauge("redis.om.bloom.items", filterName, tags, Stats::items, "Items added to the Bloom filter");
+    bloomGauge("redis.om.bloom.capacity", filterName, tags, Stats::capacity,
+        "Items the Bloom filter and its sub-filters can hold");
+    bloomGauge("redis.om.bloom.fill.ratio", filterName, tags, Stats::fillRatio,
+        "Share of its capacity the Bloom filter holds");
+    bloomGauge("redis.om.bloom.filters", filterName, tags, Stats::filters,
+        "Sub-filters the Bloom filter grew into");
+    bloomGauge("redis.om.bloom.expansion", filterName, tags, Stats::expansion,
+        "Factor the capacity of the Bloom filter grows by");
+  }
+
+  private void bloomGauge(String name, String filterName, Tags tags, ToDoubleFunction<Stats> figure,
+      String description) {
+    Gauge.builder(name, bloomFilters, filters -> {
+      Stats stats = filters.getStats().get(filterName);
+      return stats != null ? figure.applyAsDouble(stats) : Double.NaN;
+    }) //
+        .tags(tags) //
+        .description(description) //
+        .register(registry);
+  }
+
+  private void gauge(String name, String field, double scale, String indexName, Tags tags, String baseUnit,
+      String description) {
+    Gauge.builder(name, infoByIndex, info -> info.getOrDefault(indexName, Map.of()).getOrDefault(field, Double.NaN)
+        * scale) //
+        .tags(tags) //
+        .baseUnit(baseUnit) //
+        .description(description) //
+        .register(registry);
+  }
+
+  static Map<String, Double> numericFieldsOf(Map<String, Object> info) {
+    Map<String, Double> fields = new HashMap<>();
+    info.forEach((name, value) -> {
+      if (value instanceof Number number) {
+        fields.put(name, number.doubleValue());
+      } else if (value != null) {
+        try {
+          fields.put(name, Double.parseDouble(value.toString()));
+        } catch (NumberFormatException e) {
+          // not a figure (e.g. the index definition)
+        }
+      }
+    });
+    return fields;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    rmo.setSearchObserver(SearchObserver.NONE);
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -1,33 +1,91 @@
 package com.redis.om.spring.ops;
 
-import com.google.gson.GsonBuilder;
+import com.redis.om.spring.autocomplete.SuggestionCache;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.json.JSONOperationsImpl;
 import com.redis.om.spring.ops.pds.*;
+import com.redis.om.spring.ops.search.PartitionedIndexes;
+import com.redis.om.spring.ops.search.PartitionedSearchOperations;
+import com.redis.om.spring.ops.search.ProfiledIndexes;
+import com.redis.om.spring.ops.search.RoutedSearchOperations;
+import com.redis.om.spring.ops.search.SearchResultCache;
+import com.redis.om.spring.ops.search.SearchObserver;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.ops.search.SearchOperationsImpl;
+import com.redis.om.spring.serialization.DocumentCodec;
+import com.redis.om.spring.serialization.gson.GsonDocumentCodec;
 import com.redis.om.spring.serialization.gson.ReferenceAwareGsonBuilder;
+import com.redis.om.spring.sketches.DistinctCounts;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
+import org.springframework.lang.Nullable;
 
-public class RedisModulesOperations<K> {
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-  private final ReferenceAwareGsonBuilder gsonBuilder;
+public class RedisModulesOperations<K> implements DisposableBean {
+
+  private final DocumentCodec codec;
   private final RedisModulesClient client;
   private final StringRedisTemplate template;
+  private final MappingRedisOMConverter mappingConverter;
+  private volatile SearchObserver searchObserver = SearchObserver.NONE;
+  private final PartitionedIndexes partitionedIndexes = new PartitionedIndexes();
+  private final ProfiledIndexes profiledIndexes = new ProfiledIndexes();
+  private volatile SearchResultCache searchResultCache = new SearchResultCache(10000, Duration.ofSeconds(30));
+  private volatile SuggestionCache suggestionCache = new SuggestionCache(3, 10000, Duration.ofMinutes(5));
+  private final DistinctCounts distinctCounts;
+  private final Map<String, String> searchRedirects = new ConcurrentHashMap<>();
 
   public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, ReferenceAwareGsonBuilder gsonBuilder) {
+    this(client, template, new GsonDocumentCodec(gsonBuilder));
+  }
+
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, DocumentCodec codec) {
+    this(client, template, codec, new MappingRedisOMConverter(null, new ReferenceResolverImpl(template)));
+  }
+
+  @SuppressWarnings("unchecked")
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, DocumentCodec codec,
+      MappingRedisOMConverter mappingConverter) {
     this.client = client;
     this.template = template;
-    this.gsonBuilder = gsonBuilder;
+    this.codec = codec;
+    this.mappingConverter = mappingConverter;
+    this.distinctCounts = new DistinctCounts((RedisModulesOperations<String>) this);
   }
 
   public JSONOperations<K> opsForJSON() {
-    return new JSONOperationsImpl<>(client, gsonBuilder);
+    return new JSONOperationsImpl<>(client, codec);
   }
 
   public SearchOperations<K> opsForSearch(K index) {
-    return new SearchOperationsImpl<>(index, client, template);
+    String redirect = searchRedirects.get(index.toString());
+    if (redirect != null) {
+      @SuppressWarnings("unchecked")
+      K target = (K) redirect;
+      return new SearchOperationsImpl<>(target, client, template, searchObserver.reportingAs(index.toString()));
+    }
+    Optional<PartitionedIndexes.Partitioning> partitioning = partitionedIndexes.get(index.toString());
+    if (partitioning.isPresent()) {
+      SearchObserver observer = searchObserver.reportingAs(index.toString());
+      return new PartitionedSearchOperations<>(index, partitioning.get(),
+          partition -> new SearchOperationsImpl<>(partition, client, template, observer), partitionedIndexes);
+    }
+    Optional<List<ProfiledIndexes.Profile>> profiles = profiledIndexes.get(index.toString());
+    if (profiles.isPresent()) {
+      SearchObserver observer = searchObserver.reportingAs(index.toString());
+      return new RoutedSearchOperations<>(profiles.get(),
+          new SearchOperationsImpl<>(index, client, template, searchObserver),
+          profile -> new SearchOperationsImpl<>(profile, client, template, observer));
+    }
+    return new SearchOperationsImpl<>(index, client, template, searchObserver);
   }
 
   public BloomOperations<K> opsForBloom() {
@@ -46,6 +104,74 @@ public class RedisModulesOperations<K> {
     return new TopKOperationsImpl<>(client);
   }
 
+  /**
+   * Sets the observer told about the queries run through the
+   * {@link SearchOperations} obtained afterwards.
+   */
+  public void setSearchObserver(SearchObserver searchObserver) {
+    this.searchObserver = searchObserver != null ? searchObserver : SearchObserver.NONE;
+  }
+
+  /**
+   * Sends the searches of an index name to another index or alias from now on,
+   * e.g. while the name is moved between indexes, or to the name itself again
+   * if the target is null. {@link SearchOperations} obtained before keep theirs.
+   */
+  public void redirectSearches(String index, @Nullable String target) {
+    if (target != null) {
+      searchRedirects.put(index, target);
+    } else {
+      searchRedirects.remove(index);
+    }
+  }
+
+  /**
+   * @return the time-partitioned indexes, whose searches are fanned out to
+   * their partitions
+   */
+  public PartitionedIndexes getPartitionedIndexes() {
+    return partitionedIndexes;
+  }
+
+  /**
+   * @return the indexes with profiles, whose searches are routed to the
+   * smallest profile that can serve them
+   */
+  public ProfiledIndexes getProfiledIndexes() {
+    return profiledIndexes;
+  }
+
+  /**
+   * @return the cache of the search results of the queries that opt in to it
+   */
+  public SearchResultCache getSearchResultCache() {
+    return searchResultCache;
+  }
+
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
+  /**
+   * @return the cache of the suggestions of the autocomplete dictionaries that
+   * opt in to it
+   */
+  public SuggestionCache getSuggestionCache() {
+    return suggestionCache;
+  }
+
+  public void setSuggestionCache(SuggestionCache suggestionCache) {
+    this.suggestionCache = suggestionCache;
+  }
+
+  /**
+   * @return the HyperLogLogs of the {@code @CountDistinct} fields, shared by
+   * the sketches, the repositories and the entity streams
+   */
+  public DistinctCounts getDistinctCounts() {
+    return distinctCounts;
+  }
+
   public StringRedisTemplate getTemplate() {
     return template;
   }
@@ -53,4 +179,24 @@ public class RedisModulesOperations<K> {
   public RedisModulesClient getClient() {
     return client;
   }
+
+  public DocumentCodec getCodec() {
+    return codec;
+  }
+
+  /**
+   * @return the hash converter shared by the repositories, queries and entity
+   * streams, so that entity metadata and mapping plans are built only once
+   */
+  public MappingRedisOMConverter getMappingConverter() {
+    return mappingConverter;
+  }
+
+  /**
+   * Stops the threads the searches of the partitioned indexes run on.
+   */
+  @Override
+  public void destroy() {
+    partitionedIndexes.close();
+  }
 }
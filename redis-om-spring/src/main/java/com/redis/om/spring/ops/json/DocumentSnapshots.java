@@ -0,0 +1,122 @@
+package com.redis.om.spring.ops.json;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers, for entities loaded from RedisJSON, a hash of each top-level
+ * member of their serialized form so that a later save can write only the
+ * members that changed.
+ * <p>
+ * Entities are held by identity through weak references: a snapshot lives as
+ * long as the loaded instance does and is never consulted for a copy of it.
+ */
+public class DocumentSnapshots {
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final Pattern PLAIN_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+  private final Map<Object, Map<String, HashCode>> snapshots = new MapMaker().weakKeys().makeMap();
+
+  /**
+   * The top-level members to write and to delete to bring a stored document in
+   * line with its entity.
+   *
+   * @param updated the serialized value of each new or changed member, by name
+   * @param removed the members no longer present in the serialized entity
+   */
+  public record Changes(Map<String, String> updated, Set<String> removed) {
+    public boolean isEmpty() {
+      return updated.isEmpty() && removed.isEmpty();
+    }
+  }
+
+  /**
+   * Records the serialized state of an entity as the one last read from or
+   * written to Redis.
+   */
+  public void track(Object entity, String json) {
+    JsonObject document = parse(json);
+    if (document == null) {
+      snapshots.remove(entity);
+      return;
+    }
+    Map<String, HashCode> hashes = new HashMap<>(document.size());
+    document.entrySet().forEach(e -> hashes.put(e.getKey(), hash(e.getValue())));
+    snapshots.put(entity, hashes);
+  }
+
+  /**
+   * @return the changes between the tracked state of the entity and its given
+   * serialized state, or empty if the entity is not tracked
+   */
+  public Optional<Changes> changesOf(Object entity, String json) {
+    Map<String, HashCode> snapshot = snapshots.get(entity);
+    JsonObject document = snapshot != null ? parse(json) : null;
+    if (document == null) {
+      return Optional.empty();
+    }
+    Map<String, String> updated = new LinkedHashMap<>();
+    document.entrySet().forEach(e -> {
+      if (!hash(e.getValue()).equals(snapshot.get(e.getKey()))) {
+        updated.put(e.getKey(), e.getValue().toString());
+      }
+    });
+    Set<String> removed = new LinkedHashSet<>(snapshot.keySet());
+    removed.removeAll(document.keySet());
+    return Optional.of(new Changes(updated, removed));
+  }
+
+  /**
+   * Records the serialized value of a single member written to Redis for a
+   * tracked entity.
+   */
+  public void update(Object entity, String member, String json) {
+    JsonElement value;
+    try {
+      value = JsonParser.parseString(json);
+    } catch (JsonParseException e) {
+      snapshots.remove(entity);
+      return;
+    }
+    snapshots.computeIfPresent(entity, (e, hashes) -> {
+      Map<String, HashCode> updated = new HashMap<>(hashes);
+      updated.put(member, hash(value));
+      return updated;
+    });
+  }
+
+  public void forget(Object entity) {
+    snapshots.remove(entity);
+  }
+
+  /**
+   * @return the JSONPath of a top-level member
+   */
+  public static String pathOf(String member) {
+    return PLAIN_NAME.matcher(member).matches() ? "$." + member : "$[" + new JsonPrimitive(member) + "]";
+  }
+
+  private static HashCode hash(JsonElement value) {
+    return HASH.hashString(value.toString(), StandardCharsets.UTF_8);
+  }
+
+  private static JsonObject parse(String json) {
+    try {
+      JsonElement element = JsonParser.parseString(json);
+      return element.isJsonObject() ? element.getAsJsonObject() : null;
+    } catch (JsonParseException e) {
+      return null;
+    }
+  }
+}
@@ -19,6 +19,14 @@ public interface JSONOperations<K> {
   @Nullable
   <T> T get(K key, Class<T> clazz, Path path);
 
+  /**
+   * Reads only the given fields of a document with a single (multi-path)
+   * {@code JSON.GET}; the other fields of the returned object are left unset.
+   * Nested fields are given by their dotted path, e.g. {@code address.city}.
+   */
+  @Nullable
+  <T> T getFields(K key, Class<T> clazz, String... fields);
+
   @SuppressWarnings("unchecked")
   List<String> mget(K... keys);
 
@@ -1,7 +1,11 @@
 package com.redis.om.spring.ops.json;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.serialization.DocumentCodec;
+import com.redis.om.spring.serialization.gson.GsonDocumentCodec;
 import com.redis.om.spring.serialization.gson.ReferenceAwareGsonBuilder;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.springframework.lang.Nullable;
 import redis.clients.jedis.json.JsonSetParams;
 import redis.clients.jedis.json.Path;
@@ -13,12 +17,16 @@ import java.util.Objects;
 
 public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
-  private final ReferenceAwareGsonBuilder builder;
+  private final DocumentCodec codec;
   final RedisModulesClient client;
 
   public JSONOperationsImpl(RedisModulesClient client, ReferenceAwareGsonBuilder builder) {
+    this(client, new GsonDocumentCodec(builder));
+  }
+
+  public JSONOperationsImpl(RedisModulesClient client, DocumentCodec codec) {
     this.client = client;
-    this.builder = builder;
+    this.codec = codec;
   }
 
   @Override
@@ -34,14 +42,54 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public <T> T get(K key, Class<T> clazz) {
-    builder.processEntity(clazz);
-    return builder.gson().fromJson(client.clientForJSON().jsonGetAsPlainString(key.toString(), Path.ROOT_PATH), clazz);
+    return codec.fromJson(client.clientForJSON().jsonGetAsPlainString(key.toString(), Path.ROOT_PATH), clazz);
   }
 
   @Override
   public <T> T get(K key, Class<T> clazz, Path path) {
-    builder.processEntity(clazz);
-    return builder.gson().fromJson(client.clientForJSON().jsonGetAsPlainString(key.toString(), path), clazz);
+    return codec.fromJson(client.clientForJSON().jsonGetAsPlainString(key.toString(), path), clazz);
+  }
+
+  @Override
+  public <T> T getFields(K key, Class<T> clazz, String... fields) {
+    if (fields.length == 0) {
+      return get(key, clazz);
+    }
+    Path2[] paths = Arrays.stream(fields).map(f -> Path2.of("$." + f)).toArray(Path2[]::new);
+    Object reply = client.clientForJSON().jsonGet(key.toString(), paths);
+    if (reply == null) {
+      return null;
+    }
+    // a single path replies with its matches, several paths with the matches by path
+    JSONObject matchesByPath = paths.length == 1 ? new JSONObject().put(paths[0].toString(), reply) : (JSONObject) reply;
+    return codec.fromJson(partialDocumentOf(matchesByPath, fields).toString(), clazz);
+  }
+
+  /**
+   * Rebuilds the (nested) document holding the first match of each field path,
+   * e.g. {@code {"address":{"city":...}}} for {@code address.city}.
+   */
+  static JSONObject partialDocumentOf(JSONObject matchesByPath, String... fields) {
+    JSONObject document = new JSONObject();
+    for (String field : fields) {
+      JSONArray matches = matchesByPath.optJSONArray("$." + field);
+      if (matches == null || matches.isEmpty()) {
+        continue;
+      }
+      String[] segments = field.split("\\.");
+      JSONObject parent = document;
+      for (int i = 0; i < segments.length - 1 && parent != null; i++) {
+        if (!parent.has(segments[i])) {
+          parent.put(segments[i], new JSONObject());
+        }
+        parent = parent.optJSONObject(segments[i]);
+      }
+      // a field already read whole (e.g. address along with address.city) holds the nested ones
+      if (parent != null && !parent.has(segments[segments.length - 1])) {
+        parent.put(segments[segments.length - 1], matches.get(0));
+      }
+    }
+    return document;
   }
 
   @SafeVarargs
@@ -57,23 +105,21 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @SafeVarargs @Override
   public final <T> List<T> mget(Class<T> clazz, K... keys) {
-    builder.processEntity(clazz);
     return client.clientForJSON().jsonMGet(getKeysAsString(keys))
         .stream()
         .filter(Objects::nonNull)
         .map(jsonArr -> jsonArr.get(0))
         .map(Object::toString)
-        .map(str -> builder.gson().fromJson(str, clazz))
+        .map(str -> codec.fromJson(str, clazz))
         .toList();
   }
 
   @SafeVarargs @Override
   public final <T> List<T> mget(Path2 path, Class<T> clazz, K... keys) {
-    builder.processEntity(clazz);
     return client.clientForJSON().jsonMGet(path, getKeysAsString(keys))
         .stream()
         .map(Object::toString)
-        .map(str -> builder.gson().fromJson(str, clazz))
+        .map(str -> codec.fromJson(str, clazz))
         .toList();
   }
 
@@ -84,7 +130,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public void set(K key, Object object) {
-    client.clientForJSON().jsonSetWithPlainString(key.toString(), Path.ROOT_PATH, builder.gson().toJson(object));
+    client.clientForJSON().jsonSetWithPlainString(key.toString(), Path.ROOT_PATH, codec.toJson(object));
   }
 
   @Override
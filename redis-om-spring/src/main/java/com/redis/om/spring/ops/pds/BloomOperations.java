@@ -2,6 +2,7 @@ package com.redis.om.spring.ops.pds;
 
 import redis.clients.jedis.bloom.BFInsertParams;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,16 @@ public interface BloomOperations<K> {
    */
   void createFilter(K name, long initCapacity, double errorRate);
 
+  /**
+   * Reserve a bloom filter.
+   * @param name The key of the filter
+   * @param initCapacity Optimize for this many items
+   * @param errorRate The desired rate of false positives
+   * @param expansion The factor the capacity grows by when the filter fills up, 0 for the default
+   * @param nonScaling Whether to refuse new items instead of growing when the filter fills up
+   */
+  void createFilter(K name, long initCapacity, double errorRate, int expansion, boolean nonScaling);
+
   /**
    * Adds an item to the filter
    * @param name The name of the filter
@@ -45,6 +56,13 @@ public interface BloomOperations<K> {
    */
   List<Boolean> addMulti(K name, String ...values);
 
+  /**
+   * Add items to several filters at once, sent as chunks of {@code BF.MADD} in
+   * a single pipeline
+   * @param valuesByFilter the values to add, by filter name
+   */
+  void addMulti(Map<K, ? extends Collection<String>> valuesByFilter);
+
   /**
    * Check if an item exists in the filter
    * @param name Name (key) of the filter
@@ -1,12 +1,21 @@
 package com.redis.om.spring.ops.pds;
 
+import com.google.common.collect.Iterables;
 import com.redis.om.spring.client.RedisModulesClient;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.bloom.BFInsertParams;
+import redis.clients.jedis.bloom.BFReserveParams;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class BloomOperationsImpl<K> implements BloomOperations<K> {
+  // values per BF.MADD, so that no single command blocks the server for long
+  private static final int MADD_CHUNK_SIZE = 1000;
+
   final RedisModulesClient client;
 
   public BloomOperationsImpl(RedisModulesClient client) {
@@ -18,6 +27,18 @@ public class BloomOperationsImpl<K> implements BloomOperations<K> {
     client.clientForBloom().bfReserve(name.toString(), errorRate, initCapacity);
   }
 
+  @Override
+  public void createFilter(K name, long initCapacity, double errorRate, int expansion, boolean nonScaling) {
+    BFReserveParams params = BFReserveParams.reserveParams();
+    if (expansion > 0) {
+      params.expansion(expansion);
+    }
+    if (nonScaling) {
+      params.nonScaling();
+    }
+    client.clientForBloom().bfReserve(name.toString(), errorRate, initCapacity, params);
+  }
+
   @Override
   public boolean add(K name, String value) {
     return client.clientForBloom().bfAdd(name.toString(), value);
@@ -33,6 +54,22 @@ public class BloomOperationsImpl<K> implements BloomOperations<K> {
     return client.clientForBloom().bfMAdd(name.toString(), values);
   }
 
+  @Override
+  public void addMulti(Map<K, ? extends Collection<String>> valuesByFilter) {
+    Optional<Jedis> maybeJedis = client.getJedis();
+    if (maybeJedis.isEmpty()) {
+      valuesByFilter.forEach((name, values) -> Iterables.partition(values, MADD_CHUNK_SIZE)
+          .forEach(chunk -> addMulti(name, chunk.toArray(String[]::new))));
+      return;
+    }
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      valuesByFilter.forEach((name, values) -> Iterables.partition(values, MADD_CHUNK_SIZE)
+          .forEach(chunk -> pipeline.bfMAdd(name.toString(), chunk.toArray(String[]::new))));
+      pipeline.sync();
+    }
+  }
+
   @Override
   public boolean exists(K name, String value) {
     return client.clientForBloom().bfExists(name.toString(), value);
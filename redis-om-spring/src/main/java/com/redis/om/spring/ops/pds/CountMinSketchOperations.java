@@ -50,6 +50,14 @@ public interface CountMinSketchOperations<K> {
    */
   List<Long> cmsIncrBy(K key, Map<String, Long> itemIncrements);
 
+  /**
+   * CMS.INCRBY Increases the counts of items in several sketches at once, sent
+   * in a single pipeline.
+   * 
+   * @param incrementsByKey the increment of each item, by sketch name
+   */
+  void cmsIncrBy(Map<K, Map<String, Long>> incrementsByKey);
+
   /**
    * CMS.QUERY Returns count for item. Multiple items can be queried with one
    * call.
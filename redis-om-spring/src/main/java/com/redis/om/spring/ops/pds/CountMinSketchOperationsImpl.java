@@ -1,10 +1,13 @@
 package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class CountMinSketchOperationsImpl<K> implements CountMinSketchOperations<K> {
@@ -34,6 +37,20 @@ public class CountMinSketchOperationsImpl<K> implements CountMinSketchOperations
     return client.clientForCMS().cmsIncrBy(key.toString(), itemIncrements);
   }
 
+  @Override
+  public void cmsIncrBy(Map<K, Map<String, Long>> incrementsByKey) {
+    Optional<Jedis> maybeJedis = client.getJedis();
+    if (maybeJedis.isEmpty()) {
+      incrementsByKey.forEach(this::cmsIncrBy);
+      return;
+    }
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      incrementsByKey.forEach((key, increments) -> pipeline.cmsIncrBy(key.toString(), increments));
+      pipeline.sync();
+    }
+  }
+
   @Override
   public List<Long> cmsQuery(K key, String... items) {
     return client.clientForCMS().cmsQuery(key.toString(), items);
@@ -1,5 +1,61 @@
 package com.redis.om.spring.ops.pds;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CuckooFilterOperations<K> {
+  /**
+   * Reserve a cuckoo filter.
+   * @param name The key of the filter
+   * @param capacity Optimize for this many items
+   */
+  void createFilter(K name, long capacity);
+
+  /**
+   * Adds an item to the filter, even if it may already be in it
+   * @param name The name of the filter
+   * @param value The value to add to the filter
+   * @return true if the item was added
+   */
+  boolean add(K name, String value);
+
+  /**
+   * Add one or more items to the filter, by default creating it if it does not yet exist
+   * @param name Name of the filter
+   * @param values values to add to the filter
+   * @return An array of booleans, true for each successful insertion
+   */
+  List<Boolean> addMulti(K name, String... values);
+
+  /**
+   * Deletes one occurrence of an item from the filter. Only delete items that
+   * were added: deleting others may remove an item sharing its fingerprint.
+   * @param name The name of the filter
+   * @param value The value to delete
+   * @return true if an occurrence of the item was deleted
+   */
+  boolean delete(K name, String value);
+
+  /**
+   * Check if an item exists in the filter
+   * @param name Name (key) of the filter
+   * @param value Value to check for
+   * @return true if the item may exist in the filter, false if the item does not exist in the filter
+   */
+  boolean exists(K name, String value);
+
+  /**
+   * Check if one or more items exist in the filter
+   * @param name Name of the filter to check
+   * @param values values to check for
+   * @return An array of booleans. A true value means the corresponding value may exist, false means it does not exist
+   */
+  List<Boolean> existsMulti(K name, String... values);
 
+  /**
+   * Get information about the filter
+   * @param name the name of the filter
+   * @return Return information
+   */
+  Map<String, Object> info(K name);
 }
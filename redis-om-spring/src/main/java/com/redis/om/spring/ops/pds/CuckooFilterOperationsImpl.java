@@ -2,10 +2,48 @@ package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
 
+import java.util.List;
+import java.util.Map;
+
 public class CuckooFilterOperationsImpl<K> implements CuckooFilterOperations<K> {
   final RedisModulesClient client;
 
   public CuckooFilterOperationsImpl(RedisModulesClient client) {
     this.client = client;
   }
+
+  @Override
+  public void createFilter(K name, long capacity) {
+    client.clientForCuckoo().cfReserve(name.toString(), capacity);
+  }
+
+  @Override
+  public boolean add(K name, String value) {
+    return client.clientForCuckoo().cfAdd(name.toString(), value);
+  }
+
+  @Override
+  public List<Boolean> addMulti(K name, String... values) {
+    return client.clientForCuckoo().cfInsert(name.toString(), values);
+  }
+
+  @Override
+  public boolean delete(K name, String value) {
+    return client.clientForCuckoo().cfDel(name.toString(), value);
+  }
+
+  @Override
+  public boolean exists(K name, String value) {
+    return client.clientForCuckoo().cfExists(name.toString(), value);
+  }
+
+  @Override
+  public List<Boolean> existsMulti(K name, String... values) {
+    return client.clientForCuckoo().cfMExists(name.toString(), values);
+  }
+
+  @Override
+  public Map<String, Object> info(K name) {
+    return client.clientForCuckoo().cfInfo(name.toString());
+  }
 }
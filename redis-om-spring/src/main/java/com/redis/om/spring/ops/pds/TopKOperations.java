@@ -1,5 +1,78 @@
 package com.redis.om.spring.ops.pds;
 
+import java.util.List;
+import java.util.Map;
+
 public interface TopKOperations<K> {
+  /**
+   * TOPK.RESERVE Reserves a Top-K sketch.
+   *
+   * @param key   The key of the sketch
+   * @param topk  The number of top occurring items to keep
+   * @param width The number of counters kept in each array
+   * @param depth The number of arrays
+   * @param decay The probability of reducing a counter in an occupied bucket
+   */
+  void topkReserve(K key, long topk, long width, long depth, double decay);
+
+  /**
+   * TOPK.ADD Adds items to the sketch.
+   *
+   * @param key   The key of the sketch
+   * @param items The items to add
+   * @return the items dropped from the sketch, or null for each item that didn't
+   * push another one out
+   */
+  List<String> topkAdd(K key, String... items);
+
+  /**
+   * TOPK.INCRBY Increases the scores of items by the given increments.
+   *
+   * @param key            The key of the sketch
+   * @param itemIncrements The increment of each item
+   * @return the items dropped from the sketch
+   */
+  List<String> topkIncrBy(K key, Map<String, Long> itemIncrements);
+
+  /**
+   * Increases the scores of items in several sketches at once, sent as
+   * {@code TOPK.INCRBY} commands in a single pipeline
+   *
+   * @param incrementsByKey the increment of each item, by sketch key
+   */
+  void topkIncrBy(Map<K, Map<String, Long>> incrementsByKey);
+
+  /**
+   * TOPK.QUERY Checks whether items are among the top items of the sketch.
+   *
+   * @param key   The key of the sketch
+   * @param items The items to check
+   * @return true for each item that is one of the top items
+   */
+  List<Boolean> topkQuery(K key, String... items);
+
+  /**
+   * TOPK.LIST WITHCOUNT Returns the top items of the sketch with their
+   * estimated counts.
+   *
+   * @param key The key of the sketch
+   * @return the estimated count of each top item, most frequent first
+   */
+  Map<String, Long> topkListWithCount(K key);
+
+  /**
+   * TOPK.LIST Returns the top items of the sketch.
+   *
+   * @param key The key of the sketch
+   * @return the top items, most frequent first
+   */
+  List<String> topkList(K key);
 
+  /**
+   * TOPK.INFO Returns information about the sketch.
+   *
+   * @param key The key of the sketch
+   * @return the size, width, depth and decay of the sketch
+   */
+  Map<String, Object> topkInfo(K key);
 }
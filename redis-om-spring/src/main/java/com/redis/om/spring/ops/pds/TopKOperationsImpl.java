@@ -1,6 +1,15 @@
 package com.redis.om.spring.ops.pds;
 
 import com.redis.om.spring.client.RedisModulesClient;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.bloom.RedisBloomProtocol.TopKCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class TopKOperationsImpl<K> implements TopKOperations<K> {
   final RedisModulesClient client;
@@ -8,4 +17,64 @@ public class TopKOperationsImpl<K> implements TopKOperations<K> {
   public TopKOperationsImpl(RedisModulesClient client) {
     this.client = client;
   }
+
+  @Override
+  public void topkReserve(K key, long topk, long width, long depth, double decay) {
+    client.clientForTopK().topkReserve(key.toString(), topk, width, depth, decay);
+  }
+
+  @Override
+  public List<String> topkAdd(K key, String... items) {
+    return client.clientForTopK().topkAdd(key.toString(), items);
+  }
+
+  @Override
+  public List<String> topkIncrBy(K key, Map<String, Long> itemIncrements) {
+    return client.clientForTopK().topkIncrBy(key.toString(), itemIncrements);
+  }
+
+  @Override
+  public void topkIncrBy(Map<K, Map<String, Long>> incrementsByKey) {
+    Optional<Jedis> maybeJedis = client.getJedis();
+    if (maybeJedis.isEmpty()) {
+      incrementsByKey.forEach(this::topkIncrBy);
+      return;
+    }
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      incrementsByKey.forEach((key, increments) -> pipeline.topkIncrBy(key.toString(), increments));
+      pipeline.sync();
+    }
+  }
+
+  @Override
+  public List<Boolean> topkQuery(K key, String... items) {
+    return client.clientForTopK().topkQuery(key.toString(), items);
+  }
+
+  @Override
+  public Map<String, Long> topkListWithCount(K key) {
+    return countsOf((List<?>) client.sendCommand(TopKCommand.LIST, key.toString(), "WITHCOUNT"));
+  }
+
+  // TOPK.LIST WITHCOUNT answers each item followed by its count
+  static Map<String, Long> countsOf(List<?> reply) {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (int i = 0; i + 1 < reply.size(); i += 2) {
+      if (reply.get(i) instanceof byte[] item && reply.get(i + 1) instanceof Long count) {
+        counts.put(SafeEncoder.encode(item), count);
+      }
+    }
+    return counts;
+  }
+
+  @Override
+  public List<String> topkList(K key) {
+    return client.clientForTopK().topkList(key.toString());
+  }
+
+  @Override
+  public Map<String, Object> topkInfo(K key) {
+    return client.clientForTopK().topkInfo(key.toString());
+  }
 }
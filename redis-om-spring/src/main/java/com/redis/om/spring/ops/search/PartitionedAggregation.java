@@ -0,0 +1,394 @@
+package com.redis.om.spring.ops.search;
+
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.*;
+
+/**
+ * An aggregation over the partitions of a time-partitioned index, split into
+ * the part of its pipeline every partition runs on its own and the part that
+ * is applied to the merged rows of the partitions:
+ * <ul>
+ * <li>pipelines of row-wise steps ({@code LOAD}, {@code APPLY},
+ * {@code FILTER}) run on every partition and their rows are concatenated;</li>
+ * <li>pipelines with a single {@code GROUPBY}, after the row-wise steps, whose
+ * reducers are {@code COUNT}, {@code SUM}, {@code MIN} or {@code MAX} run on
+ * every partition up to the {@code GROUPBY}, and the groups of the partitions
+ * with the same values are merged.</li>
+ * </ul>
+ * In both cases a trailing {@code SORTBY} and {@code LIMIT} apply to the merged
+ * rows. Other pipelines can't be merged across partitions.
+ */
+final class PartitionedAggregation {
+  private static final Set<String> ROW_STEPS = Set.of("LOAD", "APPLY", "FILTER");
+  private static final Set<String> MERGEABLE_REDUCERS = Set.of("COUNT", "SUM", "MIN", "MAX");
+
+  private record Step(String keyword, List<String> args) {
+  }
+
+  private record Reducer(String function, String alias) {
+  }
+
+  private final String query;
+  private final List<Step> steps = new ArrayList<>();
+  // VERBATIM, TIMEOUT, PARAMS and DIALECT, passed on to every partition
+  private final List<String> options = new ArrayList<>();
+  private final boolean withCursor;
+  private int cursorCount = -1;
+
+  // set by analyze()
+  private final List<Step> partitionSteps = new ArrayList<>();
+  private final List<String> groupFields = new ArrayList<>();
+  private final List<Reducer> reducers = new ArrayList<>();
+  private boolean grouped;
+  private List<String> sortArgs = List.of();
+  private int sortMax = -1;
+  private int offset = 0;
+  private int num = -1;
+  private String unsupported;
+
+  PartitionedAggregation(AggregationBuilder aggregation) {
+    List<String> args = aggregation.getArgs();
+    query = args.get(0);
+    withCursor = aggregation.isWithCursor();
+    parse(args.subList(1, args.size()));
+    analyze();
+  }
+
+  private void parse(List<String> args) {
+    int i = 0;
+    while (i < args.size()) {
+      String keyword = args.get(i).toUpperCase(Locale.ROOT);
+      int end;
+      switch (keyword) {
+      case "LOAD" -> end = "*".equals(args.get(i + 1)) ? i + 2 : i + 2 + Integer.parseInt(args.get(i + 1));
+      case "GROUPBY" -> {
+        end = i + 2 + Integer.parseInt(args.get(i + 1));
+        while (end < args.size() && "REDUCE".equalsIgnoreCase(args.get(end))) {
+          end += 3 + Integer.parseInt(args.get(end + 2));
+          if (end + 1 < args.size() && "AS".equalsIgnoreCase(args.get(end))) {
+            end += 2;
+          }
+        }
+      }
+      case "SORTBY" -> {
+        end = i + 2 + Integer.parseInt(args.get(i + 1));
+        if (end + 1 < args.size() && "MAX".equalsIgnoreCase(args.get(end))) {
+          end += 2;
+        }
+      }
+      case "APPLY" -> end = i + 4;
+      case "FILTER", "TIMEOUT", "DIALECT" -> end = i + 2;
+      case "LIMIT" -> end = i + 3;
+      case "PARAMS" -> end = i + 2 + Integer.parseInt(args.get(i + 1));
+      case "VERBATIM" -> end = i + 1;
+      case "WITHCURSOR" -> {
+        end = i + 1;
+        while (end + 1 < args.size() && Set.of("COUNT", "MAXIDLE").contains(args.get(end).toUpperCase(Locale.ROOT))) {
+          if ("COUNT".equalsIgnoreCase(args.get(end))) {
+            cursorCount = Integer.parseInt(args.get(end + 1));
+          }
+          end += 2;
+        }
+      }
+      default -> {
+        unsupported = String.format("the %s step", keyword);
+        return;
+      }
+      }
+      List<String> stepArgs = args.subList(i + 1, Math.min(end, args.size()));
+      switch (keyword) {
+      case "TIMEOUT", "DIALECT", "PARAMS", "VERBATIM" -> {
+        options.add(keyword);
+        options.addAll(stepArgs);
+      }
+      case "WITHCURSOR" -> {
+        // the cursors of the partitions are opened by the caller
+      }
+      default -> steps.add(new Step(keyword, List.copyOf(stepArgs)));
+      }
+      i = end;
+    }
+  }
+
+  private void analyze() {
+    int at = 0;
+    while (at < steps.size() && ROW_STEPS.contains(steps.get(at).keyword())) {
+      partitionSteps.add(steps.get(at++));
+    }
+    if (at < steps.size() && steps.get(at).keyword().equals("GROUPBY")) {
+      grouped = true;
+      partitionSteps.add(groupByOf(steps.get(at++)));
+    }
+    if (at < steps.size() && steps.get(at).keyword().equals("SORTBY")) {
+      List<String> args = steps.get(at++).args();
+      int count = Integer.parseInt(args.get(0));
+      sortArgs = args.subList(1, 1 + count);
+      sortMax = args.size() > count + 2 ? Integer.parseInt(args.get(count + 2)) : -1;
+    }
+    if (at < steps.size() && steps.get(at).keyword().equals("LIMIT")) {
+      List<String> args = steps.get(at++).args();
+      offset = Integer.parseInt(args.get(0));
+      num = Integer.parseInt(args.get(1));
+    }
+    if (at < steps.size() && unsupported == null) {
+      unsupported = String.format("%s after %s", steps.get(at).keyword(),
+          grouped ? "a GROUPBY" : at > 0 ? steps.get(at - 1).keyword() : "the query");
+    }
+  }
+
+  // names the unnamed reducers, so the rows of the partitions can be merged on them
+  private Step groupByOf(Step groupBy) {
+    List<String> args = new ArrayList<>(groupBy.args());
+    int count = Integer.parseInt(args.get(0));
+    args.subList(1, 1 + count).forEach(field -> groupFields.add(stripAt(field)));
+    int i = 1 + count;
+    while (i < args.size()) {
+      String function = args.get(i + 1).toUpperCase(Locale.ROOT);
+      int nargs = Integer.parseInt(args.get(i + 2));
+      int end = i + 3 + nargs;
+      String alias;
+      if (end + 1 < args.size() && "AS".equalsIgnoreCase(args.get(end))) {
+        alias = args.get(end + 1);
+        end += 2;
+      } else {
+        alias = generatedAliasOf(function, args.subList(i + 3, i + 3 + nargs));
+        args.addAll(end, List.of("AS", alias));
+        end += 2;
+      }
+      if (!MERGEABLE_REDUCERS.contains(function) && unsupported == null) {
+        unsupported = String.format("the %s reducer", function);
+      }
+      reducers.add(new Reducer(function, alias));
+      i = end;
+    }
+    return new Step("GROUPBY", args);
+  }
+
+  // the name RediSearch gives the value of an unnamed reducer
+  private static String generatedAliasOf(String function, List<String> args) {
+    StringBuilder alias = new StringBuilder("__generated_alias").append(function.toLowerCase(Locale.ROOT));
+    args.forEach(arg -> alias.append(stripAt(arg).toLowerCase(Locale.ROOT)));
+    return alias.toString();
+  }
+
+  private static String stripAt(String field) {
+    return field.startsWith("@") ? field.substring(1) : field;
+  }
+
+  /**
+   * @return why the pipeline can't be merged across partitions, or empty if it
+   * can
+   */
+  Optional<String> unsupported() {
+    return Optional.ofNullable(unsupported);
+  }
+
+  String query() {
+    return query;
+  }
+
+  boolean isWithCursor() {
+    return withCursor;
+  }
+
+  /**
+   * @return the number of rows to read at once from a cursor, or -1 for the
+   * server's default
+   */
+  int cursorCount() {
+    return cursorCount;
+  }
+
+  /**
+   * @return whether the rows of the partitions are final as they are, so their
+   * cursors can be read one after the other
+   */
+  boolean isStreamable() {
+    return !grouped && sortArgs.isEmpty() && num < 0;
+  }
+
+  /**
+   * @return the aggregation each partition runs: the steps before the merge,
+   * with a sort and limit that return enough rows for the merged page, and a
+   * cursor if it is streamable
+   */
+  AggregationBuilder forPartitions() {
+    List<String> args = new ArrayList<>();
+    args.add(query);
+    partitionSteps.forEach(step -> {
+      args.add(step.keyword());
+      args.addAll(step.args());
+    });
+    if (!grouped) {
+      if (!sortArgs.isEmpty()) {
+        args.add("SORTBY");
+        args.add(Integer.toString(sortArgs.size()));
+        args.addAll(sortArgs);
+        if (sortMax >= 0) {
+          args.addAll(List.of("MAX", Integer.toString(num >= 0 ? Math.max(sortMax, offset + num) : sortMax)));
+        }
+      }
+      if (num >= 0) {
+        args.addAll(List.of("LIMIT", "0", Integer.toString(offset + num)));
+      }
+    }
+    args.addAll(options);
+    boolean cursor = withCursor && isStreamable();
+    if (cursor) {
+      args.add("WITHCURSOR");
+      if (cursorCount >= 0) {
+        args.addAll(List.of("COUNT", Integer.toString(cursorCount)));
+      }
+    }
+    return new AggregationBuilder(query) {
+      @Override
+      public List<String> getArgs() {
+        return Collections.unmodifiableList(args);
+      }
+
+      @Override
+      public void serializeRedisArgs(List<byte[]> redisArgs) {
+        args.forEach(arg -> redisArgs.add(SafeEncoder.encode(arg)));
+      }
+
+      @Override
+      public String getArgsString() {
+        return String.join(" ", args);
+      }
+
+      @Override
+      public boolean isWithCursor() {
+        return cursor;
+      }
+    };
+  }
+
+  /**
+   * @return the rows of the partitions merged, sorted and limited as the
+   * original pipeline would have, and how many there were before the limit
+   */
+  AggregationResult merge(List<AggregationResult> results) {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    long total;
+    if (grouped) {
+      Map<List<String>, Map<String, Object>> groups = new LinkedHashMap<>();
+      results.forEach(result -> result.getResults().forEach(row -> {
+        List<String> key = groupFields.stream().map(field -> textOf(row.get(field))).toList();
+        groups.merge(key, new HashMap<>(row), this::mergeGroups);
+      }));
+      rows.addAll(groups.values());
+      total = rows.size();
+    } else {
+      results.forEach(result -> rows.addAll(result.getResults()));
+      total = results.stream().mapToLong(AggregationResult::getTotalResults).sum();
+    }
+    if (!sortArgs.isEmpty()) {
+      rows.sort(sortOrder());
+      if (sortMax >= 0 && rows.size() > sortMax) {
+        rows.subList(sortMax, rows.size()).clear();
+      }
+    }
+    if (num >= 0) {
+      return resultOf(total, rows.subList(Math.min(offset, rows.size()), Math.min(offset + num, rows.size())));
+    }
+    return resultOf(total, rows);
+  }
+
+  private Map<String, Object> mergeGroups(Map<String, Object> group, Map<String, Object> other) {
+    for (Reducer reducer : reducers) {
+      Double value = numberOf(group.get(reducer.alias()));
+      Double otherValue = numberOf(other.get(reducer.alias()));
+      if (otherValue == null) {
+        continue;
+      }
+      double merged = value == null ? otherValue : switch (reducer.function()) {
+      case "MIN" -> Math.min(value, otherValue);
+      case "MAX" -> Math.max(value, otherValue);
+      default -> value + otherValue;
+      };
+      group.put(reducer.alias(), SafeEncoder.encode(formatNumber(merged)));
+    }
+    return group;
+  }
+
+  private Comparator<Map<String, Object>> sortOrder() {
+    Comparator<Map<String, Object>> order = null;
+    for (int i = 0; i < sortArgs.size(); i++) {
+      if (!sortArgs.get(i).startsWith("@")) {
+        continue;
+      }
+      String field = stripAt(sortArgs.get(i));
+      boolean descending = i + 1 < sortArgs.size() && "DESC".equalsIgnoreCase(sortArgs.get(i + 1));
+      Comparator<Object> values = descending ? (a, b) -> compareValues(b, a) : PartitionedAggregation::compareValues;
+      // missing values sort last either way
+      Comparator<Map<String, Object>> byField = Comparator.comparing(row -> row.get(field),
+          Comparator.nullsLast(values));
+      order = order == null ? byField : order.thenComparing(byField);
+    }
+    return order != null ? order : (a, b) -> 0;
+  }
+
+  // numbers compare as numbers, anything else as text, as RediSearch sorts them
+  private static int compareValues(Object a, Object b) {
+    Double x = numberOf(a);
+    Double y = numberOf(b);
+    if (x != null && y != null) {
+      return Double.compare(x, y);
+    }
+    if (x != null || y != null) {
+      return x != null ? -1 : 1;
+    }
+    return textOf(a).compareTo(textOf(b));
+  }
+
+  private static Double numberOf(Object value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Double.valueOf(textOf(value));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String textOf(Object value) {
+    return value instanceof byte[] bytes ? SafeEncoder.encode(bytes) : String.valueOf(value);
+  }
+
+  private static String formatNumber(double value) {
+    return value == Math.rint(value) && !Double.isInfinite(value) ? Long.toString((long) value)
+        : Double.toString(value);
+  }
+
+  /**
+   * @return an {@link AggregationResult} of rows
+   */
+  static AggregationResult resultOf(long total, List<Map<String, Object>> rows) {
+    return new AggregationResult(replyOf(total, rows));
+  }
+
+  /**
+   * @return an {@link AggregationResult} of rows read from a cursor
+   */
+  static AggregationResult resultOf(long total, List<Map<String, Object>> rows, long cursorId) {
+    return new AggregationResult(replyOf(total, rows), cursorId);
+  }
+
+  private static List<Object> replyOf(long total, List<Map<String, Object>> rows) {
+    List<Object> reply = new ArrayList<>();
+    reply.add(total);
+    for (Map<String, Object> row : rows) {
+      List<Object> fields = new ArrayList<>();
+      row.forEach((name, value) -> {
+        fields.add(SafeEncoder.encode(name));
+        fields.add(value instanceof String text ? SafeEncoder.encode(text) : value);
+      });
+      reply.add(fields);
+    }
+    return reply;
+  }
+}
@@ -0,0 +1,138 @@
+package com.redis.om.spring.ops.search;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The time-partitioned indexes and their partitions, so that
+ * {@link com.redis.om.spring.ops.RedisModulesOperations#opsForSearch} can fan
+ * searches on a partitioned index out to its partitions, the threads the
+ * searches of the partitions run on, and the open cursors of aggregations over
+ * partitions.
+ */
+public class PartitionedIndexes implements AutoCloseable {
+  private static final int SEARCH_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+  private static final int SEARCH_QUEUE_SIZE = 1000;
+  // as long as RediSearch keeps an idle cursor by default
+  private static final Duration CURSOR_MAX_IDLE = Duration.ofMinutes(5);
+
+  /**
+   * An index holding the documents whose partition field value lies in
+   * {@code [start, end)}, in the units the field is indexed in.
+   */
+  public record Partition(String indexName, long start, long end) {
+    public boolean overlaps(double min, double max) {
+      return start <= max && end > min;
+    }
+  }
+
+  /**
+   * @param field         the alias of the field the index is partitioned on
+   * @param partitions    the partitions by start
+   * @param numericFields the aliases of the numeric fields of the index, whose
+   *                      values are merged as numbers
+   */
+  public record Partitioning(String field, NavigableMap<Long, Partition> partitions, Set<String> numericFields) {
+    public Partitioning(String field, NavigableMap<Long, Partition> partitions) {
+      this(field, partitions, Set.of(field));
+    }
+  }
+
+  /**
+   * An open cursor over an aggregation of a partitioned index: the cursors of
+   * the partitions still to be read, one after the other, or the merged rows
+   * still to be returned.
+   *
+   * @param cursors the index and cursor id of each partition still to be read
+   * @param rows    the merged rows still to be returned
+   * @param count   the number of rows to return at once
+   */
+  public record AggregationCursor(Deque<Map.Entry<String, Long>> cursors, Deque<Map<String, Object>> rows, int count,
+      AtomicLong lastRead) {
+    public AggregationCursor(Deque<Map.Entry<String, Long>> cursors, Deque<Map<String, Object>> rows, int count) {
+      this(cursors, rows, count, new AtomicLong(System.currentTimeMillis()));
+    }
+  }
+
+  private final Map<String, Partitioning> partitionings = new ConcurrentHashMap<>();
+  private final Map<Long, AggregationCursor> cursors = new ConcurrentHashMap<>();
+  private final AtomicLong cursorIds = new AtomicLong();
+  // when every thread is busy and the queue is full, the searches of the
+  // partitions run on the thread that asked for them
+  private final ThreadPoolExecutor searchExecutor = new ThreadPoolExecutor(SEARCH_THREADS, SEARCH_THREADS, 60,
+      TimeUnit.SECONDS, new ArrayBlockingQueue<>(SEARCH_QUEUE_SIZE), r -> {
+        Thread thread = new Thread(r, "redis-om-partitioned-search");
+        thread.setDaemon(true);
+        return thread;
+      }, (task, executor) -> task.run());
+
+  public PartitionedIndexes() {
+    searchExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  public void register(String indexName, String field, Set<String> numericFields) {
+    partitionings.computeIfAbsent(indexName,
+        i -> new Partitioning(field, new ConcurrentSkipListMap<>(), Set.copyOf(numericFields)));
+  }
+
+  public void unregister(String indexName) {
+    partitionings.remove(indexName);
+  }
+
+  public boolean isPartitioned(String indexName) {
+    return partitionings.containsKey(indexName);
+  }
+
+  public Optional<Partitioning> get(String indexName) {
+    return Optional.ofNullable(partitionings.get(indexName));
+  }
+
+  public void addPartition(String indexName, Partition partition) {
+    get(indexName).ifPresent(p -> p.partitions().put(partition.start(), partition));
+  }
+
+  public void removePartition(String indexName, Partition partition) {
+    get(indexName).ifPresent(p -> p.partitions().remove(partition.start()));
+  }
+
+  public ExecutorService getSearchExecutor() {
+    return searchExecutor;
+  }
+
+  /**
+   * Keeps an aggregation cursor, and forgets those left idle for longer than
+   * RediSearch keeps its own.
+   *
+   * @return the id to read the cursor with
+   */
+  public long openCursor(AggregationCursor cursor) {
+    long now = System.currentTimeMillis();
+    cursors.values().removeIf(c -> now - c.lastRead().get() > CURSOR_MAX_IDLE.toMillis());
+    long id = cursorIds.incrementAndGet();
+    cursors.put(id, cursor);
+    return id;
+  }
+
+  public Optional<AggregationCursor> getCursor(long cursorId) {
+    AggregationCursor cursor = cursors.get(cursorId);
+    if (cursor != null) {
+      cursor.lastRead().set(System.currentTimeMillis());
+    }
+    return Optional.ofNullable(cursor);
+  }
+
+  public Optional<AggregationCursor> closeCursor(long cursorId) {
+    return Optional.ofNullable(cursors.remove(cursorId));
+  }
+
+  /**
+   * Stops the threads the searches of the partitions run on.
+   */
+  @Override
+  public void close() {
+    searchExecutor.shutdownNow();
+    cursors.clear();
+  }
+}
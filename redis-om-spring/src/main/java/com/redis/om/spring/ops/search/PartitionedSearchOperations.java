@@ -0,0 +1,490 @@
+package com.redis.om.spring.ops.search;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.ops.search.PartitionedIndexes.AggregationCursor;
+import com.redis.om.spring.ops.search.PartitionedIndexes.Partition;
+import com.redis.om.spring.ops.search.PartitionedIndexes.Partitioning;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.*;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.schemafields.SchemaField;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@link SearchOperations} of a time-partitioned index. Searches and
+ * aggregations run in parallel on the partitions whose time range overlaps the
+ * range the query puts on the partition field (all of them if it puts none);
+ * search results are merged on the sort key of the query and aggregation rows
+ * as {@link PartitionedAggregation} describes. Operations on the index
+ * definition apply to every partition. Aliases, which name a single index,
+ * aren't supported.
+ */
+public class PartitionedSearchOperations<K> implements SearchOperations<K> {
+  private static final int DEFAULT_LIMIT = 10;
+
+  private static final Pattern GROUPED_NEGATION = Pattern.compile("[-~]\\s*\\(");
+
+  private final K index;
+  private final Partitioning partitioning;
+  private final Function<String, SearchOperations<String>> opsForIndex;
+  private final PartitionedIndexes partitionedIndexes;
+
+  /**
+   * @param opsForIndex        the operations of a partition
+   * @param partitionedIndexes runs the searches of the partitions, and keeps the
+   *                           open aggregation cursors
+   */
+  public PartitionedSearchOperations(K index, Partitioning partitioning,
+      Function<String, SearchOperations<String>> opsForIndex, PartitionedIndexes partitionedIndexes) {
+    this.index = index;
+    this.partitioning = partitioning;
+    this.opsForIndex = opsForIndex;
+    this.partitionedIndexes = partitionedIndexes;
+  }
+
+  // the partitions are created by the RediSearchIndexer as documents for them are saved
+  @Override
+  public String createIndex(Schema schema, IndexOptions options) {
+    throw unsupported("createIndex");
+  }
+
+  private UnsupportedOperationException unsupported(String operation) {
+    return new UnsupportedOperationException(
+        String.format("%s is not supported on the time-partitioned index %s", operation, index));
+  }
+
+  @Override
+  public SearchResult search(Query q) {
+    List<String> args = argsOf(q);
+    return search(args.get(0), args, q::limit, ops -> ops.search(q));
+  }
+
+  @Override
+  public SearchResult search(Query q, FTSearchParams params) {
+    return search(argsOf(q).get(0), argsOf(params), params::limit, ops -> ops.search(q, params));
+  }
+
+  private SearchResult search(String queryString, List<String> args, BiConsumer<Integer, Integer> setLimit,
+      Function<SearchOperations<String>, SearchResult> search) {
+    List<Partition> partitions = partitionsFor(queryString);
+    if (partitions.size() == 1) {
+      return search.apply(opsForIndex.apply(partitions.get(0).indexName()));
+    }
+
+    int offset = 0;
+    int num = DEFAULT_LIMIT;
+    int limitAt = args.indexOf("LIMIT");
+    if (limitAt >= 0 && limitAt + 2 < args.size()) {
+      offset = Integer.parseInt(args.get(limitAt + 1));
+      num = Integer.parseInt(args.get(limitAt + 2));
+    }
+    String sortBy = null;
+    boolean ascending = true;
+    int sortAt = args.indexOf("SORTBY");
+    if (sortAt >= 0 && sortAt + 1 < args.size()) {
+      sortBy = args.get(sortAt + 1);
+      ascending = sortAt + 2 >= args.size() || !"DESC".equalsIgnoreCase(args.get(sortAt + 2));
+    }
+
+    // every partition has to return the first offset + num documents for the
+    // merged page to be right
+    List<SearchResult> results;
+    setLimit.accept(0, offset + num);
+    try {
+      results = onEach(partitions, search);
+    } finally {
+      setLimit.accept(offset, num);
+    }
+    return merge(results, sortBy, ascending, offset, num);
+  }
+
+  // runs an operation on the partitions in parallel, and returns its results in partition order
+  private <T> List<T> onEach(List<Partition> partitions, Function<SearchOperations<String>, T> operation) {
+    if (partitions.size() == 1) {
+      return List.of(operation.apply(opsForIndex.apply(partitions.get(0).indexName())));
+    }
+    List<CompletableFuture<T>> futures = partitions.stream()
+        .map(p -> CompletableFuture.supplyAsync(() -> operation.apply(opsForIndex.apply(p.indexName())),
+            partitionedIndexes.getSearchExecutor()))
+        .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  /**
+   * @param results the results of each partition, in partition order
+   */
+  SearchResult merge(List<SearchResult> results, String sortBy, boolean ascending, int offset, int num) {
+    long total = results.stream().mapToLong(SearchResult::getTotalResults).sum();
+    List<Document> documents = new ArrayList<>();
+    if (partitioning.field().equals(sortBy)) {
+      // partitions don't overlap, so they are already in sort order
+      (ascending ? results : reversed(results)).forEach(r -> documents.addAll(r.getDocuments()));
+    } else {
+      reversed(results).forEach(r -> documents.addAll(r.getDocuments()));
+      String field = sortBy;
+      Comparator<Document> order;
+      if (field == null) {
+        order = Comparator.comparingDouble(Document::getScore).reversed();
+      } else if (partitioning.numericFields().contains(field)) {
+        order = Comparator.comparing(d -> numberOf(sortValueOf(d, field)), sortKeyOrder(ascending));
+      } else {
+        order = Comparator.comparing(d -> sortValueOf(d, field), sortKeyOrder(ascending));
+      }
+      documents.sort(order);
+    }
+    return resultOf(total, documents.stream().skip(offset).limit(num).toList());
+  }
+
+  private static <T> List<T> reversed(List<T> list) {
+    List<T> reversed = new ArrayList<>(list);
+    Collections.reverse(reversed);
+    return reversed;
+  }
+
+  private static <T extends Comparable<? super T>> Comparator<T> sortKeyOrder(boolean ascending) {
+    Comparator<T> natural = Comparator.naturalOrder();
+    return Comparator.nullsLast(ascending ? natural : natural.reversed());
+  }
+
+  private static Double numberOf(String value) {
+    try {
+      return value != null ? Double.valueOf(value) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String sortValueOf(Document document, String field) {
+    Object value = document.get(field);
+    if (value == null && document.hasProperty("$")) {
+      try {
+        JsonElement json = JsonParser.parseString(document.getString("$"));
+        JsonElement member = json.isJsonObject() ? ((JsonObject) json).get(field) : null;
+        value = member != null && member.isJsonPrimitive() ? member.getAsString() : null;
+      } catch (JsonParseException e) {
+        value = null;
+      }
+    }
+    if (value == null) {
+      return null;
+    }
+    return value instanceof byte[] bytes ? SafeEncoder.encode(bytes) : value.toString();
+  }
+
+  /**
+   * @return the partitions overlapping the range the query string puts on the
+   * partition field, oldest first
+   */
+  List<Partition> partitionsFor(String queryString) {
+    double min = Double.NEGATIVE_INFINITY;
+    double max = Double.POSITIVE_INFINITY;
+    // a range under a union, a negation or an optional clause doesn't bound the results
+    if (queryString != null && !queryString.contains("|") && !GROUPED_NEGATION.matcher(queryString).find()) {
+      Matcher matcher = Pattern.compile("([-~]?)@" + Pattern.quote(partitioning.field())
+          + ":\\[\\s*\\(?(\\S+)\\s+\\(?([^\\]\\s]+)\\s*]").matcher(queryString);
+      while (matcher.find()) {
+        if (matcher.group(1).isEmpty()) {
+          min = Math.max(min, boundOf(matcher.group(2), Double.NEGATIVE_INFINITY));
+          max = Math.min(max, boundOf(matcher.group(3), Double.POSITIVE_INFINITY));
+        }
+      }
+    }
+    double from = min;
+    double to = max;
+    return partitioning.partitions().values().stream().filter(p -> p.overlaps(from, to)).toList();
+  }
+
+  // parameters ($name) and infinities leave the range unbounded
+  private static double boundOf(String bound, double unbounded) {
+    try {
+      return Double.parseDouble(bound);
+    } catch (NumberFormatException e) {
+      return unbounded;
+    }
+  }
+
+  static SearchResult resultOf(long total, List<Document> documents) {
+    List<Object> reply = new ArrayList<>();
+    reply.add(total);
+    for (Document document : documents) {
+      reply.add(SafeEncoder.encode(document.getId()));
+      reply.add(SafeEncoder.encode(Double.toString(document.getScore())));
+      List<byte[]> fields = new ArrayList<>();
+      document.getProperties().forEach(e -> {
+        fields.add(SafeEncoder.encode(e.getKey()));
+        fields.add(e.getValue() instanceof byte[] bytes ? bytes : SafeEncoder.encode(String.valueOf(e.getValue())));
+      });
+      reply.add(fields);
+    }
+    return new SearchResult.SearchResultBuilder(true, true, false, true).build(reply);
+  }
+
+  private static List<String> argsOf(IParams params) {
+    List<String> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.SEARCH).addParams(params)
+        .forEach(arg -> args.add(SafeEncoder.encode(arg.getRaw())));
+    return args.subList(1, args.size());
+  }
+
+  private List<SearchOperations<String>> partitionOps() {
+    return partitioning.partitions().values().stream().map(p -> opsForIndex.apply(p.indexName())).toList();
+  }
+
+  // for the operations that don't depend on the index
+  private SearchOperations<String> anyOps() {
+    Map.Entry<Long, Partition> newest = partitioning.partitions().lastEntry();
+    return opsForIndex.apply(newest != null ? newest.getValue().indexName() : index.toString());
+  }
+
+  /**
+   * Runs the aggregation on the partitions and merges their rows. With a
+   * cursor, the cursors of the partitions are read one after the other when
+   * their rows can be returned as they are, otherwise the merged rows are kept
+   * and returned a page at a time.
+   */
+  @Override
+  public AggregationResult aggregate(AggregationBuilder q) {
+    PartitionedAggregation aggregation = new PartitionedAggregation(q);
+    Optional<String> unsupported = aggregation.unsupported();
+    if (unsupported.isPresent()) {
+      throw unsupported(String.format("An aggregation with %s", unsupported.get()));
+    }
+    List<Partition> partitions = partitionsFor(aggregation.query());
+    if (partitions.isEmpty()) {
+      return PartitionedAggregation.resultOf(0, List.of(), aggregation.isWithCursor() ? 0 : -1);
+    }
+    AggregationBuilder forPartitions = aggregation.forPartitions();
+    List<AggregationResult> results = onEach(partitions, ops -> ops.aggregate(forPartitions));
+    AggregationResult merged = aggregation.merge(results);
+    if (!aggregation.isWithCursor()) {
+      return merged;
+    }
+
+    if (forPartitions.isWithCursor()) {
+      Deque<Map.Entry<String, Long>> cursors = new ArrayDeque<>();
+      for (int i = 0; i < partitions.size(); i++) {
+        if (results.get(i).getCursorId() != 0) {
+          cursors.add(Map.entry(partitions.get(i).indexName(), results.get(i).getCursorId()));
+        }
+      }
+      long cursorId = cursors.isEmpty() ? 0 : partitionedIndexes
+          .openCursor(new AggregationCursor(cursors, new ArrayDeque<>(), aggregation.cursorCount()));
+      return PartitionedAggregation.resultOf(merged.getTotalResults(), merged.getResults(), cursorId);
+    }
+    Deque<Map<String, Object>> rows = new ArrayDeque<>(merged.getResults());
+    AggregationCursor cursor = new AggregationCursor(new ArrayDeque<>(), rows, aggregation.cursorCount());
+    List<Map<String, Object>> page = pageOf(rows, aggregation.cursorCount());
+    long cursorId = rows.isEmpty() ? 0 : partitionedIndexes.openCursor(cursor);
+    return PartitionedAggregation.resultOf(merged.getTotalResults(), page, cursorId);
+  }
+
+  private static List<Map<String, Object>> pageOf(Deque<Map<String, Object>> rows, int count) {
+    List<Map<String, Object>> page = new ArrayList<>();
+    while (!rows.isEmpty() && (count <= 0 || page.size() < count)) {
+      page.add(rows.poll());
+    }
+    return page;
+  }
+
+  @Override
+  public String cursorDelete(long cursorId) {
+    AggregationCursor cursor = partitionedIndexes.closeCursor(cursorId)
+        .orElseThrow(() -> new JedisDataException("Cursor not found"));
+    cursor.cursors().forEach(c -> {
+      try {
+        opsForIndex.apply(c.getKey()).cursorDelete(c.getValue());
+      } catch (JedisDataException e) {
+        // expired already
+      }
+    });
+    return "OK";
+  }
+
+  @Override
+  public AggregationResult cursorRead(long cursorId, int count) {
+    AggregationCursor cursor = partitionedIndexes.getCursor(cursorId)
+        .orElseThrow(() -> new JedisDataException("Cursor not found"));
+    synchronized (cursor) {
+      if (cursor.cursors().isEmpty()) {
+        List<Map<String, Object>> page = pageOf(cursor.rows(), count > 0 ? count : cursor.count());
+        return PartitionedAggregation.resultOf(page.size(), page, closeIfDone(cursorId, cursor));
+      }
+      while (!cursor.cursors().isEmpty()) {
+        Map.Entry<String, Long> next = cursor.cursors().peek();
+        AggregationResult result = opsForIndex.apply(next.getKey()).cursorRead(next.getValue(), count);
+        if (result.getCursorId() == 0) {
+          cursor.cursors().poll();
+        }
+        if (!result.getResults().isEmpty() || cursor.cursors().isEmpty()) {
+          return PartitionedAggregation.resultOf(result.getTotalResults(), result.getResults(),
+              closeIfDone(cursorId, cursor));
+        }
+      }
+      return PartitionedAggregation.resultOf(0, List.of(), closeIfDone(cursorId, cursor));
+    }
+  }
+
+  // the id to read the rest of a cursor with, or 0 once it has been read through
+  private long closeIfDone(long cursorId, AggregationCursor cursor) {
+    if (cursor.cursors().isEmpty() && cursor.rows().isEmpty()) {
+      partitionedIndexes.closeCursor(cursorId);
+      return 0;
+    }
+    return cursorId;
+  }
+
+  @Override
+  public String explain(Query q) {
+    return anyOps().explain(q);
+  }
+
+  /**
+   * @return the {@code FT.INFO} of the newest partition, with the document
+   * counts summed and the indexing progress of the least advanced partition
+   */
+  @Override
+  public Map<String, Object> getInfo() {
+    Map<String, Object> info = new HashMap<>();
+    long numDocs = 0;
+    long failures = 0;
+    boolean indexing = false;
+    double percentIndexed = 1.0;
+    for (SearchOperations<String> ops : partitionOps()) {
+      info = new HashMap<>(ops.getInfo());
+      numDocs += parseLong(info.get("num_docs"));
+      failures += parseLong(info.get("hash_indexing_failures"));
+      indexing |= parseLong(info.get("indexing")) != 0;
+      percentIndexed = Math.min(percentIndexed,
+          Double.parseDouble(String.valueOf(info.getOrDefault("percent_indexed", "1"))));
+    }
+    info.put("index_name", index.toString());
+    info.put("num_docs", numDocs);
+    info.put("hash_indexing_failures", failures);
+    info.put("indexing", indexing ? 1L : 0L);
+    info.put("percent_indexed", Double.toString(percentIndexed));
+    info.put("partitions", partitioning.partitions().values().stream().map(Partition::indexName).toList());
+    return info;
+  }
+
+  private static long parseLong(Object value) {
+    return value == null ? 0 : (long) Double.parseDouble(value.toString());
+  }
+
+  @Override
+  public String dropIndex() {
+    partitionOps().forEach(SearchOperations::dropIndex);
+    return "OK";
+  }
+
+  // the documents are dropped with their partitions
+  @Override
+  public String dropIndexAndDocuments() {
+    partitionOps().forEach(SearchOperations::dropIndexAndDocuments);
+    return "OK";
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion) {
+    return anyOps().addSuggestion(key, suggestion);
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion, double score) {
+    return anyOps().addSuggestion(key, suggestion, score);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix) {
+    return anyOps().getSuggestion(key, prefix);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
+    return anyOps().getSuggestion(key, prefix, options);
+  }
+
+  @Override
+  public Boolean deleteSuggestion(String key, String entry) {
+    return anyOps().deleteSuggestion(key, entry);
+  }
+
+  @Override
+  public Long getSuggestionLength(String key) {
+    return anyOps().getSuggestionLength(key);
+  }
+
+  @Override
+  public String alterIndex(SchemaField... fields) {
+    partitionOps().forEach(ops -> ops.alterIndex(fields));
+    return "OK";
+  }
+
+  @Override
+  public String alterIndexSchema(Schema schema) {
+    partitionOps().forEach(ops -> ops.alterIndexSchema(schema));
+    return "OK";
+  }
+
+  @Override
+  public String setConfig(String option, String value) {
+    return anyOps().setConfig(option, value);
+  }
+
+  @Override
+  public Map<String, String> getConfig(String option) {
+    return anyOps().getConfig(option);
+  }
+
+  @Override
+  public Map<String, String> getIndexConfig(String option) {
+    return anyOps().getIndexConfig(option);
+  }
+
+  @Override
+  public String addAlias(String name) {
+    throw unsupported("addAlias");
+  }
+
+  @Override
+  public String updateAlias(String name) {
+    throw unsupported("updateAlias");
+  }
+
+  @Override
+  public String deleteAlias(String name) {
+    throw unsupported("deleteAlias");
+  }
+
+  @Override
+  public String updateSynonym(String synonymGroupId, String... terms) {
+    partitionOps().forEach(ops -> ops.updateSynonym(synonymGroupId, terms));
+    return "OK";
+  }
+
+  @Override
+  public Map<String, List<String>> dumpSynonym() {
+    return anyOps().dumpSynonym();
+  }
+
+  @Override
+  public Set<String> tagVals(String field) {
+    return partitionOps().stream().flatMap(ops -> ops.tagVals(field).stream()).collect(Collectors.toSet());
+  }
+}
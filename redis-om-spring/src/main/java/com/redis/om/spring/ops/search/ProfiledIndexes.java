@@ -0,0 +1,54 @@
+package com.redis.om.spring.ops.search;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The index profiles declared with
+ * {@link com.redis.om.spring.annotations.IndexProfile}, so that
+ * {@link com.redis.om.spring.ops.RedisModulesOperations#opsForSearch} can route
+ * searches on an entity's main index to a narrower profile index.
+ */
+public class ProfiledIndexes {
+  private static final String PROFILE_SEPARATOR = "_";
+
+  /**
+   * A profile that searches can be routed to.
+   *
+   * @param fields        the aliases of the indexed fields of the profile
+   * @param allTextFields whether the profile has all the text fields of the main
+   *                      index, i.e. can serve free text searches
+   */
+  public record Profile(String indexName, Set<String> fields, boolean allTextFields) {
+  }
+
+  private final Map<String, List<Profile>> profiles = new ConcurrentHashMap<>();
+
+  public static String profileIndexName(String indexName, String profile) {
+    return indexName + PROFILE_SEPARATOR + profile;
+  }
+
+  public void register(String indexName, List<Profile> indexProfiles) {
+    if (indexProfiles.isEmpty()) {
+      profiles.remove(indexName);
+    } else {
+      profiles.put(indexName,
+          indexProfiles.stream().sorted(Comparator.comparingInt(profile -> profile.fields().size())).toList());
+    }
+  }
+
+  public void unregister(String indexName) {
+    profiles.remove(indexName);
+  }
+
+  /**
+   * @return the profiles of an index, smallest first
+   */
+  public Optional<List<Profile>> get(String indexName) {
+    return Optional.ofNullable(profiles.get(indexName));
+  }
+}
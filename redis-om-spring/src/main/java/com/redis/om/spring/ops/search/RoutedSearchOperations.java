@@ -0,0 +1,243 @@
+package com.redis.om.spring.ops.search;
+
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.ops.search.ProfiledIndexes.Profile;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.FTSearchParams;
+import redis.clients.jedis.search.IndexOptions;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.Schema;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.schemafields.SchemaField;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link SearchOperations} of an index with
+ * {@link com.redis.om.spring.annotations.IndexProfile profiles}. Searches run
+ * on the smallest profile that has every field the query refers to (and all
+ * the text fields for free text searches), everything else on the main index.
+ */
+public class RoutedSearchOperations<K> implements SearchOperations<K> {
+  private static final Pattern FIELD_REFERENCE = Pattern.compile("(?<!\\\\)@(\\w+)");
+  private static final Pattern FIELD_CLAUSE = Pattern
+      .compile("(?<!\\\\)@\\w+:\\s*(\\{[^}]*}|\\[[^]]*]|\\([^)]*\\)|\"[^\"]*\"|\\S+)");
+  private static final Pattern NOT_A_TERM = Pattern.compile("=>\\s*\\[[^]]*]|=>\\s*\\{[^}]*}|\\$\\w+|[*()|~\\-\\s]");
+  // options that work on the text fields of the index as a whole
+  private static final Set<String> TEXT_OPTIONS = Set.of("INFIELDS", "SUMMARIZE", "HIGHLIGHT");
+
+  private final List<Profile> profiles;
+  private final SearchOperations<K> main;
+  private final Function<String, SearchOperations<String>> opsForIndex;
+
+  public RoutedSearchOperations(List<Profile> profiles, SearchOperations<K> main,
+      Function<String, SearchOperations<String>> opsForIndex) {
+    this.profiles = profiles;
+    this.main = main;
+    this.opsForIndex = opsForIndex;
+  }
+
+  @Override
+  public String createIndex(Schema schema, IndexOptions options) {
+    return main.createIndex(schema, options);
+  }
+
+  @Override
+  public SearchResult search(Query q) {
+    List<String> args = argsOf(q);
+    return route(profiles, args.get(0), args) //
+        .map(profile -> opsForIndex.apply(profile.indexName()).search(q)) //
+        .orElseGet(() -> main.search(q));
+  }
+
+  @Override
+  public SearchResult search(Query q, FTSearchParams params) {
+    return route(profiles, argsOf(q).get(0), argsOf(params)) //
+        .map(profile -> opsForIndex.apply(profile.indexName()).search(q, params)) //
+        .orElseGet(() -> main.search(q, params));
+  }
+
+  /**
+   * @param profiles    the profiles, smallest first
+   * @param queryString the query string of the search
+   * @param args        the arguments of the search
+   * @return the smallest profile that can serve the search, or empty when only
+   * the main index can
+   */
+  static Optional<Profile> route(List<Profile> profiles, String queryString, List<String> args) {
+    if (args.stream().anyMatch(TEXT_OPTIONS::contains)) {
+      return Optional.empty();
+    }
+    Set<String> fields = referencedFields(queryString, args);
+    boolean freeText = !NOT_A_TERM.matcher(FIELD_CLAUSE.matcher(queryString).replaceAll("")).replaceAll("")
+        .isEmpty();
+    return profiles.stream() //
+        .filter(profile -> profile.fields().containsAll(fields) && (!freeText || profile.allTextFields())) //
+        .findFirst();
+  }
+
+  private static Set<String> referencedFields(String queryString, List<String> args) {
+    Set<String> fields = new HashSet<>();
+    Matcher matcher = FIELD_REFERENCE.matcher(queryString);
+    while (matcher.find()) {
+      fields.add(matcher.group(1));
+    }
+    int sortAt = args.indexOf("SORTBY");
+    if (sortAt >= 0 && sortAt + 1 < args.size()) {
+      fields.add(args.get(sortAt + 1));
+    }
+    // JSON paths are read from the document, anything else has to be an
+    // attribute of the index
+    int returnAt = args.indexOf("RETURN");
+    if (returnAt >= 0 && returnAt + 1 < args.size()) {
+      int count = Integer.parseInt(args.get(returnAt + 1));
+      for (int i = returnAt + 2; i < Math.min(args.size(), returnAt + 2 + count); i++) {
+        if ("AS".equals(args.get(i))) {
+          i++;
+        } else if (!args.get(i).startsWith("$")) {
+          fields.add(args.get(i));
+        }
+      }
+    }
+    return fields;
+  }
+
+  private static List<String> argsOf(IParams params) {
+    List<String> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.SEARCH).addParams(params)
+        .forEach(arg -> args.add(SafeEncoder.encode(arg.getRaw())));
+    return args.subList(1, args.size());
+  }
+
+  @Override
+  public AggregationResult aggregate(AggregationBuilder q) {
+    return main.aggregate(q);
+  }
+
+  @Override
+  public String cursorDelete(long cursorId) {
+    return main.cursorDelete(cursorId);
+  }
+
+  @Override
+  public AggregationResult cursorRead(long cursorId, int count) {
+    return main.cursorRead(cursorId, count);
+  }
+
+  @Override
+  public String explain(Query q) {
+    List<String> args = argsOf(q);
+    return route(profiles, args.get(0), args) //
+        .map(profile -> opsForIndex.apply(profile.indexName()).explain(q)) //
+        .orElseGet(() -> main.explain(q));
+  }
+
+  @Override
+  public Map<String, Object> getInfo() {
+    return main.getInfo();
+  }
+
+  @Override
+  public String dropIndex() {
+    return main.dropIndex();
+  }
+
+  @Override
+  public String dropIndexAndDocuments() {
+    return main.dropIndexAndDocuments();
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion) {
+    return main.addSuggestion(key, suggestion);
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion, double score) {
+    return main.addSuggestion(key, suggestion, score);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix) {
+    return main.getSuggestion(key, prefix);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
+    return main.getSuggestion(key, prefix, options);
+  }
+
+  @Override
+  public Boolean deleteSuggestion(String key, String entry) {
+    return main.deleteSuggestion(key, entry);
+  }
+
+  @Override
+  public Long getSuggestionLength(String key) {
+    return main.getSuggestionLength(key);
+  }
+
+  @Override
+  public String alterIndex(SchemaField... fields) {
+    return main.alterIndex(fields);
+  }
+
+  @Override
+  public String alterIndexSchema(Schema schema) {
+    return main.alterIndexSchema(schema);
+  }
+
+  @Override
+  public String setConfig(String option, String value) {
+    return main.setConfig(option, value);
+  }
+
+  @Override
+  public Map<String, String> getConfig(String option) {
+    return main.getConfig(option);
+  }
+
+  @Override
+  public Map<String, String> getIndexConfig(String option) {
+    return main.getIndexConfig(option);
+  }
+
+  @Override
+  public String addAlias(String name) {
+    return main.addAlias(name);
+  }
+
+  @Override
+  public String updateAlias(String name) {
+    return main.updateAlias(name);
+  }
+
+  @Override
+  public String deleteAlias(String name) {
+    return main.deleteAlias(name);
+  }
+
+  @Override
+  public String updateSynonym(String synonymGroupId, String... terms) {
+    return main.updateSynonym(synonymGroupId, terms);
+  }
+
+  @Override
+  public Map<String, List<String>> dumpSynonym() {
+    return main.dumpSynonym();
+  }
+
+  @Override
+  public Set<String> tagVals(String field) {
+    return main.tagVals(field);
+  }
+}
@@ -0,0 +1,31 @@
+package com.redis.om.spring.ops.search;
+
+/**
+ * Told about every query ({@code FT.SEARCH}, {@code FT.AGGREGATE} and
+ * {@code FT.CURSOR READ}) run through {@link SearchOperations}, e.g. to
+ * record its latency.
+ */
+@FunctionalInterface
+public interface SearchObserver {
+  SearchObserver NONE = (index, command, durationNanos, success) -> {
+  };
+
+  /**
+   * @param index         the index (or alias) queried; the main index for the
+   *                      queries of its partitions and profiles
+   * @param command       the command, e.g. {@code FT.SEARCH}
+   * @param durationNanos how long the command took, including the round trip
+   * @param success       false if the command failed
+   */
+  void observe(String index, String command, long durationNanos, boolean success);
+
+  /**
+   * @return an observer that reports the queries of any index as queries of
+   * the given one, e.g. those of the partitions of a time-partitioned index
+   * under its (logical) name, which keeps the number of distinct index names
+   * bounded
+   */
+  default SearchObserver reportingAs(String index) {
+    return (physicalIndex, command, durationNanos, success) -> observe(index, command, durationNanos, success);
+  }
+}
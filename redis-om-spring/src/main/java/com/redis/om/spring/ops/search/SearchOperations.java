@@ -30,6 +30,7 @@ public interface SearchOperations<K> {
   Boolean deleteSuggestion(String key, String entry);
   Long getSuggestionLength(String key);
   String alterIndex(SchemaField... fields);
+  String alterIndexSchema(Schema schema);
   String setConfig(String option, String value);
   Map<String, String> getConfig(String option);
   Map<String, String> getIndexConfig(String option);
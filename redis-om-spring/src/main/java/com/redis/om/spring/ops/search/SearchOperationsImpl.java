@@ -13,22 +13,33 @@ import redis.clients.jedis.search.aggr.AggregationResult;
 import redis.clients.jedis.search.schemafields.SchemaField;
 import redis.clients.jedis.util.SafeEncoder;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public class SearchOperationsImpl<K> implements SearchOperations<K> {
+  private static final Type PAYLOAD_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
 
   private final RediSearchCommands search;
   private final RedisModulesClient modulesClient;
   private final K index;
   private final StringRedisTemplate template;
+  private final SearchObserver observer;
 
   public SearchOperationsImpl(K index, RedisModulesClient modulesClient, StringRedisTemplate template) {
+    this(index, modulesClient, template, SearchObserver.NONE);
+  }
+
+  public SearchOperationsImpl(K index, RedisModulesClient modulesClient, StringRedisTemplate template,
+      SearchObserver observer) {
     this.index = index;
     this.modulesClient = modulesClient;
     this.search = modulesClient.clientForSearch();
     this.template = template;
+    this.observer = observer;
   }
 
   @Override
@@ -38,17 +49,17 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
 
   @Override
   public SearchResult search(Query q) {
-    return search.ftSearch(SafeEncoder.encode(index.toString()), q);
+    return observe("FT.SEARCH", () -> search.ftSearch(SafeEncoder.encode(index.toString()), q));
   }
   
   @Override
   public SearchResult search(Query q, FTSearchParams params) {
-    return search.ftSearch(index.toString(), q.toString(), params);
+    return observe("FT.SEARCH", () -> search.ftSearch(index.toString(), q.toString(), params));
   }
 
   @Override
   public AggregationResult aggregate(AggregationBuilder q) {
-    return search.ftAggregate(index.toString(), q);
+    return observe("FT.AGGREGATE", () -> search.ftAggregate(index.toString(), q));
   }
 
   @Override
@@ -58,7 +69,7 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
 
   @Override
   public AggregationResult cursorRead(long cursorId, int count) {
-    return search.ftCursorRead(index.toString(), cursorId, count);
+    return observe("FT.CURSOR READ", () -> search.ftCursorRead(index.toString(), cursorId, count));
   }
 
   @Override
@@ -97,37 +108,51 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
   }
 
   @Override public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
-    Gson gson = modulesClient.gsonBuilder().create();
-
     if (options.isWithScore()) {
       List<Tuple> suggestions = search.ftSugGetWithScores(key, prefix, options.isFuzzy(), options.getLimit());
-      return suggestions.stream().map(suggestion -> {
-        if (options.isWithPayload()) {
-          String[] keyParts = key.split(":");
-          String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2], keyParts[keyParts.length - 1]);
-          Object payload = template.opsForHash().get(payLoadKey, suggestion);
-          String json = payload != null ? payload.toString() : "{}";
-          Map<String, Object> payloadMap = gson.fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
-          return new Suggestion(suggestion.getElement(), suggestion.getScore(), payloadMap);
-        } else {
-          return new Suggestion(suggestion.getElement(), suggestion.getScore());
-        }
-      }).toList();
+      if (!options.isWithPayload()) {
+        return suggestions.stream() //
+            .map(suggestion -> new Suggestion(suggestion.getElement(), suggestion.getScore())) //
+            .toList();
+      }
+      List<Map<String, Object>> payloads = getPayloads(key, suggestions.stream().map(Tuple::getElement).toList());
+      List<Suggestion> result = new ArrayList<>(suggestions.size());
+      for (int i = 0; i < suggestions.size(); i++) {
+        Tuple suggestion = suggestions.get(i);
+        result.add(new Suggestion(suggestion.getElement(), suggestion.getScore(), payloads.get(i)));
+      }
+      return result;
     } else {
       List<String> suggestions = search.ftSugGet(key, prefix, options.isFuzzy(), options.getLimit());
-      return suggestions.stream().map(suggestion -> {
-        if (options.isWithPayload()) {
-          String[] keyParts = key.split(":");
-          String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2], keyParts[keyParts.length - 1]);
-          Object payload = template.opsForHash().get(payLoadKey, suggestion);
-          String json = payload != null ? payload.toString() : "{}";
-          Map<String, Object> payloadMap = gson.fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
-          return new Suggestion(suggestion, payloadMap);
-        } else {
-          return new Suggestion(suggestion);
-        }
-      }).toList();
+      if (!options.isWithPayload()) {
+        return suggestions.stream().map(Suggestion::new).toList();
+      }
+      List<Map<String, Object>> payloads = getPayloads(key, suggestions);
+      List<Suggestion> result = new ArrayList<>(suggestions.size());
+      for (int i = 0; i < suggestions.size(); i++) {
+        result.add(new Suggestion(suggestions.get(i), payloads.get(i)));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Fetches the payloads of the suggestions with a single HMGET.
+   */
+  private List<Map<String, Object>> getPayloads(String key, List<String> suggestions) {
+    if (suggestions.isEmpty()) {
+      return List.of();
+    }
+    String[] keyParts = key.split(":");
+    String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2], keyParts[keyParts.length - 1]);
+    List<Object> payloads = template.<Object, Object>opsForHash().multiGet(payLoadKey, new ArrayList<>(suggestions));
+    Gson gson = modulesClient.gson();
+    List<Map<String, Object>> result = new ArrayList<>(payloads.size());
+    for (Object payload : payloads) {
+      String json = payload != null ? payload.toString() : "{}";
+      result.add(gson.fromJson(json, PAYLOAD_TYPE));
     }
+    return result;
   }
 
   @Override
@@ -145,6 +170,11 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
     return search.ftAlter(index.toString(), fields);
   }
 
+  @Override
+  public String alterIndexSchema(Schema schema) {
+    return search.ftAlter(index.toString(), schema);
+  }
+
   @Override
   public String setConfig(String option, String value) {
     return search.ftConfigSet(option, value);
@@ -190,6 +220,15 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
     return search.ftTagVals(index.toString(), field);
   }
 
-
-
+  private <T> T observe(String command, Supplier<T> query) {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      T result = query.get();
+      success = true;
+      return result;
+    } finally {
+      observer.observe(index.toString(), command, System.nanoTime() - start, success);
+    }
+  }
 }
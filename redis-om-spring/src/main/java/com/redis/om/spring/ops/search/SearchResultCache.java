@@ -0,0 +1,100 @@
+package com.redis.om.spring.ops.search;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.search.SearchResult;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of the searches that opted in, keyed by the index and
+ * the full search arguments (query string, parameters, limit, sort and return
+ * fields). Every index has a generation, bumped whenever a repository writes
+ * to its keyspace, that is part of the key: a write makes every cached result
+ * of the index unreachable at once, and the stale entries age out.
+ * <p>
+ * Generations are kept in-process, so writes made by other instances only
+ * show once the cached results expire.
+ */
+public class SearchResultCache {
+  private record Key(String index, long generation, String searchedIndex, List<ByteBuffer> args) {
+  }
+
+  private final Cache<Key, SearchResult> cache;
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  public SearchResultCache(long maximumSize, Duration timeToLive) {
+    cache = CacheBuilder.newBuilder() //
+        .maximumSize(maximumSize) //
+        .expireAfterWrite(timeToLive) //
+        .recordStats() //
+        .build();
+  }
+
+  /**
+   * @return the cached result of the query on the index, or the result of the
+   * search, cached
+   */
+  public SearchResult get(String index, Query query, Supplier<SearchResult> search) {
+    return get(index, index, query, search);
+  }
+
+  /**
+   * @param index         the index whose writes invalidate the result
+   * @param searchedIndex the index searched, e.g. a profile of the index
+   */
+  public SearchResult get(String index, String searchedIndex, Query query, Supplier<SearchResult> search) {
+    // the generation is read before searching, so that a result racing with a
+    // write is cached under the generation it may predate
+    Key key = new Key(index, generationOf(index).get(), searchedIndex, argsOf(query));
+    try {
+      return cache.get(key, search::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Drops the cached results of an index, after a write to its keyspace.
+   */
+  public void invalidate(String index) {
+    generationOf(index).incrementAndGet();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the underlying cache, to monitor it
+   */
+  public Cache<?, SearchResult> getCache() {
+    return cache;
+  }
+
+  private AtomicLong generationOf(String index) {
+    return generations.computeIfAbsent(index, i -> new AtomicLong());
+  }
+
+  // raw, as vector parameters are binary
+  private static List<ByteBuffer> argsOf(Query query) {
+    List<ByteBuffer> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.SEARCH).addParams(query).forEach(arg -> args.add(ByteBuffer.wrap(arg.getRaw())));
+    return args;
+  }
+}
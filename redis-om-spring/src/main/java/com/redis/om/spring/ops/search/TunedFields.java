@@ -0,0 +1,87 @@
+package com.redis.om.spring.ops.search;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.search.FieldName;
+import redis.clients.jedis.search.Schema.Field;
+import redis.clients.jedis.search.Schema.TagField;
+import redis.clients.jedis.search.Schema.TextField;
+
+/**
+ * Schema fields with the {@code UNF} and {@code WITHSUFFIXTRIE} options that
+ * Jedis' {@link redis.clients.jedis.search.Schema} fields can't express. When
+ * neither is asked for the plain Jedis field is returned, so the arguments of
+ * untuned fields (and the fingerprints of their indexes) don't change.
+ */
+public final class TunedFields {
+  private TunedFields() {
+  }
+
+  public static Field text(FieldName fieldName, double weight, boolean sortable, boolean unf, boolean nostem,
+      boolean noindex, String phonetic, boolean withSuffixTrie) {
+    if (!(sortable && unf) && !withSuffixTrie) {
+      return new TextField(fieldName, weight, sortable, nostem, noindex, phonetic);
+    }
+    return new TunedTextField(fieldName, weight, sortable, unf, nostem, noindex, phonetic, withSuffixTrie);
+  }
+
+  public static Field tag(FieldName fieldName, String separator, boolean sortable, boolean unf,
+      boolean withSuffixTrie) {
+    if (!(sortable && unf) && !withSuffixTrie) {
+      return new TagField(fieldName, separator, sortable);
+    }
+    return new TunedTagField(fieldName, separator, sortable, unf, withSuffixTrie);
+  }
+
+  // UNF has to follow SORTABLE, which Field#addParams writes after the type
+  // arguments, so tuned fields write SORTABLE themselves at the end of theirs
+  private static void addTuningArgs(CommandArguments args, boolean sortable, boolean unf, boolean withSuffixTrie) {
+    if (withSuffixTrie) {
+      args.add("WITHSUFFIXTRIE");
+    }
+    if (sortable) {
+      args.add("SORTABLE");
+      if (unf) {
+        args.add("UNF");
+      }
+    }
+  }
+
+  private static class TunedTextField extends TextField {
+    private final boolean sortable;
+    private final boolean unf;
+    private final boolean withSuffixTrie;
+
+    TunedTextField(FieldName fieldName, double weight, boolean sortable, boolean unf, boolean nostem,
+        boolean noindex, String phonetic, boolean withSuffixTrie) {
+      super(fieldName, weight, false, nostem, noindex, phonetic);
+      this.sortable = sortable;
+      this.unf = unf;
+      this.withSuffixTrie = withSuffixTrie;
+    }
+
+    @Override
+    protected void addTypeArgs(CommandArguments args) {
+      super.addTypeArgs(args);
+      addTuningArgs(args, sortable, unf, withSuffixTrie);
+    }
+  }
+
+  private static class TunedTagField extends TagField {
+    private final boolean sortable;
+    private final boolean unf;
+    private final boolean withSuffixTrie;
+
+    TunedTagField(FieldName fieldName, String separator, boolean sortable, boolean unf, boolean withSuffixTrie) {
+      super(fieldName, separator, false);
+      this.sortable = sortable;
+      this.unf = unf;
+      this.withSuffixTrie = withSuffixTrie;
+    }
+
+    @Override
+    public void addTypeArgs(CommandArguments args) {
+      super.addTypeArgs(args);
+      addTuningArgs(args, sortable, unf, withSuffixTrie);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.redis.om.spring.ops.search;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.search.IndexOptions;
+
+/**
+ * {@link IndexOptions} that can also ask {@code FT.CREATE} for {@code NOHL} and
+ * {@code SKIPINITIALSCAN}, which Jedis has no setters for. With neither set the
+ * arguments are exactly those of the plain options.
+ */
+public class TunedIndexOptions extends IndexOptions {
+  private final boolean noHighlights;
+  private final boolean skipInitialScan;
+
+  public TunedIndexOptions(int flags, boolean noHighlights, boolean skipInitialScan) {
+    super(flags);
+    this.noHighlights = noHighlights;
+    this.skipInitialScan = skipInitialScan;
+  }
+
+  @Override
+  public void addParams(CommandArguments args) {
+    super.addParams(args);
+    if (noHighlights) {
+      args.add("NOHL");
+    }
+    if (skipInitialScan) {
+      args.add("SKIPINITIALSCAN");
+    }
+  }
+}
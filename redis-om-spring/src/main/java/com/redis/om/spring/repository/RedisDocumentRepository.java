@@ -8,6 +8,8 @@ import org.springframework.data.repository.NoRepositoryBean;
 import redis.clients.jedis.json.Path;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
 
 @NoRepositoryBean
 public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID> {
@@ -23,6 +25,17 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
    */
   Page<ID> getIds(Pageable pageable);
 
+  /**
+   * Retrieves an entity by its id, reading only the given fields of the
+   * document; all other properties of the returned entity are left unset.
+   *
+   * @param id     must not be {@literal null}
+   * @param fields the names of the fields to read, nested ones by their dotted
+   *               path (e.g. {@code address.city}), all fields if none are given
+   * @return the entity with the given id or {@literal Optional#empty()} if none found
+   */
+  Optional<T> findById(ID id, String... fields);
+
   void deleteById(ID id, Path path);
 
   void updateField(T entity, MetamodelField<T, ?> field, Object value);
@@ -31,5 +44,49 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
 
   Long getExpiration(ID id);
 
+  /**
+   * Checks that no entity holds the given value in a field, without querying
+   * the index when the field is {@link com.redis.om.spring.annotations.Unique}
+   * and its filter doesn't hold the value.
+   *
+   * @param field the field, indexed as a TAG, NUMERIC or TEXT field
+   * @param value the value to look for
+   * @return true if no entity holds the value
+   */
+  boolean isUnique(MetamodelField<T, ?> field, Object value);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field, read from its
+   * HyperLogLog in constant time.
+   *
+   * @param field the field
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field among the
+   * entities with the given value of its {@code by} field.
+   *
+   * @param field the field
+   * @param byValue the value of the field the field is counted by
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field, Object byValue);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field among the
+   * entities saved in the time buckets from {@code from} to {@code to}.
+   *
+   * @param field the field, counted in time buckets
+   * @param from the time to count from
+   * @param to the time to count to
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field, Instant from, Instant to);
+
   Iterable<T> bulkLoad(String file) throws IOException;
 }
@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.keyvalue.repository.KeyValueRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.time.Instant;
+
 @NoRepositoryBean
 public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID> {
 
@@ -25,4 +27,48 @@ public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID
   <F> Iterable<F> getFieldsByIds(Iterable<ID> ids, MetamodelField<T, F> field);
 
   Long getExpiration(ID id);
+
+  /**
+   * Checks that no entity holds the given value in a field, without querying
+   * the index when the field is {@link com.redis.om.spring.annotations.Unique}
+   * and its filter doesn't hold the value.
+   *
+   * @param field the field, indexed as a TAG, NUMERIC or TEXT field
+   * @param value the value to look for
+   * @return true if no entity holds the value
+   */
+  boolean isUnique(MetamodelField<T, ?> field, Object value);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field, read from its
+   * HyperLogLog in constant time.
+   *
+   * @param field the field
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field among the
+   * entities with the given value of its {@code by} field.
+   *
+   * @param field the field
+   * @param byValue the value of the field the field is counted by
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field, Object byValue);
+
+  /**
+   * The approximate number of distinct values of a
+   * {@link com.redis.om.spring.annotations.CountDistinct} field among the
+   * entities saved in the time buckets from {@code from} to {@code to}.
+   *
+   * @param field the field, counted in time buckets
+   * @param from the time to count from
+   * @param to the time to count to
+   * @return the number of distinct values of the field
+   */
+  long countDistinct(MetamodelField<T, ?> field, Instant from, Instant to);
 }
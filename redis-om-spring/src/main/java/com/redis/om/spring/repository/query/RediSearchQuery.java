@@ -1,12 +1,14 @@
 package com.redis.om.spring.repository.query;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.search.ProfiledIndexes;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteQueryExecutor;
 import com.redis.om.spring.repository.query.bloom.BloomQueryExecutor;
+import com.redis.om.spring.repository.query.sketches.SketchQueryExecutor;
 import com.redis.om.spring.repository.query.clause.QueryClause;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -18,9 +20,12 @@ import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -28,6 +33,7 @@ import org.springframework.data.util.Pair;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.Schema.FieldType;
 import redis.clients.jedis.search.SearchResult;
@@ -60,6 +66,8 @@ public class RediSearchQuery implements RepositoryQuery {
   private Integer limit;
   private String sortBy;
   private Boolean sortAscending;
+  private String indexProfile;
+  private boolean cacheResults;
   private final boolean hasLanguageParameter;
 
   // aggregation fields
@@ -84,7 +92,8 @@ public class RediSearchQuery implements RepositoryQuery {
 
   private final BloomQueryExecutor bloomQueryExecutor;
   private final AutoCompleteQueryExecutor autoCompleteQueryExecutor;
-  private final Gson gson;
+  private final SketchQueryExecutor sketchQueryExecutor;
+  private final DocumentCodec codec;
 
   @SuppressWarnings("unchecked")
   public RediSearchQuery(//
@@ -94,7 +103,7 @@ public class RediSearchQuery implements RepositoryQuery {
       KeyValueOperations keyValueOperations, //
       RedisModulesOperations<?> rmo, //
       Class<? extends AbstractQueryCreator<?, ?>> queryCreator, //
-      Gson gson //
+      DocumentCodec codec //
   ) {
     logger.info(String.format("Creating %s query method", queryMethod.getName()));
 
@@ -102,10 +111,11 @@ public class RediSearchQuery implements RepositoryQuery {
     this.queryMethod = queryMethod;
     this.searchIndex = this.queryMethod.getEntityInformation().getJavaType().getName() + "Idx";
     this.domainType = this.queryMethod.getEntityInformation().getJavaType();
-    this.gson = gson;
+    this.codec = codec;
 
     bloomQueryExecutor = new BloomQueryExecutor(this, modulesOperations);
     autoCompleteQueryExecutor = new AutoCompleteQueryExecutor(this, modulesOperations);
+    sketchQueryExecutor = new SketchQueryExecutor(this, modulesOperations);
 
     Class<?> repoClass = metadata.getRepositoryInterface();
     @SuppressWarnings("rawtypes")
@@ -124,6 +134,8 @@ public class RediSearchQuery implements RepositoryQuery {
         this.limit = queryAnnotation.limit();
         this.sortBy = queryAnnotation.sortBy();
         this.sortAscending = queryAnnotation.sortAscending();
+        this.indexProfile = queryAnnotation.index();
+        this.cacheResults = queryAnnotation.cache();
       } else if (method.isAnnotationPresent(Aggregation.class)) {
         Aggregation aggregation = method.getAnnotation(Aggregation.class);
         this.type = RediSearchQueryType.AGGREGATION;
@@ -200,6 +212,8 @@ public class RediSearchQuery implements RepositoryQuery {
         this.value = ObjectUtils.lcfirst(queryMethod.getName().substring(6));
       } else if (queryMethod.getName().startsWith(AutoCompleteQueryExecutor.AUTOCOMPLETE_PREFIX)) {
         this.type = RediSearchQueryType.AUTOCOMPLETE;
+      } else if (SketchQueryExecutor.isSketchQuery(queryMethod.getName())) {
+        this.type = RediSearchQueryType.SKETCH;
       } else {
         isANDQuery = QueryClause.hasContainingAllClause(queryMethod.getName());
 
@@ -354,6 +368,8 @@ public class RediSearchQuery implements RepositoryQuery {
       Optional<String> maybeAutoCompleteDictionaryKey = autoCompleteQueryExecutor.getAutoCompleteDictionaryKey();
       return maybeAutoCompleteDictionaryKey.map(s -> autoCompleteQueryExecutor.executeAutoCompleteQuery(parameters, s))
           .orElse(null);
+    } else if (type == RediSearchQueryType.SKETCH) {
+      return sketchQueryExecutor.executeSketchQuery(parameters);
     } else {
       return null;
     }
@@ -365,10 +381,22 @@ public class RediSearchQuery implements RepositoryQuery {
   }
 
   private Object executeQuery(Object[] parameters) {
-    SearchOperations<String> ops = modulesOperations.opsForSearch(searchIndex);
+    String index = indexProfile != null && !indexProfile.isBlank()
+        ? ProfiledIndexes.profileIndexName(searchIndex, indexProfile)
+        : searchIndex;
+    SearchOperations<String> ops = modulesOperations.opsForSearch(index);
     String preparedQuery = prepareQuery(parameters);
     Query query = new Query(preparedQuery);
-    query.returnFields(returnFields);
+
+    ResultProcessor processor = queryMethod.getResultProcessor()
+        .withDynamicProjection(new ParametersParameterAccessor(queryMethod.getParameters(), parameters));
+    ReturnedType returnedType = processor.getReturnedType();
+    Map<String, Class<?>> projectedFields = getProjectedFields(returnedType);
+    if (!projectedFields.isEmpty()) {
+      query.returnFields(projectedFields.keySet().stream().map(m -> FieldName.of("$." + m).as(m)).toArray(FieldName[]::new));
+    } else {
+      query.returnFields(returnFields);
+    }
 
     Optional<Pageable> maybePageable = Optional.empty();
 
@@ -418,7 +446,9 @@ public class RediSearchQuery implements RepositoryQuery {
       }
     }
 
-    SearchResult searchResult = ops.search(query);
+    SearchResult searchResult = cacheResults
+        ? modulesOperations.getSearchResultCache().get(searchIndex, index, query, () -> ops.search(query))
+        : ops.search(query);
 
     // what to return
     Object result = null;
@@ -426,7 +456,7 @@ public class RediSearchQuery implements RepositoryQuery {
       result = searchResult;
     } else if (queryMethod.isPageQuery()) {
       List<Object> content = searchResult.getDocuments().stream()
-          .map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), queryMethod.getReturnedObjectType()))
+          .map(d -> decode(d, processor, projectedFields))
           .collect(Collectors.toList());
 
       if (maybePageable.isPresent()) {
@@ -434,21 +464,54 @@ public class RediSearchQuery implements RepositoryQuery {
         result = new PageImpl<>(content, pageable, searchResult.getTotalResults());
       }
 
-    } else if (queryMethod.isQueryForEntity() && !queryMethod.isCollectionQuery()) {
+    } else if ((queryMethod.isQueryForEntity() || returnedType.isProjecting()) && !queryMethod.isCollectionQuery()) {
       if (!searchResult.getDocuments().isEmpty()) {
         Document doc = searchResult.getDocuments().get(0);
-        Object json = doc != null ? SafeEncoder.encode((byte[])doc.get("$")) : "";
-        result = gson.fromJson(json.toString(), queryMethod.getReturnedObjectType());
+        result = doc != null ? decode(doc, processor, projectedFields) : null;
       }
-    } else if (queryMethod.isQueryForEntity() && queryMethod.isCollectionQuery()) {
+    } else if ((queryMethod.isQueryForEntity() || returnedType.isProjecting()) && queryMethod.isCollectionQuery()) {
       result = searchResult.getDocuments().stream()
-          .map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), queryMethod.getReturnedObjectType()))
+          .map(d -> decode(d, processor, projectedFields))
           .collect(Collectors.toList());
     }
 
     return result;
   }
 
+  /**
+   * @return the type of each top-level field to fetch for a closed interface
+   * or DTO projection, by the name of the JSON member holding it, or empty if
+   * the whole document has to be read, e.g. for open projections, explicit
+   * return fields, or properties that are not fields of the entity
+   */
+  private Map<String, Class<?>> getProjectedFields(ReturnedType returnedType) {
+    if (returnFields.length > 0 || !returnedType.isProjecting()) {
+      return Map.of();
+    }
+    Map<String, Class<?>> typesByMember = new LinkedHashMap<>();
+    for (String property : returnedType.getInputProperties()) {
+      Field field = ReflectionUtils.findField(domainType, property);
+      if (field == null) {
+        return Map.of();
+      }
+      typesByMember.put(codec.memberNameOf(field), field.getType());
+    }
+    return typesByMember;
+  }
+
+  private Object decode(Document document, ResultProcessor processor, Map<String, Class<?>> projectedFields) {
+    ReturnedType returnedType = processor.getReturnedType();
+    if (!returnedType.isProjecting()) {
+      return codec.fromJson(SafeEncoder.encode((byte[]) document.get("$")), queryMethod.getReturnedObjectType());
+    }
+    String json = projectedFields.isEmpty() ? SafeEncoder.encode((byte[]) document.get("$"))
+        : ObjectUtils.returnedFieldsToJson(document.getProperties(), projectedFields);
+    // DTOs are read straight from the (partial) document, interfaces are
+    // backed by a (partially populated) entity
+    Class<?> typeToRead = returnedType.getReturnedType().isInterface() ? domainType : returnedType.getReturnedType();
+    return processor.processResult(codec.fromJson(json, typeToRead));
+  }
+
   private Object executeAggregation(Object[] parameters) {
     SearchOperations<String> ops = modulesOperations.opsForSearch(searchIndex);
 
@@ -6,6 +6,7 @@ import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteQueryExecutor;
 import com.redis.om.spring.repository.query.bloom.BloomQueryExecutor;
+import com.redis.om.spring.repository.query.sketches.SketchQueryExecutor;
 import com.redis.om.spring.repository.query.clause.QueryClause;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
@@ -17,7 +18,6 @@ import org.springframework.data.geo.Point;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.QueryMethod;
@@ -84,6 +84,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
 
   private final BloomQueryExecutor bloomQueryExecutor;
   private final AutoCompleteQueryExecutor autoCompleteQueryExecutor;
+  private final SketchQueryExecutor sketchQueryExecutor;
 
   private boolean isANDQuery = false;
 
@@ -102,10 +103,11 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     this.searchIndex = this.queryMethod.getEntityInformation().getJavaType().getName() + "Idx";
     this.domainType = this.queryMethod.getEntityInformation().getJavaType();
 
-    this.mappingConverter = new MappingRedisOMConverter(null, new ReferenceResolverImpl(redisOperations));
+    this.mappingConverter = modulesOperations.getMappingConverter();
 
     bloomQueryExecutor = new BloomQueryExecutor(this, modulesOperations);
     autoCompleteQueryExecutor = new AutoCompleteQueryExecutor(this, modulesOperations);
+    sketchQueryExecutor = new SketchQueryExecutor(this, modulesOperations);
 
     Class<?> repoClass = metadata.getRepositoryInterface();
     @SuppressWarnings("rawtypes")
@@ -199,6 +201,8 @@ public class RedisEnhancedQuery implements RepositoryQuery {
         this.value = ObjectUtils.lcfirst(queryMethod.getName().substring(6));
       } else if (queryMethod.getName().startsWith(AutoCompleteQueryExecutor.AUTOCOMPLETE_PREFIX)) {
         this.type = RediSearchQueryType.AUTOCOMPLETE;
+      } else if (SketchQueryExecutor.isSketchQuery(queryMethod.getName())) {
+        this.type = RediSearchQueryType.SKETCH;
       } else {
         isANDQuery = QueryClause.hasContainingAllClause(queryMethod.getName());
 
@@ -352,6 +356,8 @@ public class RedisEnhancedQuery implements RepositoryQuery {
       Optional<String> maybeAutoCompleteDictionaryKey = autoCompleteQueryExecutor.getAutoCompleteDictionaryKey();
       return maybeAutoCompleteDictionaryKey.map(s -> autoCompleteQueryExecutor.executeAutoCompleteQuery(parameters, s))
           .orElse(null);
+    } else if (type == RediSearchQueryType.SKETCH) {
+      return sketchQueryExecutor.executeSketchQuery(parameters);
     } else {
       return null;
     }
@@ -29,6 +29,15 @@ public class AutoCompleteQueryExecutor {
   }
 
   public Optional<String> getAutoCompleteDictionaryKey() {
+    Class<?> entityClass = query.getQueryMethod().getEntityInformation().getJavaType();
+    return getAutoCompleteField().map(field -> {
+      AutoComplete bloom = field.getAnnotation(AutoComplete.class);
+      return !org.apache.commons.lang3.ObjectUtils.isEmpty(bloom.name()) ? bloom.name()
+          : String.format(Suggestion.KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName());
+    });
+  }
+
+  private Optional<Field> getAutoCompleteField() {
     String methodName = query.getQueryMethod().getName();
     boolean hasExistByPrefix = methodName.startsWith(AUTOCOMPLETE_PREFIX);
     if (hasExistByPrefix && query.getQueryMethod().isCollectionQuery()) {
@@ -39,13 +48,8 @@ public class AutoCompleteQueryExecutor {
 
       try {
         Field field = ReflectionUtils.findField(entityClass, targetProperty);
-        if (field == null) {
-          return Optional.empty();
-        }
-        if (field.isAnnotationPresent(AutoComplete.class)) {
-          AutoComplete bloom = field.getAnnotation(AutoComplete.class);
-          return Optional.of(!org.apache.commons.lang3.ObjectUtils.isEmpty(bloom.name()) ? bloom.name()
-              : String.format(Suggestion.KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName()));
+        if (field != null && field.isAnnotationPresent(AutoComplete.class)) {
+          return Optional.of(field);
         }
       } catch (SecurityException e) {
         return Optional.empty();
@@ -58,11 +62,15 @@ public class AutoCompleteQueryExecutor {
     logger.debug(String.format("Autocomplete Query: key:%s, params:%s", autoCompleteKey, Arrays.toString(parameters)));
     SearchOperations<String> ops = modulesOperations.opsForSearch(autoCompleteKey);
 
-    if ((parameters.length > 1) && (parameters[1].getClass() == AutoCompleteOptions.class)) {
-      AutoCompleteOptions options = (AutoCompleteOptions)parameters[1];
-      return ops.getSuggestion(autoCompleteKey, parameters[0].toString(), options);
-    } else {
-      return ops.getSuggestion(autoCompleteKey, parameters[0].toString());
-    }
+    String prefix = parameters[0].toString();
+    AutoCompleteOptions options = (parameters.length > 1) && (parameters[1].getClass() == AutoCompleteOptions.class)
+        ? (AutoCompleteOptions) parameters[1] : AutoCompleteOptions.get();
+    boolean cached = getAutoCompleteField().map(field -> field.getAnnotation(AutoComplete.class).cached())
+        .orElse(false);
+
+    return cached
+        ? modulesOperations.getSuggestionCache().get(autoCompleteKey, prefix, options,
+            () -> ops.getSuggestion(autoCompleteKey, prefix, options))
+        : ops.getSuggestion(autoCompleteKey, prefix, options);
   }
 }
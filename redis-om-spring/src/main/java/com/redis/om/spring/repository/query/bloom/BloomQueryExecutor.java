@@ -1,6 +1,7 @@
 package com.redis.om.spring.repository.query.bloom;
 
 import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.bloom.BloomFilters;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.pds.BloomOperations;
 import com.redis.om.spring.util.ObjectUtils;
@@ -53,6 +54,6 @@ public class BloomQueryExecutor {
   public Object executeBloomQuery(Object[] parameters, String bloomFilter) {
     logger.debug(String.format("filter:%s, params:%s", bloomFilter, Arrays.toString(parameters)));
     BloomOperations<String> ops = modulesOperations.opsForBloom();
-    return ops.exists(bloomFilter, parameters[0].toString());
+    return ops.exists(bloomFilter, BloomFilters.valueOf(parameters[0]));
   }
 }
@@ -137,7 +137,7 @@ public enum QueryClause {
   private static final String FIELD_GEO_NEAR = "@$field:[$param_0 $param_1 $param_2]";
 
   private final QueryClauseTemplate clauseTemplate;
-  private final MappingRedisOMConverter converter = new MappingRedisOMConverter();
+  private static final MappingRedisOMConverter converter = new MappingRedisOMConverter();
 
   QueryClause(QueryClauseTemplate value) {
     this.clauseTemplate = value;
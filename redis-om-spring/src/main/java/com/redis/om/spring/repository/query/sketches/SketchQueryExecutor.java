@@ -0,0 +1,87 @@
+package com.redis.om.spring.repository.query.sketches;
+
+import com.redis.om.spring.annotations.CountMin;
+import com.redis.om.spring.annotations.TopK;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.sketches.Sketches;
+import com.redis.om.spring.util.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Answers {@code topKBy<Field>()} from the {@link TopK} sketch of the field (as
+ * a list of values, or a map of values to their estimated counts), and
+ * {@code estimateCountBy<Field>(value)} from its {@link CountMin} sketch.
+ */
+public class SketchQueryExecutor {
+
+  private static final Log logger = LogFactory.getLog(SketchQueryExecutor.class);
+  public static final String TOP_K_BY_PREFIX = "topKBy";
+  public static final String ESTIMATE_COUNT_BY_PREFIX = "estimateCountBy";
+  final RepositoryQuery query;
+  final RedisModulesOperations<String> modulesOperations;
+
+  public SketchQueryExecutor(RepositoryQuery query, RedisModulesOperations<String> modulesOperations) {
+    this.query = query;
+    this.modulesOperations = modulesOperations;
+  }
+
+  public static boolean isSketchQuery(String methodName) {
+    return methodName.startsWith(TOP_K_BY_PREFIX) || methodName.startsWith(ESTIMATE_COUNT_BY_PREFIX);
+  }
+
+  public Optional<String> getTopK() {
+    return getField(TOP_K_BY_PREFIX).filter(field -> field.isAnnotationPresent(TopK.class))
+        .map(field -> Sketches.topKNameOf(entityClass(), field, field.getAnnotation(TopK.class)));
+  }
+
+  public Optional<String> getCountMinSketch() {
+    return getField(ESTIMATE_COUNT_BY_PREFIX).filter(field -> field.isAnnotationPresent(CountMin.class))
+        .map(field -> Sketches.countMinNameOf(entityClass(), field, field.getAnnotation(CountMin.class)));
+  }
+
+  public Object executeSketchQuery(Object[] parameters) {
+    Optional<String> maybeTopK = getTopK();
+    if (maybeTopK.isPresent()) {
+      return executeTopKQuery(maybeTopK.get());
+    }
+    Optional<String> maybeCountMinSketch = getCountMinSketch();
+    if (maybeCountMinSketch.isPresent()) {
+      return executeEstimateCountQuery(parameters, maybeCountMinSketch.get());
+    }
+    logger.warn(String.format("%s names no @TopK or @CountMin field", query.getQueryMethod().getName()));
+    return null;
+  }
+
+  private Object executeTopKQuery(String topK) {
+    logger.debug(String.format("topK:%s", topK));
+    if (Map.class.isAssignableFrom(query.getQueryMethod().getReturnedObjectType())) {
+      return modulesOperations.opsForTopK().topkListWithCount(topK);
+    }
+    return modulesOperations.opsForTopK().topkList(topK).stream().filter(Objects::nonNull).toList();
+  }
+
+  private Object executeEstimateCountQuery(Object[] parameters, String countMinSketch) {
+    logger.debug(String.format("sketch:%s, params:%s", countMinSketch, Arrays.toString(parameters)));
+    return modulesOperations.opsForCountMinSketch().cmsQuery(countMinSketch, parameters[0].toString()).get(0);
+  }
+
+  private Optional<Field> getField(String prefix) {
+    String methodName = query.getQueryMethod().getName();
+    if (!methodName.startsWith(prefix)) {
+      return Optional.empty();
+    }
+    String targetProperty = ObjectUtils.firstToLowercase(methodName.substring(prefix.length()));
+    logger.debug(String.format("Target Property : %s", targetProperty));
+    return Optional.ofNullable(ReflectionUtils.findField(entityClass(), targetProperty));
+  }
+
+  private Class<?> entityClass() {
+    return query.getQueryMethod().getEntityInformation().getJavaType();
+  }
+}
@@ -1,9 +1,9 @@
 package com.redis.om.spring.repository.support;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.RediSearchIndexer;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.repository.query.RediSearchQuery;
+import com.redis.om.spring.serialization.DocumentCodec;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.query.KeyValuePartTreeQuery;
@@ -38,7 +38,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
   private final Class<? extends RepositoryQuery> repositoryQueryType;
   private final RedisModulesOperations<?> rmo;
   private final RediSearchIndexer indexer;
-  private final Gson gson;
+  private final DocumentCodec codec;
 
   private final RedisMappingContext mappingContext;
 
@@ -50,16 +50,16 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
    * @param rmo                must not be {@literal null}.
    * @param keyspaceToIndexMap must not be {@literal null}.
    * @param mappingContext     must not be {@literal null}.
-   * @param gson               must not be {@literal null}.
+   * @param codec              must not be {@literal null}.
    */
   public RedisDocumentRepositoryFactory( //
       KeyValueOperations keyValueOperations, //
       RedisModulesOperations<?> rmo, //
       RediSearchIndexer keyspaceToIndexMap, //
       RedisMappingContext mappingContext, //
-      Gson gson //
+      DocumentCodec codec //
   ) {
-    this(keyValueOperations, rmo, keyspaceToIndexMap, DEFAULT_QUERY_CREATOR, mappingContext, gson);
+    this(keyValueOperations, rmo, keyspaceToIndexMap, DEFAULT_QUERY_CREATOR, mappingContext, codec);
   }
 
   /**
@@ -71,7 +71,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
    * @param keyspaceToIndexMap must not be {@literal null}.
    * @param queryCreator       must not be {@literal null}.
    * @param mappingContext     must not be {@literal null}.
-   * @param gson               must not be {@literal null}.
+   * @param codec              must not be {@literal null}.
    */
   public RedisDocumentRepositoryFactory( //
       KeyValueOperations keyValueOperations, //
@@ -79,10 +79,10 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
       RediSearchIndexer keyspaceToIndexMap, //
       Class<? extends AbstractQueryCreator<?, ?>> queryCreator, //
       RedisMappingContext mappingContext, //
-      Gson gson //
+      DocumentCodec codec //
   ) {
 
-    this(keyValueOperations, rmo, keyspaceToIndexMap, queryCreator, RediSearchQuery.class, mappingContext, gson);
+    this(keyValueOperations, rmo, keyspaceToIndexMap, queryCreator, RediSearchQuery.class, mappingContext, codec);
   }
 
   /**
@@ -95,7 +95,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
    * @param queryCreator        must not be {@literal null}.
    * @param repositoryQueryType must not be {@literal null}.
    * @param mappingContext      must not be {@literal null}.
-   * @param gson                must not be {@literal null}. 
+   * @param codec               must not be {@literal null}. 
    */
   public RedisDocumentRepositoryFactory( //
       KeyValueOperations keyValueOperations, //
@@ -104,7 +104,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
       Class<? extends AbstractQueryCreator<?, ?>> queryCreator, //
       Class<? extends RepositoryQuery> repositoryQueryType, //
       RedisMappingContext mappingContext, //
-      Gson gson //
+      DocumentCodec codec //
   ) {
 
     super(keyValueOperations, queryCreator, repositoryQueryType);
@@ -117,14 +117,14 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
     this.queryCreator = queryCreator;
     this.repositoryQueryType = repositoryQueryType;
     this.mappingContext = mappingContext;
-    this.gson = gson;
+    this.codec = codec;
   }
 
   @Override
   protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
     EntityInformation<?, ?> entityInformation = getEntityInformation(repositoryInformation.getDomainType());
     return super.getTargetRepositoryViaReflection(
-        repositoryInformation, entityInformation, keyValueOperations, rmo, indexer, mappingContext, gson);
+        repositoryInformation, entityInformation, keyValueOperations, rmo, indexer, mappingContext, codec);
   }
 
   @Override
@@ -136,7 +136,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
   protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
       QueryMethodEvaluationContextProvider evaluationContextProvider) {
     return Optional.of(new RediSearchQueryLookupStrategy(evaluationContextProvider, this.keyValueOperations,
-        this.rmo, this.queryCreator, this.repositoryQueryType, this.gson));
+        this.rmo, this.queryCreator, this.repositoryQueryType, this.codec));
   }
 
   private static class RediSearchQueryLookupStrategy implements QueryLookupStrategy {
@@ -144,7 +144,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
     private final KeyValueOperations keyValueOperations;
     private final RedisModulesOperations<?> rmo;
-    private final Gson gson;
+    private final DocumentCodec codec;
 
     private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
     private final Class<? extends RepositoryQuery> repositoryQueryType;
@@ -157,7 +157,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
     public RediSearchQueryLookupStrategy(QueryMethodEvaluationContextProvider evaluationContextProvider, KeyValueOperations keyValueOperations,
         RedisModulesOperations<?> rmo, Class<? extends AbstractQueryCreator<?, ?>> queryCreator,
         Class<? extends RepositoryQuery> repositoryQueryType,
-        Gson gson) {
+        DocumentCodec codec) {
 
       Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
       Assert.notNull(keyValueOperations, "KeyValueOperations must not be null!");
@@ -170,7 +170,7 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
       this.rmo = rmo;
       this.queryCreator = queryCreator;
       this.repositoryQueryType = repositoryQueryType;
-      this.gson = gson;
+      this.codec = codec;
     }
 
     /*
@@ -193,14 +193,14 @@ public class RedisDocumentRepositoryFactory extends KeyValueRepositoryFactory {
       Constructor<? extends KeyValuePartTreeQuery> constructor = (Constructor<? extends KeyValuePartTreeQuery>) ClassUtils
           .getConstructorIfAvailable(this.repositoryQueryType, QueryMethod.class, RepositoryMetadata.class,
               QueryMethodEvaluationContextProvider.class, KeyValueOperations.class, RedisModulesOperations.class,
-              Class.class, Gson.class);
+              Class.class, DocumentCodec.class);
 
       Assert.state(constructor != null, String.format(
           "Constructor %s(QueryMethod, EvaluationContextProvider, KeyValueOperations, RedisModulesOperations, Class) not available!",
           ClassUtils.getShortName(this.repositoryQueryType)));
 
       return BeanUtils.instantiateClass(constructor, queryMethod, metadata, evaluationContextProvider,
-          this.keyValueOperations, this.rmo, this.queryCreator, this.gson);
+          this.keyValueOperations, this.rmo, this.queryCreator, this.codec);
     }
   }
 }
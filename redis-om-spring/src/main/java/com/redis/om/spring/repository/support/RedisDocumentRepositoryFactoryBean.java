@@ -1,8 +1,8 @@
 package com.redis.om.spring.repository.support;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.RediSearchIndexer;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.serialization.DocumentCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactoryBean;
@@ -23,7 +23,7 @@ public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S,
   @Autowired
   private @Nullable RedisMappingContext mappingContext;
   @Autowired
-  private Gson gson;
+  private DocumentCodec codec;
 
   /**
    * Creates a new {@link RedisDocumentRepositoryFactoryBean} for the given
@@ -43,7 +43,7 @@ public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S,
       Class<? extends RepositoryQuery> repositoryQueryType //
   ) {
     return new RedisDocumentRepositoryFactory(operations, rmo, indexer, queryCreator, repositoryQueryType,
-        this.mappingContext, this.gson);
+        this.mappingContext, this.codec);
   }
 
   @Override
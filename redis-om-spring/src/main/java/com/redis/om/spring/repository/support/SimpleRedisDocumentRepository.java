@@ -1,15 +1,20 @@
 package com.redis.om.spring.repository.support;
 
 import com.google.common.collect.Lists;
-import com.google.gson.Gson;
+import com.redis.om.spring.CustomRedisKeyValueTemplate;
 import com.redis.om.spring.RediSearchIndexer;
+import com.redis.om.spring.RedisJSONKeyValueAdapter;
+import com.redis.om.spring.bloom.IdFilters;
+import com.redis.om.spring.bloom.UniqueFilters;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.RedisDocumentRepository;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.serialization.gson.GsonListOfType;
+import com.redis.om.spring.sketches.DistinctCounts;
 import com.redis.om.spring.util.ObjectUtils;
 import lombok.NonNull;
 import org.springframework.beans.PropertyAccessor;
@@ -28,7 +33,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.RedisData;
-import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.util.Assert;
@@ -36,6 +40,7 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.json.Path;
 import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.search.Query;
@@ -48,6 +53,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -60,7 +66,7 @@ import static redis.clients.jedis.json.JsonProtocol.JsonCommand;
 public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueRepository<T, ID>
     implements RedisDocumentRepository<T, ID> {
 
-  private final Gson gson;
+  private final DocumentCodec codec;
   protected final RedisModulesOperations<String> modulesOperations;
   protected final EntityInformation<T, ID> metadata;
   protected final KeyValueOperations operations;
@@ -68,6 +74,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
   protected final MappingRedisOMConverter mappingConverter;
   private final ULIDIdentifierGenerator generator;
 
+  private final DistinctCounts distinctCounts;
+
   private final RedisMappingContext mappingContext;
 
   @SuppressWarnings("unchecked")
@@ -77,16 +85,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       @Qualifier("redisModulesOperations") RedisModulesOperations<?> rmo, //
       RediSearchIndexer keyspaceToIndexMap, //
       RedisMappingContext mappingContext,
-      Gson gson) {
+      DocumentCodec codec) {
     super(metadata, operations);
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
     this.metadata = metadata;
     this.operations = operations;
     this.indexer = keyspaceToIndexMap;
-    this.mappingConverter = new MappingRedisOMConverter(null,
-        new ReferenceResolverImpl(modulesOperations.getTemplate()));
+    this.mappingConverter = modulesOperations.getMappingConverter();
     this.generator = ULIDIdentifierGenerator.INSTANCE;
-    this.gson = gson;
+    this.distinctCounts = modulesOperations.getDistinctCounts();
+    this.codec = codec;
     this.mappingContext = mappingContext;
   }
 
@@ -105,7 +113,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       SearchResult searchResult = searchOps.search(query);
 
       result = searchResult.getDocuments().stream()
-          .map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get(idField)), metadata.getIdType()))
+          .map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get(idField)), metadata.getIdType()))
           .toList();
     }
 
@@ -124,13 +132,39 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public void deleteById(ID id, Path path) {
-    modulesOperations.opsForJSON().del(getKey(id), path);
+    String key = getKey(id);
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    boolean hasUniqueFields = uniqueFilters.hasUniqueFields(metadata.getJavaType());
+    Map<String, String> previousUniqueValues = hasUniqueFields
+        ? uniqueFilters.storedValuesOf(metadata.getJavaType(), key) : Map.of();
+    Long deleted = modulesOperations.opsForJSON().del(key, path);
+    if (Path.ROOT_PATH.equals(path) && deleted != null && deleted > 0) {
+      indexer.getIdFilters().removed(metadata.getJavaType(), id);
+      indexer.forgetKey(getKeyspace() + id.toString());
+    }
+    if (hasUniqueFields) {
+      uniqueFilters.saved(previousUniqueValues, uniqueFilters.storedValuesOf(metadata.getJavaType(), key));
+    }
+    indexer.invalidateSearchResults(metadata.getJavaType());
   }
 
   @Override
   public void updateField(T entity, MetamodelField<T, ?> field, Object value) {
-    modulesOperations.opsForJSON().set(getKey(metadata.getId(entity)), value,
-        Path.of("$." + field.getSearchAlias()));
+    String key = getKey(metadata.getId(entity));
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    boolean hasUniqueFields = uniqueFilters.hasUniqueFields(metadata.getJavaType());
+    Map<String, String> previousUniqueValues = hasUniqueFields
+        ? uniqueFilters.storedValuesOf(metadata.getJavaType(), key) : Map.of();
+    modulesOperations.opsForJSON().set(key, value, Path.of("$." + field.getSearchAlias()));
+    if (operations instanceof CustomRedisKeyValueTemplate template
+        && template.getAdapter() instanceof RedisJSONKeyValueAdapter adapter) {
+      adapter.fieldUpdated(entity, field.getSearchAlias(), value);
+    }
+    if (hasUniqueFields) {
+      uniqueFilters.saved(previousUniqueValues,
+          uniqueFilters.withValue(metadata.getJavaType(), previousUniqueValues, fieldNameOf(field), value));
+    }
+    indexer.invalidateSearchResults(metadata.getJavaType());
   }
 
   @SuppressWarnings("unchecked")
@@ -142,16 +176,75 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         .toList();
   }
 
+  @Override
+  public Optional<T> findById(ID id) {
+    Assert.notNull(id, "The given id must not be null!");
+    if (!indexer.getIdFilters().mightExist(metadata.getJavaType(), id)) {
+      return Optional.empty();
+    }
+    return super.findById(id);
+  }
+
+  @Override
+  public boolean existsById(ID id) {
+    Assert.notNull(id, "The given id must not be null!");
+    return indexer.getIdFilters().mightExist(metadata.getJavaType(), id) && super.existsById(id);
+  }
+
+  @Override
+  public Optional<T> findById(ID id, String... fields) {
+    Assert.notNull(id, "The given id must not be null!");
+    if (!indexer.getIdFilters().mightExist(metadata.getJavaType(), id)) {
+      return Optional.empty();
+    }
+    String[] paths = Arrays.stream(fields).map(f -> ObjectUtils.jsonPathOf(metadata.getJavaType(), f, codec))
+        .toArray(String[]::new);
+    return Optional.ofNullable(modulesOperations.opsForJSON().getFields(getKey(id), metadata.getJavaType(), paths));
+  }
+
   @Override
   public Long getExpiration(ID id) {
     RedisTemplate<String, String> template = modulesOperations.getTemplate();
     return template.getExpire(getKey(id));
   }
 
+  @Override
+  public boolean isUnique(MetamodelField<T, ?> field, Object value) {
+    return indexer.getUniqueFilters().isUnique(metadata.getJavaType(), fieldNameOf(field), field.getSearchAlias(),
+        value);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), null, null, null);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field, Object byValue) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), byValue, null, null);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field, Instant from, Instant to) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), null, from, to);
+  }
+
+  private String fieldNameOf(MetamodelField<T, ?> field) {
+    return field.getSearchFieldAccessor() != null ? field.getSearchFieldAccessor().getField().getName()
+        : field.getSearchAlias();
+  }
+
   @Override
   public <S extends T> List<S> saveAll(Iterable<S> entities) {
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
     List<S> saved = new ArrayList<>();
+    IdFilters idFilters = indexer.getIdFilters();
+    boolean tracksNewIds = idFilters.tracksDeletes(metadata.getJavaType());
+    Map<Object, Response<Boolean>> existed = new LinkedHashMap<>();
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    boolean hasUniqueFields = uniqueFilters.hasUniqueFields(metadata.getJavaType());
+    Map<Object, Map<String, String>> previousUniqueValues = hasUniqueFields ? previousUniqueValuesOf(entities)
+        : Map.of();
 
     try (Jedis jedis = modulesOperations.getClient().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
@@ -166,7 +259,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
 
         String keyspace = keyValueEntity.getKeySpace();
-        byte[] objectKey = createKey(keyspace, id.toString());
+        byte[] objectKey = mappingConverter.toBytes(indexer.keyFor(entity, keyspace + ":" + id));
 
         processAuditAnnotations(entity, isNew);
 
@@ -178,7 +271,10 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         List<byte[]> args = new ArrayList<>(4);
         args.add(objectKey);
         args.add(SafeEncoder.encode(Path.ROOT_PATH.toString()));
-        args.add(SafeEncoder.encode(this.gson.toJson(entity)));
+        args.add(SafeEncoder.encode(this.codec.toJson(entity)));
+        if (tracksNewIds) {
+          existed.put(id, pipeline.exists(objectKey));
+        }
         pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
 
         processReferenceAnnotations(objectKey, entity, pipeline);
@@ -189,32 +285,64 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       }
       pipeline.sync();
     }
+    idFilters.addedAll(metadata.getJavaType(), tracksNewIds
+        ? existed.entrySet().stream().filter(e -> !e.getValue().get()).map(Map.Entry::getKey).toList()
+        : saved.stream().map(metadata::getId).toList());
+    if (hasUniqueFields) {
+      uniqueFilters.savedAll(
+          saved.stream().map(entity -> previousUniqueValues.getOrDefault(metadata.getId(entity), Map.of())).toList(),
+          saved.stream().map(uniqueFilters::valuesOf).toList());
+    }
+    indexer.invalidateSearchResults(metadata.getJavaType());
 
     return saved;
   }
 
   @Override public Iterable<T> bulkLoad(String file) throws IOException {
     try (Reader reader = Files.newBufferedReader(Paths.get(file))) {
-      List<T> entities = gson.fromJson(reader, new GsonListOfType<>(metadata.getJavaType()));
+      List<T> entities = codec.fromJson(reader, new GsonListOfType<>(metadata.getJavaType()));
       return saveAll(entities);
     }
   }
 
   @Override
   public @NonNull List<T> findAllById(Iterable<ID> ids) {
-    String[] keys = StreamSupport.stream(ids.spliterator(), false).map(this::getKey).toArray(String[]::new);
+    List<ID> candidates = indexer.getIdFilters()
+        .mightExist(metadata.getJavaType(), StreamSupport.stream(ids.spliterator(), false).toList());
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    String[] keys = getKeys(candidates).toArray(String[]::new);
 
     return modulesOperations.opsForJSON()
         .mget(metadata.getJavaType(), keys).stream()
         .toList();
   }
 
+  // the unique values stored for the entities that are not new, by id
+  private Map<Object, Map<String, String>> previousUniqueValuesOf(Iterable<? extends T> entities) {
+    List<Object> ids = StreamSupport.stream(entities.spliterator(), false).filter(entity -> !metadata.isNew(entity))
+        .map(metadata::getId).collect(Collectors.toList());
+    List<Map<String, String>> values = indexer.getUniqueFilters()
+        .storedValuesOf(metadata.getJavaType(), getKeys(ids));
+    Map<Object, Map<String, String>> valuesById = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      valuesById.put(ids.get(i), values.get(i));
+    }
+    return valuesById;
+  }
+
   private String getKeyspace() {
     return indexer.getKeyspaceForEntityClass(metadata.getJavaType());
   }
 
+  // the key under the partition holding the entity, for time-partitioned entities
   private String getKey(Object id) {
-    return getKeyspace() + id.toString();
+    return indexer.resolveKey(getKeyspace() + id.toString());
+  }
+
+  private List<String> getKeys(List<?> ids) {
+    return indexer.resolveKeys(ids.stream().map(id -> getKeyspace() + id.toString()).toList());
   }
 
   public byte[] createKey(String keyspace, String id) {
@@ -259,7 +387,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
             List<byte[]> args = new ArrayList<>(4);
             args.add(objectKey);
             args.add(SafeEncoder.encode(Path.of("$." + f.getName()).toString()));
-            args.add(SafeEncoder.encode(this.gson.toJson(referenceKeys)));
+            args.add(SafeEncoder.encode(this.codec.toJson(referenceKeys)));
             pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
 
           } else {
@@ -270,7 +398,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
               List<byte[]> args = new ArrayList<>(4);
               args.add(objectKey);
               args.add(SafeEncoder.encode(Path.of("$." + f.getName()).toString()));
-              args.add(SafeEncoder.encode(this.gson.toJson(referenceKey)));
+              args.add(SafeEncoder.encode(this.codec.toJson(referenceKey)));
               pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
             }
           }
@@ -4,12 +4,15 @@ import com.google.common.collect.Lists;
 import com.redis.om.spring.RediSearchIndexer;
 import com.redis.om.spring.RedisEnhancedKeyValueAdapter;
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.bloom.IdFilters;
+import com.redis.om.spring.bloom.UniqueFilters;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
+import com.redis.om.spring.sketches.DistinctCounts;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.FeatureExtractor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,18 +25,22 @@ import org.springframework.data.keyvalue.repository.support.SimpleKeyValueReposi
 import org.springframework.data.redis.core.PartialUpdate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.convert.RedisData;
-import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
 
 import java.lang.reflect.Field;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -53,6 +60,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
   protected final FeatureExtractor featureExtractor;
 
   private final ULIDIdentifierGenerator generator;
+  private final DistinctCounts distinctCounts;
 
   @SuppressWarnings("unchecked")
   public SimpleRedisEnhancedRepository( //
@@ -67,10 +75,10 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     this.metadata = metadata;
     this.operations = operations;
     this.indexer = indexer;
-    this.mappingConverter = new MappingRedisOMConverter(null,
-        new ReferenceResolverImpl(modulesOperations.getTemplate()));
+    this.mappingConverter = modulesOperations.getMappingConverter();
     this.enhancedKeyValueAdapter = new RedisEnhancedKeyValueAdapter(rmo.getTemplate(), rmo, indexer, featureExtractor);
     this.generator = ULIDIdentifierGenerator.INSTANCE;
+    this.distinctCounts = modulesOperations.getDistinctCounts();
     this.auditor = new EntityAuditor(modulesOperations.getTemplate());
     this.featureExtractor = featureExtractor;
   }
@@ -135,6 +143,53 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return template.getExpire(getKey(id));
   }
 
+  @Override
+  public boolean isUnique(MetamodelField<T, ?> field, Object value) {
+    return indexer.getUniqueFilters().isUnique(metadata.getJavaType(), fieldNameOf(field), field.getSearchAlias(),
+        value);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), null, null, null);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field, Object byValue) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), byValue, null, null);
+  }
+
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field, Instant from, Instant to) {
+    return distinctCounts.countDistinct(metadata.getJavaType(), fieldNameOf(field), null, from, to);
+  }
+
+  private String fieldNameOf(MetamodelField<T, ?> field) {
+    return field.getSearchFieldAccessor() != null ? field.getSearchFieldAccessor().getField().getName()
+        : field.getSearchAlias();
+  }
+
+  @Override
+  public Optional<T> findById(ID id) {
+    Assert.notNull(id, "The given id must not be null!");
+    if (!indexer.getIdFilters().mightExist(metadata.getJavaType(), id)) {
+      return Optional.empty();
+    }
+    return super.findById(id);
+  }
+
+  @Override
+  public boolean existsById(ID id) {
+    Assert.notNull(id, "The given id must not be null!");
+    return indexer.getIdFilters().mightExist(metadata.getJavaType(), id) && super.existsById(id);
+  }
+
+  @Override
+  public List<T> findAllById(Iterable<ID> ids) {
+    return IterableConverter.toList(super.findAllById(indexer.getIdFilters()
+        .mightExist(metadata.getJavaType(), StreamSupport.stream(ids.spliterator(), false).toList())));
+  }
+
   /* (non-Javadoc)
    * 
    * @see org.springframework.data.repository.CrudRepository#findAll() */
@@ -210,23 +265,51 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     }
   }
 
+  // the unique values stored for the entities that are not new, by id
+  private Map<Object, Map<String, String>> previousUniqueValuesOf(Iterable<? extends T> entities) {
+    List<Object> ids = StreamSupport.stream(entities.spliterator(), false).filter(entity -> !metadata.isNew(entity))
+        .map(metadata::getId).collect(Collectors.toList());
+    List<Map<String, String>> values = indexer.getUniqueFilters()
+        .storedValuesOf(metadata.getJavaType(), ids.stream().map(this::getKey).toList());
+    Map<Object, Map<String, String>> valuesById = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      valuesById.put(ids.get(i), values.get(i));
+    }
+    return valuesById;
+  }
+
   private String getKeyspace() {
     return indexer.getKeyspaceForEntityClass(metadata.getJavaType());
   }
   
+  // the key under the partition holding the entity, for time-partitioned entities
   private String getKey(Object id) {
-    return getKeyspace() + id.toString();
+    return indexer.resolveKey(getKeyspace() + id.toString());
   }
 
   @Override
   public <S extends T> List<S> saveAll(Iterable<S> entities) {
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
     List<S> saved = new ArrayList<>();
+    IdFilters idFilters = indexer.getIdFilters();
+    boolean tracksNewIds = idFilters.tracksDeletes(metadata.getJavaType());
+    Map<Object, Response<Boolean>> existed = new LinkedHashMap<>();
+    UniqueFilters uniqueFilters = indexer.getUniqueFilters();
+    boolean hasUniqueFields = uniqueFilters.hasUniqueFields(metadata.getJavaType());
+    Map<Object, Map<String, String>> previousUniqueValues = hasUniqueFields ? previousUniqueValuesOf(entities)
+        : Map.of();
+    List<byte[]> savedKeys = new ArrayList<>();
+
+    // the @Vectorize fields of the whole batch are embedded at once
+    List<S> batch = Lists.newArrayList(entities);
+    if (featureExtractor != null) {
+      featureExtractor.processEntities(batch);
+    }
 
     try (Jedis jedis = modulesOperations.getClient().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
 
-      for (S entity : entities) {
+      for (S entity : batch) {
         boolean isNew = metadata.isNew(entity);
 
         KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
@@ -234,15 +317,17 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
 
         String keyspace = keyValueEntity.getKeySpace();
-        byte[] objectKey = createKey(keyspace, id.toString());
 
         // process entity pre-save mutation entities
         auditor.processEntity(entity, isNew);
-        featureExtractor.processEntity(entity);
+        byte[] objectKey = mappingConverter.toBytes(indexer.keyFor(entity, keyspace + ":" + id));
 
         RedisData rdo = new RedisData();
         mappingConverter.write(entity, rdo);
 
+        if (tracksNewIds) {
+          existed.put(id, pipeline.exists(objectKey));
+        }
         pipeline.hmset(objectKey, rdo.getBucket().rawMap());
 
         if (expires(rdo)) {
@@ -250,9 +335,22 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         }
 
         saved.add(entity);
+        savedKeys.add(objectKey);
       }
       pipeline.sync();
     }
+    if (featureExtractor != null) {
+      featureExtractor.backfill(savedKeys, saved);
+    }
+    idFilters.addedAll(metadata.getJavaType(), tracksNewIds
+        ? existed.entrySet().stream().filter(e -> !e.getValue().get()).map(Map.Entry::getKey).toList()
+        : saved.stream().map(metadata::getId).toList());
+    if (hasUniqueFields) {
+      uniqueFilters.savedAll(
+          saved.stream().map(entity -> previousUniqueValues.getOrDefault(metadata.getId(entity), Map.of())).toList(),
+          saved.stream().map(uniqueFilters::valuesOf).toList());
+    }
+    indexer.invalidateSearchResults(metadata.getJavaType());
 
     return saved;
   }
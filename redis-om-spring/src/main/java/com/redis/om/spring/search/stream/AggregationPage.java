@@ -1,7 +1,7 @@
 package com.redis.om.spring.search.stream;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.util.ObjectUtils;
 import lombok.NonNull;
 import org.springframework.data.domain.*;
@@ -20,25 +20,25 @@ public class AggregationPage<E> implements Slice<E>, Serializable {
   private transient AggregationStream<E> aggregationStream;
   private long cursorId = -1;
   private AggregationResult aggregationResult;
-  private final transient Gson gson;
+  private final transient DocumentCodec codec;
   private final Class<E> entityClass;
   private final boolean isDocument;
   private final transient MappingRedisOMConverter mappingConverter;
 
-  public AggregationPage(AggregationStream<E> aggregationStream, Pageable pageable, Class<E> entityClass, Gson gson, MappingRedisOMConverter mappingConverter, boolean isDocument) {
+  public AggregationPage(AggregationStream<E> aggregationStream, Pageable pageable, Class<E> entityClass, DocumentCodec codec, MappingRedisOMConverter mappingConverter, boolean isDocument) {
     this.aggregationStream = aggregationStream;
     this.pageable = pageable;
     this.entityClass = entityClass;
-    this.gson = gson;
+    this.codec = codec;
     this.isDocument = isDocument;
     this.mappingConverter = mappingConverter;
   }
 
-  public AggregationPage(AggregationResult aggregationResult, Pageable pageable, Class<E> entityClass, Gson gson, MappingRedisOMConverter mappingConverter, boolean isDocument) {
+  public AggregationPage(AggregationResult aggregationResult, Pageable pageable, Class<E> entityClass, DocumentCodec codec, MappingRedisOMConverter mappingConverter, boolean isDocument) {
     this.aggregationResult = aggregationResult;
     this.pageable = pageable;
     this.entityClass = entityClass;
-    this.gson = gson;
+    this.codec = codec;
     this.cursorId = aggregationResult.getCursorId();
     this.isDocument = isDocument;
     this.mappingConverter = mappingConverter;
@@ -148,7 +148,7 @@ public class AggregationPage<E> implements Slice<E>, Serializable {
 
   List<E> toEntityList(AggregationResult aggregationResult) {
     if (isDocument) {
-      return aggregationResult.getResults().stream().map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
+      return aggregationResult.getResults().stream().map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
     } else {
       return aggregationResult.getResults().stream().map(h -> (E) ObjectUtils.mapToObject(h, entityClass, mappingConverter)).toList();
     }
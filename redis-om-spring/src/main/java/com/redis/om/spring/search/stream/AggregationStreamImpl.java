@@ -1,12 +1,12 @@
 package com.redis.om.spring.search.stream;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.annotations.ReducerFunction;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.tuple.Tuples;
 import com.redis.om.spring.util.ObjectUtils;
 import lombok.AllArgsConstructor;
@@ -16,7 +16,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
-import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import redis.clients.jedis.search.aggr.*;
 import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 import redis.clients.jedis.util.SafeEncoder;
@@ -31,7 +30,7 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   private Group currentGroup;
   private ReducerFieldPair currentReducer;
   private final MappingRedisOMConverter mappingConverter;
-  private final Gson gson;
+  private final DocumentCodec codec;
 
   private final SearchOperations<String> search;
   private final Set<String> returnFields = new LinkedHashSet<>();
@@ -49,15 +48,14 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   }
 
   @SafeVarargs
-  public AggregationStreamImpl(String searchIndex, RedisModulesOperations<String> modulesOperations, Gson gson, Class<E> entityClass, String query,
+  public AggregationStreamImpl(String searchIndex, RedisModulesOperations<String> modulesOperations, DocumentCodec codec, Class<E> entityClass, String query,
       MetamodelField<E, ?>... fields) {
     this.entityClass = entityClass;
     search = modulesOperations.opsForSearch(searchIndex);
     aggregation = new AggregationBuilder(query);
     isDocument = entityClass.isAnnotationPresent(Document.class);
-    this.gson = gson;
-    this.mappingConverter = new MappingRedisOMConverter(null,
-        new ReferenceResolverImpl(modulesOperations.getTemplate()));
+    this.codec = codec;
+    this.mappingConverter = modulesOperations.getMappingConverter();
     createAggregationGroup(fields);
   }
 
@@ -395,14 +393,14 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   public <R extends T> Slice<R> toList(PageRequest pageRequest, Class<?>... contentTypes) {
     applyCurrentGroupBy();
     aggregation.cursor(pageRequest.getPageSize(), -1);
-    return new AggregationPage(this, pageRequest, entityClass, gson, mappingConverter, isDocument );
+    return new AggregationPage(this, pageRequest, entityClass, codec, mappingConverter, isDocument );
   }
 
   @Override
   public <R extends T> Slice<R> toList(PageRequest pageRequest, Duration timeout, Class<?>... contentTypes) {
     applyCurrentGroupBy();
     aggregation.cursor(pageRequest.getPageSize(), timeout.toMillis());
-    return new AggregationPage(this, pageRequest, entityClass, gson, mappingConverter, isDocument);
+    return new AggregationPage(this, pageRequest, entityClass, codec, mappingConverter, isDocument);
   }
 
   private void applyCurrentGroupBy() {
@@ -445,7 +443,7 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
 
   List<E> toEntityList(AggregationResult aggregationResult) {
     if (isDocument) {
-      return aggregationResult.getResults().stream().map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
+      return aggregationResult.getResults().stream().map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
     } else {
       return aggregationResult.getResults().stream().map(h -> (E) ObjectUtils.mapToObject(h, entityClass, mappingConverter)).toList();
     }
@@ -1,22 +1,22 @@
 package com.redis.om.spring.search.stream;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.serialization.DocumentCodec;
 
 public class EntityStreamImpl implements EntityStream {
 
   final RedisModulesOperations<String> modulesOperations;
-  final Gson gson;
+  final DocumentCodec codec;
 
   @SuppressWarnings("unchecked")
-  public EntityStreamImpl(RedisModulesOperations<?> rmo, Gson gson) {
+  public EntityStreamImpl(RedisModulesOperations<?> rmo, DocumentCodec codec) {
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
-    this.gson = gson;
+    this.codec = codec;
   }
 
   @Override
   public <E> SearchStream<E> of(Class<E> entityClass) {
-    return new SearchStreamImpl<>(entityClass, modulesOperations, gson);
+    return new SearchStreamImpl<>(entityClass, modulesOperations, codec);
   }
 
 }
@@ -1,10 +1,10 @@
 package com.redis.om.spring.search.stream;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
+import com.redis.om.spring.serialization.DocumentCodec;
 import com.redis.om.spring.tuple.Tuple;
 import com.redis.om.spring.tuple.Tuples;
 import com.redis.om.spring.util.ObjectUtils;
@@ -36,7 +36,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
   @SuppressWarnings("unused")
   private static final Log logger = LogFactory.getLog(ReturnFieldsSearchStreamImpl.class);
 
-  private final Gson gson;
+  private final DocumentCodec codec;
 
   private final SearchStreamImpl<E> entitySearchStream;
   private final List<MetamodelField<E, ?>> returning;
@@ -45,10 +45,10 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
   private final boolean useNoContent;
 
   public ReturnFieldsSearchStreamImpl(SearchStreamImpl<E> entitySearchStream, List<MetamodelField<E, ?>> returning,
-      Gson gson) {
+      DocumentCodec codec) {
     this.entitySearchStream = entitySearchStream;
     this.returning = returning;
-    this.gson = gson;
+    this.codec = codec;
     useNoContent = returning.size() == 1 && returning.get(0).getSearchFieldAccessor().getField().isAnnotationPresent(Id.class);
   }
 
@@ -269,7 +269,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
       Query query = entitySearchStream.prepareQuery();
       if (useNoContent) {
         query.setNoContent();
-        SearchResult searchResult = entitySearchStream.getOps().search(query);
+        SearchResult searchResult = entitySearchStream.search(query);
         String keySample = searchResult.getDocuments().get(0).getId();
         int idBegin = keySample.indexOf(":") + 1;
         resolvedStream = (Stream<T>) searchResult.getDocuments().stream().map(Document::getId).map(key -> key.substring(idBegin));
@@ -281,16 +281,16 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
         boolean resultSetHasNonIndexedFields = returning.stream().anyMatch(foi -> !foi.isIndexed());
 
         if (resultSetHasNonIndexedFields) {
-          SearchResult searchResult = entitySearchStream.getOps().search(query);
+          SearchResult searchResult = entitySearchStream.search(query);
 
-          List<E> entities = searchResult.getDocuments().stream().map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), entitySearchStream.getEntityClass())).toList();
+          List<E> entities = searchResult.getDocuments().stream().map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get("$")), entitySearchStream.getEntityClass())).toList();
 
           results = toResultTuple(entities, returnFields);
 
         } else {
 
           query.returnFields(returnFields);
-          results = toResultTuple(entitySearchStream.getOps().search(query), returnFields);
+          results = toResultTuple(entitySearchStream.search(query), returnFields);
         }
         resolvedStream = results.stream();
       }
@@ -326,7 +326,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
           } else if (targetClass == Boolean.class || isPrimitiveOfType(targetClass, Boolean.class)) {
             mappedResults.add(value.toString().equals("1"));
           } else {
-            mappedResults.add(gson.fromJson(value.toString(), targetClass));
+            mappedResults.add(codec.fromJson(value.toString(), targetClass));
           }
         } else {
           mappedResults.add(null);
@@ -412,10 +412,21 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     throw new UnsupportedOperationException("max is not supported on a ReturnFieldSearchStream");
   }
 
+  @Override
+  public long countDistinct(MetamodelField<T, ?> field) {
+    throw new UnsupportedOperationException("countDistinct is not supported on a ReturnFieldSearchStream");
+  }
+
   @Override public SearchStream<T> dialect(int dialect) {
     throw new UnsupportedOperationException("dialect is not supported on a ReturnFieldSearchStream");
   }
 
+  @Override
+  public SearchStream<T> cached() {
+    entitySearchStream.cached();
+    return this;
+  }
+
   @Override
   public <R> AggregationStream<R> cursor(int i, Duration duration) {
     throw new UnsupportedOperationException("cursor is not supported on a ReturnFieldSearchStream");
@@ -101,8 +101,22 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
 
   Optional<E> max(NumericField<E, ?> field);
 
+  /**
+   * The approximate number of distinct values of a field, read from its
+   * HyperLogLog when the field is {@link com.redis.om.spring.annotations.CountDistinct}
+   * with {@code answerStreams} and the stream is not filtered, and aggregated
+   * with {@code COUNT_DISTINCTISH} otherwise.
+   */
+  long countDistinct(MetamodelField<E, ?> field);
+
   SearchStream<E> dialect(int dialect);
 
+  /**
+   * Serves the search from the search result cache when the same search was
+   * run since the last write to the entity's keyspace.
+   */
+  SearchStream<E> cached();
+
   <R> AggregationStream<R>  cursor(int i, Duration duration);
 
   SearchOperations<String> getSearchOperations();
@@ -1,7 +1,7 @@
 package com.redis.om.spring.search.stream;
 
-import com.google.gson.Gson;
 import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.ReducerFunction;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
@@ -11,6 +11,8 @@ import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.actions.TakesJSONOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
+import com.redis.om.spring.serialization.DocumentCodec;
+import com.redis.om.spring.sketches.DistinctCounts;
 import com.redis.om.spring.tuple.AbstractTupleMapper;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.TupleMapper;
@@ -21,7 +23,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Order;
-import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
 import redis.clients.jedis.search.aggr.AggregationResult;
@@ -45,14 +46,13 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   private static final Integer MAX_LIMIT = 10000;
 
-  @SuppressWarnings("unused")
   private final RedisModulesOperations<String> modulesOperations;
   private final SearchOperations<String> search;
   private final JSONOperations<String> json;
   private final String searchIndex;
   private final Class<E> entityClass;
   private Node rootNode = QueryBuilders.union();
-  private final Gson gson;
+  private final DocumentCodec codec;
   private Long limit;
   private Long skip;
   private SortedField sortBy;
@@ -64,14 +64,15 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   private final boolean isDocument;
   private final MappingRedisOMConverter mappingConverter;
   private int dialect = 1;
+  private boolean cached = false;
 
-  public SearchStreamImpl(Class<E> entityClass, RedisModulesOperations<String> modulesOperations, Gson gson) {
+  public SearchStreamImpl(Class<E> entityClass, RedisModulesOperations<String> modulesOperations, DocumentCodec codec) {
     this.modulesOperations = modulesOperations;
     this.entityClass = entityClass;
     searchIndex = entityClass.getName() + "Idx";
     search = modulesOperations.opsForSearch(searchIndex);
     json = modulesOperations.opsForJSON();
-    this.gson = gson;
+    this.codec = codec;
     Optional<Field> maybeIdField = ObjectUtils.getIdFieldForEntityClass(entityClass);
     if (maybeIdField.isPresent()) {
       idField = maybeIdField.get();
@@ -79,8 +80,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       throw new IllegalArgumentException(entityClass.getName() + " does not appear to have an ID field");
     }
     isDocument = entityClass.isAnnotationPresent(Document.class);
-    this.mappingConverter = new MappingRedisOMConverter(null,
-        new ReferenceResolverImpl(modulesOperations.getTemplate()));
+    this.mappingConverter = modulesOperations.getMappingConverter();
   }
 
   @Override
@@ -158,7 +158,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       return new WrapperSearchStream<>(resolveStream().map(mapper));
     }
 
-    return new ReturnFieldsSearchStreamImpl<>(this, returning, gson);
+    return new ReturnFieldsSearchStreamImpl<>(this, returning, codec);
   }
 
   @Override
@@ -297,7 +297,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   public long count() {
     Query query = (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString());
     query.limit(0, 0);
-    SearchResult searchResult = search.search(query);
+    SearchResult searchResult = search(query);
 
     return searchResult.getTotalResults();
   }
@@ -405,12 +405,18 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   }
 
   private SearchResult executeQuery() {
-    return search.search(prepareQuery());
+    return search(prepareQuery());
+  }
+
+  SearchResult search(Query query) {
+    return cached
+        ? modulesOperations.getSearchResultCache().get(searchIndex, query, () -> search.search(query))
+        : search.search(query);
   }
 
   private List<E> toEntityList(SearchResult searchResult) {
     if (isDocument) {
-      return searchResult.getDocuments().stream().map(d -> gson.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
+      return searchResult.getDocuments().stream().map(d -> codec.fromJson(SafeEncoder.encode((byte[])d.get("$")), entityClass)).toList();
     } else {
       return searchResult.getDocuments().stream().map(d -> (E)ObjectUtils.documentToObject(d, entityClass, mappingConverter)).toList();
     }
@@ -474,13 +480,13 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @SafeVarargs @Override
   public final <R> AggregationStream<R> groupBy(MetamodelField<E, ?>... fields) {
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    return new AggregationStreamImpl<>(searchIndex, modulesOperations, gson, entityClass, query, fields);
+    return new AggregationStreamImpl<>(searchIndex, modulesOperations, codec, entityClass, query, fields);
   }
 
   @Override
   public <R> AggregationStream<R> apply(String expression, String alias) {
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, gson, entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, codec, entityClass, query);
     aggregationStream.apply(expression, alias);
     return aggregationStream;
   }
@@ -488,7 +494,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @SafeVarargs @Override
   public final <R> AggregationStream<R> load(MetamodelField<E, ?>... fields) {
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, gson, entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, codec, entityClass, query);
     aggregationStream.load(fields);
     return aggregationStream;
   }
@@ -496,7 +502,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @Override
   public <R> AggregationStream<R> loadAll() {
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, gson, entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, codec, entityClass, query);
     aggregationStream.loadAll();
     return aggregationStream;
   }
@@ -504,7 +510,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @Override
   public <R> AggregationStream<R> cursor(int count, Duration timeout) {
     String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
-    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, gson, entityClass, query);
+    AggregationStream<R> aggregationStream = new AggregationStreamImpl<>(searchIndex, modulesOperations, codec, entityClass, query);
     aggregationStream.cursor(count, timeout);
     return aggregationStream;
   }
@@ -531,11 +537,36 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     return maxByField.isEmpty() ? Optional.empty() : Optional.of(json.get(maxByField.get(0).getFirst(), entityClass));
   }
 
+  @Override
+  public long countDistinct(MetamodelField<E, ?> field) {
+    String fieldName = field.getSearchFieldAccessor() != null ? field.getSearchFieldAccessor().getField().getName()
+        : field.getSearchAlias();
+    DistinctCounts distinctCounts = modulesOperations.getDistinctCounts();
+    if (knnPredicate == null && rootNode.toString().isBlank()
+        && distinctCounts.answersStreams(entityClass, fieldName)) {
+      return distinctCounts.countDistinct(entityClass, fieldName, null, null, null);
+    }
+
+    AggregationResult result = this //
+        .groupBy() //
+        .reduce(ReducerFunction.COUNT_DISTINCTISH, field) //
+        .as("distinct") //
+        .aggregate();
+
+    return result.getResults().isEmpty() ? 0 : result.getRow(0).getLong("distinct");
+  }
+
   @Override public SearchStream<E> dialect(int dialect) {
     this.dialect = dialect;
     return this;
   }
 
+  @Override
+  public SearchStream<E> cached() {
+    this.cached = true;
+    return this;
+  }
+
   @Override public SearchOperations<String> getSearchOperations() {
     return search;
   }
@@ -545,7 +576,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     if (pageable.getClass().isAssignableFrom(AggregationPageable.class)) {
       AggregationPageable ap = (AggregationPageable) pageable;
       AggregationResult ar = search.cursorRead(ap.getCursorId(), pageable.getPageSize());
-      return new AggregationPage<>(ar, pageable, entityClass, gson, mappingConverter, isDocument);
+      return new AggregationPage<>(ar, pageable, entityClass, codec, mappingConverter, isDocument);
     } else {
       return Page.empty(pageable);
     }
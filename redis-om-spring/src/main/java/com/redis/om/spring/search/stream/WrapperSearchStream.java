@@ -276,10 +276,20 @@ public class WrapperSearchStream<E> implements SearchStream<E> {
     throw new UnsupportedOperationException("max is not supported on a WrappedSearchStream");
   }
 
+  @Override
+  public long countDistinct(MetamodelField<E, ?> field) {
+    throw new UnsupportedOperationException("countDistinct is not supported on a WrappedSearchStream");
+  }
+
   @Override public SearchStream<E> dialect(int dialect) {
     throw new UnsupportedOperationException("dialect is not supported on a WrappedSearchStream");
   }
 
+  @Override
+  public SearchStream<E> cached() {
+    throw new UnsupportedOperationException("cached is not supported on a WrappedSearchStream");
+  }
+
   @Override
   public <R> AggregationStream<R> cursor(int i, Duration duration) {
     throw new UnsupportedOperationException("cursor is not supported on a WrappedSearchStream");
@@ -0,0 +1,38 @@
+package com.redis.om.spring.serialization;
+
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+/**
+ * Encodes entities into JSON documents and decodes JSON documents back into
+ * entities. Every JSON read/write path in the library (JSON operations,
+ * repositories, derived queries and entity streams) goes through the codec
+ * registered in the application context, so an alternative implementation
+ * can be plugged in by declaring a {@code DocumentCodec} bean or by setting
+ * {@code redis.om.spring.serialization.codec}.
+ */
+public interface DocumentCodec {
+
+  String toJson(Object object);
+
+  <T> T fromJson(String json, Class<T> type);
+
+  <T> T fromJson(String json, Type type);
+
+  <T> T fromJson(Reader reader, Type type);
+
+  default <T> T fromJson(byte[] json, Class<T> type) {
+    return json != null ? fromJson(SafeEncoder.encode(json), type) : null;
+  }
+
+  /**
+   * @return the name of the member a field of an entity is written to in its
+   * JSON document
+   */
+  default String memberNameOf(Field field) {
+    return field.getName();
+  }
+}
@@ -0,0 +1,131 @@
+package com.redis.om.spring.serialization.gson;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.internal.Excluder;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
+/**
+ * Base class for the reflection-free Gson {@link TypeAdapterFactory} emitted by
+ * the {@code MetamodelGenerator} for {@code @Document} entities when the
+ * {@code redis.om.spring.generateTypeAdapters} processor option is enabled.
+ * <p>
+ * Generated factories are discovered through {@link ServiceLoader} and
+ * registered on the {@code omGsonBuilder}. A factory steps aside (letting Gson
+ * fall back to its reflective adapter) whenever the {@link Gson} instance is
+ * configured in a way the generated code does not replicate, e.g. a custom
+ * field naming policy or exclusion rules that drop some of the fields.
+ *
+ * @param <T> the entity type
+ */
+public abstract class GeneratedTypeAdapterFactory<T> implements TypeAdapterFactory {
+  private static final Log logger = LogFactory.getLog(GeneratedTypeAdapterFactory.class);
+
+  private final Class<T> type;
+  private final Set<String> fieldNames;
+
+  protected GeneratedTypeAdapterFactory(Class<T> type, String... fieldNames) {
+    this.type = type;
+    this.fieldNames = Set.of(fieldNames);
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <X> TypeAdapter<X> create(Gson gson, TypeToken<X> typeToken) {
+    if (typeToken.getRawType() != type || !isCompatibleWith(gson)) {
+      return null;
+    }
+    return (TypeAdapter<X>) createAdapter(gson);
+  }
+
+  protected abstract TypeAdapter<T> createAdapter(Gson gson);
+
+  /**
+   * Writes a field value the way Gson's reflective adapter does: when the
+   * runtime type is more specific than the declared one, the runtime type's
+   * adapter wins unless it is reflective and the declared one is not.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  protected static <V> void writeValue(Gson gson, JsonWriter out, TypeAdapter<V> declaredAdapter, Class<?> declaredType,
+      V value) throws IOException {
+    if (value == null || value.getClass() == declaredType) {
+      declaredAdapter.write(out, value);
+      return;
+    }
+    TypeAdapter runtimeAdapter = gson.getAdapter(value.getClass());
+    if (!(runtimeAdapter instanceof ReflectiveTypeAdapterFactory.Adapter)
+        || (declaredAdapter instanceof ReflectiveTypeAdapterFactory.Adapter)) {
+      runtimeAdapter.write(out, value);
+    } else {
+      declaredAdapter.write(out, value);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private boolean isCompatibleWith(Gson gson) {
+    if (gson.fieldNamingStrategy() != FieldNamingPolicy.IDENTITY) {
+      return false;
+    }
+    Excluder excluder = gson.excluder();
+    if (excluder.excludeClass(type, true) || excluder.excludeClass(type, false)) {
+      return false;
+    }
+    Set<String> included = new HashSet<>();
+    for (Field field : getDeclaredFieldsTransitively(type)) {
+      if (Modifier.isStatic(field.getModifiers())) {
+        continue;
+      }
+      boolean serialized = !excluder.excludeField(field, true);
+      boolean deserialized = !excluder.excludeField(field, false);
+      if (serialized != deserialized) {
+        return false;
+      }
+      if (serialized) {
+        included.add(field.getName());
+      }
+    }
+    boolean compatible = included.equals(fieldNames);
+    if (!compatible) {
+      logger.debug(String.format("Generated type adapter for %s does not match Gson configuration, using reflection", type.getName()));
+    }
+    return compatible;
+  }
+
+  /**
+   * Loads every generated factory visible to the given class loader, skipping
+   * (and logging) stale registrations whose class can no longer be loaded.
+   */
+  @SuppressWarnings("rawtypes")
+  public static List<GeneratedTypeAdapterFactory> loadAll(ClassLoader classLoader) {
+    List<GeneratedTypeAdapterFactory> factories = new ArrayList<>();
+    Iterator<GeneratedTypeAdapterFactory> iterator = ServiceLoader.load(GeneratedTypeAdapterFactory.class, classLoader).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        }
+        factories.add(iterator.next());
+      } catch (ServiceConfigurationError e) {
+        logger.warn(String.format("Skipping generated type adapter: %s", e.getMessage()));
+      }
+    }
+    return factories;
+  }
+}
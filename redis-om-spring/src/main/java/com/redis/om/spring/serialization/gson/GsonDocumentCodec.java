@@ -0,0 +1,66 @@
+package com.redis.om.spring.serialization.gson;
+
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.serialization.DocumentCodec;
+
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Default {@link DocumentCodec}, backed by the {@link ReferenceAwareGsonBuilder}
+ * so that {@code @Reference} fields are resolved on deserialization.
+ */
+public class GsonDocumentCodec implements DocumentCodec {
+
+  private final ReferenceAwareGsonBuilder builder;
+
+  public GsonDocumentCodec(ReferenceAwareGsonBuilder builder) {
+    this.builder = builder;
+  }
+
+  @Override
+  public String toJson(Object object) {
+    return builder.gson().toJson(object);
+  }
+
+  @Override
+  public <T> T fromJson(String json, Class<T> type) {
+    builder.processEntity(type);
+    return builder.gson().fromJson(json, type);
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    processType(type);
+    return builder.gson().fromJson(json, type);
+  }
+
+  @Override
+  public <T> T fromJson(Reader reader, Type type) {
+    processType(type);
+    return builder.gson().fromJson(reader, type);
+  }
+
+  @Override
+  public String memberNameOf(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    return serializedName != null ? serializedName.value()
+        : builder.gson().fieldNamingStrategy().translateName(field);
+  }
+
+  public ReferenceAwareGsonBuilder getBuilder() {
+    return builder;
+  }
+
+  private void processType(Type type) {
+    if (type instanceof Class<?> clazz) {
+      builder.processEntity(clazz);
+    } else if (type instanceof ParameterizedType parameterizedType) {
+      for (Type argument : parameterizedType.getActualTypeArguments()) {
+        processType(argument);
+      }
+    }
+  }
+}
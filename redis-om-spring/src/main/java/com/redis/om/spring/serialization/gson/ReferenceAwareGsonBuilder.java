@@ -13,20 +13,21 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.redis.om.spring.util.ObjectUtils.*;
 
 @Component
 public class ReferenceAwareGsonBuilder {
     private static final Log logger = LogFactory.getLog(ReferenceAwareGsonBuilder.class);
-    private final List<Type> processedClasses = new ArrayList<>();
+    private final Set<Type> processedClasses = ConcurrentHashMap.newKeySet();
     private final GsonBuilder builder;
-    private Gson gson;
+    private volatile Gson gson;
     private JSONOperations<?> ops;
     private final ApplicationContext ac;
-    private boolean rebuildGson = false;
+    private volatile boolean rebuildGson = false;
 
     public ReferenceAwareGsonBuilder(GsonBuilder builder, ApplicationContext ac) {
         this.builder = builder;
@@ -34,8 +35,14 @@ public class ReferenceAwareGsonBuilder {
         this.ac = ac;
     }
     public <T> void processEntity(Class<T> clazz) {
-        if (!processedClasses.contains(clazz)) {
-            ops = ac.getBean("redisJSONOperations", JSONOperations.class);
+        // hot path: every decode goes through here, only lock on first sight of a type
+        if (processedClasses.contains(clazz)) {
+            return;
+        }
+        synchronized (this) {
+            if (processedClasses.contains(clazz)) {
+                return;
+            }
             final List<java.lang.reflect.Field> allClassFields = getDeclaredFieldsTransitively(clazz);
             for (java.lang.reflect.Field field : allClassFields) {
                 if (field.isAnnotationPresent(Reference.class)) {
@@ -49,8 +56,12 @@ public class ReferenceAwareGsonBuilder {
 
     public Gson gson() {
         if (rebuildGson) {
-            gson = builder.create();
-            rebuildGson = false;
+            synchronized (this) {
+                if (rebuildGson) {
+                    gson = builder.create();
+                    rebuildGson = false;
+                }
+            }
         }
         return gson;
     }
@@ -66,6 +77,9 @@ public class ReferenceAwareGsonBuilder {
         } else {
             typeToken = TypeToken.get(field.getType());
         }
+        if (ops == null) {
+            ops = ac.getBean("redisJSONOperations", JSONOperations.class);
+        }
         builder.registerTypeAdapter(typeToken.getType(), new ReferenceDeserializer(field, ops));
         rebuildGson = true;
 
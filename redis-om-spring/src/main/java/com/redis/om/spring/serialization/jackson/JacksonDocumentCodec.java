@@ -0,0 +1,379 @@
+package com.redis.om.spring.serialization.jackson;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.f4b6a3.ulid.Ulid;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.FieldNamingStrategy;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.serialization.DocumentCodec;
+import com.redis.om.spring.serialization.gson.GeneratedTypeAdapterFactory;
+import com.redis.om.spring.serialization.gson.GsonDocumentCodec;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.geo.Point;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
+/**
+ * High-throughput {@link DocumentCodec} backed by Jackson. When the Blackbird
+ * module is on the classpath it is registered so that field access goes through
+ * generated lambdas instead of reflection.
+ * <p>
+ * The mapper is configured to behave like the default Gson setup (field access,
+ * nulls omitted, unknown properties ignored). Types that rely on Gson-only
+ * features ({@code @Reference}, {@code @JsonAdapter}, {@code @SerializedName})
+ * or that cannot be instantiated by Jackson (no no-args constructor) are
+ * delegated to the fallback codec, so documents round-trip identically.
+ * <p>
+ * When the fallback codec is the {@link GsonDocumentCodec}, the mapper follows
+ * the Gson it writes with, as configured by {@code spring.gson.*} and the
+ * {@code GsonBuilderCustomizer} beans: its field naming strategy and null
+ * serialization carry over, and the types the application registered Gson
+ * type adapters for are left to Gson. Settings that only change the
+ * formatting of documents (pretty printing, HTML escaping, leniency) are not
+ * carried over. Settings that change which fields or values are written
+ * (field exclusions, long serialization policy, non-executable JSON) cannot be
+ * followed, and fail the creation of the codec rather than silently changing
+ * the documents.
+ */
+public class JacksonDocumentCodec implements DocumentCodec {
+  private static final Log logger = LogFactory.getLog(JacksonDocumentCodec.class);
+
+  private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+  private static final String GSON_TREE_TYPE_ADAPTER = "com.google.gson.internal.bind.TreeTypeAdapter";
+
+  // a value of each type the RedisOMJacksonModule writes, to compare with Gson
+  private static final Map<Class<?>, Object> SAMPLES = Map.of( //
+      Point.class, new Point(-122.06654, 37.37769), //
+      Ulid.class, Ulid.from("01GX9PJ4NMZ4MFZHJ6J7DKQ8KR"), //
+      Date.class, new Date(1680000000000L), //
+      LocalDate.class, LocalDate.of(2021, 5, 1), //
+      LocalDateTime.class, LocalDateTime.of(2021, 5, 1, 12, 30, 15), //
+      Instant.class, Instant.ofEpochSecond(1680000000L), //
+      OffsetDateTime.class, OffsetDateTime.of(2021, 5, 1, 12, 30, 15, 0, ZoneOffset.UTC));
+
+  private final ObjectMapper mapper;
+  private final DocumentCodec fallback;
+  @Nullable
+  private final GsonDocumentCodec gsonFallback;
+  private final Set<Class<?>> gsonOnlyTypes;
+  private final Map<Class<?>, Boolean> jacksonCompatible = new ConcurrentHashMap<>();
+
+  private static class Probe {
+    @SuppressWarnings("unused")
+    private int value = 1;
+  }
+
+  public JacksonDocumentCodec(DocumentCodec fallback) {
+    this(fallback instanceof GsonDocumentCodec gsonCodec ? objectMapperFor(gsonCodec.getBuilder().gson())
+        : defaultObjectMapper(), fallback);
+  }
+
+  public JacksonDocumentCodec(ObjectMapper mapper, DocumentCodec fallback) {
+    this.mapper = mapper;
+    this.fallback = fallback;
+    this.gsonFallback = fallback instanceof GsonDocumentCodec gsonCodec ? gsonCodec : null;
+    this.gsonOnlyTypes = gsonFallback != null ? gsonOnlyTypesOf(gsonFallback.getBuilder().gson(), mapper) : Set.of();
+  }
+
+  public static ObjectMapper defaultObjectMapper() {
+    return defaultObjectMapperBuilder().build();
+  }
+
+  /**
+   * @return the default mapper, following the field naming strategy and null
+   * serialization of the Gson documents are otherwise written with
+   * @throws IllegalStateException when the Gson writes documents in a way the
+   *                               mapper cannot follow
+   */
+  public static ObjectMapper objectMapperFor(Gson gson) {
+    String probe = gson.toJson(new Probe());
+    if (probe.startsWith(")]}'")) {
+      throw unsupportedGsonSetting("non-executable JSON");
+    }
+    if ("{}".equals(probe)) {
+      throw unsupportedGsonSetting("field exclusions (@Expose, excluded modifiers or versions)");
+    }
+    if (!"1".equals(gson.toJson(1L))) {
+      throw unsupportedGsonSetting("a long serialization policy");
+    }
+
+    JsonMapper.Builder builder = defaultObjectMapperBuilder();
+    if (gson.serializeNulls()) {
+      builder.serializationInclusion(JsonInclude.Include.ALWAYS);
+    }
+    if (gson.fieldNamingStrategy() != FieldNamingPolicy.IDENTITY) {
+      builder.propertyNamingStrategy(new GsonFieldNamingStrategy(gson.fieldNamingStrategy()));
+    }
+    return builder.build();
+  }
+
+  private static IllegalStateException unsupportedGsonSetting(String setting) {
+    return new IllegalStateException(String.format("The Gson configuration uses %s, which the Jackson codec cannot "
+        + "follow: remove it, or use the Gson codec (redis.om.spring.serialization.codec=gson)", setting));
+  }
+
+  /**
+   * @return the types the Gson writes differently than the mapper, e.g. because
+   * the application registered its own type adapters for them
+   */
+  private static Set<Class<?>> gsonOnlyTypesOf(Gson gson, ObjectMapper mapper) {
+    Set<Class<?>> types = new HashSet<>();
+    SAMPLES.forEach((type, sample) -> {
+      try {
+        if (!JsonParser.parseString(gson.toJson(sample))
+            .equals(JsonParser.parseString(mapper.writeValueAsString(sample)))) {
+          types.add(type);
+        }
+      } catch (JsonProcessingException | RuntimeException e) {
+        types.add(type);
+      }
+    });
+    if (!types.isEmpty()) {
+      logger.info(String.format("Using the fallback codec for documents with %s fields", types));
+    }
+    return types;
+  }
+
+  private static JsonMapper.Builder defaultObjectMapperBuilder() {
+    JsonMapper.Builder builder = JsonMapper.builder() //
+        .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE) //
+        .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY) //
+        .serializationInclusion(JsonInclude.Include.NON_NULL) //
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES) //
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS) //
+        .addModule(new RedisOMJacksonModule());
+
+    ClassLoader classLoader = JacksonDocumentCodec.class.getClassLoader();
+    if (ClassUtils.isPresent(BLACKBIRD_MODULE, classLoader)) {
+      // loaded reflectively, Blackbird is an optional dependency
+      builder.addModule(BeanUtils.instantiateClass(ClassUtils.resolveClassName(BLACKBIRD_MODULE, classLoader), Module.class));
+    }
+
+    return builder;
+  }
+
+  @Override
+  public String toJson(Object object) {
+    if (object == null || !isJacksonCompatible(object)) {
+      return fallback.toJson(object);
+    }
+    try {
+      return mapper.writeValueAsString(object);
+    } catch (JsonProcessingException e) {
+      throw new JsonParseException(e);
+    }
+  }
+
+  @Override
+  public <T> T fromJson(String json, Class<T> type) {
+    if (json == null || !isJacksonCompatible(type)) {
+      return fallback.fromJson(json, type);
+    }
+    try {
+      return mapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new JsonParseException(e);
+    }
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    if (json == null || !isJacksonCompatible(type)) {
+      return fallback.fromJson(json, type);
+    }
+    try {
+      return mapper.readValue(json, javaType(type));
+    } catch (JsonProcessingException e) {
+      throw new JsonParseException(e);
+    }
+  }
+
+  @Override
+  public <T> T fromJson(Reader reader, Type type) {
+    if (!isJacksonCompatible(type)) {
+      return fallback.fromJson(reader, type);
+    }
+    try {
+      return mapper.readValue(reader, javaType(type));
+    } catch (IOException e) {
+      throw new JsonParseException(e);
+    }
+  }
+
+  /**
+   * @return the name the Gson fallback writes the field under, which the
+   * mapper follows (fields it cannot follow are left to the fallback)
+   */
+  @Override
+  public String memberNameOf(Field field) {
+    return fallback.memberNameOf(field);
+  }
+
+  public ObjectMapper getObjectMapper() {
+    return mapper;
+  }
+
+  private JavaType javaType(Type type) {
+    return mapper.getTypeFactory().constructType(type);
+  }
+
+  private boolean isJacksonCompatible(Object object) {
+    if (object instanceof Collection<?> collection) {
+      return collection.stream().filter(Objects::nonNull).findFirst().map(this::isJacksonCompatible).orElse(true);
+    }
+    return isJacksonCompatible(object.getClass());
+  }
+
+  private boolean isJacksonCompatible(Type type) {
+    if (type instanceof Class<?> clazz) {
+      return jacksonCompatible.computeIfAbsent(clazz, c -> {
+        boolean compatible = isJacksonCompatible(c, new HashSet<>());
+        if (!compatible) {
+          logger.debug(String.format("Using fallback codec for %s", c.getName()));
+        }
+        return compatible;
+      });
+    } else if (type instanceof ParameterizedType parameterizedType) {
+      return isJacksonCompatible(parameterizedType.getRawType()) && Arrays
+          .stream(parameterizedType.getActualTypeArguments()).allMatch(this::isJacksonCompatible);
+    } else if (type instanceof GenericArrayType arrayType) {
+      return isJacksonCompatible(arrayType.getGenericComponentType());
+    }
+    return true;
+  }
+
+  private boolean isJacksonCompatible(Class<?> clazz, Set<Class<?>> visited) {
+    if (clazz.isArray()) {
+      return isJacksonCompatible(clazz.getComponentType(), visited);
+    }
+    if (gsonOnlyTypes.contains(clazz) || hasApplicationGsonAdapter(clazz) || hasSerializedNameConstants(clazz)) {
+      return false;
+    }
+    if (isLeafType(clazz) || !visited.add(clazz)) {
+      return true;
+    }
+    if (clazz.isAnnotationPresent(JsonAdapter.class)) {
+      return false;
+    }
+    if (!clazz.isRecord() && !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()) && !hasNoArgsConstructor(clazz)) {
+      return false;
+    }
+    for (Field field : getDeclaredFieldsTransitively(clazz)) {
+      if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+        continue;
+      }
+      if (field.isAnnotationPresent(Reference.class) || field.isAnnotationPresent(JsonAdapter.class)
+          || field.isAnnotationPresent(SerializedName.class)) {
+        return false;
+      }
+      for (Class<?> candidate : rawTypesOf(field.getGenericType())) {
+        if (!isJacksonCompatible(candidate, visited)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return whether the Gson writes the type with an adapter the application
+   * registered, rather than one of Gson's, Redis OM's or a generated one
+   */
+  private boolean hasApplicationGsonAdapter(Class<?> clazz) {
+    if (gsonFallback == null || clazz.isPrimitive() || RedisOMJacksonModule.handles(clazz)) {
+      return false;
+    }
+    Class<?> adapterClass;
+    try {
+      adapterClass = gsonFallback.getBuilder().gson().getAdapter(clazz).getClass();
+    } catch (RuntimeException e) {
+      return false;
+    }
+    Class<?> enclosingClass = adapterClass.getEnclosingClass();
+    if (enclosingClass != null && GeneratedTypeAdapterFactory.class.isAssignableFrom(enclosingClass)) {
+      return false;
+    }
+    String name = adapterClass.getName();
+    return name.equals(GSON_TREE_TYPE_ADAPTER)
+        || !(name.startsWith("com.google.gson.") || name.startsWith("com.redis.om.spring.serialization."));
+  }
+
+  /**
+   * @return whether the type is an enum with constants Gson writes under their
+   * {@link SerializedName} rather than their name, which Jackson doesn't follow
+   */
+  private static boolean hasSerializedNameConstants(Class<?> clazz) {
+    return clazz.isEnum() && Arrays.stream(clazz.getDeclaredFields())
+        .anyMatch(field -> field.isEnumConstant() && field.isAnnotationPresent(SerializedName.class));
+  }
+
+  private static boolean hasNoArgsConstructor(Class<?> clazz) {
+    return Arrays.stream(clazz.getDeclaredConstructors()).anyMatch(c -> c.getParameterCount() == 0);
+  }
+
+  private static boolean isLeafType(Class<?> clazz) {
+    return clazz.isPrimitive() || clazz.isEnum() || clazz.getName().startsWith("java.")
+        || clazz.getName().startsWith("javax.") || RedisOMJacksonModule.handles(clazz);
+  }
+
+  private static List<Class<?>> rawTypesOf(Type type) {
+    List<Class<?>> result = new ArrayList<>();
+    if (type instanceof Class<?> clazz) {
+      result.add(clazz);
+    } else if (type instanceof ParameterizedType parameterizedType) {
+      result.addAll(rawTypesOf(parameterizedType.getRawType()));
+      for (Type argument : parameterizedType.getActualTypeArguments()) {
+        result.addAll(rawTypesOf(argument));
+      }
+    } else if (type instanceof GenericArrayType arrayType) {
+      result.addAll(rawTypesOf(arrayType.getGenericComponentType()));
+    }
+    return result;
+  }
+
+  /**
+   * Names properties the way a Gson {@link FieldNamingStrategy} names fields.
+   */
+  private static class GsonFieldNamingStrategy extends PropertyNamingStrategy {
+    private static final long serialVersionUID = 1L;
+
+    private final transient FieldNamingStrategy strategy;
+
+    GsonFieldNamingStrategy(FieldNamingStrategy strategy) {
+      this.strategy = strategy;
+    }
+
+    @Override
+    public String nameForField(MapperConfig<?> config, AnnotatedField field, String defaultName) {
+      return strategy.translateName(field.getAnnotated());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.redis.om.spring.serialization.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.f4b6a3.ulid.Ulid;
+import org.springframework.data.geo.Point;
+
+import java.io.IOException;
+import java.time.*;
+import java.util.Date;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Jackson counterpart of the Gson type adapters registered in
+ * {@code RedisModulesConfiguration#gsonBuilder}. Documents written by either
+ * codec must be readable by the other (and by the search index), so the wire
+ * formats here mirror the {@code serialization.gson} adapters one to one.
+ */
+public class RedisOMJacksonModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  private static final Set<Class<?>> HANDLED_TYPES = Set.of( //
+      Point.class, Ulid.class, Date.class, LocalDate.class, LocalDateTime.class, Instant.class, OffsetDateTime.class);
+
+  public RedisOMJacksonModule() {
+    super("RedisOMJacksonModule");
+
+    addSerializer(Point.class, new StdSerializer<>(Point.class) {
+      @Override
+      public void serialize(Point value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(value.getX() + "," + value.getY());
+      }
+    });
+    addDeserializer(Point.class, new StdDeserializer<>(Point.class) {
+      @Override
+      public Point deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+          JsonNode lonlat = p.readValueAsTree();
+          return new Point(lonlat.get(0).asDouble(), lonlat.get(1).asDouble());
+        }
+        String[] lonlat = p.getValueAsString().split(",");
+        return new Point(Double.parseDouble(lonlat[0].trim()), Double.parseDouble(lonlat[1].trim()));
+      }
+    });
+
+    addSerializer(Ulid.class, new StdSerializer<>(Ulid.class) {
+      @Override
+      public void serialize(Ulid value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(value.toString());
+      }
+    });
+    addDeserializer(Ulid.class, new StdDeserializer<>(Ulid.class) {
+      @Override
+      public Ulid deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return Ulid.from(p.getValueAsString());
+      }
+    });
+
+    epoch(Date.class, Date::getTime, Date::new);
+    epoch(LocalDate.class, //
+        ld -> ld.atStartOfDay(ZoneId.systemDefault()).toInstant().getEpochSecond(), //
+        l -> LocalDate.ofInstant(Instant.ofEpochSecond(l), ZoneId.systemDefault()));
+    epoch(LocalDateTime.class, //
+        ldt -> ldt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), //
+        l -> LocalDateTime.ofInstant(Instant.ofEpochMilli(l), ZoneId.systemDefault()));
+    epoch(Instant.class, Instant::getEpochSecond, Instant::ofEpochSecond);
+    epoch(OffsetDateTime.class, //
+        odt -> odt.toInstant().toEpochMilli(), //
+        l -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(l), ZoneId.systemDefault()));
+  }
+
+  static boolean handles(Class<?> type) {
+    return HANDLED_TYPES.contains(type);
+  }
+
+  private <T> void epoch(Class<T> type, ToLongFunction<T> writer, Function<Long, T> reader) {
+    addSerializer(type, new StdSerializer<>(type) {
+      @Override
+      public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(writer.applyAsLong(value));
+      }
+    });
+    addDeserializer(type, new StdDeserializer<>(type) {
+      @Override
+      public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return reader.apply(p.getValueAsLong());
+      }
+    });
+  }
+}
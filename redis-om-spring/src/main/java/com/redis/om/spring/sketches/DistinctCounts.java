@@ -0,0 +1,414 @@
+package com.redis.om.spring.sketches;
+
+import com.google.common.collect.Iterables;
+import com.redis.om.spring.annotations.CountDistinct;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.convert.RedisData;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
+/**
+ * Adds the values of the {@link CountDistinct} fields of the saved entities to
+ * their HyperLogLogs, with one {@code PFADD} per HyperLogLog for a whole batch
+ * of entities, and counts them with {@code PFCOUNT}.
+ * <p>
+ * Next to the HyperLogLog of all the values of a field, {@code <name>}, the
+ * values are added to {@code <name>:<by value>} when the field is counted by
+ * another field, and to {@code <name>@<bucket>} (and {@code <name>:<by value>@<bucket>})
+ * when it is counted in time buckets, where the bucket is the number of whole
+ * time units since the epoch at the time the entity is saved. A time bucket
+ * expires {@code retention} buckets after it starts.
+ * <p>
+ * The HyperLogLogs of all the values, and of the values by another field, are
+ * backfilled from the stored entities the first time an entity class is
+ * indexed. HyperLogLogs cannot forget a value: the values of deleted entities
+ * keep being counted, so the counts are of the values ever saved (an
+ * over-count of the values stored once entities are deleted), until all the
+ * entities are deleted and the HyperLogLogs reset.
+ */
+public class DistinctCounts {
+  private static final Log logger = LogFactory.getLog(DistinctCounts.class);
+  private static final int MAX_BUCKETS = 10000;
+
+  // HyperLogLog name -> 1, while it holds the values of all the stored entities
+  private static final String BUILT_COUNTS_KEY = "redis-om:distinct-counts";
+  private static final int BATCH_SIZE = 1000;
+  private static final Pattern BUCKET_SUFFIX = Pattern.compile("@-?\\d+$");
+
+  /**
+   * A {@link CountDistinct} annotated field and the HyperLogLogs its values
+   * are added to.
+   */
+  record DistinctField(String fieldName, String name, Method getter, Method byGetter, ChronoUnit bucket,
+      int retention, boolean answerStreams) {
+    boolean isBucketed() {
+      return bucket != ChronoUnit.FOREVER;
+    }
+
+    // when the HyperLogLogs of a time bucket expire, in epoch millis
+    long expiryOf(long bucketNumber) {
+      return (bucketNumber + Math.max(1, retention)) * bucket.getDuration().toMillis();
+    }
+
+    List<String> valuesOf(Object entity) {
+      return valuesOf(entity, getter);
+    }
+
+    List<String> byValuesOf(Object entity) {
+      return byGetter != null ? valuesOf(entity, byGetter) : List.of();
+    }
+
+    private List<String> valuesOf(Object entity, Method method) {
+      try {
+        Object value = method.invoke(entity);
+        if (value == null) {
+          return List.of();
+        } else if (value instanceof Collection<?> values) {
+          return values.stream().filter(Objects::nonNull).map(Object::toString).toList();
+        } else {
+          return List.of(value.toString());
+        }
+      } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+        logger.error(String.format("Could not count distinct value in %s", name), e);
+        return List.of();
+      }
+    }
+  }
+
+  private final RedisModulesOperations<String> rmo;
+  private final Clock clock;
+  private final Map<Class<?>, List<DistinctField>> distinctFields = new ConcurrentHashMap<>();
+
+  public DistinctCounts(RedisModulesOperations<String> rmo) {
+    this(rmo, Clock.systemUTC());
+  }
+
+  DistinctCounts(RedisModulesOperations<String> rmo, Clock clock) {
+    this.rmo = rmo;
+    this.clock = clock;
+  }
+
+  public boolean hasDistinctFields(Class<?> entityClass) {
+    return !distinctFieldsOf(entityClass).isEmpty();
+  }
+
+  public boolean isCounted(Class<?> entityClass, String fieldName) {
+    return distinctFieldOf(entityClass, fieldName).isPresent();
+  }
+
+  /**
+   * @return whether the field opted in to answering the distinct counts of
+   * unfiltered entity streams from its HyperLogLog
+   */
+  public boolean answersStreams(Class<?> entityClass, String fieldName) {
+    return distinctFieldOf(entityClass, fieldName).map(DistinctField::answerStreams).orElse(false);
+  }
+
+  /**
+   * Backfills the HyperLogLogs of an entity from the entities stored under its
+   * keyspaces, unless they were built before.
+   */
+  public void createCountsFor(Class<?> entityClass, Collection<String> keyspaces) {
+    if (!hasDistinctFields(entityClass)) {
+      return;
+    }
+    backfill(entityClass, keyspaces, distinctFieldsOf(entityClass));
+  }
+
+  /**
+   * Empties the HyperLogLogs of an entity, time buckets included, after all its
+   * entities were deleted.
+   */
+  public void reset(Class<?> entityClass) {
+    for (DistinctField field : distinctFieldsOf(entityClass)) {
+      try {
+        rmo.getTemplate().delete(keysOf(field.name(), true));
+        rmo.getTemplate().opsForHash().put(BUILT_COUNTS_KEY, field.name(), "1");
+      } catch (Exception e) {
+        logger.warn(String.format("Could not reset distinct count %s: %s", field.name(), e.getMessage()));
+      }
+    }
+  }
+
+  /**
+   * Adds the values of the saved entities to their HyperLogLogs.
+   */
+  public void add(Collection<?> entities) {
+    Map<String, Long> expiries = new HashMap<>();
+    Map<String, Set<String>> valuesByKey = valuesOf(entities, null, expiries);
+    if (valuesByKey.isEmpty()) {
+      return;
+    }
+    try {
+      Optional<Jedis> maybeJedis = rmo.getClient().getJedis();
+      if (maybeJedis.isEmpty()) {
+        valuesByKey.forEach(
+            (key, values) -> rmo.getTemplate().opsForHyperLogLog().add(key, values.toArray(String[]::new)));
+        expiries.forEach((key, expiry) -> rmo.getTemplate().expireAt(key, Instant.ofEpochMilli(expiry)));
+        return;
+      }
+      try (Jedis jedis = maybeJedis.get()) {
+        Pipeline pipeline = jedis.pipelined();
+        valuesByKey.forEach((key, values) -> pipeline.pfadd(key, values.toArray(String[]::new)));
+        // the same for every write to a bucket, so setting it again changes nothing
+        expiries.forEach(pipeline::pexpireAt);
+        pipeline.sync();
+      }
+    } catch (Exception e) {
+      logger.warn(String.format("Could not count the distinct values of %s entities: %s", entities.size(),
+          e.getMessage()));
+    }
+  }
+
+  Map<String, Set<String>> valuesOf(Collection<?> entities) {
+    return valuesOf(entities, null, new HashMap<>());
+  }
+
+  // the values of the given fields (or of all) of the entities, by HyperLogLog,
+  // with the time buckets unless expiries is null, whose expiry it's given
+  Map<String, Set<String>> valuesOf(Collection<?> entities, Collection<DistinctField> onlyFields,
+      Map<String, Long> expiries) {
+    boolean withBuckets = expiries != null;
+    Map<String, Set<String>> valuesByKey = new HashMap<>();
+    for (Object entity : entities) {
+      if (entity == null) {
+        continue;
+      }
+      for (DistinctField field : distinctFieldsOf(entity.getClass())) {
+        if (onlyFields != null && !onlyFields.contains(field)) {
+          continue;
+        }
+        List<String> values = field.valuesOf(entity);
+        if (values.isEmpty()) {
+          continue;
+        }
+        Long bucket = withBuckets && field.isBucketed() ? bucketOf(clock.instant(), field.bucket()) : null;
+        List<String> keys = new ArrayList<>();
+        keys.add(keyOf(field.name(), null, null));
+        if (bucket != null) {
+          keys.add(keyOf(field.name(), null, bucket));
+          expiries.put(keyOf(field.name(), null, bucket), field.expiryOf(bucket));
+        }
+        for (String byValue : field.byValuesOf(entity)) {
+          keys.add(keyOf(field.name(), byValue, null));
+          if (bucket != null) {
+            keys.add(keyOf(field.name(), byValue, bucket));
+            expiries.put(keyOf(field.name(), byValue, bucket), field.expiryOf(bucket));
+          }
+        }
+        for (String key : keys) {
+          valuesByKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(values);
+        }
+      }
+    }
+    return valuesByKey;
+  }
+
+  /**
+   * The approximate number of distinct values of a field, optionally among the
+   * entities with the given value of its {@code by} field and saved in the
+   * buckets from {@code from} to {@code to} (or to now).
+   */
+  public long countDistinct(Class<?> entityClass, String fieldName, Object byValue, Instant from, Instant to) {
+    DistinctField field = distinctFieldOf(entityClass, fieldName).orElseThrow(() -> new IllegalArgumentException(
+        String.format("%s.%s is not annotated with @CountDistinct", entityClass.getSimpleName(), fieldName)));
+    if (byValue != null && field.byGetter() == null) {
+      throw new IllegalArgumentException(
+          String.format("%s.%s is not counted by another field", entityClass.getSimpleName(), fieldName));
+    }
+    String by = byValue != null ? byValue.toString() : null;
+    Long count;
+    if (from == null) {
+      if (to != null) {
+        throw new IllegalArgumentException("Counting the distinct values up to a time needs the time to count from");
+      }
+      count = rmo.getTemplate().opsForHyperLogLog().size(keyOf(field.name(), by, null));
+    } else {
+      if (!field.isBucketed()) {
+        throw new IllegalArgumentException(
+            String.format("%s.%s is not counted in time buckets", entityClass.getSimpleName(), fieldName));
+      }
+      count = rmo.getTemplate().opsForHyperLogLog().size(bucketKeysOf(field, by, from, to));
+    }
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Resets the HyperLogLogs of the fields that are not built (the time buckets
+   * aside) and adds the values of the stored entities to them.
+   */
+  private synchronized void backfill(Class<?> entityClass, Collection<String> keyspaces,
+      List<DistinctField> fields) {
+    try {
+      List<DistinctField> pending = new ArrayList<>();
+      for (DistinctField field : fields) {
+        if (!rmo.getTemplate().opsForHash().hasKey(BUILT_COUNTS_KEY, field.name())) {
+          rmo.getTemplate().delete(keysOf(field.name(), false));
+          pending.add(field);
+        }
+      }
+      if (pending.isEmpty()) {
+        return;
+      }
+      logger.info(String.format("Counting the distinct values of %s fields from the keys of %s", pending.size(),
+          keyspaces));
+      for (String keyspace : keyspaces) {
+        ScanOptions options = ScanOptions.scanOptions().match(keyspace + "*").count(BATCH_SIZE).build();
+        try (Cursor<String> keys = rmo.getTemplate().scan(options)) {
+          for (List<String> batch : Iterables.partition(() -> keys, BATCH_SIZE)) {
+            valuesOf(storedEntitiesOf(entityClass, batch), pending, null).forEach(
+                (key, values) -> rmo.getTemplate().opsForHyperLogLog().add(key, values.toArray(String[]::new)));
+          }
+        }
+      }
+      pending.forEach(field -> rmo.getTemplate().opsForHash().put(BUILT_COUNTS_KEY, field.name(), "1"));
+    } catch (Exception e) {
+      logger.warn(String.format("Could not count the distinct values of the stored %s entities: %s",
+          entityClass.getName(), e.getMessage()));
+    }
+  }
+
+  private List<Object> storedEntitiesOf(Class<?> entityClass, List<String> keys) {
+    boolean isDocument = entityClass.isAnnotationPresent(Document.class);
+    List<Object> replies = rmo.getTemplate().executePipelined((RedisCallback<Object>) connection -> {
+      for (String key : keys) {
+        if (isDocument) {
+          connection.execute("JSON.GET", SafeEncoder.encode(key));
+        } else {
+          connection.hashCommands().hGetAll(SafeEncoder.encode(key));
+        }
+      }
+      return null;
+    });
+    List<Object> entities = new ArrayList<>(replies.size());
+    for (Object reply : replies) {
+      if (reply instanceof Map<?, ?> hash && !hash.isEmpty()) {
+        Map<byte[], byte[]> raw = new HashMap<>();
+        hash.forEach((name, value) -> raw.put(bytesOf(name), bytesOf(value)));
+        entities.add(rmo.getMappingConverter().read(entityClass, new RedisData(raw)));
+      } else if (reply instanceof byte[] || reply instanceof String) {
+        entities.add(rmo.getCodec().fromJson(bytesOf(reply), entityClass));
+      }
+    }
+    return entities;
+  }
+
+  private static byte[] bytesOf(Object reply) {
+    return reply instanceof byte[] bytes ? bytes : SafeEncoder.encode(reply.toString());
+  }
+
+  // the HyperLogLogs of a field: all its values, by value of its by field and,
+  // optionally, in time buckets
+  private Set<String> keysOf(String name, boolean withBuckets) {
+    Set<String> keys = new HashSet<>();
+    keys.add(name);
+    List<String> patterns = withBuckets ? List.of(name + ":*", name + "@*") : List.of(name + ":*");
+    for (String pattern : patterns) {
+      ScanOptions options = ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build();
+      try (Cursor<String> cursor = rmo.getTemplate().scan(options)) {
+        cursor.forEachRemaining(key -> {
+          if (withBuckets || !isBucketKey(key)) {
+            keys.add(key);
+          }
+        });
+      }
+    }
+    return keys;
+  }
+
+  static boolean isBucketKey(String key) {
+    return BUCKET_SUFFIX.matcher(key).find();
+  }
+
+  private String[] bucketKeysOf(DistinctField field, String byValue, Instant from, Instant to) {
+    long first = bucketOf(from, field.bucket());
+    long last = bucketOf(to != null ? to : clock.instant(), field.bucket());
+    if (last < first) {
+      throw new IllegalArgumentException(String.format("%s is before %s", to, from));
+    } else if (last - first >= MAX_BUCKETS) {
+      throw new IllegalArgumentException(
+          String.format("Cannot count the distinct values of more than %s %s", MAX_BUCKETS, field.bucket()));
+    }
+    String[] keys = new String[(int) (last - first + 1)];
+    for (long bucket = first; bucket <= last; bucket++) {
+      keys[(int) (bucket - first)] = keyOf(field.name(), byValue, bucket);
+    }
+    return keys;
+  }
+
+  private Optional<DistinctField> distinctFieldOf(Class<?> entityClass, String fieldName) {
+    return distinctFieldsOf(entityClass).stream().filter(f -> f.fieldName().equals(fieldName)).findFirst();
+  }
+
+  private List<DistinctField> distinctFieldsOf(Class<?> entityClass) {
+    return distinctFields.computeIfAbsent(entityClass, cl -> {
+      List<DistinctField> fields = new ArrayList<>();
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        CountDistinct countDistinct = field.getAnnotation(CountDistinct.class);
+        if (countDistinct == null) {
+          continue;
+        }
+        PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(cl, field.getName());
+        if (pd == null || pd.getReadMethod() == null) {
+          logger.error(String.format("Could not count the distinct values of %s: it has no getter", field.getName()));
+          continue;
+        }
+        Method byGetter = null;
+        if (!ObjectUtils.isEmpty(countDistinct.by())) {
+          PropertyDescriptor byPd = BeanUtils.getPropertyDescriptor(cl, countDistinct.by());
+          if (byPd == null || byPd.getReadMethod() == null) {
+            logger.error(String.format("Could not count the distinct values of %s by %s: it has no getter",
+                field.getName(), countDistinct.by()));
+            continue;
+          }
+          byGetter = byPd.getReadMethod();
+        }
+        fields.add(new DistinctField(field.getName(), distinctNameOf(cl, field, countDistinct), pd.getReadMethod(),
+            byGetter, countDistinct.bucket(), countDistinct.retention(), countDistinct.answerStreams()));
+      }
+      return List.copyOf(fields);
+    });
+  }
+
+  static long bucketOf(Instant instant, ChronoUnit unit) {
+    return Math.floorDiv(instant.toEpochMilli(), unit.getDuration().toMillis());
+  }
+
+  static String keyOf(String name, String byValue, Long bucket) {
+    StringBuilder key = new StringBuilder(name);
+    if (byValue != null) {
+      key.append(':').append(byValue);
+    }
+    if (bucket != null) {
+      key.append('@').append(bucket);
+    }
+    return key.toString();
+  }
+
+  public static String distinctNameOf(Class<?> entityClass, Field field, CountDistinct countDistinct) {
+    return !ObjectUtils.isEmpty(countDistinct.name()) ? countDistinct.name()
+        : String.format("hll:%s:%s", entityClass.getSimpleName(), field.getName());
+  }
+}
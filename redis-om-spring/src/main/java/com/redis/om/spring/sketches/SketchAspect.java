@@ -0,0 +1,74 @@
+package com.redis.om.spring.sketches;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Aspect
+@Component
+public class SketchAspect implements Ordered {
+  private final Sketches sketches;
+
+  public SketchAspect(Sketches sketches) {
+    this.sketches = sketches;
+  }
+
+  @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.save(..))")
+  public void inCrudRepositorySave() {}
+
+  @Pointcut("execution(public * com.redis.om.spring.repository.RedisDocumentRepository+.save(..))")
+  public void inRedisDocumentRepositorySave() {}
+
+  @Pointcut("inCrudRepositorySave() || inRedisDocumentRepositorySave()")
+  private void inSaveOperation() {}
+
+  @AfterReturning("inSaveOperation() && args(entity,..)")
+  public void countSaved(JoinPoint jp, Object entity) {
+    sketches.count(List.of(entity), false);
+  }
+
+  @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.saveAll(..))")
+  public void inCrudRepositorySaveAll() {}
+
+  @Pointcut("execution(public * com.redis.om.spring.repository.RedisDocumentRepository+.saveAll(..))")
+  public void inRedisDocumentRepositorySaveAll() {}
+
+  @Pointcut("inCrudRepositorySaveAll() || inRedisDocumentRepositorySaveAll()")
+  private void inSaveAllOperation() {}
+
+  @AfterReturning("inSaveAllOperation() && args(entities,..)")
+  public void countAllSaved(JoinPoint jp, List<Object> entities) {
+    sketches.count(entities, false);
+  }
+
+  @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.findById(..))")
+  public void inFindById() {}
+
+  @Pointcut("execution(public * org.springframework.data.repository.CrudRepository+.findAllById(..))")
+  public void inFindAllById() {}
+
+  @AfterReturning(pointcut = "inFindById() || inFindAllById()", returning = "result")
+  public void countRead(JoinPoint jp, Object result) {
+    List<Object> entities = new ArrayList<>();
+    if (result instanceof Optional<?> maybeEntity) {
+      maybeEntity.ifPresent(entities::add);
+    } else if (result instanceof Iterable<?> iterable) {
+      iterable.forEach(entities::add);
+    }
+    if (!entities.isEmpty()) {
+      sketches.count(entities, true);
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return 1;
+  }
+}
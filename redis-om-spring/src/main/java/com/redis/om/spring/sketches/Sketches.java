@@ -0,0 +1,166 @@
+package com.redis.om.spring.sketches;
+
+import com.redis.om.spring.annotations.CountMin;
+import com.redis.om.spring.annotations.TopK;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
+/**
+ * Creates the {@link TopK} and {@link CountMin} sketches of the entities and
+ * counts the values of their fields, with one {@code TOPK.INCRBY} and one
+ * {@code CMS.INCRBY} per sketch for a whole batch of entities. The values of
+ * their {@link com.redis.om.spring.annotations.CountDistinct} fields are added
+ * to their HyperLogLogs by {@link DistinctCounts}.
+ */
+@Component
+public class Sketches {
+  private static final Log logger = LogFactory.getLog(Sketches.class);
+
+  /**
+   * A {@link TopK} or {@link CountMin} annotated field and the sketch its
+   * values are counted in.
+   */
+  record SketchField(String key, boolean isTopK, boolean countReads, Method getter) {
+    String valueOf(Object entity) {
+      try {
+        Object value = getter.invoke(entity);
+        return value != null ? value.toString() : null;
+      } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+        logger.error(String.format("Could not count value in sketch %s", key), e);
+        return null;
+      }
+    }
+  }
+
+  /**
+   * The increments of a batch of entities, by sketch key.
+   */
+  record Increments(Map<String, Map<String, Long>> topK, Map<String, Map<String, Long>> countMin) {
+    boolean isEmpty() {
+      return topK.isEmpty() && countMin.isEmpty();
+    }
+  }
+
+  private final RedisModulesOperations<String> rmo;
+  private final Map<Class<?>, List<SketchField>> sketchFields = new ConcurrentHashMap<>();
+
+  public Sketches(RedisModulesOperations<String> rmo) {
+    this.rmo = rmo;
+  }
+
+  public void createSketchesFor(Collection<Class<?>> entityClasses) {
+    for (Class<?> cl : entityClasses) {
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        try {
+          if (field.isAnnotationPresent(TopK.class)) {
+            TopK topK = field.getAnnotation(TopK.class);
+            rmo.opsForTopK()
+                .topkReserve(topKNameOf(cl, field, topK), topK.k(), topK.width(), topK.depth(), topK.decay());
+          }
+          if (field.isAnnotationPresent(CountMin.class)) {
+            CountMin countMin = field.getAnnotation(CountMin.class);
+            rmo.opsForCountMinSketch()
+                .cmsInitByProb(countMinNameOf(cl, field, countMin), countMin.errorRate(), countMin.probability());
+          }
+        } catch (Exception e) {
+          // the sketch exists
+          logger.debug("Error during processing of @TopK/@CountMin annotation: ", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Counts the values of the saved (or, with {@code reads}, read) entities in
+   * their sketches.
+   */
+  public void count(Collection<?> entities, boolean reads) {
+    if (!reads) {
+      rmo.getDistinctCounts().add(entities);
+    }
+    Increments increments = incrementsOf(entities, reads);
+    if (increments.isEmpty()) {
+      return;
+    }
+    try {
+      if (!increments.topK().isEmpty()) {
+        rmo.opsForTopK().topkIncrBy(increments.topK());
+      }
+      if (!increments.countMin().isEmpty()) {
+        rmo.opsForCountMinSketch().cmsIncrBy(increments.countMin());
+      }
+    } catch (Exception e) {
+      logger.warn(String.format("Could not count the values of %s entities: %s", entities.size(), e.getMessage()));
+    }
+  }
+
+  Increments incrementsOf(Collection<?> entities, boolean reads) {
+    Map<String, Map<String, Long>> topK = new HashMap<>();
+    Map<String, Map<String, Long>> countMin = new HashMap<>();
+    for (Object entity : entities) {
+      if (entity == null) {
+        continue;
+      }
+      for (SketchField field : sketchFieldsOf(entity.getClass())) {
+        if (reads && !field.countReads()) {
+          continue;
+        }
+        String value = field.valueOf(entity);
+        if (value != null) {
+          (field.isTopK() ? topK : countMin).computeIfAbsent(field.key(), k -> new HashMap<>())
+              .merge(value, 1L, Long::sum);
+        }
+      }
+    }
+    return new Increments(topK, countMin);
+  }
+
+  private List<SketchField> sketchFieldsOf(Class<?> entityClass) {
+    return sketchFields.computeIfAbsent(entityClass, cl -> {
+      List<SketchField> fields = new ArrayList<>();
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        TopK topK = field.getAnnotation(TopK.class);
+        CountMin countMin = field.getAnnotation(CountMin.class);
+        if (topK == null && countMin == null) {
+          continue;
+        }
+        PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(cl, field.getName());
+        if (pd == null || pd.getReadMethod() == null) {
+          logger.error(String.format("Could not count the values of %s: it has no getter", field.getName()));
+          continue;
+        }
+        if (topK != null) {
+          fields.add(new SketchField(topKNameOf(cl, field, topK), true, topK.countReads(), pd.getReadMethod()));
+        }
+        if (countMin != null) {
+          fields.add(new SketchField(countMinNameOf(cl, field, countMin), false, countMin.countReads(),
+              pd.getReadMethod()));
+        }
+      }
+      return List.copyOf(fields);
+    });
+  }
+
+  public static String topKNameOf(Class<?> entityClass, Field field, TopK topK) {
+    return !ObjectUtils.isEmpty(topK.name()) ? topK.name()
+        : String.format("topk:%s:%s", entityClass.getSimpleName(), field.getName());
+  }
+
+  public static String countMinNameOf(Class<?> entityClass, Field field, CountMin countMin) {
+    return !ObjectUtils.isEmpty(countMin.name()) ? countMin.name()
+        : String.format("cms:%s:%s", entityClass.getSimpleName(), field.getName());
+  }
+}
@@ -0,0 +1,95 @@
+package com.redis.om.spring.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The {@code @Document} and {@code @RedisHash} entities recorded at build time
+ * by the {@code MetamodelGenerator} in {@value #LOCATION}, one
+ * {@code <entity class>=<annotation class>} entry per line. When present on the
+ * classpath it replaces classpath scanning for entities, so, like Spring's
+ * {@code META-INF/spring.components} index, every module holding entities must
+ * be compiled with the processor (or the registry ignored through
+ * {@code redis.om.spring.indexing.ignore-entity-registry}).
+ */
+public final class EntityRegistry {
+  private static final Log logger = LogFactory.getLog(EntityRegistry.class);
+
+  public static final String LOCATION = "META-INF/redis-om-entities";
+
+  private static final Map<ClassLoader, Optional<EntityRegistry>> cache = new ConcurrentReferenceHashMap<>();
+
+  private final Map<String, Set<String>> entitiesByAnnotation;
+
+  EntityRegistry(Map<String, Set<String>> entitiesByAnnotation) {
+    this.entitiesByAnnotation = entitiesByAnnotation;
+  }
+
+  /**
+   * @return the registry merged from every {@value #LOCATION} visible to the
+   * class loader, or empty if there is none
+   */
+  public static Optional<EntityRegistry> load(ClassLoader classLoader) {
+    return cache.computeIfAbsent(classLoader, EntityRegistry::read);
+  }
+
+  private static Optional<EntityRegistry> read(ClassLoader classLoader) {
+    Map<String, Set<String>> entitiesByAnnotation = new HashMap<>();
+    try {
+      Enumeration<URL> urls = classLoader.getResources(LOCATION);
+      if (!urls.hasMoreElements()) {
+        return Optional.empty();
+      }
+      while (urls.hasMoreElements()) {
+        URL url = urls.nextElement();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+          reader.lines().map(String::trim).filter(l -> !l.isEmpty() && !l.startsWith("#")).forEach(line -> {
+            int separator = line.indexOf('=');
+            if (separator > 0) {
+              entitiesByAnnotation.computeIfAbsent(line.substring(separator + 1), a -> new TreeSet<>())
+                  .add(line.substring(0, separator));
+            }
+          });
+        }
+      }
+    } catch (IOException e) {
+      logger.warn(String.format("Could not read %s, scanning for entities instead: %s", LOCATION, e.getMessage()));
+      return Optional.empty();
+    }
+    return Optional.of(new EntityRegistry(entitiesByAnnotation));
+  }
+
+  /**
+   * Mirrors {@code ClassPathScanningCandidateComponentProvider#findCandidateComponents}
+   * for the recorded entities annotated with any of the given annotations.
+   *
+   * @param basePackage the package to search, including its sub-packages
+   */
+  public Set<BeanDefinition> findCandidateComponents(String basePackage,
+      Collection<Class<? extends Annotation>> annotations) {
+    Set<BeanDefinition> candidates = new LinkedHashSet<>();
+    annotations.stream() //
+        .map(a -> entitiesByAnnotation.getOrDefault(a.getName(), Set.of())) //
+        .flatMap(Set::stream) //
+        .filter(className -> basePackage.isEmpty() || className.startsWith(basePackage + ".")) //
+        .distinct() //
+        .forEach(className -> {
+          GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+          beanDefinition.setBeanClassName(className);
+          candidates.add(beanDefinition);
+        });
+    return candidates;
+  }
+}
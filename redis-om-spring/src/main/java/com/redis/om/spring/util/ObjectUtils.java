@@ -1,8 +1,14 @@
 package com.redis.om.spring.util;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.redis.om.spring.RedisOMSpringProperties;
 import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
 import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.serialization.DocumentCodec;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ApplicationContext;
@@ -19,6 +25,7 @@ import org.springframework.data.util.Pair;
 import org.springframework.util.ReflectionUtils;
 import redis.clients.jedis.args.GeoUnit;
 import redis.clients.jedis.search.Document;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -262,25 +269,75 @@ public class ObjectUtils {
 
   public static Object documentToObject(Document document, Class<?> returnedObjectType,
       MappingRedisOMConverter mappingConverter) {
-    Bucket b = new Bucket();
-    document.getProperties().forEach(p -> b.put(p.getKey(), (byte[]) p.getValue()));
-
-    return mappingConverter.read(returnedObjectType, new RedisData(b));
+    return documentToEntity(document, returnedObjectType, mappingConverter);
   }
 
   public static Object mapToObject(Map<String,Object> properties, Class<?> returnedObjectType,
       MappingRedisOMConverter mappingConverter) {
-    Bucket b = new Bucket();
-    properties.forEach((k,v) -> b.put(k, (byte[]) v));
+    return mapToEntity(properties, returnedObjectType, mappingConverter);
+  }
 
-    return mappingConverter.read(returnedObjectType, new RedisData(b));
+  private static <T> T mapToEntity(Map<String,Object> properties, Class<T> classOfT,
+      MappingRedisOMConverter mappingConverter) {
+    return mappingConverter.readGenerated(classOfT, k -> (byte[]) properties.get(k)).orElseGet(() -> {
+      Bucket b = new Bucket();
+      properties.forEach((k,v) -> b.put(k, (byte[]) v));
+
+      return mappingConverter.read(classOfT, new RedisData(b));
+    });
   }
 
   public static <T> T documentToEntity(Document document, Class<T> classOfT, MappingRedisOMConverter mappingConverter) {
-    Bucket b = new Bucket();
-    document.getProperties().forEach(p -> b.put(p.getKey(), (byte[]) p.getValue()));
+    return mappingConverter.readGenerated(classOfT, k -> (byte[]) document.get(k)).orElseGet(() -> {
+      Bucket b = new Bucket();
+      document.getProperties().forEach(p -> b.put(p.getKey(), (byte[]) p.getValue()));
 
-    return mappingConverter.read(classOfT, new RedisData(b));
+      return mappingConverter.read(classOfT, new RedisData(b));
+    });
+  }
+
+  /**
+   * Rebuilds a partial JSON document from the values returned for top-level
+   * JSONPath {@code RETURN} fields (aliased to the member names). Those values
+   * are JSON, except for strings, which come back unquoted.
+   *
+   * @param fields        the returned field values, by member name
+   * @param typesByMember the type of the field held by each member
+   * @return a JSON object holding only the returned fields
+   */
+  public static String returnedFieldsToJson(Iterable<Map.Entry<String, Object>> fields,
+      Map<String, Class<?>> typesByMember) {
+    JsonObject document = new JsonObject();
+    fields.forEach(e -> {
+      String raw = e.getValue() instanceof byte[] bytes ? SafeEncoder.encode(bytes) : String.valueOf(e.getValue());
+      Class<?> type = typesByMember.get(e.getKey());
+      if (type != null && CharSequence.class.isAssignableFrom(type)) {
+        document.add(e.getKey(), new JsonPrimitive(raw));
+      } else {
+        try {
+          document.add(e.getKey(), JsonParser.parseString(raw));
+        } catch (JsonParseException jpe) {
+          document.add(e.getKey(), new JsonPrimitive(raw));
+        }
+      }
+    });
+    return document.toString();
+  }
+
+  /**
+   * @return the dotted path of the JSON members holding a (nested) property,
+   * named the way the codec writes them (e.g. {@code address.city}); the
+   * segments that aren't fields are kept as they are
+   */
+  public static String jsonPathOf(Class<?> entityClass, String property, DocumentCodec codec) {
+    List<String> members = new ArrayList<>();
+    Class<?> type = entityClass;
+    for (String segment : property.split("\\.")) {
+      Field field = type != null ? ReflectionUtils.findField(type, segment) : null;
+      members.add(field != null ? codec.memberNameOf(field) : segment);
+      type = field != null ? field.getType() : null;
+    }
+    return String.join(".", members);
   }
 
   public static String asString(Object value, MappingRedisOMConverter mappingConverter) {
@@ -295,24 +352,21 @@ public class ObjectUtils {
   public static Set<BeanDefinition> getBeanDefinitionsFor(ApplicationContext ac, Class... classes) {
     Set<BeanDefinition> beanDefs = new HashSet<>();
 
-    ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-    for (Class cls : classes) {
-      provider.addIncludeFilter(new AnnotationTypeFilter(cls));
-    }
+    Function<String, Set<BeanDefinition>> provider = getCandidateComponentFinder(ac, classes);
 
     List<Pair<EnableRedisDocumentRepositories, String>> erdrs = getEnableRedisDocumentRepositories(ac);
     for (Pair<EnableRedisDocumentRepositories, String> pair : erdrs) {
       EnableRedisDocumentRepositories edr = pair.getFirst();
       if (edr.basePackages().length > 0) {
         for (String pkg : edr.basePackages()) {
-          beanDefs.addAll(provider.findCandidateComponents(pkg));
+          beanDefs.addAll(provider.apply(pkg));
         }
       } else if (edr.basePackageClasses().length > 0) {
         for (Class<?> pkg : edr.basePackageClasses()) {
-          beanDefs.addAll(provider.findCandidateComponents(pkg.getPackageName()));
+          beanDefs.addAll(provider.apply(pkg.getPackageName()));
         }
       } else {
-        beanDefs.addAll(provider.findCandidateComponents(pair.getSecond()));
+        beanDefs.addAll(provider.apply(pair.getSecond()));
       }
     }
 
@@ -321,20 +375,48 @@ public class ObjectUtils {
       EnableRedisEnhancedRepositories er = pair.getFirst();
       if (er.basePackages().length > 0) {
         for (String pkg : er.basePackages()) {
-          beanDefs.addAll(provider.findCandidateComponents(pkg));
+          beanDefs.addAll(provider.apply(pkg));
         }
       } else if (er.basePackageClasses().length > 0) {
         for (Class<?> pkg : er.basePackageClasses()) {
-          beanDefs.addAll(provider.findCandidateComponents(pkg.getPackageName()));
+          beanDefs.addAll(provider.apply(pkg.getPackageName()));
         }
       } else {
-        beanDefs.addAll(provider.findCandidateComponents(pair.getSecond()));
+        beanDefs.addAll(provider.apply(pair.getSecond()));
       }
     }
 
     return beanDefs;
   }
 
+  /**
+   * Finds the entities in a base package from the build-time
+   * {@link EntityRegistry} when there is one, and by scanning the classpath
+   * otherwise.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static Function<String, Set<BeanDefinition>> getCandidateComponentFinder(ApplicationContext ac,
+      Class... classes) {
+    boolean ignoreRegistry = ac.getBeanProvider(RedisOMSpringProperties.class).getIfAvailable(RedisOMSpringProperties::new)
+        .getIndexing().isIgnoreEntityRegistry();
+    Optional<EntityRegistry> registry = ignoreRegistry ? Optional.empty()
+        : EntityRegistry.load(Objects.requireNonNullElse(ac.getClassLoader(), ObjectUtils.class.getClassLoader()));
+    if (registry.isPresent()) {
+      List<Class<? extends Annotation>> annotations = new ArrayList<>();
+      for (Class cls : classes) {
+        annotations.add((Class<? extends Annotation>) cls);
+      }
+      return pkg -> registry.get().findCandidateComponents(pkg, annotations);
+    }
+
+    ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+    for (Class cls : classes) {
+      provider.addIncludeFilter(new AnnotationTypeFilter(cls));
+    }
+    return provider::findCandidateComponents;
+  }
+
+
   public static List<Pair<EnableRedisDocumentRepositories, String>> getEnableRedisDocumentRepositories(
       ApplicationContext ac) {
     Map<String, Object> annotatedBeans = ac.getBeansWithAnnotation(SpringBootApplication.class);
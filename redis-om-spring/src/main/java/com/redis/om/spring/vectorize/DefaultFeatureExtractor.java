@@ -9,23 +9,73 @@ import ai.djl.modality.cv.translator.ImageFeatureExtractor;
 import ai.djl.repository.zoo.ZooModel;
 import ai.djl.translate.Pipeline;
 import ai.djl.translate.TranslateException;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.EmbeddingType;
 import com.redis.om.spring.annotations.Vectorize;
 import com.redis.om.spring.util.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.Resource;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.stereotype.Component;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Generates the embeddings of the {@link Vectorize} fields of the entities
+ * saved by the enhanced repositories. The embeddings of a batch of entities
+ * are generated with one {@code batchPredict} (or {@code batchEncode}) per
+ * embedding type and {@code batchSize} values, on a bounded pool of workers
+ * that runs the batches of a save in parallel and falls back to the saving
+ * thread when its queue is full.
+ * <p>
+ * The embeddings of the fields vectorized asynchronously are written to the
+ * saved entities in the background, once they are saved, along with their
+ * status. An entity saved again before its embedding is written may end up
+ * with the embedding of its previous value. The embeddings still pending when
+ * the application stops are given {@code SHUTDOWN_TIMEOUT} to be written; those
+ * that aren't are resumed at the next startup, from the entities whose status
+ * is still {@link VectorizationStatus#PENDING}.
+ * <p>
+ * The predictors of the image and face models are pooled, and reused across
+ * saves and threads.
+ */
+public class DefaultFeatureExtractor implements FeatureExtractor, DisposableBean {
+    private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_BATCH_SIZE = 32;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_PREDICTORS = 4;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    // sets the fields of a hash, unless it no longer exists; loaded once and
+    // run by its SHA
+    private static final RedisScript<Long> HSET_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "return redis.call('HSET', KEYS[1], unpack(ARGV))", Long.class);
 
-public class DefaultFeatureExtractor implements FeatureExtractor {
     private final ZooModel<Image, byte[]> imageEmbeddingModel;
     private final ZooModel<Image, float[]> faceEmbeddingModel;
     private final ImageFactory imageFactory;
@@ -33,9 +83,24 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
     private ImageFeatureExtractor imageFeatureExtractor;
     public final Pipeline imagePipeline;
     public final HuggingFaceTokenizer sentenceTokenizer;
+    private final RedisOperations<?, ?> redisOperations;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+    private final PredictorPool<Predictor<Image, byte[]>> imagePredictors;
+    private final PredictorPool<Predictor<Image, float[]>> facePredictors;
+    private final VectorizeStats stats = new VectorizeStats();
+    private volatile boolean isScriptLoaded;
 
     private static final Log logger = LogFactory.getLog(DefaultFeatureExtractor.class);
 
+    /**
+     * A {@link Vectorize} field of an entity, its value and, when it is
+     * vectorized asynchronously, the key of the entity (and no accessor, when
+     * it's resumed from the stored entity).
+     */
+    private record Work(PropertyAccessor accessor, Vectorize vectorize, Object value, byte[] redisKey) {
+    }
+
     public DefaultFeatureExtractor( //
                                     ApplicationContext applicationContext, //
                                     ZooModel<Image, byte[]> imageEmbeddingModel, //
@@ -43,6 +108,33 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
                                     ImageFactory imageFactory, //
                                     Pipeline imagePipeline,
                                     HuggingFaceTokenizer sentenceTokenizer
+    ) {
+        this(applicationContext, imageEmbeddingModel, faceEmbeddingModel, imageFactory, imagePipeline,
+                sentenceTokenizer, null, DEFAULT_WORKERS, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_PREDICTORS);
+    }
+
+    /**
+     * @param redisOperations the operations the asynchronous embeddings are
+     *                        written with, or {@literal null} to generate
+     *                        every embedding before saving
+     * @param workers         the number of batches generated at once
+     * @param batchSize       the number of values embedded in one batch
+     * @param queueCapacity   the number of batches waiting for a worker
+     * @param predictors      the number of predictors kept per model
+     */
+    public DefaultFeatureExtractor( //
+                                    ApplicationContext applicationContext, //
+                                    ZooModel<Image, byte[]> imageEmbeddingModel, //
+                                    ZooModel<Image, float[]> faceEmbeddingModel, //
+                                    ImageFactory imageFactory, //
+                                    Pipeline imagePipeline, //
+                                    HuggingFaceTokenizer sentenceTokenizer, //
+                                    RedisOperations<?, ?> redisOperations, //
+                                    int workers, //
+                                    int batchSize, //
+                                    int queueCapacity, //
+                                    int predictors
     ) {
         this.applicationContext = applicationContext;
         this.imageEmbeddingModel = imageEmbeddingModel;
@@ -50,9 +142,24 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
         this.imageFactory = imageFactory;
         this.imagePipeline = imagePipeline;
         this.sentenceTokenizer = sentenceTokenizer;
+        this.redisOperations = redisOperations;
+        this.batchSize = Math.max(1, batchSize);
 
         // feature extractor
         this.imageFeatureExtractor = ImageFeatureExtractor.builder().setPipeline(imagePipeline).build();
+
+        // predictors, created on demand and reused
+        this.imagePredictors = new PredictorPool<>(() -> imageEmbeddingModel.newPredictor(imageFeatureExtractor),
+                predictors);
+        this.facePredictors = new PredictorPool<>(faceEmbeddingModel::newPredictor, predictors);
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(Math.max(1, workers), Math.max(1, workers), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread thread = new Thread(r, "redis-om-vectorize-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
     @Override
@@ -64,8 +171,7 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
     public byte[] getImageEmbeddingsFor(InputStream is) {
         try {
             var img = imageFactory.fromInputStream(is);
-            Predictor<Image, byte[]> predictor = imageEmbeddingModel.newPredictor(imageFeatureExtractor);
-            return predictor.predict(img);
+            return imagePredictors.apply(predictor -> predictor.predict(img));
         } catch (IOException | TranslateException e) {
             logger.warn("Error generating image embedding", e);
             return new byte[]{};
@@ -74,10 +180,8 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
 
     @Override
     public byte[] getFacialImageEmbeddingsFor(InputStream is) throws IOException, TranslateException {
-        try (Predictor<Image, float[]> predictor = faceEmbeddingModel.newPredictor()) {
-            var img = imageFactory.fromInputStream(is);
-            return ObjectUtils.floatArrayToByteArray(predictor.predict(img));
-        }
+        var img = imageFactory.fromInputStream(is);
+        return ObjectUtils.floatArrayToByteArray(facePredictors.apply(predictor -> predictor.predict(img)));
     }
 
     @Override
@@ -88,48 +192,360 @@ public class DefaultFeatureExtractor implements FeatureExtractor {
 
     @Override
     public void processEntity(Object item) {
+        processEntities(List.of(item));
+    }
+
+    @Override
+    public void processEntities(List<?> items) {
         if (!isReady()) {
             return;
         }
-        List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Vectorize.class);
-        if (!fields.isEmpty()) {
-            PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
-            fields.forEach(f -> {
-                Vectorize vectorize = f.getAnnotation(Vectorize.class);
-                Object fieldValue = accessor.getPropertyValue(f.getName());
-                if (fieldValue != null) {
-                    switch (vectorize.embeddingType()) {
-                        case IMAGE -> {
-                            Resource resource = applicationContext.getResource(fieldValue.toString());
-                            try {
-                                byte[] feature = getImageEmbeddingsFor(resource.getInputStream());
-                                accessor.setPropertyValue(vectorize.destination(), feature);
-                            } catch (IOException e) {
-                                logger.warn("Error generating image embedding", e);
-                            }
-                        }
-                        case WORD -> {
-                            //TODO: implement me!
-                        }
-                        case FACE -> {
-                            Resource resource = applicationContext.getResource(fieldValue.toString());
-                            try {
-                                byte[] feature = getFacialImageEmbeddingsFor(resource.getInputStream());
-                                accessor.setPropertyValue(vectorize.destination(), feature);
-                            } catch (IOException | TranslateException e) {
-                                logger.warn("Error generating facial image embedding", e);
-                            }
-                        }
-                        case SENTENCE ->
-                                accessor.setPropertyValue(vectorize.destination(), getSentenceEmbeddingsFor(fieldValue.toString()));
-                    }
+        List<Work> work = new ArrayList<>();
+        for (Object item : items) {
+            for (Work w : workOf(item, null)) {
+                if (isAsync(w.vectorize())) {
+                    setStatus(w, VectorizationStatus.PENDING);
+                } else {
+                    work.add(w);
                 }
-            });
+            }
+        }
+
+        byte[][] embeddings = embeddingsOf(work);
+        for (int i = 0; i < work.size(); i++) {
+            Work w = work.get(i);
+            if (embeddings[i] != null) {
+                w.accessor().setPropertyValue(w.vectorize().destination(), embeddings[i]);
+            }
+            setStatus(w, embeddings[i] != null ? VectorizationStatus.DONE : VectorizationStatus.FAILED);
         }
     }
 
+    @Override
+    public void backfill(List<byte[]> redisKeys, List<?> items) {
+        if (!isReady() || redisOperations == null) {
+            return;
+        }
+        Map<EmbeddingType, List<Work>> workByType = new EnumMap<>(EmbeddingType.class);
+        for (int i = 0; i < items.size(); i++) {
+            for (Work w : workOf(items.get(i), redisKeys.get(i))) {
+                if (isAsync(w.vectorize())) {
+                    workByType.computeIfAbsent(w.vectorize().embeddingType(), t -> new ArrayList<>()).add(w);
+                }
+            }
+        }
+
+        enqueue(workByType);
+    }
+
+    @Override
+    public void resumePending(Class<?> entityClass, Collection<String> keyspaces) {
+        if (!isReady() || redisOperations == null || entityClass.isAnnotationPresent(Document.class)) {
+            return;
+        }
+        List<Field> fields = ObjectUtils.getFieldsWithAnnotation(entityClass, Vectorize.class).stream()
+                .filter(f -> isAsync(f.getAnnotation(Vectorize.class)))
+                .filter(f -> !f.getAnnotation(Vectorize.class).status().isEmpty())
+                .toList();
+        if (fields.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                for (String keyspace : keyspaces) {
+                    resumePending(keyspace, fields);
+                }
+            } catch (Exception e) {
+                logger.warn(String.format("Error resuming the pending embeddings of %s", entityClass.getName()), e);
+            }
+        });
+    }
+
+    private void resumePending(String keyspace, List<Field> fields) {
+        // the status and the value of each field, in turn
+        byte[][] hashFields = fields.stream()
+                .flatMap(f -> Stream.of(f.getAnnotation(Vectorize.class).status(), f.getName()))
+                .map(SafeEncoder::encode).toArray(byte[][]::new);
+        ScanOptions options = ScanOptions.scanOptions().match(keyspace + "*").type(DataType.HASH)
+                .count(batchSize).build();
+        long resumed = redisOperations.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            try (Cursor<byte[]> keys = connection.keyCommands().scan(options)) {
+                for (List<byte[]> batch : Iterables.partition(() -> keys, batchSize)) {
+                    count += resumePending(batch, fields, hashFields);
+                }
+            }
+            return count;
+        });
+        if (resumed > 0) {
+            logger.info(String.format("Resumed %s pending embeddings of %s", resumed, keyspace));
+        }
+    }
+
+    private int resumePending(List<byte[]> keys, List<Field> fields, byte[][] hashFields) {
+        List<Object> replies = redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.hashCommands().hMGet(key, hashFields));
+            return null;
+        });
+        Map<EmbeddingType, List<Work>> workByType = new EnumMap<>(EmbeddingType.class);
+        int count = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!(replies.get(i) instanceof List<?> values)) {
+                continue;
+            }
+            for (int j = 0; j < fields.size(); j++) {
+                Object status = values.get(2 * j);
+                Object value = values.get(2 * j + 1);
+                if (value != null && VectorizationStatus.PENDING.name().equals(stringOf(status))) {
+                    Vectorize vectorize = fields.get(j).getAnnotation(Vectorize.class);
+                    workByType.computeIfAbsent(vectorize.embeddingType(), t -> new ArrayList<>())
+                            .add(new Work(null, vectorize, stringOf(value), keys.get(i)));
+                    count++;
+                }
+            }
+        }
+        enqueue(workByType);
+        return count;
+    }
+
+    private static String stringOf(Object reply) {
+        return reply instanceof byte[] bytes ? SafeEncoder.encode(bytes) : reply != null ? reply.toString() : null;
+    }
+
+    // generates and writes the embeddings in the background, by batches of a type
+    private void enqueue(Map<EmbeddingType, List<Work>> workByType) {
+        workByType.forEach((type, work) -> {
+            for (List<Work> batch : Lists.partition(work, batchSize)) {
+                stats.pendingAdded(batch.size());
+                executor.execute(() -> {
+                    try {
+                        write(batch, embed(type, batch.stream().map(Work::value).toList()));
+                    } catch (Exception e) {
+                        logger.warn(String.format("Error writing %s %s embeddings", batch.size(), type), e);
+                    } finally {
+                        stats.pendingDone(batch.size());
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public Optional<VectorizeStats> getStats() {
+        return Optional.of(stats);
+    }
+
     @Override
     public boolean isReady() {
         return this.faceEmbeddingModel != null && this.sentenceTokenizer != null;
     }
+
+    /**
+     * Lets the workers write the embeddings already queued, for up to
+     * {@code SHUTDOWN_TIMEOUT}; the ones left are resumed at the next startup.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                int dropped = executor.shutdownNow().size();
+                logger.warn(String.format("Stopped with %s batches of embeddings pending, they'll be resumed on the "
+                        + "next startup", dropped));
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            imagePredictors.close();
+            facePredictors.close();
+        }
+    }
+
+    private boolean isAsync(Vectorize vectorize) {
+        return vectorize.async() && redisOperations != null;
+    }
+
+    private List<Work> workOf(Object item, byte[] redisKey) {
+        List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Vectorize.class);
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+        List<Work> work = new ArrayList<>();
+        PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
+        for (Field f : fields) {
+            Vectorize vectorize = f.getAnnotation(Vectorize.class);
+            Object fieldValue = accessor.getPropertyValue(f.getName());
+            //TODO: implement WORD embeddings!
+            if (fieldValue != null && vectorize.embeddingType() != EmbeddingType.WORD) {
+                work.add(new Work(accessor, vectorize, fieldValue, redisKey));
+            }
+        }
+        return work;
+    }
+
+    private void setStatus(Work work, VectorizationStatus status) {
+        if (!work.vectorize().status().isEmpty()) {
+            work.accessor().setPropertyValue(work.vectorize().status(), status.name());
+        }
+    }
+
+    /**
+     * Generates the embeddings of the work, in batches of each embedding type
+     * run on the workers, and waits for them.
+     *
+     * @return the embeddings, in the order of the work, null where they failed
+     */
+    private byte[][] embeddingsOf(List<Work> work) {
+        byte[][] embeddings = new byte[work.size()][];
+        Map<EmbeddingType, List<Integer>> indexesByType = new EnumMap<>(EmbeddingType.class);
+        for (int i = 0; i < work.size(); i++) {
+            indexesByType.computeIfAbsent(work.get(i).vectorize().embeddingType(), t -> new ArrayList<>()).add(i);
+        }
+
+        List<Runnable> batches = new ArrayList<>();
+        indexesByType.forEach((type, indexes) -> {
+            for (List<Integer> batch : Lists.partition(indexes, batchSize)) {
+                batches.add(() -> {
+                    List<byte[]> batchEmbeddings = embed(type, batch.stream().map(i -> work.get(i).value()).toList());
+                    for (int i = 0; i < batch.size(); i++) {
+                        embeddings[batch.get(i)] = batchEmbeddings.get(i);
+                    }
+                });
+            }
+        });
+        // a single batch, e.g. of a single entity, isn't worth a hand-off
+        if (batches.size() == 1) {
+            batches.get(0).run();
+            return embeddings;
+        }
+        List<Future<?>> futures = batches.stream().<Future<?>>map(executor::submit).toList();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                logger.warn("Error generating embeddings", e.getCause());
+            }
+        }
+        return embeddings;
+    }
+
+    /**
+     * @return the embeddings of the values, null where they failed
+     */
+    List<byte[]> embed(EmbeddingType type, List<Object> values) {
+        long start = System.nanoTime();
+        List<byte[]> embeddings = switch (type) {
+            case IMAGE -> embedImages(values, imagePredictors, Function.identity());
+            case FACE -> embedImages(values, facePredictors, ObjectUtils::floatArrayToByteArray);
+            case SENTENCE -> embedSentences(values);
+            case WORD -> Collections.nCopies(values.size(), null);
+        };
+        int embedded = (int) embeddings.stream().filter(Objects::nonNull).count();
+        stats.batchEmbedded(type, embedded, values.size() - embedded, System.nanoTime() - start);
+        return embeddings;
+    }
+
+    private <T> List<byte[]> embedImages(List<Object> values, PredictorPool<Predictor<Image, T>> predictors,
+            Function<T, byte[]> toBytes) {
+        List<byte[]> embeddings = new ArrayList<>(Collections.nCopies(values.size(), null));
+        List<Integer> loaded = new ArrayList<>();
+        List<Image> images = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            Resource resource = applicationContext.getResource(values.get(i).toString());
+            try (InputStream is = resource.getInputStream()) {
+                images.add(imageFactory.fromInputStream(is));
+                loaded.add(i);
+            } catch (IOException e) {
+                logger.warn(String.format("Error loading image %s", values.get(i)), e);
+            }
+        }
+        if (images.isEmpty()) {
+            return embeddings;
+        }
+        try {
+            List<T> predictions = predictors.apply(predictor -> predictor.batchPredict(images));
+            for (int i = 0; i < loaded.size(); i++) {
+                embeddings.set(loaded.get(i), toBytes.apply(predictions.get(i)));
+            }
+        } catch (TranslateException | RuntimeException e) {
+            logger.warn(String.format("Error generating %s image embeddings", images.size()), e);
+        }
+        return embeddings;
+    }
+
+    private List<byte[]> embedSentences(List<Object> values) {
+        try {
+            Encoding[] encodings = sentenceTokenizer.batchEncode(values.stream().map(Object::toString).toList());
+            return Arrays.stream(encodings).map(encoding -> ObjectUtils.longArrayToByteArray(encoding.getIds()))
+                    .toList();
+        } catch (RuntimeException e) {
+            logger.warn(String.format("Error generating %s sentence embeddings", values.size()), e);
+            return Collections.nCopies(values.size(), null);
+        }
+    }
+
+    /**
+     * Writes the embeddings, and their status, to the entities that still
+     * exist, checking and writing each entity atomically so that an entity
+     * deleted meanwhile isn't brought back as a hash of just its embedding.
+     */
+    private void write(List<Work> batch, List<byte[]> embeddings) {
+        try {
+            writePipelined(batch, embeddings);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // the scripts were flushed, e.g. by a restart of Redis: writing the
+            // embeddings again is harmless
+            isScriptLoaded = false;
+            writePipelined(batch, embeddings);
+        }
+    }
+
+    private void writePipelined(List<Work> batch, List<byte[]> embeddings) {
+        if (!isScriptLoaded) {
+            redisOperations.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(SafeEncoder.encode(HSET_IF_EXISTS.getScriptAsString())));
+            isScriptLoaded = true;
+        }
+        redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < batch.size(); i++) {
+                write(connection, batch.get(i), embeddings.get(i));
+            }
+            return null;
+        });
+    }
+
+    private void write(RedisConnection connection, Work work, byte[] embedding) {
+        Vectorize vectorize = work.vectorize();
+        List<byte[]> keyAndArgs = new ArrayList<>();
+        keyAndArgs.add(work.redisKey());
+        if (embedding != null) {
+            keyAndArgs.add(SafeEncoder.encode(vectorize.destination()));
+            keyAndArgs.add(embedding);
+        }
+        if (!vectorize.status().isEmpty()) {
+            VectorizationStatus status = embedding != null ? VectorizationStatus.DONE : VectorizationStatus.FAILED;
+            keyAndArgs.add(SafeEncoder.encode(vectorize.status()));
+            keyAndArgs.add(SafeEncoder.encode(status.name()));
+        }
+        if (keyAndArgs.size() > 1) {
+            connection.scriptingCommands()
+                    .evalSha(HSET_IF_EXISTS.getSha1(), ReturnType.INTEGER, 1, keyAndArgs.toArray(byte[][]::new));
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
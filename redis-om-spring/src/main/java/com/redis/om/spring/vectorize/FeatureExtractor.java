@@ -4,6 +4,9 @@ import ai.djl.translate.TranslateException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface FeatureExtractor {
     void processEntity(byte[] redisKey, Object item);
@@ -16,5 +19,32 @@ public interface FeatureExtractor {
 
     void processEntity(Object item);
 
+    /**
+     * Sets the embeddings of the {@link com.redis.om.spring.annotations.Vectorize}
+     * fields of a batch of entities about to be saved, but for the fields
+     * vectorized asynchronously, which are only marked as pending.
+     */
+    default void processEntities(List<?> items) {
+        items.forEach(this::processEntity);
+    }
+
+    /**
+     * Writes the embeddings of the asynchronously vectorized fields of a batch
+     * of saved entities to their keys, in the background.
+     */
+    default void backfill(List<byte[]> redisKeys, List<?> items) {
+    }
+
+    /**
+     * Writes, in the background, the embeddings of the entities stored under
+     * the keyspaces that were left pending, e.g. by a shutdown.
+     */
+    default void resumePending(Class<?> entityClass, Collection<String> keyspaces) {
+    }
+
+    default Optional<VectorizeStats> getStats() {
+        return Optional.empty();
+    }
+
     boolean isReady();
 }
@@ -0,0 +1,128 @@
+package com.redis.om.spring.vectorize;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of the predictors of a model. DJL predictors hold native
+ * resources and aren't thread-safe, so rather than creating one per
+ * prediction, each thread borrows a predictor for as long as it predicts and
+ * returns it to the pool, where it stays warm for the next one. Predictors are
+ * created on demand, up to the size of the pool; past that, threads wait for a
+ * predictor to be returned.
+ *
+ * @param <P> the type of the predictors
+ */
+public class PredictorPool<P extends AutoCloseable> implements AutoCloseable {
+    private final Supplier<P> newPredictor;
+    private final int size;
+    private final BlockingQueue<P> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
+
+    private static final Log logger = LogFactory.getLog(PredictorPool.class);
+
+    @FunctionalInterface
+    public interface PredictorFunction<P, R, E extends Exception> {
+        R apply(P predictor) throws E;
+    }
+
+    /**
+     * @param newPredictor creates a predictor of the model
+     * @param size         the maximum number of predictors
+     */
+    public PredictorPool(Supplier<P> newPredictor, int size) {
+        this.newPredictor = newPredictor;
+        this.size = Math.max(1, size);
+    }
+
+    /**
+     * Borrows a predictor for the duration of the function.
+     *
+     * @return the result of the function
+     */
+    public <R, E extends Exception> R apply(PredictorFunction<P, R, E> function) throws E {
+        P predictor = borrow();
+        try {
+            return function.apply(predictor);
+        } finally {
+            release(predictor);
+        }
+    }
+
+    P borrow() {
+        if (closed) {
+            throw new IllegalStateException("The predictor pool is closed");
+        }
+        P predictor = idle.poll();
+        if (predictor != null) {
+            return predictor;
+        }
+        int count;
+        while ((count = created.get()) < size) {
+            if (created.compareAndSet(count, count + 1)) {
+                try {
+                    return newPredictor.get();
+                } catch (RuntimeException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+        try {
+            while ((predictor = idle.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                if (closed) {
+                    throw new IllegalStateException("The predictor pool is closed");
+                }
+            }
+            return predictor;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a predictor", e);
+        }
+    }
+
+    void release(P predictor) {
+        idle.offer(predictor);
+        if (closed) {
+            closeIdle();
+        }
+    }
+
+    /**
+     * @return the number of predictors created so far
+     */
+    public int getCreated() {
+        return created.get();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Closes the idle predictors, and the borrowed ones as they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeIdle();
+    }
+
+    private void closeIdle() {
+        P predictor;
+        while ((predictor = idle.poll()) != null) {
+            try {
+                predictor.close();
+            } catch (Exception e) {
+                logger.warn("Error closing predictor", e);
+            }
+        }
+    }
+}
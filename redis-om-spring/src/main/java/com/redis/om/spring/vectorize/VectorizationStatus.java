@@ -0,0 +1,12 @@
+package com.redis.om.spring.vectorize;
+
+/**
+ * The status of the embedding of a {@link com.redis.om.spring.annotations.Vectorize}
+ * field, kept in the field named by its {@code status}.
+ */
+public enum VectorizationStatus {
+  // the embedding is being generated in the background
+  PENDING,
+  DONE,
+  FAILED
+}
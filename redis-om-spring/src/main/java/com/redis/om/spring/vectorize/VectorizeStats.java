@@ -0,0 +1,62 @@
+package com.redis.om.spring.vectorize;
+
+import com.redis.om.spring.annotations.EmbeddingType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The embeddings generated for {@link com.redis.om.spring.annotations.Vectorize}
+ * fields, the batches they were generated in and how long inference took, and
+ * the embeddings still to be written in the background.
+ */
+public class VectorizeStats {
+  private final Map<EmbeddingType, LongAdder> embeddings = new EnumMap<>(EmbeddingType.class);
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder inferenceNanos = new LongAdder();
+  private final AtomicLong pending = new AtomicLong();
+
+  public VectorizeStats() {
+    for (EmbeddingType type : EmbeddingType.values()) {
+      embeddings.put(type, new LongAdder());
+    }
+  }
+
+  void batchEmbedded(EmbeddingType type, int embedded, int failed, long nanos) {
+    embeddings.get(type).add(embedded);
+    failures.add(failed);
+    batches.increment();
+    inferenceNanos.add(nanos);
+  }
+
+  void pendingAdded(int count) {
+    pending.addAndGet(count);
+  }
+
+  void pendingDone(int count) {
+    pending.addAndGet(-count);
+  }
+
+  public long getEmbeddings(EmbeddingType type) {
+    return embeddings.get(type).sum();
+  }
+
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  public long getInferenceNanos() {
+    return inferenceNanos.sum();
+  }
+
+  public long getPending() {
+    return pending.get();
+  }
+}
@@ -0,0 +1,65 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.annotations.document.fixtures.PageView;
+import com.redis.om.spring.annotations.document.fixtures.PageView$;
+import com.redis.om.spring.annotations.document.fixtures.PageViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistinctCountTest extends AbstractBaseDocumentTest {
+  static final String HLL = "hll:PageView:visitor";
+
+  @Autowired
+  PageViewRepository repository;
+
+  PageView bobsView;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+    repository.saveAll(List.of(PageView.of("ann", "/home"), PageView.of("ann", "/about")));
+    bobsView = repository.save(PageView.of("bob", "/home"));
+  }
+
+  @Test
+  void testDistinctValuesAreCountedInAllByValueAndByTime() {
+    Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS);
+
+    assertThat(repository.countDistinct(PageView$.VISITOR)).isEqualTo(2);
+    assertThat(repository.countDistinct(PageView$.VISITOR, "/home")).isEqualTo(2);
+    assertThat(repository.countDistinct(PageView$.VISITOR, "/about")).isEqualTo(1);
+    assertThat(repository.countDistinct(PageView$.VISITOR, today, null)).isEqualTo(2);
+    assertThat(repository.countDistinct(PageView$.VISITOR, today.minus(7, ChronoUnit.DAYS),
+        today.minus(1, ChronoUnit.DAYS))).isZero();
+  }
+
+  @Test
+  void testTimeBucketsExpireAfterTheirRetention() {
+    long today = Instant.now().toEpochMilli() / Duration.ofDays(1).toMillis();
+
+    Long ttl = template.getExpire(HLL + "@" + today);
+
+    assertThat(ttl).isGreaterThan(Duration.ofDays(29).toSeconds()).isLessThanOrEqualTo(Duration.ofDays(30).toSeconds());
+    assertThat(template.getExpire(HLL)).isEqualTo(-1);
+  }
+
+  @Test
+  void testDeletedValuesStayCountedUntilAllEntitiesAreDeleted() {
+    repository.deleteById(bobsView.getId());
+
+    assertThat(repository.countDistinct(PageView$.VISITOR)).isEqualTo(2);
+
+    repository.deleteAll();
+
+    assertThat(repository.countDistinct(PageView$.VISITOR)).isZero();
+    assertThat(repository.countDistinct(PageView$.VISITOR, "/home")).isZero();
+  }
+}
@@ -0,0 +1,73 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.annotations.document.fixtures.Company;
+import com.redis.om.spring.annotations.document.fixtures.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.context.TestPropertySource;
+import redis.clients.jedis.search.Query;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { //
+    "redis.om.spring.indexing.versioned=true", //
+    "redis.om.spring.indexing.cutover-poll-interval=50ms" //
+})
+class IndexCutoverTest extends AbstractBaseDocumentTest {
+  static final String ALIAS = Company.class.getName() + "Idx";
+
+  @Autowired
+  CompanyRepository repository;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+    repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com"));
+  }
+
+  @Test
+  void testIndexesAreServedThroughAnAliasOfTheirVersionedName() {
+    assertThat(indexBehind(ALIAS)).startsWith(ALIAS).isNotEqualTo(ALIAS);
+    assertThat(repository.findFirstByName("RedisInc")).isPresent();
+  }
+
+  @Test
+  void testAnIndexCreatedBeforeVersioningKeepsServingUntilItIsReplaced() throws InterruptedException {
+    String versioned = indexBehind(ALIAS);
+    // an index created before versioning was enabled holds the plain name
+    execute("FT.DROPINDEX", versioned);
+    execute("FT.CREATE", ALIAS, "ON", "JSON", "PREFIX", "1", Company.class.getName() + ":", "SCHEMA", "$.name",
+        "AS", "name", "TEXT");
+
+    indexer.createIndexFor(Company.class);
+
+    long deadline = System.currentTimeMillis() + 10000;
+    while (!versioned.equals(indexBehind(ALIAS)) && System.currentTimeMillis() < deadline) {
+      assertThat(modulesOperations.opsForSearch(ALIAS).search(new Query("*")).getTotalResults()).isEqualTo(1);
+      Thread.sleep(10);
+    }
+
+    assertThat(indexBehind(ALIAS)).isEqualTo(versioned);
+    assertThat(repository.findFirstByName("RedisInc")).isPresent();
+  }
+
+  private String indexBehind(String indexNameOrAlias) {
+    try {
+      return String.valueOf(modulesOperations.getClient().clientForSearch().ftInfo(indexNameOrAlias).get("index_name"));
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private void execute(String command, String... args) {
+    template.execute((RedisCallback<Object>) connection -> connection.execute(command,
+        Arrays.stream(args).map(String::getBytes).toArray(byte[][]::new)));
+  }
+}
@@ -0,0 +1,48 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.IndexProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexProfileRoutingTest {
+  @Document(noStopwords = true)
+  @IndexProfile(name = "same", fields = { "name" }, noStopwords = true, noHighlights = true)
+  @IndexProfile(name = "offsets", fields = { "name" }, noStopwords = true, noOffsets = true)
+  @IndexProfile(name = "stopwords", fields = { "name" })
+  static class Tuned {
+  }
+
+  @IndexProfile(name = "plain", fields = { "name" })
+  @IndexProfile(name = "frequencies", fields = { "name" }, noFrequencies = true)
+  static class Untuned {
+  }
+
+  private static IndexProfile profile(Class<?> cl, String name) {
+    for (IndexProfile profile : cl.getAnnotationsByType(IndexProfile.class)) {
+      if (profile.name().equals(name)) {
+        return profile;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  @Test
+  void testProfilesWithTheQueryOptionsOfTheMainIndexAreRouted() {
+    Optional<Document> document = Optional.of(Tuned.class.getAnnotation(Document.class));
+
+    assertThat(RediSearchIndexer.answersQueriesLike(profile(Tuned.class, "same"), document)).isTrue();
+    assertThat(RediSearchIndexer.answersQueriesLike(profile(Tuned.class, "offsets"), document)).isFalse();
+    assertThat(RediSearchIndexer.answersQueriesLike(profile(Tuned.class, "stopwords"), document)).isFalse();
+  }
+
+  @Test
+  void testProfilesOfEntitiesWithoutOptionsMustHaveNone() {
+    assertThat(RediSearchIndexer.answersQueriesLike(profile(Untuned.class, "plain"), Optional.empty())).isTrue();
+    assertThat(RediSearchIndexer.answersQueriesLike(profile(Untuned.class, "frequencies"), Optional.empty()))
+        .isFalse();
+  }
+}
@@ -0,0 +1,37 @@
+package com.redis.om.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexProgressTest {
+  @Test
+  void testProgressOfAnIndexStillScanning() {
+    IndexProgress progress = IndexProgress.of("PersonIdx", Map.of( //
+        "percent_indexed", "0.42", //
+        "indexing", 1L, //
+        "hash_indexing_failures", "3", //
+        "num_docs", "4200"));
+
+    assertThat(progress).isEqualTo(new IndexProgress("PersonIdx", 0.42, true, 3, 4200));
+    assertThat(progress.isComplete()).isFalse();
+  }
+
+  @Test
+  void testProgressOfACompleteIndex() {
+    IndexProgress progress = IndexProgress.of("PersonIdx", Map.of( //
+        "percent_indexed", "1", //
+        "indexing", "0", //
+        "hash_indexing_failures", 0L, //
+        "num_docs", 10L));
+
+    assertThat(progress.isComplete()).isTrue();
+  }
+
+  @Test
+  void testMissingFieldsDefaultToComplete() {
+    assertThat(IndexProgress.of("PersonIdx", Map.of()).isComplete()).isTrue();
+  }
+}
@@ -0,0 +1,72 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.annotations.document.fixtures.Company;
+import com.redis.om.spring.annotations.document.fixtures.Company$;
+import com.redis.om.spring.annotations.document.fixtures.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+import org.springframework.test.context.TestPropertySource;
+import redis.clients.jedis.json.Path;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { "redis.om.spring.repository.dirty-tracking.enabled=true" })
+class RedisJSONKeyValueAdapterDirtyTrackingTest extends AbstractBaseDocumentTest {
+  @Autowired
+  CompanyRepository repository;
+
+  String id;
+  String key;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+
+    Company redis = repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1),
+        new Point(-122.066540, 37.377690), "stack@redis.com"));
+    id = redis.getId();
+    key = Company.class.getName() + ":" + id;
+  }
+
+  @Test
+  void testSavingALoadedEntityWritesOnlyTheFieldsItChanged() {
+    Company loaded = repository.findById(id).orElseThrow();
+    modulesOperations.opsForJSON().set(key, 1999, Path.of("$.yearFounded"));
+
+    loaded.setName("Redis");
+    repository.save(loaded);
+
+    Company stored = modulesOperations.opsForJSON().get(key, Company.class);
+    assertThat(stored.getName()).isEqualTo("Redis");
+    assertThat(stored.getYearFounded()).isEqualTo(1999);
+  }
+
+  @Test
+  void testSavingAfterUpdateFieldWritesTheEntityValueBack() {
+    Company loaded = repository.findById(id).orElseThrow();
+    repository.updateField(loaded, Company$.YEAR_FOUNDED, 1999);
+
+    loaded.setName("Redis");
+    repository.save(loaded);
+
+    Company stored = modulesOperations.opsForJSON().get(key, Company.class);
+    assertThat(stored.getName()).isEqualTo("Redis");
+    assertThat(stored.getYearFounded()).isEqualTo(2011);
+  }
+
+  @Test
+  void testSavingAnEntityDeletedSinceItWasLoadedWritesItInFull() {
+    Company loaded = repository.findById(id).orElseThrow();
+    template.delete(key);
+
+    loaded.setName("Redis");
+    repository.save(loaded);
+
+    Company stored = modulesOperations.opsForJSON().get(key, Company.class);
+    assertThat(stored).isEqualTo(loaded);
+  }
+}
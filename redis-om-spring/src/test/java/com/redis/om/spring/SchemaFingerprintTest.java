@@ -0,0 +1,54 @@
+package com.redis.om.spring;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.IndexDefinition;
+import redis.clients.jedis.search.IndexOptions;
+import redis.clients.jedis.search.Schema.Field;
+import redis.clients.jedis.search.Schema.FieldType;
+import redis.clients.jedis.search.Schema.TagField;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaFingerprintTest {
+  private static IndexOptions options(String prefix) {
+    IndexDefinition definition = new IndexDefinition(IndexDefinition.Type.JSON);
+    definition.setPrefixes(prefix);
+    return IndexOptions.defaultOptions().setDefinition(definition);
+  }
+
+  @Test
+  void testFingerprintIsStableForTheSameDefinition() {
+    List<Field> schema1 = List.of(new TagField("$.name"), new Field("$.age", FieldType.NUMERIC, true));
+    List<Field> schema2 = List.of(new TagField("$.name"), new Field("$.age", FieldType.NUMERIC, true));
+
+    assertThat(RediSearchIndexer.schemaFingerprint(schema1, options("person:")))
+        .isEqualTo(RediSearchIndexer.schemaFingerprint(schema2, options("person:")))
+        .hasSize(12);
+  }
+
+  @Test
+  void testFingerprintChangesWithTheDefinition() {
+    List<Field> schema = List.of(new TagField("$.name"));
+    String fingerprint = RediSearchIndexer.schemaFingerprint(schema, options("person:"));
+
+    assertThat(RediSearchIndexer.schemaFingerprint(List.of(new TagField("$.name"), new Field("$.age", FieldType.NUMERIC)),
+        options("person:"))).isNotEqualTo(fingerprint);
+    assertThat(RediSearchIndexer.schemaFingerprint(List.of(new TagField("$.name", ",", true)), options("person:")))
+        .isNotEqualTo(fingerprint);
+    assertThat(RediSearchIndexer.schemaFingerprint(schema, options("people:"))).isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void testRecordedFingerprintSeparatesOptionsAndFields() {
+    String before = RediSearchIndexer.recordedFingerprint(List.of(new TagField("$.name")), options("person:"));
+    String after = RediSearchIndexer.recordedFingerprint(
+        List.of(new TagField("$.name"), new Field("$.age", FieldType.NUMERIC)), options("person:"));
+
+    assertThat(after).startsWith(before + ",");
+    assertThat(RediSearchIndexer.recordedFingerprint(List.of(new TagField("$.name")), options("people:")))
+        .isNotEqualTo(before)
+        .endsWith(before.substring(before.indexOf(':')));
+  }
+}
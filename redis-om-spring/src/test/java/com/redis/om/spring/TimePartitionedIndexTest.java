@@ -0,0 +1,96 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.annotations.document.fixtures.Reading;
+import com.redis.om.spring.annotations.document.fixtures.ReadingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.aggr.Reducers;
+import redis.clients.jedis.search.aggr.SortedField;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimePartitionedIndexTest extends AbstractBaseDocumentTest {
+  static final String INDEX = Reading.class.getName() + "Idx";
+  static final String ROUTES = "redis-om:partition-routes:" + INDEX;
+  static final LocalDate DAY = LocalDate.of(2023, 11, 14);
+
+  @Autowired
+  ReadingRepository repository;
+
+  Reading first;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+    first = repository.save(Reading.of("m1", 10.0, DAY));
+    repository.save(Reading.of("m1", 30.0, DAY.plusDays(1)));
+    repository.save(Reading.of("m2", 20.0, DAY.plusDays(1)));
+    repository.save(Reading.of("m1", 5.0, DAY.plusDays(2)));
+  }
+
+  @Test
+  void testDocumentsAreStoredUnderThePartitionOfTheirTime() {
+    assertThat(template.keys(Reading.class.getName() + "_p*")).hasSize(4);
+    assertThat(modulesOperations.getPartitionedIndexes().get(INDEX).orElseThrow().partitions()).hasSize(3);
+    assertThat(repository.findById(first.getId())).contains(first);
+    assertThat(repository.existsById(first.getId())).isTrue();
+  }
+
+  @Test
+  void testSearchesAreFannedOutToThePartitionsAndMerged() {
+    assertThat(repository.findByMeter("m1")).extracting(Reading::getValue).containsExactlyInAnyOrder(10.0, 30.0, 5.0);
+    assertThat(repository.findByTakenOnBetween(DAY.plusDays(1), DAY.plusDays(2))).hasSize(3);
+
+    SearchResult cheapest = modulesOperations.opsForSearch(INDEX)
+        .search(new Query("*").setSortBy("value", true).limit(0, 2));
+    assertThat(cheapest.getTotalResults()).isEqualTo(4);
+    assertThat(cheapest.getDocuments()).extracting(Document::getId)
+        .allMatch(id -> id.startsWith(Reading.class.getName() + "_p")).hasSize(2);
+    assertThat(repository.findAllById(cheapest.getDocuments().stream()
+        .map(d -> d.getId().substring(d.getId().lastIndexOf(':') + 1)).toList()))
+        .extracting(Reading::getValue).containsExactlyInAnyOrder(5.0, 10.0);
+  }
+
+  @Test
+  void testAggregationsAreMergedAcrossThePartitions() {
+    AggregationResult counts = modulesOperations.opsForSearch(INDEX).aggregate(new AggregationBuilder("*")
+        .groupBy("@meter", Reducers.count().as("count"), Reducers.sum("@value").as("total"))
+        .sortBy(SortedField.desc("@count")));
+
+    assertThat(counts.getTotalResults()).isEqualTo(2);
+    assertThat(counts.getRow(0).getString("meter")).isEqualTo("m1");
+    assertThat(counts.getRow(0).getLong("count")).isEqualTo(3);
+    assertThat(counts.getRow(0).getDouble("total")).isEqualTo(45.0);
+    assertThat(counts.getRow(1).getLong("count")).isEqualTo(1);
+  }
+
+  @Test
+  void testAChangeOfTimeMovesTheDocumentToItsNewPartition() {
+    first.setTakenOn(DAY.plusDays(2));
+    repository.save(first);
+
+    assertThat(template.keys(Reading.class.getName() + "_p*")).hasSize(4);
+    assertThat(repository.findById(first.getId())).map(Reading::getTakenOn).contains(DAY.plusDays(2));
+    assertThat(repository.findByTakenOnBetween(DAY, DAY)).isEmpty();
+  }
+
+  @Test
+  void testDeletedDocumentsAreForgotten() {
+    repository.deleteById(first.getId());
+
+    assertThat(repository.findById(first.getId())).isEmpty();
+    assertThat(template.opsForHash().hasKey(ROUTES, first.getId())).isFalse();
+    assertThat(repository.count()).isEqualTo(3);
+
+    repository.deleteAll();
+    assertThat(template.hasKey(ROUTES)).isFalse();
+  }
+}
@@ -0,0 +1,35 @@
+package com.redis.om.spring;
+
+import com.redis.om.spring.convert.LocalDateToBytesConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimePartitioningTest {
+  @Test
+  void testLocalDatesArePartitionedInEpochSeconds() {
+    LocalDate date = LocalDate.of(2023, 11, 14);
+    long indexed = Long.parseLong(new String(new LocalDateToBytesConverter().convert(date)));
+
+    assertThat(RediSearchIndexer.indexedTimeOf(date)).isEqualTo(indexed);
+    long width = RediSearchIndexer.partitionWidthOf(LocalDate.class, Duration.ofDays(1));
+    assertThat(width).isEqualTo(86400);
+
+    long start = RediSearchIndexer.partitionStartOf(indexed, width);
+    assertThat(indexed).isGreaterThanOrEqualTo(start).isLessThan(start + width);
+    assertThat(RediSearchIndexer.partitionStartOf(RediSearchIndexer.indexedTimeOf(date.plusDays(1)), width))
+        .isEqualTo(start + width);
+  }
+
+  @Test
+  void testPartitionsAreInTheUnitsOfTheField() {
+    assertThat(RediSearchIndexer.partitionWidthOf(Instant.class, Duration.ofHours(1))).isEqualTo(3600);
+    assertThat(RediSearchIndexer.partitionWidthOf(LocalDateTime.class, Duration.ofHours(1))).isEqualTo(3_600_000);
+    assertThat(RediSearchIndexer.partitionStartOf(-1, 100)).isEqualTo(-100);
+  }
+}
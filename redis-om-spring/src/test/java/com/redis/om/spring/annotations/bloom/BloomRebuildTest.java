@@ -0,0 +1,74 @@
+package com.redis.om.spring.annotations.bloom;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.annotations.document.fixtures.Coupon;
+import com.redis.om.spring.annotations.document.fixtures.CouponRepository;
+import com.redis.om.spring.bloom.BloomFilters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { //
+    "redis.om.spring.bloom.refresh-interval=0", //
+    "redis.om.spring.bloom.rebuild-threshold=0" //
+})
+class BloomRebuildTest extends AbstractBaseDocumentTest {
+  static final String KEYSPACE = Coupon.class.getName() + ":";
+  static final String FILTER = "bf:Coupon:code";
+  static final String COPY = "{" + FILTER + "}:rebuild";
+  static final LocalDate JANUARY = LocalDate.of(2024, 1, 31);
+  static final LocalDate FEBRUARY = LocalDate.of(2024, 2, 29);
+
+  @Autowired
+  CouponRepository repository;
+
+  @Autowired
+  BloomFilters bloomFilters;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+    repository.save(Coupon.of("WINTER", JANUARY));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    template.delete(COPY);
+  }
+
+  @Test
+  void testFiltersAreRebuiltFromTheValuesInTheIndex() {
+    // written around the repository, so its values never made it into the filters
+    modulesOperations.opsForJSON().set(KEYSPACE + "unfiltered", Coupon.of("LEAP", FEBRUARY));
+    assertThat(repository.existsByCode("LEAP")).isFalse();
+    long rebuilds = bloomFilters.getRebuilds();
+
+    bloomFilters.refresh();
+
+    assertThat(bloomFilters.getRebuilds()).isGreaterThan(rebuilds);
+    assertThat(repository.existsByCode("LEAP")).isTrue();
+    assertThat(repository.existsByCode("WINTER")).isTrue();
+    // in the form the values of the entities are looked up in, not as stored
+    assertThat(repository.existsByValidUntil(FEBRUARY)).isTrue();
+    assertThat(repository.existsByValidUntil(JANUARY)).isTrue();
+    assertThat(template.hasKey(COPY)).isFalse();
+    assertThat(template.getExpire(FILTER)).isEqualTo(-1);
+  }
+
+  @Test
+  void testValuesSavedWhileAFilterIsRebuiltGoToBothCopies() {
+    modulesOperations.opsForBloom().createFilter(COPY, 1000, 0.01);
+
+    repository.save(Coupon.of("SPRING", FEBRUARY));
+
+    assertThat(modulesOperations.opsForBloom().exists(FILTER, "SPRING")).isTrue();
+    assertThat(modulesOperations.opsForBloom().exists(COPY, "SPRING")).isTrue();
+    assertThat(modulesOperations.opsForBloom().exists(COPY, "WINTER")).isFalse();
+  }
+}
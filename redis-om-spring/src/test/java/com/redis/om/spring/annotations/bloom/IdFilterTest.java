@@ -0,0 +1,54 @@
+package com.redis.om.spring.annotations.bloom;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.annotations.document.fixtures.Voucher;
+import com.redis.om.spring.annotations.document.fixtures.VoucherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdFilterTest extends AbstractBaseDocumentTest {
+  static final String KEYSPACE = Voucher.class.getName() + ":";
+
+  @Autowired
+  VoucherRepository repository;
+
+  Voucher saved;
+
+  @BeforeEach
+  void createData() {
+    repository.deleteAll();
+    saved = repository.save(Voucher.of("SPRING10"));
+    // written around the repository, so its id never made it into the filter
+    modulesOperations.opsForJSON().set(KEYSPACE + "unfiltered", Voucher.of("HIDDEN"));
+  }
+
+  @Test
+  void testLookupsOfSavedIdsReachTheKeyspace() {
+    assertThat(repository.findById(saved.getId())).contains(saved);
+    assertThat(repository.existsById(saved.getId())).isTrue();
+  }
+
+  @Test
+  void testLookupsOfIdsMissingFromTheFilterSkipTheKeyspace() {
+    assertThat(template.hasKey(KEYSPACE + "unfiltered")).isTrue();
+
+    assertThat(repository.findById("unfiltered")).isEmpty();
+    assertThat(repository.existsById("unfiltered")).isFalse();
+    assertThat(repository.findAllById(List.of(saved.getId(), "unfiltered", "unknown"))).containsExactly(saved);
+  }
+
+  @Test
+  void testFiltersAreBuiltFromTheExistingKeys() {
+    template.opsForHash().delete("redis-om:id-filters", "idf:Voucher");
+
+    indexer.createIndexFor(Voucher.class);
+
+    assertThat(repository.findById("unfiltered")).map(Voucher::getCode).contains("HIDDEN");
+    assertThat(repository.findById(saved.getId())).contains(saved);
+  }
+}
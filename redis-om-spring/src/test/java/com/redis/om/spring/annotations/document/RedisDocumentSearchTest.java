@@ -3,6 +3,7 @@ package com.redis.om.spring.annotations.document;
 import com.redis.om.spring.AbstractBaseDocumentTest;
 import com.redis.om.spring.annotations.document.fixtures.MyDoc;
 import com.redis.om.spring.annotations.document.fixtures.MyDocRepository;
+import com.redis.om.spring.annotations.document.fixtures.MyDocTitle;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +67,26 @@ import static org.junit.jupiter.api.Assertions.*;
     assertThat(maybeDoc1).isPresent().map(MyDoc::getTitle).contains("hello world");
   }
 
+  @Test
+  void testFindByIdWithFields() {
+    Optional<MyDoc> maybeDoc1 = repository.findById(id1, "title", "aNumber");
+
+    assertThat(maybeDoc1).isPresent();
+    assertAll( //
+        () -> assertThat(maybeDoc1.get().getTitle()).isEqualTo("hello world"), //
+        () -> assertThat(maybeDoc1.get().getANumber()).isEqualTo(1), //
+        () -> assertThat(maybeDoc1.get().getLocation()).isNull() //
+    );
+    assertThat(repository.findById("nope", "title")).isEmpty();
+  }
+
+  @Test
+  void testProjectionFinderReadsOnlyProjectedFields() {
+    List<MyDocTitle> titles = repository.findAllProjectedByTitleStartingWith("hel");
+
+    assertThat(titles).extracting(MyDocTitle::getTitle).containsExactlyInAnyOrder("hello world", "hello mundo");
+  }
+
   @Test
   void testCustomFinder() {
     Optional<MyDoc> maybeDoc1 = repository.findByTitle("hello world");
@@ -0,0 +1,28 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDate;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@Document
+public class Coupon {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  @Bloom(capacity = 1000, errorRate = 0.01)
+  private String code;
+
+  @NonNull
+  @Indexed
+  @Bloom(capacity = 1000, errorRate = 0.01)
+  private LocalDate validUntil;
+}
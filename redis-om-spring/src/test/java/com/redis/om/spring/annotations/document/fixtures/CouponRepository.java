@@ -0,0 +1,11 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+import java.time.LocalDate;
+
+public interface CouponRepository extends RedisDocumentRepository<Coupon, String> {
+  boolean existsByCode(String code);
+
+  boolean existsByValidUntil(LocalDate validUntil);
+}
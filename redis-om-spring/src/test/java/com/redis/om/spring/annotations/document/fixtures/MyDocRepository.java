@@ -93,4 +93,11 @@ import java.util.Set;
   Iterable<MyDoc> findByLocation2Near(Point point, Distance distance);
 
   Iterable<MyDoc> findByaNumber(Integer anotherNumber);
+
+  /**
+   * <pre>
+   * > FT.SEARCH idx @title:hel* RETURN 3 $.title AS title
+   * </pre>
+   */
+  List<MyDocTitle> findAllProjectedByTitleStartingWith(String title);
 }
@@ -0,0 +1,5 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+public interface MyDocTitle {
+  String getTitle();
+}
@@ -0,0 +1,27 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.annotations.CountDistinct;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+import java.time.temporal.ChronoUnit;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@Document
+public class PageView {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  @CountDistinct(by = "page", bucket = ChronoUnit.DAYS, retention = 30)
+  private String visitor;
+
+  @NonNull
+  @Indexed
+  private String page;
+}
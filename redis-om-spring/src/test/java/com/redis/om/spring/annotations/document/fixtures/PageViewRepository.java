@@ -0,0 +1,6 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface PageViewRepository extends RedisDocumentRepository<PageView, String> {
+}
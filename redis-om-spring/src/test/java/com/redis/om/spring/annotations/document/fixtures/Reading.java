@@ -0,0 +1,31 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.TimePartitioned;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDate;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@Document
+@TimePartitioned(field = "takenOn")
+public class Reading {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  private String meter;
+
+  @NonNull
+  @Indexed(sortable = true)
+  private Double value;
+
+  @NonNull
+  @Indexed(sortable = true)
+  private LocalDate takenOn;
+}
@@ -0,0 +1,12 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReadingRepository extends RedisDocumentRepository<Reading, String> {
+  List<Reading> findByMeter(String meter);
+
+  List<Reading> findByTakenOnBetween(LocalDate from, LocalDate to);
+}
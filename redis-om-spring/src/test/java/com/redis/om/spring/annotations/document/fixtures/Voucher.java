@@ -0,0 +1,21 @@
+package com.redis.om.spring.annotations.document.fixtures;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.IdFilter;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@Document
+@IdFilter(capacity = 1000)
+public class Voucher {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  private String code;
+}
@@ -66,6 +66,25 @@ class VectorizeTest extends AbstractBaseEnhancedRedisTest {
     );
   }
 
+  @Test
+  @EnabledIf(
+      expression = "#{@featureExtractor.isReady()}", //
+      loadContext = true //
+  )
+  void testSaveAllVectorizesTheWholeBatch() {
+    List<Product> products = repository.saveAll(List.of( //
+        Product.of("cat3", "classpath:/images/cat.jpg", "A cat sitting on a mat"), //
+        Product.of("face3", "classpath:/images/face.jpg", "A face in the crowd")));
+    try {
+      assertThat(products).allSatisfy(product -> {
+        assertThat(product.getImageEmbedding()).hasSize(512*Float.BYTES);
+        assertThat(product.getSentenceEmbedding()).hasSize(768*Float.BYTES);
+      });
+    } finally {
+      repository.deleteAll(products);
+    }
+  }
+
   @Test
   @EnabledIf(
       expression = "#{@featureExtractor.isReady()}", //
@@ -0,0 +1,65 @@
+package com.redis.om.spring.autocomplete;
+
+import com.redis.om.spring.annotations.AutoComplete;
+import com.redis.om.spring.annotations.AutoCompletePayload;
+import com.redis.om.spring.autocomplete.AutoCompleteAspect.SuggestionEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutoCompleteAspectTest {
+  public static class Airport {
+    @AutoComplete
+    private String name;
+
+    @AutoCompletePayload("name")
+    private String code;
+
+    @AutoComplete
+    private String city;
+
+    Airport(String name, String code, String city) {
+      this.name = name;
+      this.code = code;
+      this.city = city;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+
+  @Test
+  void testEachAutoCompleteFieldIsSuggestedWithItsPayload() {
+    List<SuggestionEntry> suggestions = new AutoCompleteAspect(null)
+        .suggestionsOf(new Airport("Dallas Love Field", "DAL", "Dallas"));
+
+    assertThat(suggestions).containsExactly( //
+        new SuggestionEntry("sugg:Airport:name", "Dallas Love Field", "sugg:payload:Airport:name",
+            Map.of("code", "DAL")), //
+        new SuggestionEntry("sugg:Airport:city", "Dallas", "sugg:payload:Airport:city", null));
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.om.spring.autocomplete;
+
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionCacheTest {
+  private final AtomicInteger suggests = new AtomicInteger();
+
+  private final Supplier<List<Suggestion>> suggest = () -> {
+    suggests.incrementAndGet();
+    return List.of(new Suggestion("Dallas"));
+  };
+
+  private final SuggestionCache cache = new SuggestionCache(3, 100, Duration.ofMinutes(1));
+
+  @Test
+  void testShortPrefixesAreServedFromTheCache() {
+    List<Suggestion> first = cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    List<Suggestion> second = cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get().withPayload(), suggest);
+
+    assertThat(second).isSameAs(first);
+    assertThat(suggests).hasValue(2);
+  }
+
+  @Test
+  void testLongAndFuzzyPrefixesAlwaysGoToTheDictionary() {
+    cache.get("sugg:Airport:name", "dall", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "dall", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get().fuzzy(), suggest);
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get().fuzzy(), suggest);
+
+    assertThat(suggests).hasValue(4);
+  }
+
+  @Test
+  void testWritesDropThePrefixesOfTheirSuggestionsOnly() {
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "ho", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:city", "da", AutoCompleteOptions.get(), suggest);
+
+    cache.invalidate("sugg:Airport:name", List.of("Dallas Love Field"));
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "ho", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:city", "da", AutoCompleteOptions.get(), suggest);
+
+    assertThat(suggests).hasValue(4);
+  }
+
+  @Test
+  void testWritesDropTheCachedPrefixesOfTheirSuggestionsRegardlessOfCase() {
+    cache.get("sugg:Airport:name", "D", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "dal", AutoCompleteOptions.get().withScore(), suggest);
+    cache.get("sugg:Airport:name", "dam", AutoCompleteOptions.get(), suggest);
+
+    cache.invalidate("sugg:Airport:name", List.of("DALLAS"));
+    cache.get("sugg:Airport:name", "D", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:name", "dal", AutoCompleteOptions.get().withScore(), suggest);
+    cache.get("sugg:Airport:name", "dam", AutoCompleteOptions.get(), suggest);
+
+    assertThat(suggests).hasValue(5);
+  }
+
+  @Test
+  void testSuggestionsLoadedWhileTheirPrefixIsWrittenAreNotServedAfterTheWrite() {
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), () -> {
+      // the first lookup of the cache, so nothing is cached yet
+      cache.invalidate("sugg:Airport:name", List.of("Dallas Love Field"));
+      return suggest.get();
+    });
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+
+    assertThat(suggests).hasValue(2);
+  }
+
+  @Test
+  void testDeletingADictionaryDropsAllItsPrefixes() {
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:city", "da", AutoCompleteOptions.get(), suggest);
+
+    cache.invalidate("sugg:Airport:name");
+    cache.get("sugg:Airport:name", "da", AutoCompleteOptions.get(), suggest);
+    cache.get("sugg:Airport:city", "da", AutoCompleteOptions.get(), suggest);
+
+    assertThat(suggests).hasValue(3);
+  }
+}
@@ -0,0 +1,107 @@
+package com.redis.om.spring.bloom;
+
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.ops.pds.BloomOperations;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.bloom.BFInsertParams;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomAspectTest {
+  public static class Customer {
+    @Bloom(name = "bf_customer_email", capacity = 1000, errorRate = 0.01)
+    private final String email;
+
+    @Bloom(capacity = 1000, errorRate = 0.01)
+    private final String nickname;
+
+    Customer(String email, String nickname) {
+      this.email = email;
+      this.nickname = nickname;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getNickname() {
+      return nickname;
+    }
+  }
+
+  private static class RecordingBloomOperations implements BloomOperations<String> {
+    final List<Map<String, ? extends Collection<String>>> batches = new ArrayList<>();
+    final List<String> added = new ArrayList<>();
+
+    @Override
+    public void createFilter(String name, long initCapacity, double errorRate) {
+    }
+
+    @Override
+    public void createFilter(String name, long initCapacity, double errorRate, int expansion, boolean nonScaling) {
+    }
+
+    @Override
+    public boolean add(String name, String value) {
+      added.add(name + "=" + value);
+      return true;
+    }
+
+    @Override
+    public List<Boolean> insert(String name, BFInsertParams options, String... items) {
+      return List.of();
+    }
+
+    @Override
+    public List<Boolean> addMulti(String name, String... values) {
+      return List.of();
+    }
+
+    @Override
+    public void addMulti(Map<String, ? extends Collection<String>> valuesByFilter) {
+      batches.add(valuesByFilter);
+    }
+
+    @Override
+    public boolean exists(String name, String value) {
+      return false;
+    }
+
+    @Override
+    public List<Boolean> existsMulti(String name, String... values) {
+      return List.of();
+    }
+
+    @Override
+    public Map<String, Object> info(String name) {
+      return Map.of();
+    }
+  }
+
+  @Test
+  void testSaveAllAddsTheValuesOfTheWholeBatchPerFilter() {
+    RecordingBloomOperations ops = new RecordingBloomOperations();
+    new BloomAspect(ops).addAllToBloom(null, List.of( //
+        new Customer("ann@example.com", "ann"), //
+        new Customer("bob@example.com", null), //
+        new Customer("cid@example.com", "cid")));
+
+    assertThat(ops.batches).containsExactly(Map.of( //
+        "bf_customer_email", List.of("ann@example.com", "bob@example.com", "cid@example.com"), //
+        "bf:Customer:nickname", List.of("ann", "cid")));
+    assertThat(ops.added).isEmpty();
+  }
+
+  @Test
+  void testSaveAddsEachNonNullValue() {
+    RecordingBloomOperations ops = new RecordingBloomOperations();
+    new BloomAspect(ops).addToBloom(null, new Customer("bob@example.com", null));
+
+    assertThat(ops.added).containsExactly("bf_customer_email=bob@example.com");
+  }
+}
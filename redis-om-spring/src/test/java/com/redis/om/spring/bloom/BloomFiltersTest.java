@@ -0,0 +1,37 @@
+package com.redis.om.spring.bloom;
+
+import com.redis.om.spring.bloom.BloomFilters.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFiltersTest {
+  @Test
+  void testStatsAreReadFromBfInfo() {
+    Stats stats = BloomFilters.statsOf(Map.of( //
+        "Capacity", 3000L, //
+        "Size", 4056L, //
+        "Number of filters", 2L, //
+        "Number of items inserted", 2400L, //
+        "Expansion rate", 2L));
+
+    assertThat(stats).isEqualTo(new Stats(3000, 4056, 2, 2400, 2));
+    assertThat(stats.fillRatio()).isEqualTo(0.8);
+  }
+
+  @Test
+  void testFiltersAreRebuiltWhenFullOrMadeOfTooManySubFilters() {
+    assertThat(BloomFilters.needsRebuild(new Stats(1000, 0, 1, 800, 2), 0.9, 4)).isFalse();
+    assertThat(BloomFilters.needsRebuild(new Stats(1000, 0, 1, 900, 0), 0.9, 4)).isTrue();
+    assertThat(BloomFilters.needsRebuild(new Stats(31000, 0, 5, 16000, 2), 0.9, 4)).isTrue();
+  }
+
+  @Test
+  void testFiltersAreRebuiltInTheirHashSlot() {
+    assertThat(BloomFilters.copyOf("bf:Customer:email")).isEqualTo("{bf:Customer:email}:rebuild");
+    assertThat(BloomFilters.copyOf("{customers}:emails")).isEqualTo("{customers}:emails:rebuild");
+    assertThat(BloomFilters.copyOf("emails{}")).isEqualTo("{emails{}}:rebuild");
+  }
+}
@@ -0,0 +1,48 @@
+package com.redis.om.spring.bloom;
+
+import com.redis.om.spring.annotations.IdFilter;
+import com.redis.om.spring.annotations.IdFilterType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdFiltersTest {
+  @IdFilter(capacity = 1000)
+  static class Customer {
+  }
+
+  @IdFilter(type = IdFilterType.CUCKOO, name = "cf_orders", capacity = 1000)
+  static class Order {
+  }
+
+  static class Product {
+  }
+
+  @Test
+  void testFiltersAreNamedAfterTheEntityUnlessNamed() {
+    assertThat(IdFilters.filterNameOf(Customer.class, Customer.class.getAnnotation(IdFilter.class)))
+        .isEqualTo("idf:Customer");
+    assertThat(IdFilters.filterNameOf(Order.class, Order.class.getAnnotation(IdFilter.class)))
+        .isEqualTo("cf_orders");
+  }
+
+  @Test
+  void testOnlyCuckooFiltersTrackDeletes() {
+    IdFilters idFilters = new IdFilters(null);
+
+    assertThat(idFilters.isFiltered(Product.class)).isFalse();
+    assertThat(idFilters.tracksDeletes(Customer.class)).isFalse();
+    assertThat(idFilters.tracksDeletes(Order.class)).isTrue();
+  }
+
+  @Test
+  void testEveryIdMayExistUntilTheFilterIsBuilt() {
+    IdFilters idFilters = new IdFilters(null);
+
+    assertThat(idFilters.mightExist(Customer.class, "01H0")).isTrue();
+    assertThat(idFilters.mightExist(Product.class, "01H0")).isTrue();
+    assertThat(idFilters.mightExist(Customer.class, List.of("01H0", "01H1"))).containsExactly("01H0", "01H1");
+  }
+}
@@ -0,0 +1,111 @@
+package com.redis.om.spring.bloom;
+
+import com.redis.om.spring.RedisModulesConfiguration;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Unique;
+import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.serialization.gson.GsonDocumentCodec;
+import com.redis.om.spring.serialization.gson.ReferenceAwareGsonBuilder;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Schema.FieldType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueFiltersTest {
+  public static class Account {
+    @Unique(capacity = 1000)
+    private final String username;
+
+    @Unique(name = "cf_emails", capacity = 1000)
+    private final String email;
+
+    private final String nickname;
+
+    Account(String username, String email, String nickname) {
+      this.username = username;
+      this.email = email;
+      this.nickname = nickname;
+    }
+
+    public String getUsername() {
+      return username;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getNickname() {
+      return nickname;
+    }
+  }
+
+  @Document
+  public static class Member {
+    @Unique(capacity = 1000)
+    private final LocalDate memberSince;
+
+    @Unique(capacity = 1000)
+    private final Boolean active;
+
+    Member(LocalDate memberSince, Boolean active) {
+      this.memberSince = memberSince;
+      this.active = active;
+    }
+
+    public LocalDate getMemberSince() {
+      return memberSince;
+    }
+
+    public Boolean getActive() {
+      return active;
+    }
+  }
+
+  private final UniqueFilters uniqueFilters = new UniqueFilters(new RedisModulesOperations<>(null, null,
+      new GsonDocumentCodec(new ReferenceAwareGsonBuilder(new RedisModulesConfiguration().gsonBuilder(List.of()),
+          null)), new MappingRedisOMConverter()), null);
+
+  @Test
+  void testTheNonNullValuesOfUniqueFieldsAreTrackedPerFilter() {
+    assertThat(uniqueFilters.hasUniqueFields(Account.class)).isTrue();
+    assertThat(uniqueFilters.valuesOf(new Account("ann", null, "annie"))) //
+        .isEqualTo(Map.of("cf:Account:username", "ann"));
+  }
+
+  @Test
+  void testStoredValuesAreReadFromJsonGetReplies() {
+    var fields = uniqueFilters.fieldsOf(Account.class);
+
+    assertThat(UniqueFilters.jsonValuesOf(fields.subList(0, 1), "[\"ann\"]")) //
+        .isEqualTo(Map.of("cf:Account:username", "ann"));
+    assertThat(UniqueFilters.jsonValuesOf(fields, "{\"$.username\":[\"ann\"],\"$.email\":[]}")) //
+        .isEqualTo(Map.of("cf:Account:username", "ann"));
+  }
+
+  @Test
+  void testValuesAreTrackedInTheFormTheyAreStoredIn() {
+    var fields = uniqueFilters.fieldsOf(Member.class);
+    Map<String, String> stored = UniqueFilters.jsonValuesOf(fields,
+        "{\"$.memberSince\":[1619827200],\"$.active\":[true]}");
+
+    assertThat(uniqueFilters.valuesOf(new Member(LocalDate.of(2021, 5, 1), true))).isEqualTo(stored);
+    assertThat(uniqueFilters.withValue(Member.class, stored, "active", false)) //
+        .containsEntry("cf:Member:memberSince", "1619827200").containsEntry("cf:Member:active", "false");
+    assertThat(uniqueFilters.withValue(Member.class, stored, "memberSince", null)) //
+        .doesNotContainKey("cf:Member:memberSince");
+  }
+
+  @Test
+  void testPossibleCollisionsAreLookedUpByExactMatch() {
+    assertThat(UniqueFilters.queryFor("email", FieldType.TAG, "ann@example.com")) //
+        .isEqualTo("@email:{ann\\@example\\.com}");
+    assertThat(UniqueFilters.queryFor("age", FieldType.NUMERIC, "42")).isEqualTo("@age:[42 42]");
+    assertThat(UniqueFilters.queryFor("name", FieldType.TEXT, "Ann Lee")).isEqualTo("@name:\"Ann Lee\"");
+  }
+}
@@ -0,0 +1,133 @@
+package com.redis.om.spring.convert;
+
+import com.redis.om.spring.annotations.document.fixtures.MyJavaEnum;
+import com.redis.om.spring.annotations.hash.fixtures.Company;
+import com.redis.om.spring.convert.fixtures.MappedCompany;
+import com.redis.om.spring.convert.fixtures.MappedHashWithEnum;
+import com.redis.om.spring.convert.fixtures.MappedHashWithVector;
+import com.redis.om.spring.convert.fixtures.MappedNestedHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedHashMapperTest {
+  // test sources are compiled with hash mappers for the convert.fixtures package only, so that the
+  // other tests keep exercising the reflective mapping
+  final MappingRedisOMConverter generated = new MappingRedisOMConverter();
+  final MappingRedisOMConverter reflective = new MappingRedisOMConverter();
+
+  GeneratedHashMapperTest() {
+    reflective.setUseGeneratedHashMappers(false);
+  }
+
+  @Test
+  void testGeneratedMappersAreDiscoveredForFlatHashesOnly() {
+    assertThat(GeneratedHashMapper.loadAll(getClass().getClassLoader())) //
+        .extracting(GeneratedHashMapper::getType) //
+        .contains(MappedCompany.class, MappedHashWithEnum.class, MappedHashWithVector.class) //
+        .doesNotContain(MappedNestedHash.class, Company.class);
+  }
+
+  @Test
+  void testGeneratedMapperWritesTheSameHash() {
+    MappedCompany redis = company();
+
+    assertThat(asStrings(write(generated, redis))).isEqualTo(asStrings(write(reflective, redis)));
+  }
+
+  @Test
+  void testGeneratedMapperReadsTheSameEntity() {
+    Map<String, byte[]> hash = write(reflective, company());
+
+    MappedCompany read = generated.read(MappedCompany.class, new RedisData(bucket(hash)));
+    MappedCompany expected = reflective.read(MappedCompany.class, new RedisData(bucket(hash)));
+
+    assertThat(generated.readGenerated(MappedCompany.class, hash::get)).isPresent();
+    assertThat(read).usingRecursiveComparison().isEqualTo(expected);
+    assertThat(read.getTags()).containsExactlyInAnyOrder("redis", "stack");
+  }
+
+  @Test
+  void testReadsFromFieldLookupAndPrimitives() {
+    MappedHashWithVector vector = MappedHashWithVector.of("v1", new byte[] { 1, 2, 3 }, 42);
+    Map<String, byte[]> hash = write(reflective, vector);
+
+    MappedHashWithVector read = generated.readGenerated(MappedHashWithVector.class, hash::get).orElseThrow();
+
+    assertThat(asStrings(write(generated, vector))).isEqualTo(asStrings(hash));
+    assertThat(read).usingRecursiveComparison().isEqualTo(vector);
+  }
+
+  @Test
+  void testEnumsRoundTrip() {
+    MappedHashWithEnum hashWithEnum = MappedHashWithEnum.of(MyJavaEnum.VALUE_3);
+    hashWithEnum.setId("e1");
+
+    Map<String, byte[]> hash = write(generated, hashWithEnum);
+
+    assertThat(asStrings(hash)).isEqualTo(asStrings(write(reflective, hashWithEnum)));
+    assertThat(generated.read(MappedHashWithEnum.class, new RedisData(bucket(hash)))).isEqualTo(hashWithEnum);
+  }
+
+  @Test
+  void testFallsBackWhenTheTypeHintDoesNotMatch() {
+    Function<String, byte[]> source = Map.of("_class", "some.other.Type".getBytes())::get;
+
+    assertThat(generated.readGenerated(MappedCompany.class, source)).isEmpty();
+    assertThat(generated.readGenerated(MappedNestedHash.class, Map.<String, byte[]>of()::get)).isEmpty();
+  }
+
+  @Test
+  void testReflectiveMappingReusesItsPlansAcrossCalls() {
+    MappedCompany redis = company();
+    Map<String, byte[]> hash = write(reflective, redis);
+
+    // the second round goes through the cached type and property plans
+    assertThat(asStrings(write(reflective, redis))).isEqualTo(asStrings(hash));
+    MappedCompany first = reflective.read(MappedCompany.class, new RedisData(bucket(hash)));
+    MappedCompany second = reflective.read(MappedCompany.class, new RedisData(bucket(hash)));
+    assertThat(second).usingRecursiveComparison().isEqualTo(first);
+    assertThat(second.getName()).isEqualTo("RedisInc");
+    assertThat(second.getLocation()).isEqualTo(redis.getLocation());
+
+    reflective.setCustomConversions(new RedisOMCustomConversions());
+    reflective.afterPropertiesSet();
+    assertThat(asStrings(write(reflective, redis))).isEqualTo(asStrings(hash));
+  }
+
+  private static MappedCompany company() {
+    MappedCompany redis = MappedCompany.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com");
+    redis.setId("01GX9PJ4NMZ4MFZHJ6J7DKQ8KR");
+    redis.setTags(Set.of("redis", "stack"));
+    redis.setPubliclyListed(true);
+    redis.setCreatedDate(new Date(1680000000000L));
+    return redis;
+  }
+
+  private static Map<String, byte[]> write(MappingRedisOMConverter converter, Object entity) {
+    RedisData data = new RedisData();
+    converter.write(entity, data);
+    return data.getBucket().asMap();
+  }
+
+  private static Bucket bucket(Map<String, byte[]> hash) {
+    Bucket bucket = new Bucket();
+    hash.forEach(bucket::put);
+    return bucket;
+  }
+
+  private static Map<String, String> asStrings(Map<String, byte[]> hash) {
+    return hash.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> new String(e.getValue())));
+  }
+}
@@ -0,0 +1,60 @@
+package com.redis.om.spring.convert.fixtures;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@RedisHash
+public class MappedCompany {
+  @Id
+  private String id;
+
+  @NonNull
+  @Searchable(sortable = true)
+  private String name;
+
+  @NonNull
+  @Indexed
+  private Integer yearFounded;
+
+  @NonNull
+  @Indexed
+  private LocalDate lastValuation;
+
+  @NonNull
+  @Indexed
+  private Point location;
+
+  @Indexed
+  private Set<String> tags = new HashSet<>();
+
+  @NonNull
+  @Indexed
+  @EqualsAndHashCode.Include
+  private String email;
+
+  @Indexed
+  private boolean publiclyListed;
+
+  // audit fields
+
+  @CreatedDate
+  private Date createdDate;
+
+  @LastModifiedDate
+  private Date lastModifiedDate;
+}
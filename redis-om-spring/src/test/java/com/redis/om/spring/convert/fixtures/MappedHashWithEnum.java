@@ -0,0 +1,20 @@
+package com.redis.om.spring.convert.fixtures;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.document.fixtures.MyJavaEnum;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@RedisHash
+public class MappedHashWithEnum {
+  @Id
+  private String id;
+
+  @Indexed
+  @NonNull
+  private MyJavaEnum enumProp;
+}
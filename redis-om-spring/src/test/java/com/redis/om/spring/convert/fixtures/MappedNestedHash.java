@@ -0,0 +1,16 @@
+package com.redis.om.spring.convert.fixtures;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.util.List;
+
+@Data
+@RedisHash
+public class MappedNestedHash {
+  @Id
+  private String id;
+
+  private List<String[]> listOfStringArrays;
+}
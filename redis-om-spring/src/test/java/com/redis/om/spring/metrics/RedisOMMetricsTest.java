@@ -0,0 +1,34 @@
+package com.redis.om.spring.metrics;
+
+import com.redis.om.spring.ops.search.SearchObserver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisOMMetricsTest {
+  @Test
+  void testOnlyNumericIndexInfoIsKept() {
+    Map<String, Double> fields = RedisOMMetrics.numericFieldsOf(Map.of( //
+        "index_name", "PersonIdx", //
+        "num_docs", 42L, //
+        "inverted_sz_mb", "0.5", //
+        "attributes", List.of()));
+
+    assertThat(fields).isEqualTo(Map.of("num_docs", 42.0, "inverted_sz_mb", 0.5));
+  }
+
+  @Test
+  void testQueriesOfPartitionsAndProfilesAreTimedUnderTheMainIndex() {
+    List<String> indexes = new ArrayList<>();
+    SearchObserver observer = (index, command, durationNanos, success) -> indexes.add(index);
+
+    observer.reportingAs("EventIdx").observe("EventIdx_p1690000000", "FT.SEARCH", 1000, true);
+    observer.reportingAs("PersonIdx").observe("PersonIdx_byName", "FT.AGGREGATE", 1000, false);
+
+    assertThat(indexes).containsExactly("EventIdx", "PersonIdx");
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.om.spring.ops.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentSnapshotsTest {
+  @Test
+  void testUntrackedEntityHasNoChanges() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+
+    assertThat(snapshots.changesOf(new Object(), "{\"name\":\"redis\"}")).isEmpty();
+  }
+
+  @Test
+  void testOnlyChangedMembersAreReported() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    Object entity = new Object();
+    snapshots.track(entity, "{\"name\":\"redis\",\"visits\":1,\"tags\":[\"fast\"],\"address\":{\"city\":\"SF\"}}");
+
+    var changes = snapshots.changesOf(entity,
+        "{\"name\":\"redis\",\"visits\":2,\"tags\":[\"fast\"],\"address\":{\"city\":\"NY\"},\"email\":\"a@b.c\"}");
+
+    assertThat(changes).isPresent();
+    assertThat(changes.get().updated()).isEqualTo(Map.of( //
+        "visits", "2", //
+        "address", "{\"city\":\"NY\"}", //
+        "email", "\"a@b.c\""));
+    assertThat(changes.get().removed()).isEmpty();
+  }
+
+  @Test
+  void testMissingMembersAreReportedAsRemoved() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    Object entity = new Object();
+    snapshots.track(entity, "{\"name\":\"redis\",\"email\":\"a@b.c\"}");
+
+    var changes = snapshots.changesOf(entity, "{\"name\":\"redis\"}");
+
+    assertThat(changes).isPresent();
+    assertThat(changes.get().updated()).isEmpty();
+    assertThat(changes.get().removed()).isEqualTo(Set.of("email"));
+  }
+
+  @Test
+  void testUnchangedDocumentHasEmptyChanges() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    Object entity = new Object();
+    snapshots.track(entity, "{\"name\":\"redis\"}");
+
+    assertThat(snapshots.changesOf(entity, "{\"name\":\"redis\"}")).hasValueSatisfying(c -> assertThat(c.isEmpty()).isTrue());
+  }
+
+  @Test
+  void testSnapshotsAreKeptByIdentity() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    String entity = new String("same");
+    snapshots.track(entity, "{\"name\":\"redis\"}");
+
+    assertThat(snapshots.changesOf(new String("same"), "{\"name\":\"redis\"}")).isEmpty();
+  }
+
+  @Test
+  void testPathOfQuotesMembersThatAreNotPlainNames() {
+    assertThat(DocumentSnapshots.pathOf("visits")).isEqualTo("$.visits");
+    assertThat(DocumentSnapshots.pathOf("first-name")).isEqualTo("$[\"first-name\"]");
+  }
+
+  @Test
+  void testUpdatedMembersAreNoLongerReportedAsChangedByTheStoredValue() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    Object entity = new Object();
+    snapshots.track(entity, "{\"name\":\"redis\",\"visits\":1}");
+
+    snapshots.update(entity, "visits", "5");
+
+    assertThat(snapshots.changesOf(entity, "{\"name\":\"redis\",\"visits\":5}").get().isEmpty()).isTrue();
+    assertThat(snapshots.changesOf(entity, "{\"name\":\"redis\",\"visits\":1}").get().updated())
+        .isEqualTo(Map.of("visits", "1"));
+  }
+
+  @Test
+  void testUpdatingAnUntrackedEntityDoesNotTrackIt() {
+    DocumentSnapshots snapshots = new DocumentSnapshots();
+    Object entity = new Object();
+
+    snapshots.update(entity, "visits", "5");
+
+    assertThat(snapshots.changesOf(entity, "{\"visits\":5}")).isEmpty();
+  }
+}
@@ -249,6 +249,19 @@ class OpsForJSONTest extends AbstractBaseDocumentTest {
     assertEquals(Long.valueOf(3L), ops.strLen("str", Path.ROOT_PATH));
   }
 
+  @Test
+  void testGetFieldsReadsNestedPaths() {
+    JSONOperations<String> ops = modulesOperations.opsForJSON();
+    ops.set("qux", new Qux("quux", "corge", "garply", new Baz("quuz", "grault", "waldo")));
+
+    Qux partial = ops.getFields("qux", Qux.class, "quux", "baz.grault", "baz.waldo");
+
+    assertEquals(new Qux("quux", null, null, new Baz(null, "grault", "waldo")), partial);
+    assertEquals(new Qux("quux", "corge", "garply", new Baz("quuz", "grault", "waldo")),
+        ops.getFields("qux", Qux.class, "baz", "baz.quuz", "quux", "corge", "garply"));
+    assertNull(ops.getFields("nope", Qux.class, "baz.quuz"));
+  }
+
   @Test
   void testArrayPop() {
     JSONOperations<String> ops = modulesOperations.opsForJSON();
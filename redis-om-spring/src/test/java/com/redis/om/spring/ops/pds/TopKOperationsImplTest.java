@@ -0,0 +1,21 @@
+package com.redis.om.spring.ops.pds;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class TopKOperationsImplTest {
+  @Test
+  void testListWithCountRepliesAreReadAsCountsByItemInOrder() {
+    List<Object> reply = Arrays.asList(SafeEncoder.encode("DFW"), 42L, SafeEncoder.encode("ATL"), 7L, null, 0L);
+
+    assertThat(TopKOperationsImpl.countsOf(reply)).containsExactly( //
+        entry("DFW", 42L), //
+        entry("ATL", 7L));
+  }
+}
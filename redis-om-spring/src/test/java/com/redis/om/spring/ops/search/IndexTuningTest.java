@@ -0,0 +1,50 @@
+package com.redis.om.spring.ops.search;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.FieldName;
+import redis.clients.jedis.search.IndexOptions;
+import redis.clients.jedis.search.Schema.TagField;
+import redis.clients.jedis.search.Schema.TextField;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexTuningTest {
+  private static List<String> argsOf(IParams params) {
+    List<String> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.CREATE).addParams(params).forEach(a -> args.add(SafeEncoder.encode(a.getRaw())));
+    return args.subList(1, args.size());
+  }
+
+  @Test
+  void testUntunedFieldsAreThePlainJedisFields() {
+    assertThat(TunedFields.text(FieldName.of("$.name").as("name"), 1.0, true, false, false, false, null, false))
+        .isExactlyInstanceOf(TextField.class);
+    assertThat(TunedFields.tag(FieldName.of("$.tags[*]").as("tags"), "|", false, true, false))
+        .isExactlyInstanceOf(TagField.class);
+  }
+
+  @Test
+  void testUnfFollowsSortable() {
+    assertThat(argsOf(TunedFields.text(FieldName.of("$.name").as("name"), 1.0, true, true, true, false, null, false)))
+        .containsExactly("$.name", "AS", "name", "TEXT", "NOSTEM", "SORTABLE", "UNF");
+    assertThat(argsOf(TunedFields.tag(FieldName.of("$.code").as("code"), "|", true, true, true)))
+        .containsExactly("$.code", "AS", "code", "TAG", "SEPARATOR", "|", "WITHSUFFIXTRIE", "SORTABLE", "UNF");
+  }
+
+  @Test
+  void testTunedIndexOptions() {
+    int flags = IndexOptions.DEFAULT_FLAGS & ~IndexOptions.USE_TERM_OFFSETS;
+    IndexOptions options = new TunedIndexOptions(flags, true, true).setNoStopwords();
+
+    assertThat(argsOf(options)).containsExactly("NOOFFSETS", "STOPWORDS", "0", "NOHL", "SKIPINITIALSCAN");
+    assertThat(argsOf(new TunedIndexOptions(IndexOptions.DEFAULT_FLAGS, false, false)))
+        .isEqualTo(argsOf(IndexOptions.defaultOptions()));
+  }
+}
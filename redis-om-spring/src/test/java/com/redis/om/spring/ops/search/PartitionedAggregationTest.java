@@ -0,0 +1,105 @@
+package com.redis.om.spring.ops.search;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.aggr.Reducers;
+import redis.clients.jedis.search.aggr.SortedField;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionedAggregationTest {
+  private static Map<String, Object> row(Object... fieldsAndValues) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (int i = 0; i < fieldsAndValues.length; i += 2) {
+      row.put((String) fieldsAndValues[i], fieldsAndValues[i + 1].toString());
+    }
+    return row;
+  }
+
+  @SafeVarargs
+  private static AggregationResult resultOf(Map<String, Object>... rows) {
+    return PartitionedAggregation.resultOf(rows.length, List.of(rows));
+  }
+
+  private static List<String> valuesOf(AggregationResult result, String field) {
+    return result.getResults().stream().map(row -> row.get(field)).map(value -> new String((byte[]) value)).toList();
+  }
+
+  @Test
+  void testGroupsOfThePartitionsAreMergedOnTheirValues() {
+    PartitionedAggregation aggregation = new PartitionedAggregation(new AggregationBuilder("*") //
+        .groupBy("@brand", Reducers.count().as("count"), Reducers.sum("@price").as("total"),
+            Reducers.min("@price").as("cheapest"), Reducers.max("@price").as("dearest")) //
+        .sortBy(SortedField.desc("@count")) //
+        .limit(0, 2));
+
+    AggregationResult merged = aggregation.merge(List.of( //
+        resultOf(row("brand", "sony", "count", 2, "total", 30, "cheapest", 10, "dearest", 20),
+            row("brand", "lg", "count", 2, "total", 8, "cheapest", 4, "dearest", 4)),
+        resultOf(row("brand", "sony", "count", 1, "total", 5, "cheapest", 5, "dearest", 5),
+            row("brand", "bose", "count", 1, "total", 7, "cheapest", 7, "dearest", 7))));
+
+    assertThat(aggregation.unsupported()).isEmpty();
+    assertThat(merged.getTotalResults()).isEqualTo(3);
+    assertThat(valuesOf(merged, "brand")).containsExactly("sony", "lg");
+    assertThat(valuesOf(merged, "count")).containsExactly("3", "2");
+    assertThat(valuesOf(merged, "total")).containsExactly("35", "8");
+    assertThat(valuesOf(merged, "cheapest")).containsExactly("5", "4");
+    assertThat(valuesOf(merged, "dearest")).containsExactly("20", "4");
+  }
+
+  @Test
+  void testPartitionsRunTheGroupingAndTheMergeAppliesTheSortAndLimit() {
+    PartitionedAggregation aggregation = new PartitionedAggregation(new AggregationBuilder("@brand:{sony}") //
+        .groupBy("@brand", Reducers.count()) //
+        .sortBy(SortedField.desc("@brand")) //
+        .limit(0, 2) //
+        .dialect(2));
+
+    assertThat(aggregation.forPartitions().getArgs()).containsExactly("@brand:{sony}", "GROUPBY", "1", "@brand",
+        "REDUCE", "COUNT", "0", "AS", "__generated_aliascount", "DIALECT", "2");
+  }
+
+  @Test
+  void testRowsOfThePartitionsAreConcatenatedSortedAndLimited() {
+    PartitionedAggregation aggregation = new PartitionedAggregation(new AggregationBuilder("*") //
+        .load("@title", "@price") //
+        .sortBy(SortedField.asc("@price")) //
+        .limit(1, 2));
+
+    assertThat(aggregation.forPartitions().getArgs()).containsExactly("*", "LOAD", "2", "@title", "@price", "SORTBY",
+        "2", "@price", "ASC", "LIMIT", "0", "3");
+    AggregationResult merged = aggregation.merge(List.of( //
+        resultOf(row("title", "a", "price", 9), row("title", "b", "price", 30)), //
+        resultOf(row("title", "c", "price", 10), row("title", "d", "price", 20))));
+    assertThat(valuesOf(merged, "title")).containsExactly("c", "d");
+    assertThat(aggregation.isStreamable()).isFalse();
+  }
+
+  @Test
+  void testPipelinesWhoseRowsCantBeMergedAreRejected() {
+    assertThat(new PartitionedAggregation(new AggregationBuilder("*").groupBy("@brand", Reducers.avg("@price")))
+        .unsupported()).contains("the AVG reducer");
+    assertThat(new PartitionedAggregation(new AggregationBuilder("*") //
+        .groupBy("@brand", Reducers.count().as("count")) //
+        .apply("@count * 2", "double")).unsupported()).contains("APPLY after a GROUPBY");
+    assertThat(new PartitionedAggregation(new AggregationBuilder("*").load("@title").limit(0, 5).apply("1", "one"))
+        .unsupported()).contains("APPLY after LIMIT");
+  }
+
+  @Test
+  void testCursorsOverRowsThatAreFinalAsTheyAreStream() {
+    PartitionedAggregation aggregation = new PartitionedAggregation(
+        new AggregationBuilder("*").load("@title").cursor(100, 1000));
+
+    assertThat(aggregation.isStreamable()).isTrue();
+    assertThat(aggregation.forPartitions().isWithCursor()).isTrue();
+    assertThat(aggregation.forPartitions().getArgs()).containsExactly("*", "LOAD", "1", "@title", "WITHCURSOR",
+        "COUNT", "100");
+  }
+}
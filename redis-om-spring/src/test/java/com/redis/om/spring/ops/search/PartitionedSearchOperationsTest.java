@@ -0,0 +1,99 @@
+package com.redis.om.spring.ops.search;
+
+import com.redis.om.spring.ops.search.PartitionedIndexes.Partition;
+import com.redis.om.spring.ops.search.PartitionedIndexes.Partitioning;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.SearchResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionedSearchOperationsTest {
+  private static final Partition JAN = new Partition("EventIdx_p0", 0, 100);
+  private static final Partition FEB = new Partition("EventIdx_p100", 100, 200);
+  private static final Partition MAR = new Partition("EventIdx_p200", 200, 300);
+
+  private static PartitionedSearchOperations<String> ops() {
+    ConcurrentSkipListMap<Long, Partition> partitions = new ConcurrentSkipListMap<>();
+    List.of(JAN, FEB, MAR).forEach(p -> partitions.put(p.start(), p));
+    return new PartitionedSearchOperations<>("EventIdx",
+        new Partitioning("createdAt", partitions, Set.of("createdAt", "rank")), i -> null, new PartitionedIndexes());
+  }
+
+  private static SearchResult resultOf(Document... documents) {
+    return PartitionedSearchOperations.resultOf(documents.length, List.of(documents));
+  }
+
+  private static Document doc(String id, double score, long createdAt, String name) {
+    return new Document(id, Map.of("createdAt", Long.toString(createdAt), "name", name), score);
+  }
+
+  private static Document ranked(String id, String rank, String code) {
+    return new Document(id, Map.of("createdAt", "0", "rank", rank, "code", code), 1);
+  }
+
+  private static List<String> idsOf(SearchResult result) {
+    return result.getDocuments().stream().map(Document::getId).toList();
+  }
+
+  @Test
+  void testQueriesArePrunedToTheOverlappingPartitions() {
+    PartitionedSearchOperations<String> ops = ops();
+    assertThat(ops.partitionsFor("@createdAt:[150 250]")).containsExactly(FEB, MAR);
+    assertThat(ops.partitionsFor("@name:{a} @createdAt:[(100 +inf]")).containsExactly(FEB, MAR);
+    assertThat(ops.partitionsFor("@createdAt:[-inf 99]")).containsExactly(JAN);
+    assertThat(ops.partitionsFor("@createdAt:[$from $to]")).containsExactly(JAN, FEB, MAR);
+    assertThat(ops.partitionsFor("*")).containsExactly(JAN, FEB, MAR);
+  }
+
+  @Test
+  void testUnionsAndNegationsAreNotPruned() {
+    PartitionedSearchOperations<String> ops = ops();
+    assertThat(ops.partitionsFor("@createdAt:[150 250] | @name:{a}")).containsExactly(JAN, FEB, MAR);
+    assertThat(ops.partitionsFor("-@createdAt:[150 250]")).containsExactly(JAN, FEB, MAR);
+    assertThat(ops.partitionsFor("@name:{a} -(@name:{b} @createdAt:[150 250])")).containsExactly(JAN, FEB, MAR);
+    assertThat(ops.partitionsFor("@name:{a} ~@createdAt:[150 250]")).containsExactly(JAN, FEB, MAR);
+  }
+
+  @Test
+  void testResultsSortedOnThePartitionFieldAreConcatenated() {
+    List<SearchResult> results = List.of( //
+        resultOf(doc("e:1", 1, 10, "a"), doc("e:2", 1, 20, "b")), //
+        resultOf(doc("e:3", 1, 110, "c")), //
+        resultOf(doc("e:4", 1, 210, "d")));
+
+    SearchResult ascending = ops().merge(results, "createdAt", true, 1, 2);
+    assertThat(ascending.getTotalResults()).isEqualTo(4);
+    assertThat(idsOf(ascending)).containsExactly("e:2", "e:3");
+
+    SearchResult descending = ops().merge(results, "createdAt", false, 0, 3);
+    assertThat(idsOf(descending)).containsExactly("e:4", "e:3", "e:1");
+  }
+
+  @Test
+  void testResultsAreMergedOnOtherSortKeysAndScores() {
+    List<SearchResult> results = List.of( //
+        resultOf(doc("e:1", 0.5, 10, "c"), doc("e:2", 2, 20, "a")), //
+        resultOf(doc("e:3", 1, 110, "b")));
+
+    assertThat(idsOf(ops().merge(results, "name", true, 0, 10))).containsExactly("e:2", "e:3", "e:1");
+    assertThat(idsOf(ops().merge(results, null, true, 0, 2))).containsExactly("e:2", "e:3");
+  }
+
+  @Test
+  void testSortKeysAreComparedAsTheTypeOfTheirField() {
+    List<SearchResult> results = List.of( //
+        resultOf(ranked("e:1", "10", "10"), ranked("e:2", "9", "9")), //
+        resultOf(ranked("e:3", "n/a", "x")));
+
+    // numeric fields compare as numbers, values that aren't sort last
+    assertThat(idsOf(ops().merge(results, "rank", true, 0, 10))).containsExactly("e:2", "e:1", "e:3");
+    // other fields compare as text, even when some of their values look like numbers
+    assertThat(idsOf(ops().merge(results, "code", true, 0, 10))).containsExactly("e:1", "e:2", "e:3");
+  }
+}
@@ -0,0 +1,57 @@
+package com.redis.om.spring.ops.search;
+
+import com.redis.om.spring.ops.search.ProfiledIndexes.Profile;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.search.FieldName;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutedSearchOperationsTest {
+  private static final Profile LOOKUP = new Profile("PersonIdx_lookup", Set.of("id", "email"), false);
+  private static final Profile LISTING = new Profile("PersonIdx_listing", Set.of("id", "email", "age", "name"),
+      true);
+  private static final List<Profile> PROFILES = List.of(LOOKUP, LISTING);
+
+  private static Optional<Profile> route(Query query) {
+    List<String> args = new ArrayList<>();
+    new CommandArguments(SearchCommand.SEARCH).addParams(query).forEach(a -> args.add(SafeEncoder.encode(a.getRaw())));
+    return RoutedSearchOperations.route(PROFILES, args.get(1), args.subList(1, args.size()));
+  }
+
+  @Test
+  void testQueriesGoToTheSmallestCoveringProfile() {
+    assertThat(route(new Query("@email:{jane\\@example\\.com}"))).contains(LOOKUP);
+    assertThat(route(new Query("@email:{jane\\@example\\.com}").returnFields("id"))).contains(LOOKUP);
+    assertThat(route(new Query("@age:[18 65]").setSortBy("email", true))).contains(LISTING);
+    assertThat(route(new Query("*"))).contains(LOOKUP);
+  }
+
+  @Test
+  void testJsonPathsCanBeReturnedFromAnyProfile() {
+    Query query = new Query("@email:{a}").returnFields(FieldName.of("$.address").as("address"));
+    assertThat(route(query)).contains(LOOKUP);
+    assertThat(route(new Query("@email:{a}").returnFields("address"))).isEmpty();
+  }
+
+  @Test
+  void testFreeTextNeedsAllTheTextFields() {
+    assertThat(route(new Query("@email:{a} jane"))).contains(LISTING);
+    assertThat(route(new Query("@name:jane"))).contains(LISTING);
+    assertThat(route(new Query("@email:{a}").highlightFields())).isEmpty();
+  }
+
+  @Test
+  void testUncoveredQueriesStayOnTheMainIndex() {
+    assertThat(route(new Query("@city:{Paris}"))).isEmpty();
+    assertThat(route(new Query("@email:{a}").setSortBy("createdAt", false))).isEmpty();
+  }
+}
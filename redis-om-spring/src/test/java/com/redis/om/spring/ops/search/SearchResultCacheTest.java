@@ -0,0 +1,57 @@
+package com.redis.om.spring.ops.search;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+  private final AtomicInteger searches = new AtomicInteger();
+
+  private final Supplier<SearchResult> search = () -> {
+    searches.incrementAndGet();
+    return PartitionedSearchOperations.resultOf(0, List.of());
+  };
+
+  @Test
+  void testRepeatedSearchesAreServedFromTheCache() {
+    SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+    SearchResult first = cache.get("PersonIdx", new Query("@age:[18 65]").limit(0, 10), search);
+    SearchResult second = cache.get("PersonIdx", new Query("@age:[18 65]").limit(0, 10), search);
+
+    assertThat(second).isSameAs(first);
+    assertThat(searches).hasValue(1);
+    assertThat(cache.getCache().stats().hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void testSearchesDifferingInAnyArgumentAreCachedSeparately() {
+    SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+    cache.get("PersonIdx", new Query("@age:[18 65]").limit(0, 10), search);
+    cache.get("PersonIdx", new Query("@age:[18 65]").limit(10, 10), search);
+    cache.get("PersonIdx", new Query("@age:[18 65]").limit(0, 10).setSortBy("age", true), search);
+    cache.get("CompanyIdx", new Query("@age:[18 65]").limit(0, 10), search);
+    cache.get("PersonIdx", "PersonIdx_adults", new Query("@age:[18 65]").limit(0, 10), search);
+
+    assertThat(searches).hasValue(5);
+  }
+
+  @Test
+  void testWritesInvalidateTheResultsOfTheirIndexOnly() {
+    SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+    cache.get("PersonIdx", new Query("*"), search);
+    cache.get("CompanyIdx", new Query("*"), search);
+
+    cache.invalidate("PersonIdx");
+    cache.get("PersonIdx", new Query("*"), search);
+    cache.get("CompanyIdx", new Query("*"), search);
+
+    assertThat(searches).hasValue(3);
+  }
+}
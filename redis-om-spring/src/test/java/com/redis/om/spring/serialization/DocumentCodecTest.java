@@ -0,0 +1,146 @@
+package com.redis.om.spring.serialization;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.RedisModulesConfiguration;
+import com.redis.om.spring.annotations.document.fixtures.Company;
+import com.redis.om.spring.annotations.document.fixtures.CompanyMeta;
+import com.redis.om.spring.annotations.document.fixtures.DocWithExplicitUlidId;
+import com.redis.om.spring.annotations.document.fixtures.ZipCode;
+import com.redis.om.spring.serialization.gson.GsonDocumentCodec;
+import com.redis.om.spring.serialization.gson.ReferenceAwareGsonBuilder;
+import com.redis.om.spring.serialization.jackson.JacksonDocumentCodec;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.gson.GsonBuilderCustomizer;
+import org.springframework.data.geo.Point;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentCodecTest {
+  DocumentCodec gson;
+  DocumentCodec jackson;
+
+  @BeforeEach
+  void setup() {
+    gson = gsonCodec();
+    jackson = new JacksonDocumentCodec(gson);
+  }
+
+  private static DocumentCodec gsonCodec(GsonBuilderCustomizer... customizers) {
+    return new GsonDocumentCodec(
+        new ReferenceAwareGsonBuilder(new RedisModulesConfiguration().gsonBuilder(List.of(customizers)), null));
+  }
+
+  private static Company company() {
+    Company redis = Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com");
+    redis.setId("01GX9PJ4NMZ4MFZHJ6J7DKQ8KR");
+    redis.setTags(Set.of("fast"));
+    redis.setMetaList(Set.of(CompanyMeta.of("RD", 100, Set.of("RedisTag"))));
+    return redis;
+  }
+
+  @Test
+  void testJacksonWritesTheSameDocumentAsGson() {
+    Company redis = company();
+    redis.setTags(Set.of("fast", "scalable"));
+    redis.setCreatedDate(new Date(1680000000000L));
+
+    assertThat(JsonParser.parseString(jackson.toJson(redis))) //
+        .isEqualTo(JsonParser.parseString(gson.toJson(redis)));
+  }
+
+  @Test
+  void testJacksonReadsDocumentsWrittenByGson() {
+    Company redis = company();
+    redis.setPubliclyListed(true);
+    redis.setCreatedDate(new Date(1680000000000L));
+
+    Company roundTripped = jackson.fromJson(gson.toJson(redis), Company.class);
+
+    assertThat(roundTripped).isEqualTo(redis);
+  }
+
+  @Test
+  void testUlidRoundTrip() {
+    DocWithExplicitUlidId doc = new DocWithExplicitUlidId();
+    doc.setId(UlidCreator.getMonotonicUlid());
+
+    assertThat(jackson.fromJson(jackson.toJson(doc), DocWithExplicitUlidId.class)).isEqualTo(doc);
+    assertThat(gson.fromJson(jackson.toJson(doc), DocWithExplicitUlidId.class)).isEqualTo(doc);
+  }
+
+  @Test
+  void testJacksonFollowsTheGsonFieldNamingAndNulls() {
+    gson = gsonCodec(builder -> builder.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE).serializeNulls());
+    jackson = new JacksonDocumentCodec(gson);
+    Company redis = company();
+
+    assertThat(JsonParser.parseString(jackson.toJson(redis))) //
+        .isEqualTo(JsonParser.parseString(gson.toJson(redis)));
+    assertThat(jackson.fromJson(gson.toJson(redis), Company.class)).isEqualTo(redis);
+  }
+
+  @Test
+  void testTypesWithApplicationGsonAdaptersAreLeftToGson() {
+    gson = gsonCodec(builder -> builder.registerTypeAdapter(CompanyMeta.class,
+        (JsonSerializer<CompanyMeta>) (meta, type, context) -> new JsonPrimitive(meta.getStringValue())));
+    jackson = new JacksonDocumentCodec(gson);
+    Company redis = company();
+
+    assertThat(jackson.toJson(redis)).isEqualTo(gson.toJson(redis));
+  }
+
+  @Test
+  void testEnumsWithSerializedNamesAreLeftToGson() {
+    Shipment shipment = new Shipment();
+    shipment.setId("s1");
+    shipment.setStatus(Shipment.Status.IN_TRANSIT);
+
+    assertThat(jackson.toJson(shipment)).isEqualTo(gson.toJson(shipment)).contains("\"in-transit\"");
+    assertThat(jackson.fromJson(gson.toJson(shipment), Shipment.class)).isEqualTo(shipment);
+  }
+
+  @Test
+  void testMemberNamesFollowTheGsonNamingPolicyAndSerializedNames() throws NoSuchFieldException {
+    gson = gsonCodec(builder -> builder.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE));
+    jackson = new JacksonDocumentCodec(gson);
+
+    for (DocumentCodec codec : List.of(gson, jackson)) {
+      assertThat(codec.memberNameOf(Company.class.getDeclaredField("yearFounded"))).isEqualTo("YearFounded");
+      assertThat(codec.memberNameOf(ZipCode.class.getDeclaredField("id"))).isEqualTo("_id");
+    }
+  }
+
+  @Test
+  void testGsonSettingsJacksonCannotFollowFailTheCodec() {
+    DocumentCodec exposedOnly = gsonCodec(builder -> builder.excludeFieldsWithoutExposeAnnotation());
+
+    assertThatThrownBy(() -> new JacksonDocumentCodec(exposedOnly)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Data
+  @NoArgsConstructor
+  static class Shipment {
+    enum Status {
+      @SerializedName("in-transit") IN_TRANSIT,
+      @SerializedName("delivered") DELIVERED
+    }
+
+    private String id;
+    private Status status;
+  }
+}
@@ -0,0 +1,87 @@
+package com.redis.om.spring.serialization.gson;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.redis.om.spring.RedisModulesConfiguration;
+import com.redis.om.spring.annotations.document.fixtures.Company;
+import com.redis.om.spring.annotations.document.fixtures.CompanyMeta;
+import com.redis.om.spring.annotations.document.fixtures.MyJavaEnum;
+import com.redis.om.spring.serialization.gson.fixtures.AdaptedCompany;
+import com.redis.om.spring.serialization.gson.fixtures.AdaptedDocWithEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Point;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedTypeAdapterFactoryTest {
+  // test sources are compiled with -Aredis.om.spring.generateTypeAdapters=com.redis.om.spring.serialization.gson.fixtures
+  final Gson generated = new RedisModulesConfiguration().gsonBuilder(List.of()).create();
+  final Gson reflective = reflectiveGsonBuilder().create();
+
+  @Test
+  void testGeneratedFactoriesAreDiscovered() {
+    assertThat(GeneratedTypeAdapterFactory.loadAll(getClass().getClassLoader())) //
+        .extracting(GeneratedTypeAdapterFactory::getType) //
+        .contains(AdaptedCompany.class, AdaptedDocWithEnum.class) //
+        .doesNotContain(Company.class);
+    assertThat(generated.getAdapter(AdaptedCompany.class)).isNotInstanceOf(ReflectiveTypeAdapterFactory.Adapter.class);
+    assertThat(reflective.getAdapter(AdaptedCompany.class)).isInstanceOf(ReflectiveTypeAdapterFactory.Adapter.class);
+  }
+
+  @Test
+  void testDocumentsOutsideTheConfiguredPackagesKeepTheReflectiveMapping() {
+    assertThat(generated.getAdapter(Company.class)).isInstanceOf(ReflectiveTypeAdapterFactory.Adapter.class);
+  }
+
+  @Test
+  void testGeneratedAdapterMatchesReflectiveOutput() {
+    AdaptedCompany redis = AdaptedCompany.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com");
+    redis.setId("01GX9PJ4NMZ4MFZHJ6J7DKQ8KR");
+    redis.setTags(Set.of("fast", "scalable"));
+    redis.setMetaList(Set.of(CompanyMeta.of("RD", 100, Set.of("RedisTag"))));
+    redis.setPubliclyListed(true);
+    redis.setCreatedDate(new Date(1680000000000L));
+
+    String json = generated.toJson(redis);
+
+    assertThat(JsonParser.parseString(json)).isEqualTo(JsonParser.parseString(reflective.toJson(redis)));
+    assertThat(generated.fromJson(json, AdaptedCompany.class)).isEqualTo(redis);
+    assertThat(reflective.fromJson(json, AdaptedCompany.class)).isEqualTo(redis);
+  }
+
+  @Test
+  void testEnumsAndNullsRoundTrip() {
+    AdaptedDocWithEnum doc = AdaptedDocWithEnum.of(MyJavaEnum.VALUE_2);
+
+    String json = generated.toJson(doc);
+
+    assertThat(json).isEqualTo(reflective.toJson(doc));
+    assertThat(generated.fromJson(json, AdaptedDocWithEnum.class)).isEqualTo(doc);
+  }
+
+  @Test
+  void testFallsBackToReflectionForCustomNamingPolicies() {
+    Gson renamed = new RedisModulesConfiguration().gsonBuilder(
+        List.of(b -> b.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE))).create();
+
+    assertThat(renamed.getAdapter(AdaptedCompany.class)).isInstanceOf(ReflectiveTypeAdapterFactory.Adapter.class);
+  }
+
+  private static GsonBuilder reflectiveGsonBuilder() {
+    GsonBuilder builder = new GsonBuilder();
+    builder.registerTypeAdapter(Point.class, PointTypeAdapter.getInstance());
+    builder.registerTypeAdapter(Date.class, DateTypeAdapter.getInstance());
+    builder.registerTypeAdapter(LocalDate.class, LocalDateTypeAdapter.getInstance());
+    builder.addSerializationExclusionStrategy(GsonReferencesSerializationExclusionStrategy.INSTANCE);
+    return builder;
+  }
+}
@@ -0,0 +1,20 @@
+package com.redis.om.spring.serialization.gson.fixtures;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.document.fixtures.MyJavaEnum;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+@NoArgsConstructor(force = true)
+@Document
+public class AdaptedDocWithEnum {
+  @Id
+  private String id;
+
+  @Indexed
+  @NonNull
+  private MyJavaEnum enumProp;
+}
@@ -0,0 +1,109 @@
+package com.redis.om.spring.sketches;
+
+import com.redis.om.spring.annotations.CountDistinct;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DistinctCountsTest {
+  public static class Visit {
+    @CountDistinct(by = "page", bucket = ChronoUnit.DAYS)
+    private final String visitor;
+
+    @CountDistinct(name = "hll_pages", answerStreams = true)
+    private final String page;
+
+    Visit(String visitor, String page) {
+      this.visitor = visitor;
+      this.page = page;
+    }
+
+    public String getVisitor() {
+      return visitor;
+    }
+
+    public String getPage() {
+      return page;
+    }
+  }
+
+  private static final Instant NOW = Instant.parse("2023-05-02T10:15:30Z");
+
+  private final DistinctCounts distinctCounts = new DistinctCounts(null, Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void testSavesAddEachValueToTheTotalByValueAndBucketHyperLogLogs() {
+    long day = DistinctCounts.bucketOf(NOW, ChronoUnit.DAYS);
+    Map<String, Set<String>> valuesByKey = distinctCounts.valuesOf(List.of( //
+        new Visit("ann", "/home"), //
+        new Visit("bob", "/home"), //
+        new Visit("ann", null), //
+        new Visit(null, "/about")));
+
+    assertThat(valuesByKey).isEqualTo(Map.of( //
+        "hll:Visit:visitor", Set.of("ann", "bob"), //
+        "hll:Visit:visitor@" + day, Set.of("ann", "bob"), //
+        "hll:Visit:visitor:/home", Set.of("ann", "bob"), //
+        "hll:Visit:visitor:/home@" + day, Set.of("ann", "bob"), //
+        "hll_pages", Set.of("/home", "/about")));
+  }
+
+  @Test
+  void testBackfillsSkipTheTimeBuckets() {
+    Map<String, Set<String>> valuesByKey = distinctCounts.valuesOf(List.of(new Visit("ann", "/home")), null, null);
+
+    assertThat(valuesByKey).isEqualTo(Map.of( //
+        "hll:Visit:visitor", Set.of("ann"), //
+        "hll:Visit:visitor:/home", Set.of("ann"), //
+        "hll_pages", Set.of("/home")));
+    assertThat(DistinctCounts.isBucketKey("hll:Visit:visitor:/home@19479")).isTrue();
+    assertThat(DistinctCounts.isBucketKey("hll:Visit:visitor:ann@example.com")).isFalse();
+  }
+
+  @Test
+  void testTimeBucketsExpireRetentionBucketsAfterTheyStart() {
+    long day = DistinctCounts.bucketOf(NOW, ChronoUnit.DAYS);
+    Map<String, Long> expiries = new HashMap<>();
+    distinctCounts.valuesOf(List.of(new Visit("ann", "/home")), null, expiries);
+
+    long expiry = Instant.parse("2023-05-02T00:00:00Z").plus(10000, ChronoUnit.DAYS).toEpochMilli();
+    assertThat(expiries).isEqualTo(Map.of( //
+        "hll:Visit:visitor@" + day, expiry, //
+        "hll:Visit:visitor:/home@" + day, expiry));
+  }
+
+  @Test
+  void testOnlyFieldsThatOptInAnswerStreams() {
+    assertThat(distinctCounts.answersStreams(Visit.class, "page")).isTrue();
+    assertThat(distinctCounts.answersStreams(Visit.class, "visitor")).isFalse();
+    assertThat(distinctCounts.answersStreams(Visit.class, "unknown")).isFalse();
+  }
+
+  @Test
+  void testBucketsAreWholeTimeUnitsSinceTheEpoch() {
+    assertThat(DistinctCounts.bucketOf(Instant.EPOCH, ChronoUnit.HOURS)).isZero();
+    assertThat(DistinctCounts.bucketOf(Instant.parse("1970-01-02T23:59:59Z"), ChronoUnit.DAYS)).isEqualTo(1);
+    assertThat(DistinctCounts.bucketOf(Instant.parse("1969-12-31T23:00:00Z"), ChronoUnit.DAYS)).isEqualTo(-1);
+  }
+
+  @Test
+  void testFieldsThatAreNotCountedCannotBeCountedByValueOrTime() {
+    assertThat(distinctCounts.isCounted(Visit.class, "visitor")).isTrue();
+    assertThatThrownBy(() -> distinctCounts.countDistinct(Visit.class, "page", "/home", null, null)) //
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> distinctCounts.countDistinct(Visit.class, "page", null, NOW, null)) //
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> distinctCounts.countDistinct(Visit.class, "unknown", null, null, null)) //
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,58 @@
+package com.redis.om.spring.sketches;
+
+import com.redis.om.spring.annotations.CountMin;
+import com.redis.om.spring.annotations.TopK;
+import com.redis.om.spring.sketches.Sketches.Increments;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SketchesTest {
+  public static class Article {
+    @TopK(k = 5)
+    @CountMin(name = "cms_tags", countReads = true)
+    private final String tag;
+
+    @TopK(countReads = true)
+    private final String author;
+
+    Article(String tag, String author) {
+      this.tag = tag;
+      this.author = author;
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    public String getAuthor() {
+      return author;
+    }
+  }
+
+  private final Sketches sketches = new Sketches(null);
+
+  @Test
+  void testSavesCountEveryNonNullValueOncePerSketch() {
+    Increments increments = sketches.incrementsOf(List.of( //
+        new Article("redis", "ann"), //
+        new Article("redis", null), //
+        new Article("java", "ann")), false);
+
+    assertThat(increments.topK()).isEqualTo(Map.of( //
+        "topk:Article:tag", Map.of("redis", 2L, "java", 1L), //
+        "topk:Article:author", Map.of("ann", 2L)));
+    assertThat(increments.countMin()).isEqualTo(Map.of("cms_tags", Map.of("redis", 2L, "java", 1L)));
+  }
+
+  @Test
+  void testReadsOnlyCountInSketchesThatAskForIt() {
+    Increments increments = sketches.incrementsOf(List.of(new Article("redis", "ann")), true);
+
+    assertThat(increments.topK()).isEqualTo(Map.of("topk:Article:author", Map.of("ann", 1L)));
+    assertThat(increments.countMin()).isEqualTo(Map.of("cms_tags", Map.of("redis", 1L)));
+  }
+}
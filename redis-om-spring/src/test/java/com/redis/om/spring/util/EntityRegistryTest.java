@@ -0,0 +1,40 @@
+package com.redis.om.spring.util;
+
+import com.redis.om.spring.annotations.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityRegistryTest {
+  @Test
+  void testRegistryIsGeneratedForTestEntities() {
+    var registry = EntityRegistry.load(getClass().getClassLoader());
+
+    assertThat(registry).isPresent();
+    assertThat(registry.get().findCandidateComponents("com.redis.om.spring.annotations.document.fixtures",
+        List.of(Document.class))).extracting(BeanDefinition::getBeanClassName)
+        .contains("com.redis.om.spring.annotations.document.fixtures.Company")
+        .doesNotContain("com.redis.om.spring.annotations.hash.fixtures.Company");
+  }
+
+  @Test
+  void testFindCandidateComponentsFiltersByAnnotationAndPackage() {
+    EntityRegistry registry = new EntityRegistry(Map.of( //
+        Document.class.getName(), Set.of("com.acme.docs.Order", "com.acme.docs.sub.Line", "com.acmeish.Other"), //
+        RedisHash.class.getName(), Set.of("com.acme.hashes.Session")));
+
+    assertThat(registry.findCandidateComponents("com.acme", List.of(Document.class)))
+        .extracting(BeanDefinition::getBeanClassName)
+        .containsExactlyInAnyOrder("com.acme.docs.Order", "com.acme.docs.sub.Line");
+    assertThat(registry.findCandidateComponents("com.acme", List.of(Document.class, RedisHash.class)))
+        .extracting(BeanDefinition::getBeanClassName)
+        .containsExactlyInAnyOrder("com.acme.docs.Order", "com.acme.docs.sub.Line", "com.acme.hashes.Session");
+    assertThat(registry.findCandidateComponents("com.acme.hashes", List.of(Document.class))).isEmpty();
+  }
+}
@@ -6,6 +6,7 @@ import com.redis.om.spring.annotations.AutoCompletePayload;
 import com.redis.om.spring.annotations.Indexed;
 import com.redis.om.spring.annotations.Searchable;
 import com.redis.om.spring.annotations.document.fixtures.*;
+import com.redis.om.spring.serialization.DocumentCodec;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,9 @@ import static org.junit.jupiter.api.Assertions.assertAll;
   @Autowired
   DocWithCustomNameIdRepository docWithCustomNameIdRepository;
 
+  @Autowired
+  DocumentCodec codec;
+
   @AfterEach
   void cleanUp() {
     companyRepository.deleteAll();
@@ -288,4 +292,28 @@ import static org.junit.jupiter.api.Assertions.assertAll;
     assertThat(ObjectUtils.isPropertyAnnotatedWith(Airport.class, "state", Searchable.class)).isFalse();
     assertThat(ObjectUtils.isPropertyAnnotatedWith(Airport.class, "nonExistentField", Searchable.class)).isFalse();
   }
+
+  @Test
+  void testReturnedFieldsToJson() {
+    Map<String, Object> returned = new LinkedHashMap<>();
+    returned.put("name", "123".getBytes());
+    returned.put("yearFounded", "2011".getBytes());
+    returned.put("tags", "[\"fast\",\"scalable\"]".getBytes());
+    returned.put("location", "-122.066540,37.377690".getBytes());
+
+    String json = ObjectUtils.returnedFieldsToJson(returned.entrySet(),
+        Map.of("name", String.class, "yearFounded", Integer.class, "tags", Set.class, "location", Point.class));
+
+    assertThat(json).isEqualTo(
+        "{\"name\":\"123\",\"yearFounded\":2011,\"tags\":[\"fast\",\"scalable\"],\"location\":\"-122.066540,37.377690\"}");
+  }
+
+  @Test
+  void testJsonPathOfFollowsTheStoredMemberNames() {
+    assertThat(ObjectUtils.jsonPathOf(ZipCode.class, "id", codec)).isEqualTo("_id");
+    assertThat(ObjectUtils.jsonPathOf(ZipCode.class, "city", codec)).isEqualTo("city");
+    assertThat(ObjectUtils.jsonPathOf(Company.class, "metaList.stringValue", codec)).isEqualTo("metaList.stringValue");
+    assertThat(ObjectUtils.jsonPathOf(Company.class, "nonExistentField.value", codec))
+        .isEqualTo("nonExistentField.value");
+  }
 }
@@ -0,0 +1,85 @@
+package com.redis.om.spring.vectorize;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PredictorPoolTest {
+  static class FakePredictor implements AutoCloseable {
+    boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  private final List<FakePredictor> predictors = new ArrayList<>();
+
+  private final PredictorPool<FakePredictor> pool = new PredictorPool<>(() -> {
+    FakePredictor predictor = new FakePredictor();
+    synchronized (predictors) {
+      predictors.add(predictor);
+    }
+    return predictor;
+  }, 2);
+
+  @Test
+  void testPredictorsAreReused() {
+    FakePredictor first = pool.apply(predictor -> predictor);
+    FakePredictor second = pool.apply(predictor -> predictor);
+
+    assertThat(second).isSameAs(first);
+    assertThat(pool.getCreated()).isEqualTo(1);
+  }
+
+  @Test
+  void testConcurrentPredictionsNeverExceedThePoolSize() throws Exception {
+    CountDownLatch borrowed = new CountDownLatch(2);
+    CountDownLatch predict = new CountDownLatch(1);
+    ExecutorService threads = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<FakePredictor>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(threads.submit(() -> pool.apply(predictor -> {
+          borrowed.countDown();
+          predict.await();
+          return predictor;
+        })));
+      }
+      assertThat(borrowed.await(5, TimeUnit.SECONDS)).isTrue();
+      predict.countDown();
+      for (Future<FakePredictor> future : futures) {
+        assertThat(future.get(5, TimeUnit.SECONDS)).isIn(predictors);
+      }
+    } finally {
+      threads.shutdownNow();
+    }
+
+    assertThat(predictors).hasSize(2);
+  }
+
+  @Test
+  void testClosingThePoolClosesItsPredictors() {
+    FakePredictor idle = pool.borrow();
+    FakePredictor borrowed = pool.borrow();
+    pool.release(idle);
+
+    pool.close();
+    assertThat(idle.closed).isTrue();
+    assertThat(borrowed.closed).isFalse();
+
+    pool.release(borrowed);
+    assertThat(borrowed.closed).isTrue();
+    assertThatThrownBy(() -> pool.apply(predictor -> predictor)).isInstanceOf(IllegalStateException.class);
+  }
+}